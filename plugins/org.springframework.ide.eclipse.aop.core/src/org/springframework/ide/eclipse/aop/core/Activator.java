@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2010 Spring IDE Developers
+ * Copyright (c) 2006, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,12 @@ package org.springframework.ide.eclipse.aop.core;
 
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -36,12 +42,32 @@ public class Activator extends AbstractUIPlugin {
 	
 	public static final String PERSIST_AOP_MODEL_PREFERENCE = PLUGIN_ID + ".persistModel";
 
+	/**
+	 * Temporally setting to enable or disable the byte code based pre-filtering of beans before pointcuts are matched
+	 * against their classes
+	 */
+	public static final String PREFILTER_POINTCUTS_PREFERENCE = PLUGIN_ID + ".prefilterPointcuts";
+
+	/**
+	 * Temporally setting to enable or disable the reuse of pointcut matches of previous builds for unchanged aspects
+	 * and bean classes
+	 */
+	public static final String CACHE_MATCHES_PREFERENCE = PLUGIN_ID + ".cacheMatches";
+
+	/**
+	 * Temporally setting to enable or disable matching aspect definitions against the beans of a config on multiple
+	 * threads
+	 */
+	public static final String PARALLEL_MATCHING_PREFERENCE = PLUGIN_ID + ".parallelMatching";
+
 	private static final String RESOURCE_NAME = PLUGIN_ID + ".messages";
 
 	// The shared instance
 	private static Activator plugin;
 
 	private static AopReferenceModel model;
+
+	private static ThreadPoolExecutor matchingPool;
 	
 	/** Resource bundle */
 	private ResourceBundle resourceBundle;
@@ -68,6 +94,9 @@ public class Activator extends AbstractUIPlugin {
 		}
 		// add default value
 		getPreferenceStore().setDefault(PERSIST_AOP_MODEL_PREFERENCE, true);
+		getPreferenceStore().setDefault(PREFILTER_POINTCUTS_PREFERENCE, true);
+		getPreferenceStore().setDefault(CACHE_MATCHES_PREFERENCE, true);
+		getPreferenceStore().setDefault(PARALLEL_MATCHING_PREFERENCE, true);
 
 		Job modelJob = new Job("Initializing Spring Aop Model") {
 			
@@ -91,6 +120,12 @@ public class Activator extends AbstractUIPlugin {
 	@Override
 	public void stop(BundleContext context) throws Exception {
 		model.shutdown();
+		synchronized (Activator.class) {
+			if (matchingPool != null) {
+				matchingPool.shutdownNow();
+				matchingPool = null;
+			}
+		}
 		plugin = null;
 		resourceBundle = null;
 		super.stop(context);
@@ -109,6 +144,36 @@ public class Activator extends AbstractUIPlugin {
 		return model;
 	}
 
+	/**
+	 * Returns the pool that matches aspect definitions against beans in parallel; the pool has one thread per
+	 * processor.
+	 */
+	public static synchronized ExecutorService getMatchingPool() {
+		if (matchingPool == null) {
+			int threads = getMatchingParallelism();
+			matchingPool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+
+						private final AtomicInteger count = new AtomicInteger();
+
+						public Thread newThread(Runnable runnable) {
+							Thread thread = new Thread(runnable, "Spring AOP Matcher " + count.incrementAndGet());
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+			matchingPool.allowCoreThreadTimeOut(true);
+		}
+		return matchingPool;
+	}
+
+	/**
+	 * Returns the number of threads of the {@link #getMatchingPool() matching pool}.
+	 */
+	public static int getMatchingParallelism() {
+		return Runtime.getRuntime().availableProcessors();
+	}
+
 	public static void log(IStatus status) {
 		getDefault().getLog().log(status);
 	}
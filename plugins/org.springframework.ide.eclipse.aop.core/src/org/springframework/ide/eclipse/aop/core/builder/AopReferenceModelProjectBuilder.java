@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2010 Spring IDE Developers
+ * Copyright (c) 2007, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -64,6 +64,9 @@ public class AopReferenceModelProjectBuilder implements IProjectBuilder, IProjec
 				AopReferenceModelMarkerUtils.deleteProblemMarkers(project);
 				((AopReferenceModel) Activator.getModel()).removeProject(JdtUtils.getJavaProject(project));
 			}
+			if (kind == IncrementalProjectBuilder.CLEAN_BUILD) {
+				((AopReferenceModel) Activator.getModel()).getMatchCache().clearProject(project);
+			}
 			Job job = new AopReferenceModelBuilderJob(project, AopReferenceModelUtils
 					.getAffectedFilesFromBeansConfig(affectedResources), affectedResources);
 			job.schedule();
@@ -86,6 +89,7 @@ public class AopReferenceModelProjectBuilder implements IProjectBuilder, IProjec
 			if (JdtUtils.isJavaProject(project)) {
 				Activator.getModel().removeProject(JdtUtils.getJavaProject(project));
 			}
+			((AopReferenceModel) Activator.getModel()).getMatchCache().clearProject(project);
 		}
 		finally {
 			monitor.done();
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.aop.core.internal.model;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IProject;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Cache of the results of matching aspect definitions against bean classes that survives builds and restarts.
+ * <p>
+ * Entries are keyed by everything a match depends on, most notably the pointcut expression and the structural
+ * fingerprints of the aspect and the target type hierarchy. A key therefore never has to be invalidated; entries that
+ * are not used anymore are evicted once the number of entries of a project exceeds {@link #MAX_ENTRIES_PER_PROJECT}.
+ * <p>
+ * A cached match is stored as the handle identifiers of the advice method followed by the matched target methods; an
+ * empty array means that the aspect definition doesn't match.
+ */
+public class AopMatchCache {
+
+	private static final int MAX_ENTRIES_PER_PROJECT = 20000;
+
+	private static final int VERSION = 1;
+
+	private final Map<String, Map<String, String[]>> matchesByProject = new HashMap<String, Map<String, String[]>>();
+
+	/**
+	 * Creates a key for the given parts; the parts need to contain all input of the match.
+	 */
+	public static String createKey(Object... parts) {
+		StringBuilder key = new StringBuilder();
+		for (Object part : parts) {
+			key.append(ObjectUtils.nullSafeToString(part)).append('\n');
+		}
+		return DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Returns the cached match for the given key or <code>null</code> if there is none.
+	 */
+	public synchronized String[] getMatches(IProject project, String key) {
+		Map<String, String[]> matches = matchesByProject.get(project.getName());
+		return matches != null ? matches.get(key) : null;
+	}
+
+	public synchronized void putMatches(IProject project, String key, String[] handleIdentifiers) {
+		getProjectMatches(project.getName()).put(key, handleIdentifiers);
+	}
+
+	public synchronized void clearProject(IProject project) {
+		matchesByProject.remove(project.getName());
+	}
+
+	public synchronized void clear() {
+		matchesByProject.clear();
+	}
+
+	/**
+	 * Replaces the content of this cache with the matches read from the given stream.
+	 */
+	public synchronized void load(InputStream input) throws IOException {
+		matchesByProject.clear();
+		DataInputStream in = new DataInputStream(input);
+		if (in.readInt() != VERSION) {
+			return;
+		}
+		int projectCount = in.readInt();
+		for (int i = 0; i < projectCount; i++) {
+			Map<String, String[]> matches = getProjectMatches(in.readUTF());
+			int entryCount = in.readInt();
+			for (int j = 0; j < entryCount; j++) {
+				String key = in.readUTF();
+				String[] handleIdentifiers = new String[in.readInt()];
+				for (int k = 0; k < handleIdentifiers.length; k++) {
+					handleIdentifiers[k] = in.readUTF();
+				}
+				matches.put(key, handleIdentifiers);
+			}
+		}
+	}
+
+	public synchronized void save(OutputStream output) throws IOException {
+		DataOutputStream out = new DataOutputStream(output);
+		out.writeInt(VERSION);
+		out.writeInt(matchesByProject.size());
+		for (Map.Entry<String, Map<String, String[]>> project : matchesByProject.entrySet()) {
+			out.writeUTF(project.getKey());
+			out.writeInt(project.getValue().size());
+			for (Map.Entry<String, String[]> entry : project.getValue().entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeInt(entry.getValue().length);
+				for (String handleIdentifier : entry.getValue()) {
+					out.writeUTF(handleIdentifier);
+				}
+			}
+		}
+		out.flush();
+	}
+
+	private Map<String, String[]> getProjectMatches(String projectName) {
+		Map<String, String[]> matches = matchesByProject.get(projectName);
+		if (matches == null) {
+			matches = new LinkedHashMap<String, String[]>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, String[]> eldest) {
+					return size() > MAX_ENTRIES_PER_PROJECT;
+				}
+			};
+			matchesByProject.put(projectName, matches);
+		}
+		return matches;
+	}
+
+}
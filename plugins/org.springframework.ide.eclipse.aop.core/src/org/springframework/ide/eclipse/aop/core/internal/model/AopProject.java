@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2010 Spring IDE Developers
+ * Copyright (c) 2006, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,12 +10,11 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.aop.core.internal.model;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -26,6 +25,7 @@ import org.springframework.ide.eclipse.aop.core.model.IAopProject;
 import org.springframework.ide.eclipse.aop.core.model.IAopReference;
 
 /**
+ * The references of a project; all methods are thread-safe.
  * @author Christian Dupuis
  * @since 2.0
  */
@@ -33,7 +33,13 @@ public class AopProject implements IAopProject {
 
 	private IJavaProject project;
 
-	private Set<IAopReference> references = new CopyOnWriteArraySet<IAopReference>();
+	private final Set<IAopReference> references = new LinkedHashSet<IAopReference>();
+
+	/** Unmodifiable copy of the references that is handed out until the references change */
+	private volatile Set<IAopReference> snapshot;
+
+	/** Incremented whenever the references change */
+	private volatile long modificationStamp;
 
 	protected final ReentrantReadWriteLock rwl = new ReentrantReadWriteLock();
 
@@ -49,7 +55,24 @@ public class AopProject implements IAopProject {
 		AopLog.log(AopLog.BUILDER_MESSAGES, "Created AOP reference '" + reference + "'");
 		try {
 			w.lock();
-			this.references.add(reference);
+			if (this.references.add(reference)) {
+				referencesChanged();
+			}
+		}
+		finally {
+			w.unlock();
+		}
+	}
+
+	public void addAopReferences(Collection<IAopReference> references) {
+		for (IAopReference reference : references) {
+			AopLog.log(AopLog.BUILDER_MESSAGES, "Created AOP reference '" + reference + "'");
+		}
+		try {
+			w.lock();
+			if (this.references.addAll(references)) {
+				referencesChanged();
+			}
 		}
 		finally {
 			w.unlock();
@@ -57,15 +80,18 @@ public class AopProject implements IAopProject {
 	}
 
 	public void clearReferencesForResource(IResource resource) {
-		List<IAopReference> toRemove = new ArrayList<IAopReference>();
+		if (resource == null) {
+			return;
+		}
 		try {
 			w.lock();
-			for (IAopReference reference : this.references) {
-				if (resource != null && resource.equals(reference.getDefinition().getResource())) {
-					toRemove.add(reference);
+			Iterator<IAopReference> iterator = this.references.iterator();
+			while (iterator.hasNext()) {
+				if (resource.equals(iterator.next().getDefinition().getResource())) {
+					iterator.remove();
+					referencesChanged();
 				}
 			}
-			this.references.removeAll(toRemove);
 		}
 		finally {
 			w.unlock();
@@ -73,7 +99,30 @@ public class AopProject implements IAopProject {
 	}
 
 	public Set<IAopReference> getAllReferences() {
-		return Collections.unmodifiableSet(this.references);
+		Set<IAopReference> snapshot = this.snapshot;
+		if (snapshot == null) {
+			try {
+				r.lock();
+				snapshot = Collections.unmodifiableSet(new LinkedHashSet<IAopReference>(this.references));
+				this.snapshot = snapshot;
+			}
+			finally {
+				r.unlock();
+			}
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Returns a stamp that changes whenever references are added or removed.
+	 */
+	public long getModificationStamp() {
+		return modificationStamp;
+	}
+
+	private void referencesChanged() {
+		this.snapshot = null;
+		this.modificationStamp++;
 	}
 
 	public IJavaProject getProject() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2010 Spring IDE Developers
+ * Copyright (c) 2006, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,14 +15,22 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
 import org.springframework.ide.eclipse.aop.core.model.IAopModelChangedListener;
 import org.springframework.ide.eclipse.aop.core.model.IAopProject;
 import org.springframework.ide.eclipse.aop.core.model.IAopReference;
@@ -39,7 +47,9 @@ public class AopReferenceModel implements IAopReferenceModel {
 
 	private List<IAopModelChangedListener> listeners = new LinkedList<IAopModelChangedListener>();
 
-	private AopReferenceModelPeristence persistence;
+	private volatile AopReferenceModelPeristence persistence;
+
+	private final AopMatchCache matchCache = new AopMatchCache();
 
 	private Map<IJavaProject, IAopProject> projects = new ConcurrentHashMap<IJavaProject, IAopProject>();
 
@@ -69,8 +79,8 @@ public class AopReferenceModel implements IAopReferenceModel {
 
 	public List<IAopReference> getAllReferences() {
 		List<IAopReference> refs = new ArrayList<IAopReference>();
-		for (Map.Entry<IJavaProject, IAopProject> e : projects.entrySet()) {
-			refs.addAll(e.getValue().getAllReferences());
+		for (IAopProject project : getProjects()) {
+			refs.addAll(project.getAllReferences());
 		}
 		return refs;
 	}
@@ -91,32 +101,139 @@ public class AopReferenceModel implements IAopReferenceModel {
 		return references;
 	}
 
+	/**
+	 * Returns the cache of aspect definition matches shared by all builds.
+	 */
+	public AopMatchCache getMatchCache() {
+		return matchCache;
+	}
+
 	public IAopProject getProject(IJavaProject project) {
 		return getProjectWithInitialization(project);
 	}
 
 	public Collection<IAopProject> getProjects() {
+		loadPersistedProjects();
 		return this.projects.values();
 	}
 
 	public IAopProject getProjectWithInitialization(IJavaProject project) {
-		if (this.projects.containsKey(project)) {
-			return this.projects.get(project);
-		}
-		else {
-			IAopProject aopProject = new AopProject(project);
-			addProject(project, aopProject);
+		IAopProject aopProject = this.projects.get(project);
+		if (aopProject != null) {
 			return aopProject;
 		}
+
+		IAopProject persistedProject = null;
+		synchronized (this) {
+			aopProject = this.projects.get(project);
+			if (aopProject == null) {
+				// the persisted references of a project are loaded on first access
+				persistedProject = (persistence != null ? persistence.loadProject(project) : null);
+				aopProject = (persistedProject != null ? persistedProject : new AopProject(project));
+				addProject(project, aopProject);
+			}
+		}
+		if (persistedProject != null) {
+			restoreMarkers(persistedProject);
+		}
+		return aopProject;
+	}
+
+	/**
+	 * Loads the persisted references of the given project and of the projects referencing it, which may contain
+	 * beans of its classes, if they haven't been accessed yet. Other persisted projects stay unloaded.
+	 */
+	private void loadPersistedProjects(IProject project) {
+		AopReferenceModelPeristence persistence = this.persistence;
+		if (persistence == null || project == null) {
+			return;
+		}
+		Set<String> persistedProjectNames = persistence.getPersistedProjectNames();
+		if (persistedProjectNames.isEmpty()) {
+			return;
+		}
+		List<IProject> candidates = new ArrayList<IProject>();
+		candidates.add(project);
+		if (project.isOpen()) {
+			for (IProject referencingProject : project.getReferencingProjects()) {
+				candidates.add(referencingProject);
+			}
+		}
+		for (IProject candidate : candidates) {
+			if (persistedProjectNames.contains(candidate.getName()) && candidate.isOpen()) {
+				getProjectWithInitialization(JavaCore.create(candidate));
+			}
+		}
+	}
+
+	/**
+	 * Returns the references of the projects that have been loaded already.
+	 */
+	private List<IAopReference> getLoadedReferences() {
+		List<IAopReference> refs = new ArrayList<IAopReference>();
+		for (IAopProject project : this.projects.values()) {
+			refs.addAll(project.getAllReferences());
+		}
+		return refs;
+	}
+
+	/**
+	 * Loads the persisted projects that haven't been accessed yet.
+	 */
+	private void loadPersistedProjects() {
+		AopReferenceModelPeristence persistence = this.persistence;
+		if (persistence == null) {
+			return;
+		}
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		for (String projectName : persistence.getPersistedProjectNames()) {
+			IProject project = root.getProject(projectName);
+			if (!project.exists()) {
+				persistence.discardProject(JavaCore.create(project));
+			}
+			else if (project.isOpen()) {
+				getProjectWithInitialization(JavaCore.create(project));
+			}
+		}
+	}
+
+	/**
+	 * Recreates the markers of a loaded project in the background, as markers of references are not persisted.
+	 */
+	private void restoreMarkers(final IAopProject aopProject) {
+		Job markerJob = new Job("Restoring Spring AOP reference model markers") {
+
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				AopReferenceModelPeristence persistence = AopReferenceModel.this.persistence;
+				if (persistence != null) {
+					persistence.createMarkers(aopProject);
+					fireModelChanged();
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		markerJob.setRule(ResourcesPlugin.getWorkspace().getRuleFactory().buildRule());
+		markerJob.setSystem(true);
+		markerJob.schedule();
 	}
 
 	public boolean isAdvice(IJavaElement je) {
-		return getAdviceDefinition(je).size() > 0;
+		if (je != null) {
+			loadPersistedProjects(je.getJavaProject() != null ? je.getJavaProject().getProject() : null);
+			for (IAopReference reference : getLoadedReferences()) {
+				if (reference.getSource() != null && reference.getSource().equals(je)) {
+					return true;
+				}
+			}
+		}
+		return false;
 	}
 
 	public boolean isAdvised(IJavaElement je) {
 		if (je != null) {
-			List<IAopReference> references = getAllReferences();
+			loadPersistedProjects(je.getJavaProject() != null ? je.getJavaProject().getProject() : null);
+			List<IAopReference> references = getLoadedReferences();
 			for (IAopReference reference : references) {
 				if (reference.getTarget().equals(je)) {
 					return true;
@@ -129,7 +246,8 @@ public class AopReferenceModel implements IAopReferenceModel {
 	public boolean isAdvised(IBean bean) {
 		if (bean != null) {
 			String beanId = bean.getElementID();
-			List<IAopReference> references = getAllReferences();
+			loadPersistedProjects(bean.getElementResource() != null ? bean.getElementResource().getProject() : null);
+			List<IAopReference> references = getLoadedReferences();
 			for (IAopReference reference : references) {
 				if (reference.getTargetBeanId().equals(beanId)) {
 					return true;
@@ -145,6 +263,9 @@ public class AopReferenceModel implements IAopReferenceModel {
 	}
 
 	public synchronized void removeProject(IJavaProject project) {
+		if (persistence != null) {
+			persistence.discardProject(project);
+		}
 		for (IJavaProject jp : projects.keySet()) {
 			if (jp.equals(project)) {
 				projects.remove(jp);
@@ -165,7 +286,8 @@ public class AopReferenceModel implements IAopReferenceModel {
 		workspaceListener = null;
 
 		// Persist model
-		persistence.saveReferenceModel();
+		persistence.saveReferenceModel(projects.values());
+		persistence.saveMatchCache(matchCache);
 
 		// Remove all projects
 		projects.clear();
@@ -179,8 +301,13 @@ public class AopReferenceModel implements IAopReferenceModel {
 		IWorkspace workspace = ResourcesPlugin.getWorkspace();
 		workspace.addResourceChangeListener(workspaceListener, SpringResourceChangeListener.LISTENER_FLAGS);
 
-		persistence = new AopReferenceModelPeristence();
-		persistence.loadReferenceModel();
+		AopReferenceModelPeristence persistence = new AopReferenceModelPeristence();
+		for (IAopProject aopProject : persistence.loadReferenceModel()) {
+			addProject(aopProject.getProject(), aopProject);
+			persistence.createMarkers(aopProject);
+		}
+		persistence.loadMatchCache(matchCache);
+		this.persistence = persistence;
 
 		// modelChangeListener = new AopBeansModelListener();
 		// BeansCorePlugin.getModel().addChangeListener(modelChangeListener);
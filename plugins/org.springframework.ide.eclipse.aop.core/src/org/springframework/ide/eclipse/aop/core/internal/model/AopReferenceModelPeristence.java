@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2008 Spring IDE Developers
+ * Copyright (c) 2007, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,17 +10,32 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.aop.core.internal.model;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
-import java.io.Writer;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -40,11 +55,14 @@ import org.eclipse.ui.XMLMemento;
 import org.springframework.ide.eclipse.aop.core.Activator;
 import org.springframework.ide.eclipse.aop.core.model.IAopProject;
 import org.springframework.ide.eclipse.aop.core.model.IAopReference;
-import org.springframework.ide.eclipse.aop.core.model.IAopReferenceModel;
 import org.springframework.ide.eclipse.aop.core.model.IAspectDefinition;
 import org.springframework.ide.eclipse.aop.core.util.AopReferenceModelMarkerUtils;
 
 /**
+ * Persists the {@link AopReferenceModel} between sessions.
+ * <p>
+ * The references of each project are stored in a separate, versioned and compressed binary file. The elements are
+ * saved through their {@link IPersistableElement}s, with all strings written once per file.
  * @author Christian Dupuis
  * @since 2.0
  */
@@ -72,30 +90,46 @@ public class AopReferenceModelPeristence {
 
 	private static final String AOP_REFERENCE_ELEMENT = "aop-reference";
 
-	private static final String AOP_REFERENCE_MODEL_ELEMENT = "aop-reference-model";
-
 	private static final String ASPECT_DEFINITION_ELEMENT = "aspect-definition";
 
 	private static final String FACTORY_ID = "factory-id";
 
 	private static final String NAME_ATTRIBUTE = "name";
 
+	private static final int MAGIC = 0x414f504d;
+
+	private static final int VERSION = 1;
+
+	private static final String PROJECT_FILE_EXTENSION = ".aop";
+
+	/** The XML file of previous versions; read once to migrate the model */
 	private IPath defaultFile = null;
 
+	/** Directory with one binary file per project */
+	private IPath modelDirectory = null;
+
+	private IPath matchCacheFile = null;
+
+	/** Names of the projects that are persisted but haven't been loaded yet */
+	private final Set<String> persistedProjects = new HashSet<String>();
+
+	/** Modification stamps of the projects as they have been loaded or saved last */
+	private final Map<String, Long> savedStamps = new HashMap<String, Long>();
+
+	/** Names of the projects whose persisted references are obsolete */
+	private final Set<String> discardedProjects = new HashSet<String>();
+
+	/** <code>true</code> if the model of a previous version has been read and still needs to be saved */
+	private boolean migrated = false;
+
 	public AopReferenceModelPeristence() {
 		this.defaultFile = Activator.getDefault().getStateLocation().append(".state");
+		this.modelDirectory = Activator.getDefault().getStateLocation().append(".model");
+		this.matchCacheFile = Activator.getDefault().getStateLocation().append(".matches");
 	}
 
-	private IMemento appendNewChild(IMemento memento, String type) {
-		memento.createChild(type);
-		IMemento[] ms = memento.getChildren(type);
-		if (ms != null && ms.length > 0) {
-			return ms[ms.length - 1];
-		}
-		return memento;
-	}
-
-	private void createAopProjects(IAopReferenceModel model, XMLMemento memento) {
+	private List<IAopProject> createAopProjects(XMLMemento memento) {
+		List<IAopProject> aopProjects = new ArrayList<IAopProject>();
 		IMemento[] projects = memento.getChildren(AOP_PROJECT_ELEMENT);
 		if (projects != null && projects.length > 0) {
 			for (IMemento project : projects) {
@@ -104,19 +138,14 @@ public class AopReferenceModelPeristence {
 				IResource member = root.findMember(projectName);
 				if (member instanceof IProject) {
 					IJavaProject javaProject = JavaCore.create((IProject) member);
-					IAopProject aopProject = model.getProject(javaProject);
+					IAopProject aopProject = new AopProject(javaProject);
 
 					createAspectDefinitions(projects, project, aopProject);
-
-					// recreate the marker
-					Set<IAopReference> references = aopProject.getAllReferences();
-					for (IAopReference reference : references) {
-						AopReferenceModelMarkerUtils.createMarker(reference, reference
-								.getResource());
-					}
+					aopProjects.add(aopProject);
 				}
 			}
 		}
+		return aopProjects;
 	}
 
 	private void createAopReferences(IAopProject aopProject, IMemento aspectDefinitionM,
@@ -151,25 +180,45 @@ public class AopReferenceModelPeristence {
 	}
 
 	protected boolean isPersisted() {
-		return defaultFile.toFile().exists();
+		return modelDirectory.toFile().isDirectory() || defaultFile.toFile().exists();
 	}
 
-	protected synchronized void loadReferenceModel() {
+	/**
+	 * Prepares loading the persisted model. The references of a project are only read on first access through
+	 * {@link #loadProject(IJavaProject)}; only a model of a previous version is read at once.
+	 * @return the projects of a model of a previous version
+	 */
+	protected synchronized List<IAopProject> loadReferenceModel() {
+		persistedProjects.clear();
 		if (!shouldModelByPersisted() || !isPersisted()) {
-			return;
+			return Collections.emptyList();
 		}
 
-		IAopReferenceModel model = Activator.getModel();
+		File[] files = modelDirectory.toFile().listFiles();
+		if (files != null) {
+			for (File file : files) {
+				if (file.getName().endsWith(PROJECT_FILE_EXTENSION)) {
+					persistedProjects.add(getProjectName(file));
+				}
+			}
+		}
+
+		if (!defaultFile.toFile().exists()) {
+			return Collections.emptyList();
+		}
+		List<IAopProject> aopProjects = Collections.emptyList();
 		Reader reader = null;
 		try {
 			reader = new FileReader(defaultFile.toFile());
 			XMLMemento memento = XMLMemento.createReadRoot(reader);
-			createAopProjects(model, memento);
+			aopProjects = createAopProjects(memento);
+			for (IAopProject aopProject : aopProjects) {
+				persistedProjects.remove(aopProject.getProject().getElementName());
+			}
+			migrated = true;
 		}
 		catch (Exception e) {
 			Activator.log("Cannot load .state model file", e);
-			// re-init aop reference model
-			Activator.getModel().clearProjects();
 		}
 		finally {
 			if (reader != null) {
@@ -180,6 +229,96 @@ public class AopReferenceModelPeristence {
 				}
 			}
 		}
+		// the file is deleted once the migrated projects have been saved in the binary format
+		return aopProjects;
+	}
+
+	/**
+	 * Returns the names of the projects that are persisted but haven't been loaded yet.
+	 */
+	protected synchronized Set<String> getPersistedProjectNames() {
+		return new HashSet<String>(persistedProjects);
+	}
+
+	/**
+	 * Loads the persisted references of the given project. Returns <code>null</code> if the project isn't persisted or
+	 * has been loaded already.
+	 */
+	protected synchronized IAopProject loadProject(IJavaProject javaProject) {
+		String projectName = javaProject.getElementName();
+		if (!persistedProjects.remove(projectName)) {
+			return null;
+		}
+
+		File file = getProjectFile(projectName);
+		AopProject aopProject = new AopProject(javaProject);
+		DataInputStream in = null;
+		try {
+			in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				// written by another version; the references are rebuilt by the next build
+				return null;
+			}
+			in = new DataInputStream(new BufferedInputStream(new InflaterInputStream(in)));
+			if (!projectName.equals(in.readUTF())) {
+				return null;
+			}
+			String[] strings = new String[in.readInt()];
+			for (int i = 0; i < strings.length; i++) {
+				strings[i] = in.readUTF();
+			}
+
+			XMLMemento root = XMLMemento.createWriteRoot(AOP_PROJECT_ELEMENT);
+			List<IAopReference> references = new ArrayList<IAopReference>();
+			int definitionCount = in.readInt();
+			for (int i = 0; i < definitionCount; i++) {
+				IAspectDefinition aspectDefinition = (IAspectDefinition) readElement(in, strings, root,
+						ASPECT_DEFINITION_ELEMENT);
+				int referenceCount = in.readInt();
+				for (int j = 0; j < referenceCount; j++) {
+					IAopReference aopReference = (IAopReference) readElement(in, strings, root,
+							AOP_REFERENCE_ELEMENT);
+					// The aopReference can be null if the resource has been deleted or is an external
+					if (aopReference != null && aspectDefinition != null) {
+						aopReference.setDefinition(aspectDefinition);
+						references.add(aopReference);
+					}
+				}
+			}
+			aopProject.addAopReferences(references);
+			savedStamps.put(projectName, aopProject.getModificationStamp());
+			return aopProject;
+		}
+		catch (Exception e) {
+			Activator.log("Cannot load AOP reference model of project '" + projectName + "'", e);
+			return null;
+		}
+		finally {
+			if (in != null) {
+				try {
+					in.close();
+				}
+				catch (IOException e) {
+				}
+			}
+		}
+	}
+
+	/**
+	 * Marks the persisted references of the given project as obsolete; they are deleted on the next save.
+	 */
+	protected synchronized void discardProject(IJavaProject javaProject) {
+		persistedProjects.remove(javaProject.getElementName());
+		discardedProjects.add(javaProject.getElementName());
+	}
+
+	/**
+	 * Creates the markers of the references of the given project.
+	 */
+	protected void createMarkers(IAopProject aopProject) {
+		for (IAopReference reference : aopProject.getAllReferences()) {
+			AopReferenceModelMarkerUtils.createMarker(reference, reference.getResource());
+		}
 	}
 
 	private boolean shouldModelByPersisted() {
@@ -188,74 +327,277 @@ public class AopReferenceModelPeristence {
 		return node.getBoolean(Activator.PERSIST_AOP_MODEL_PREFERENCE, true);
 	}
 
-	protected synchronized void saveReferenceModel() {
+	/**
+	 * Saves the references of the given projects. Only projects whose references changed since they have been loaded
+	 * or saved are written; projects that haven't been loaded at all keep their persisted references.
+	 */
+	protected synchronized void saveReferenceModel(Collection<IAopProject> projects) {
 		if (!shouldModelByPersisted()) {
 			if (isPersisted()) {
+				File[] files = modelDirectory.toFile().listFiles();
+				if (files != null) {
+					for (File file : files) {
+						file.delete();
+					}
+				}
+				modelDirectory.toFile().delete();
 				defaultFile.toFile().delete();
 			}
+			savedStamps.clear();
+			migrated = false;
 			return;
 		}
 
-		XMLMemento memento = XMLMemento.createWriteRoot(AOP_REFERENCE_MODEL_ELEMENT);
-		Collection<IAopProject> projects = Activator.getModel().getProjects();
+		modelDirectory.toFile().mkdirs();
+		boolean saved = true;
+		Set<String> savedProjects = new HashSet<String>();
 		for (IAopProject project : projects) {
-			IMemento projectM = appendNewChild(memento, AOP_PROJECT_ELEMENT);
-			projectM.putString(NAME_ATTRIBUTE, project.getProject().getElementName());
-
-			Set<IAopReference> refs = project.getAllReferences();
-			Map<IAspectDefinition, List<IAopReference>> maps = new HashMap<IAspectDefinition, List<IAopReference>>();
-			for (IAopReference ref : refs) {
-				if (maps.containsKey(ref.getDefinition())) {
-					maps.get(ref.getDefinition()).add(ref);
+			String projectName = project.getProject().getElementName();
+			savedProjects.add(projectName);
+			discardedProjects.remove(projectName);
+
+			Long stamp = (project instanceof AopProject ? ((AopProject) project).getModificationStamp() : null);
+			if (stamp != null && stamp.equals(savedStamps.get(projectName))) {
+				continue;
+			}
+			try {
+				saveProject(project);
+				if (stamp != null) {
+					savedStamps.put(projectName, stamp);
+				}
+			}
+			catch (IOException e) {
+				saved = false;
+				Activator.log("Cannot save AOP reference model of project '" + projectName + "'", e);
+			}
+		}
+
+		// the model of a previous version is only dropped once all projects have been saved in the binary format
+		if (migrated && saved) {
+			defaultFile.toFile().delete();
+			migrated = false;
+		}
+
+		// delete the references of removed projects
+		Set<String> obsoleteProjects = new HashSet<String>(discardedProjects);
+		obsoleteProjects.addAll(savedStamps.keySet());
+		obsoleteProjects.removeAll(savedProjects);
+		for (String projectName : obsoleteProjects) {
+			getProjectFile(projectName).delete();
+			savedStamps.remove(projectName);
+		}
+		discardedProjects.clear();
+	}
+
+	private void saveProject(IAopProject project) throws IOException {
+		String projectName = project.getProject().getElementName();
+		File file = getProjectFile(projectName);
+		Set<IAopReference> refs = project.getAllReferences();
+		if (refs.isEmpty()) {
+			file.delete();
+			return;
+		}
+
+		Map<IAspectDefinition, List<IAopReference>> maps = new LinkedHashMap<IAspectDefinition, List<IAopReference>>();
+		for (IAopReference ref : refs) {
+			if (maps.containsKey(ref.getDefinition())) {
+				maps.get(ref.getDefinition()).add(ref);
+			}
+			else {
+				List<IAopReference> r = new ArrayList<IAopReference>();
+				r.add(ref);
+				maps.put(ref.getDefinition(), r);
+			}
+		}
+
+		// collect the attributes of all elements first to write the shared strings up front
+		XMLMemento root = XMLMemento.createWriteRoot(AOP_PROJECT_ELEMENT);
+		Map<String, Integer> strings = new LinkedHashMap<String, Integer>();
+		List<int[]> definitions = new ArrayList<int[]>();
+		List<List<int[]>> definitionReferences = new ArrayList<List<int[]>>();
+		for (Map.Entry<IAspectDefinition, List<IAopReference>> entry : maps.entrySet()) {
+			int[] definition = getElement(entry.getKey(), root, ASPECT_DEFINITION_ELEMENT, strings);
+			if (definition == null) {
+				continue;
+			}
+			List<int[]> references = new ArrayList<int[]>();
+			for (IAopReference ref : entry.getValue()) {
+				int[] reference = getElement(ref, root, AOP_REFERENCE_ELEMENT, strings);
+				if (reference != null) {
+					references.add(reference);
 				}
-				else {
-					List<IAopReference> r = new ArrayList<IAopReference>();
-					r.add(ref);
-					maps.put(ref.getDefinition(), r);
+			}
+			definitions.add(definition);
+			definitionReferences.add(references);
+		}
+
+		File tempFile = new File(file.getPath() + ".tmp");
+		DataOutputStream out = null;
+		try {
+			OutputStream output = new BufferedOutputStream(new FileOutputStream(tempFile));
+			out = new DataOutputStream(output);
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.flush();
+			out = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(output)));
+			out.writeUTF(projectName);
+			out.writeInt(strings.size());
+			for (String string : strings.keySet()) {
+				out.writeUTF(string);
+			}
+			out.writeInt(definitions.size());
+			for (int i = 0; i < definitions.size(); i++) {
+				writeElement(out, definitions.get(i));
+				out.writeInt(definitionReferences.get(i).size());
+				for (int[] reference : definitionReferences.get(i)) {
+					writeElement(out, reference);
 				}
 			}
+		}
+		finally {
+			if (out != null) {
+				out.close();
+			}
+		}
+		file.delete();
+		if (!tempFile.renameTo(file)) {
+			throw new IOException("Cannot rename '" + tempFile + "' to '" + file + "'");
+		}
+	}
 
-			for (Map.Entry<IAspectDefinition, List<IAopReference>> entry : maps.entrySet()) {
-				IMemento definitionM = appendNewChild(projectM, ASPECT_DEFINITION_ELEMENT);
-				if (entry.getKey() instanceof IAdaptable) {
-					IPersistableElement pers = (IPersistableElement) ((IAdaptable) entry.getKey())
-							.getAdapter(IPersistableElement.class);
-					if (pers != null) {
-						pers.saveState(definitionM);
-						definitionM.putString(FACTORY_ID, pers.getFactoryId());
-					}
-					for (IAopReference ref : entry.getValue()) {
-						if (ref instanceof IAdaptable) {
-							IPersistableElement pers2 = (IPersistableElement) ((IAdaptable) ref)
-									.getAdapter(IPersistableElement.class);
-							if (pers2 != null) {
-								IMemento refM = appendNewChild(definitionM, AOP_REFERENCE_ELEMENT);
-								pers2.saveState(refM);
-								refM.putString(FACTORY_ID, pers2.getFactoryId());
-							}
-						}
-					}
+	/**
+	 * Returns the factory id and attributes of the given element as indexes into the given strings, or
+	 * <code>null</code> if the element can't be persisted.
+	 */
+	private int[] getElement(Object element, XMLMemento root, String type, Map<String, Integer> strings) {
+		if (!(element instanceof IAdaptable)) {
+			return null;
+		}
+		IPersistableElement pers = (IPersistableElement) ((IAdaptable) element).getAdapter(IPersistableElement.class);
+		if (pers == null) {
+			return null;
+		}
+		IMemento memento = root.createChild(type);
+		pers.saveState(memento);
+		String[] keys = memento.getAttributeKeys();
+		int[] indexes = new int[1 + keys.length * 2];
+		indexes[0] = getStringIndex(pers.getFactoryId(), strings);
+		for (int i = 0; i < keys.length; i++) {
+			indexes[1 + i * 2] = getStringIndex(keys[i], strings);
+			indexes[2 + i * 2] = getStringIndex(memento.getString(keys[i]), strings);
+		}
+		return indexes;
+	}
+
+	private int getStringIndex(String string, Map<String, Integer> strings) {
+		Integer index = strings.get(string);
+		if (index == null) {
+			index = strings.size();
+			strings.put(string, index);
+		}
+		return index;
+	}
+
+	private void writeElement(DataOutputStream out, int[] element) throws IOException {
+		out.writeInt(element[0]);
+		out.writeInt((element.length - 1) / 2);
+		for (int i = 1; i < element.length; i++) {
+			out.writeInt(element[i]);
+		}
+	}
+
+	/**
+	 * Reads an element and creates it by means of its factory; returns <code>null</code> if the element can't be
+	 * created anymore.
+	 */
+	private Object readElement(DataInputStream in, String[] strings, XMLMemento root, String type)
+			throws IOException {
+		String factoryId = strings[in.readInt()];
+		IMemento memento = root.createChild(type);
+		int attributeCount = in.readInt();
+		for (int i = 0; i < attributeCount; i++) {
+			String key = strings[in.readInt()];
+			memento.putString(key, strings[in.readInt()]);
+		}
+		IElementFactory factory = ELEMENT_FACTORIES.get(factoryId);
+		return (factory != null ? factory.createElement(memento) : null);
+	}
+
+	private File getProjectFile(String projectName) {
+		try {
+			return modelDirectory.append(URLEncoder.encode(projectName, "UTF-8") + PROJECT_FILE_EXTENSION).toFile();
+		}
+		catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private String getProjectName(File file) {
+		String name = file.getName();
+		try {
+			return URLDecoder.decode(name.substring(0, name.length() - PROJECT_FILE_EXTENSION.length()), "UTF-8");
+		}
+		catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Loads the matches of previous sessions into the given cache.
+	 */
+	protected synchronized void loadMatchCache(AopMatchCache matchCache) {
+		if (!shouldModelByPersisted() || !matchCacheFile.toFile().exists()) {
+			return;
+		}
+
+		InputStream input = null;
+		try {
+			input = new BufferedInputStream(new FileInputStream(matchCacheFile.toFile()));
+			matchCache.load(input);
+		}
+		catch (Exception e) {
+			Activator.log("Cannot load .matches file", e);
+			matchCache.clear();
+		}
+		finally {
+			if (input != null) {
+				try {
+					input.close();
+				}
+				catch (IOException e) {
 				}
 			}
 		}
+	}
+
+	/**
+	 * Saves the given cache of matches to be used in the next session.
+	 */
+	protected synchronized void saveMatchCache(AopMatchCache matchCache) {
+		if (!shouldModelByPersisted()) {
+			if (matchCacheFile.toFile().exists()) {
+				matchCacheFile.toFile().delete();
+			}
+			return;
+		}
 
-		// save memento to default map file
-		Writer writer = null;
+		OutputStream output = null;
 		try {
-			writer = new FileWriter(defaultFile.toFile());
-			memento.save(writer);
+			output = new BufferedOutputStream(new FileOutputStream(matchCacheFile.toFile()));
+			matchCache.save(output);
 		}
 		catch (IOException e) {
+			Activator.log("Cannot save .matches file", e);
 		}
 		finally {
-			if (writer != null) {
+			if (output != null) {
 				try {
-					writer.flush();
-					writer.close();
+					output.close();
 				}
 				catch (IOException e) {
 				}
 			}
 		}
 	}
+
 }
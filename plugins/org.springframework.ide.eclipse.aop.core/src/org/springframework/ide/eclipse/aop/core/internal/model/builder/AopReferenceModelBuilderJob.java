@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007 - 2013 Spring IDE Developers
+ * Copyright (c) 2007 - 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,12 +12,20 @@ package org.springframework.ide.eclipse.aop.core.internal.model.builder;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
@@ -31,14 +39,17 @@ import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.ui.progress.IProgressConstants;
 import org.springframework.ide.eclipse.aop.core.Activator;
 import org.springframework.ide.eclipse.aop.core.AopCoreImages;
 import org.springframework.ide.eclipse.aop.core.internal.model.AnnotationIntroductionDefinition;
+import org.springframework.ide.eclipse.aop.core.internal.model.AopMatchCache;
 import org.springframework.ide.eclipse.aop.core.internal.model.AopReference;
 import org.springframework.ide.eclipse.aop.core.internal.model.AopReferenceModel;
 import org.springframework.ide.eclipse.aop.core.internal.model.BeanAspectDefinition;
@@ -63,6 +74,7 @@ import org.springframework.ide.eclipse.core.java.ClassUtils;
 import org.springframework.ide.eclipse.core.java.IProjectClassLoaderSupport;
 import org.springframework.ide.eclipse.core.java.JdtUtils;
 import org.springframework.ide.eclipse.core.model.IModelElement;
+import org.springframework.ide.eclipse.core.type.asm.CachingClassReaderFactory;
 
 /**
  * Handles creation and modification of the {@link AopReferenceModel}.
@@ -99,6 +111,14 @@ public class AopReferenceModelBuilderJob extends Job {
 
 	private AspectDefinitionBuilderHelper aspectDefinitionBuilder;
 
+	private ConcurrentMap<IProject, PointcutPreFilter> pointcutPreFilters = null;
+
+	private boolean prefilterPointcuts = false;
+
+	private AopMatchCache matchCache = null;
+
+	private boolean parallelMatching = false;
+
 	/**
 	 * Constructor to create a {@link AopReferenceModelBuilderJob} instance.
 	 * @param affectedResources the set of resources that should be processed
@@ -171,10 +191,16 @@ public class AopReferenceModelBuilderJob extends Job {
 
 	/**
 	 * Builds AOP references for given {@link IBean} instances. Matches the given Aspect definition against the
-	 * {@link IBean}.
+	 * {@link IBean} and collects the created references in the given {@link ReferenceBatch}.
+	 * <p>
+	 * This method is called concurrently for different beans if {@link Activator#PARALLEL_MATCHING_PREFERENCE
+	 * parallel matching} is enabled.
 	 */
-	private void buildAopReferencesForBean(final IBean bean, final IModelElement context, final IAspectDefinition info,
-			final IResource file, final IAopProject aopProject, IProgressMonitor monitor) {
+	private void buildAopReferencesForBean(BeanMatchingTask task, final ReferenceBatch references) {
+		final IBean bean = task.bean;
+		final IAspectDefinition info = task.info;
+		final IResource file = task.file;
+		final IAopProject aopProject = task.aopProject;
 		try {
 			AopLog.log(AopLog.BUILDER, Activator.getFormattedMessage(
 					"AopReferenceModelBuilder.processingBeanDefinition", bean, bean.getElementResource().getFullPath()));
@@ -184,7 +210,7 @@ public class AopReferenceModelBuilderJob extends Job {
 				return;
 			}
 
-			final String className = BeansModelUtils.getBeanClass(bean, context);
+			final String className = BeansModelUtils.getBeanClass(bean, task.context);
 			// don't check advice backing bean itself
 			if (className != null && info.getAspectName() != null && info.getAspectName().equals(bean.getElementName())
 					&& info.getResource() != null && info.getResource().equals(bean.getElementResource())) {
@@ -204,6 +230,21 @@ public class AopReferenceModelBuilderJob extends Job {
 				return;
 			}
 
+			// check on the byte code level if the class can be advised at all before loading it
+			if (!couldMatch(className, info, file.getProject())) {
+				AopLog.log(AopLog.BUILDER_MESSAGES, Activator.getFormattedMessage(
+						"AopReferenceModelBuilder.skippingNonMatchingBeanDefinition", bean));
+				return;
+			}
+
+			// reuse the matches of previous builds if neither the aspect nor the bean class changed structurally
+			final String matchKey = getMatchKey(bean, className, info, file.getProject(), aopProject);
+			if (matchKey != null && addCachedAopReferences(matchKey, bean, info, file, aopProject, references)) {
+				AopLog.log(AopLog.BUILDER_MESSAGES, Activator.getFormattedMessage(
+						"AopReferenceModelBuilder.reusingMatches", bean));
+				return;
+			}
+
 			// do in context of active weaving class loader
 			this.classLoaderSupport.executeCallback(new IProjectClassLoaderSupport.IProjectClassLoaderAwareCallback() {
 
@@ -237,7 +278,7 @@ public class AopReferenceModelBuilderJob extends Job {
 								IAopReference ref = new AopReference(info.getType(), jdtAspectMember, JdtUtils
 										.getLineNumber(jdtAspectMember), jdtTargetType, JdtUtils
 										.getLineNumber(jdtTargetType), info, file, bean);
-								aopProject.addAopReference(ref);
+								references.add(aopProject, ref);
 							}
 						}
 					}
@@ -261,11 +302,12 @@ public class AopReferenceModelBuilderJob extends Job {
 							// long start = System.currentTimeMillis();
 							Set<IMethod> matchingMethods = aspectDefinitionMatcher.matches(targetClass, bean, info,
 									aopProject.getProject().getProject());
+							cacheMatches(matchKey, file, jdtAspectMethod, matchingMethods);
 							for (IMethod method : matchingMethods) {
 								IAopReference ref = new AopReference(info.getType(), jdtAspectMethod, JdtUtils
 										.getLineNumber(jdtAspectMethod), method, JdtUtils.getLineNumber(method), info,
 										file, bean);
-								aopProject.addAopReference(ref);
+								references.add(aopProject, ref);
 							}
 							// System.out.println(String.format("--- matching on '%s' took '%s'", targetClass, (System
 							// .currentTimeMillis() - start)));
@@ -279,22 +321,202 @@ public class AopReferenceModelBuilderJob extends Job {
 		}
 	}
 
-	private void buildAopReferencesForBeans(IModelElement config, IAspectDefinition info, IProgressMonitor monitor,
-			IResource file, IAopProject aopProject, Set<IBean> beans) {
+	/**
+	 * Returns the {@link PointcutPreFilter} that reads the class files of the given project.
+	 */
+	private PointcutPreFilter getPointcutPreFilter(IProject classProject) {
+		PointcutPreFilter preFilter = pointcutPreFilters.get(classProject);
+		if (preFilter == null) {
+			ClassLoader classLoader = (project != null && project.equals(classProject) ? classLoaderSupport
+					.getProjectClassLoader() : JdtUtils.getClassLoader(classProject, null));
+			preFilter = new PointcutPreFilter(new CachingClassReaderFactory(classLoader));
+			PointcutPreFilter existingPreFilter = pointcutPreFilters.putIfAbsent(classProject, preFilter);
+			if (existingPreFilter != null) {
+				return existingPreFilter;
+			}
+		}
+		return preFilter;
+	}
+
+	/**
+	 * Returns <code>false</code> if the given {@link IAspectDefinition} can't match the given class; decided by the
+	 * {@link PointcutPreFilter} of the project the class belongs to.
+	 */
+	private boolean couldMatch(String className, IAspectDefinition info, IProject classProject) {
+		if (!prefilterPointcuts) {
+			return true;
+		}
+		PointcutPreFilter preFilter = getPointcutPreFilter(classProject);
+		if (info instanceof BeanIntroductionDefinition) {
+			return preFilter.couldMatchType(((BeanIntroductionDefinition) info).getTypePattern(), className);
+		}
+		else if (info instanceof BeanAspectDefinition) {
+			return preFilter.couldMatch(info.getPointcutExpression(), className);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the key of the match of the given aspect definition and bean in the {@link AopMatchCache} or
+	 * <code>null</code> if the match can't be cached, e.g. because one of the involved classes can't be read or the
+	 * pointcut uses primitives like <code>args</code> whose matches depend on the hierarchies of types that aren't
+	 * covered by the key.
+	 */
+	private String getMatchKey(IBean bean, String className, IAspectDefinition info, IProject classProject,
+			IAopProject aopProject) {
+		if (matchCache == null || !(info instanceof BeanAspectDefinition)) {
+			return null;
+		}
+		String targetFingerprint = getPointcutPreFilter(classProject).getStructuralFingerprint(className);
+		if (targetFingerprint == null) {
+			return null;
+		}
+		String pointcutFingerprint = getPointcutPreFilter(aopProject.getProject().getProject())
+				.getPointcutFingerprint(info.getPointcutExpression(), info.getAspectClassName());
+		if (pointcutFingerprint == null) {
+			return null;
+		}
+		return AopMatchCache.createKey(classProject.getName(), className, targetFingerprint, bean.getElementName(),
+				Arrays.toString(bean.getAliases()), info.getClass().getName(), info.getType(),
+				info.getPointcutExpression(), info.getAspectClassName(), info.getAdviceMethodName(),
+				Arrays.toString(info.getAdviceMethodParameterTypes()), Arrays.toString(info.getArgNames()),
+				info.getReturning(), info.getThrowing(), info.isProxyTargetClass(), pointcutFingerprint);
+	}
+
+	/**
+	 * Adds the references of a cached match; returns <code>false</code> if there is no cached match or one of the
+	 * matched methods doesn't exist anymore.
+	 */
+	private boolean addCachedAopReferences(String matchKey, IBean bean, IAspectDefinition info, IResource file,
+			IAopProject aopProject, ReferenceBatch references) {
+		String[] handleIdentifiers = matchCache.getMatches(file.getProject(), matchKey);
+		if (handleIdentifiers == null) {
+			return false;
+		}
+		List<IMethod> methods = new ArrayList<>(handleIdentifiers.length);
+		for (String handleIdentifier : handleIdentifiers) {
+			IJavaElement element = JavaCore.create(handleIdentifier);
+			if (!(element instanceof IMethod) || !element.exists()) {
+				return false;
+			}
+			methods.add((IMethod) element);
+		}
+		if (!methods.isEmpty()) {
+			IMethod jdtAspectMethod = methods.get(0);
+			for (IMethod method : methods.subList(1, methods.size())) {
+				references.add(aopProject, new AopReference(info.getType(), jdtAspectMethod, JdtUtils
+						.getLineNumber(jdtAspectMethod), method, JdtUtils.getLineNumber(method), info, file, bean));
+			}
+		}
+		return true;
+	}
+
+	private void cacheMatches(String matchKey, IResource file, IMethod jdtAspectMethod, Set<IMethod> matchingMethods) {
+		if (matchKey == null) {
+			return;
+		}
+		List<String> handleIdentifiers = new ArrayList<>(matchingMethods.size() + 1);
+		if (!matchingMethods.isEmpty()) {
+			handleIdentifiers.add(jdtAspectMethod.getHandleIdentifier());
+			for (IMethod method : matchingMethods) {
+				handleIdentifiers.add(method.getHandleIdentifier());
+			}
+		}
+		matchCache.putMatches(file.getProject(), matchKey, handleIdentifiers.toArray(new String[handleIdentifiers
+				.size()]));
+	}
+
+	/**
+	 * Matches the aspect definitions against the beans of the given tasks. If parallel matching is enabled, the tasks
+	 * are partitioned across the {@link Activator#getMatchingPool() matching pool}; each partition adds its references
+	 * in one batch.
+	 */
+	private void matchBeans(List<BeanMatchingTask> tasks, final IProgressMonitor monitor) {
+		int partitionCount = (parallelMatching ? Math.min(tasks.size(), Activator.getMatchingParallelism()) : 1);
+		if (partitionCount <= 1) {
+			ReferenceBatch references = new ReferenceBatch();
+			for (BeanMatchingTask task : tasks) {
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				monitor.subTask(Activator.getFormattedMessage("AopReferenceModelBuilder.buildingAopReferencesForBean",
+						task.bean.getElementName(), task.bean.getElementResource().getFullPath()));
+				buildAopReferencesForBean(task, references);
+			}
+			references.addToProjects();
+			return;
+		}
+
+		// deal the tasks out round-robin, so that expensive beans of the same config end up in different partitions
+		List<List<BeanMatchingTask>> partitions = new ArrayList<>(partitionCount);
+		for (int i = 0; i < partitionCount; i++) {
+			partitions.add(new ArrayList<BeanMatchingTask>());
+		}
+		for (int i = 0; i < tasks.size(); i++) {
+			partitions.get(i % partitionCount).add(tasks.get(i));
+		}
 
-		monitor.subTask(Activator.getFormattedMessage("AopReferenceModelBuilder.buildingAopReferences"));
+		monitor.subTask(Activator.getFormattedMessage("AopReferenceModelBuilder.matchingBeansInParallel",
+				tasks.size(), partitionCount));
+
+		List<Future<ReferenceBatch>> results = new ArrayList<>(partitionCount);
+		for (final List<BeanMatchingTask> partition : partitions) {
+			results.add(Activator.getMatchingPool().submit(new Callable<ReferenceBatch>() {
+
+				public ReferenceBatch call() {
+					ReferenceBatch references = new ReferenceBatch();
+					// the class loader support resets the context class loader to the one of the job thread
+					Thread thread = Thread.currentThread();
+					ClassLoader contextClassLoader = thread.getContextClassLoader();
+					try {
+						for (BeanMatchingTask task : partition) {
+							if (monitor.isCanceled()) {
+								break;
+							}
+							buildAopReferencesForBean(task, references);
+						}
+					}
+					finally {
+						thread.setContextClassLoader(contextClassLoader);
+					}
+					return references;
+				}
+			}));
+		}
 
+		for (Future<ReferenceBatch> result : results) {
+			try {
+				result.get().addToProjects();
+			}
+			catch (InterruptedException e) {
+				for (Future<ReferenceBatch> pendingResult : results) {
+					pendingResult.cancel(true);
+				}
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			}
+			catch (ExecutionException e) {
+				Activator.log(e.getCause());
+			}
+		}
+
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+	}
+
+	private void addBeanMatchingTasks(IModelElement config, IAspectDefinition info, IResource file,
+			IAopProject aopProject, Set<IBean> beans, List<BeanMatchingTask> tasks) {
 		for (IBean bean : beans) {
-			monitor.subTask(Activator.getFormattedMessage("AopReferenceModelBuilder.buildingAopReferencesForBean", bean
-					.getElementName(), bean.getElementResource().getFullPath()));
-			buildAopReferencesForBean(bean, config, info, file, aopProject, monitor);
+			tasks.add(new BeanMatchingTask(bean, config, info, file, aopProject));
 
 			// Make sure that inner beans are handled as well
-			buildAopReferencesForBeans(config, info, monitor, file, aopProject, BeansModelUtils.getInnerBeans(bean));
+			addBeanMatchingTasks(config, info, file, aopProject, BeansModelUtils.getInnerBeans(bean), tasks);
 		}
 	}
 
-	private void buildAopReferencesForBeansConfig(IBeansConfig config, IAspectDefinition info, IProgressMonitor monitor) {
+	private void buildAopReferencesForBeansConfig(IBeansConfig config, IAspectDefinition info,
+			List<BeanMatchingTask> tasks) {
 
 		IResource file = config.getElementResource();
 		IJavaProject javaProject = JdtUtils.getJavaProject(file.getProject());
@@ -310,7 +532,7 @@ public class AopReferenceModelBuilderJob extends Job {
 				addBeansFromComponent(component, beans);
 			}
 
-			buildAopReferencesForBeans(config, info, monitor, file, aopProject, beans);
+			addBeanMatchingTasks(config, info, file, aopProject, beans, tasks);
 		}
 	}
 
@@ -362,14 +584,18 @@ public class AopReferenceModelBuilderJob extends Job {
 				//
 				// start = System.currentTimeMillis();
 
+				List<BeanMatchingTask> tasks = new ArrayList<>();
 				for (IAspectDefinition info : aspectInfos) {
 					// build model for config
-					buildAopReferencesForBeansConfig(config, info, monitor);
+					buildAopReferencesForBeansConfig(config, info, tasks);
 
 					// build model for config sets
-					buildAopReferencesFromBeansConfigSets(project, config, info, monitor);
+					buildAopReferencesFromBeansConfigSets(project, config, info, tasks);
 				}
 
+				monitor.subTask(Activator.getFormattedMessage("AopReferenceModelBuilder.buildingAopReferences"));
+				matchBeans(tasks, monitor);
+
 				// System.out.println(String.format("-- building aop model for file '%s' took '%s'", currentFile,
 				// (System
 				// .currentTimeMillis() - start)));
@@ -395,7 +621,7 @@ public class AopReferenceModelBuilderJob extends Job {
 	 * the config set.
 	 */
 	private void buildAopReferencesFromBeansConfigSets(IBeansProject project, IBeansConfig config,
-			IAspectDefinition info, IProgressMonitor monitor) {
+			IAspectDefinition info, List<BeanMatchingTask> tasks) {
 
 		Set<IBeansConfig> foundConfigs = new LinkedHashSet<>();
 		for (IBeansConfigSet configSet : project.getConfigSets()) {
@@ -409,7 +635,7 @@ public class AopReferenceModelBuilderJob extends Job {
 			}
 		}
 		for (IBeansConfig bc : foundConfigs) {
-			buildAopReferencesForBeansConfig(bc, info, monitor);
+			buildAopReferencesForBeansConfig(bc, info, tasks);
 		}
 	}
 
@@ -439,6 +665,13 @@ public class AopReferenceModelBuilderJob extends Job {
 		aspectDefinitionCache = new HashMap<>();
 		aspectDefinitionBuilder = new AspectDefinitionBuilderHelper();
 		classLoaderSupport = createWeavingClassLoaderSupport();
+		pointcutPreFilters = new ConcurrentHashMap<>();
+		prefilterPointcuts = Activator.getDefault().getPreferenceStore().getBoolean(
+				Activator.PREFILTER_POINTCUTS_PREFERENCE);
+		matchCache = (Activator.getDefault().getPreferenceStore().getBoolean(Activator.CACHE_MATCHES_PREFERENCE)
+				? ((AopReferenceModel) Activator.getModel()).getMatchCache() : null);
+		parallelMatching = Activator.getDefault().getPreferenceStore().getBoolean(
+				Activator.PARALLEL_MATCHING_PREFERENCE);
 
 		monitor.beginTask(Activator.getFormattedMessage("AopReferenceModelBuilder.startBuildingAopReferenceModel"),
 				affectedResources.size());
@@ -478,9 +711,31 @@ public class AopReferenceModelBuilderJob extends Job {
 				}
 			}
 
+			// hand the references of each processed resource to the marker job; one pass over the references per project
+			Map<IAopProject, Map<IResource, Set<IAopReference>>> referencesByProject = new LinkedHashMap<>();
 			for (Map.Entry<IResource, IAopProject> entry : processedProjects.entrySet()) {
-				Set<IAopReference> references = entry.getValue().getAllReferences();
-				markerJob.addAopReference(entry.getKey(), references);
+				Map<IResource, Set<IAopReference>> references = referencesByProject.get(entry.getValue());
+				if (references == null) {
+					references = new HashMap<>();
+					referencesByProject.put(entry.getValue(), references);
+				}
+				references.put(entry.getKey(), new LinkedHashSet<IAopReference>());
+			}
+			for (Map.Entry<IAopProject, Map<IResource, Set<IAopReference>>> entry : referencesByProject.entrySet()) {
+				Map<IResource, Set<IAopReference>> references = entry.getValue();
+				for (IAopReference reference : entry.getKey().getAllReferences()) {
+					Set<IAopReference> definitionReferences = references.get(reference.getDefinition().getResource());
+					if (definitionReferences != null) {
+						definitionReferences.add(reference);
+					}
+					Set<IAopReference> targetReferences = references.get(reference.getResource());
+					if (targetReferences != null) {
+						targetReferences.add(reference);
+					}
+				}
+				for (Map.Entry<IResource, Set<IAopReference>> resourceReferences : references.entrySet()) {
+					markerJob.addAopReferences(resourceReferences.getKey(), resourceReferences.getValue());
+				}
 			}
 
 			AopLog.logEnd(AopLog.BUILDER, PROCESSING_TOOK_MSG);
@@ -549,16 +804,20 @@ public class AopReferenceModelBuilderJob extends Job {
 			setRule(ResourcesPlugin.getWorkspace().getRuleFactory().buildRule());
 		}
 
-		public void addAopReference(IResource resource, Set<IAopReference> references) {
+		/**
+		 * Adds the references of the given resource; these are the references that either target the resource or
+		 * are defined in it.
+		 */
+		public synchronized void addAopReferences(IResource resource, Collection<IAopReference> references) {
 			// create new list to prevent concurrent modification problems
 			this.references.put(resource, new ArrayList<>(references));
 		}
 
-		public void addResource(IResource resource) {
+		public synchronized void addResource(IResource resource) {
 			this.resources.add(resource);
 		}
 
-		public void addThrowableHolder(ThrowableHolder throwableHolder) {
+		public synchronized void addThrowableHolder(ThrowableHolder throwableHolder) {
 			throwables.add(throwableHolder);
 		}
 
@@ -620,12 +879,10 @@ public class AopReferenceModelBuilderJob extends Job {
 					AopLog.log(AopLog.BUILDER_MESSAGES, Activator.getFormattedMessage(
 							"AopReferenceModelBuilder.deletedProblemMarkers", currentFile.getFullPath().toString()));
 					// could be that no references have been recorded as the problem during pc matching occurred
-					if (references.containsKey(currentFile) && references.get(currentFile) != null) {
-						for (IAopReference reference : references.get(currentFile)) {
-							if (reference.getDefinition().getResource().equals(currentFile)
-									|| reference.getResource().equals(currentFile)) {
-								AopReferenceModelMarkerUtils.createMarker(reference, currentFile);
-							}
+					List<IAopReference> resourceReferences = references.get(currentFile);
+					if (resourceReferences != null) {
+						for (IAopReference reference : resourceReferences) {
+							AopReferenceModelMarkerUtils.createMarker(reference, currentFile);
 						}
 						AopLog.log(AopLog.BUILDER_MESSAGES, Activator.getFormattedMessage(
 								"AopReferenceModelBuilder.createdProblemMarkers", currentFile.getFullPath().toString()));
@@ -652,6 +909,54 @@ public class AopReferenceModelBuilderJob extends Job {
 
 	}
 
+	/**
+	 * A bean to match an aspect definition against.
+	 */
+	private static class BeanMatchingTask {
+
+		private final IBean bean;
+
+		private final IModelElement context;
+
+		private final IAspectDefinition info;
+
+		private final IResource file;
+
+		private final IAopProject aopProject;
+
+		public BeanMatchingTask(IBean bean, IModelElement context, IAspectDefinition info, IResource file,
+				IAopProject aopProject) {
+			this.bean = bean;
+			this.context = context;
+			this.info = info;
+			this.file = file;
+			this.aopProject = aopProject;
+		}
+	}
+
+	/**
+	 * References created by one matching thread that are added to their {@link IAopProject}s at once.
+	 */
+	private static class ReferenceBatch {
+
+		private final Map<IAopProject, List<IAopReference>> references = new LinkedHashMap<>();
+
+		public void add(IAopProject aopProject, IAopReference reference) {
+			List<IAopReference> projectReferences = references.get(aopProject);
+			if (projectReferences == null) {
+				projectReferences = new ArrayList<>();
+				references.put(aopProject, projectReferences);
+			}
+			projectReferences.add(reference);
+		}
+
+		public void addToProjects() {
+			for (Map.Entry<IAopProject, List<IAopReference>> entry : references.entrySet()) {
+				entry.getKey().addAopReferences(entry.getValue());
+			}
+		}
+	}
+
 	/**
 	 * Holder to collect {@link Exception}s thrown during pointcut parsing and matching.
 	 * @since 2.0.4
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2013 Spring IDE Developers
+ * Copyright (c) 2007, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -24,6 +24,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.aopalliance.aop.Advice;
 import org.eclipse.core.resources.IProject;
@@ -56,8 +58,12 @@ import org.springframework.util.ReflectionUtils;
  */
 public class AspectDefinitionMatcher {
 
-	/** Internal cache to used with {@link AspectJExpressionPointcut} */
-	private Map<IAspectDefinition, Object> pointcutExpressionCache = new HashMap<IAspectDefinition, Object>();
+	/**
+	 * Internal cache to used with {@link AspectJExpressionPointcut}, one per matching thread: the pointcuts build their
+	 * expression and shadow matches lazily and are therefore not shared between threads
+	 */
+	private final ConcurrentMap<Thread, Map<IAspectDefinition, CachedPointcut>> pointcutExpressionCaches =
+			new ConcurrentHashMap<Thread, Map<IAspectDefinition, CachedPointcut>>();
 
 	/**
 	 * Returns all matches on {@link Method} in form of the corresponding {@link IMethod}.
@@ -101,22 +107,25 @@ public class AspectDefinitionMatcher {
 	}
 
 	public void close() {
-		for (Object pce : pointcutExpressionCache.values()) {
-			Field field = ReflectionUtils.findField(pce.getClass(), "shadowMatchCache");
-			field.setAccessible(true);
-			Map<?, ?> shadowMatchCache = (Map<?, ?>) ReflectionUtils.getField(field, pce);
-
-			try {
-				Class<?> resolvedTypeClass = pce.getClass().getClassLoader().loadClass(
-						"org.aspectj.weaver.ResolvedType");
-				Method resetPrimitivesMethod = resolvedTypeClass.getMethod("resetPrimitives");
-				resetPrimitivesMethod.invoke(resolvedTypeClass);
-			}
-			catch (Exception e) {
+		for (Map<IAspectDefinition, CachedPointcut> pointcutExpressionCache : pointcutExpressionCaches.values()) {
+			for (CachedPointcut cachedPointcut : pointcutExpressionCache.values()) {
+				Object pce = cachedPointcut.expressionPointcut;
+				Field field = ReflectionUtils.findField(pce.getClass(), "shadowMatchCache");
+				field.setAccessible(true);
+				Map<?, ?> shadowMatchCache = (Map<?, ?>) ReflectionUtils.getField(field, pce);
+
+				try {
+					Class<?> resolvedTypeClass = pce.getClass().getClassLoader().loadClass(
+							"org.aspectj.weaver.ResolvedType");
+					Method resetPrimitivesMethod = resolvedTypeClass.getMethod("resetPrimitives");
+					resetPrimitivesMethod.invoke(resolvedTypeClass);
+				}
+				catch (Exception e) {
+				}
+				shadowMatchCache.clear();
 			}
-			shadowMatchCache.clear();
 		}
-		pointcutExpressionCache.clear();
+		pointcutExpressionCaches.clear();
 	}
 
 	/**
@@ -177,14 +186,29 @@ public class AspectDefinitionMatcher {
 	 * Creates {@link AspectJExpressionPointcut} instances based on {@link IAspectDefinition}.
 	 */
 	private Object createAspectJPointcutExpression(IAspectDefinition info) throws Throwable {
-		try {
+		Map<IAspectDefinition, CachedPointcut> pointcutExpressionCache = pointcutExpressionCaches.get(Thread
+				.currentThread());
+		if (pointcutExpressionCache == null) {
+			pointcutExpressionCache = new HashMap<IAspectDefinition, CachedPointcut>();
+			pointcutExpressionCaches.put(Thread.currentThread(), pointcutExpressionCache);
+		}
+		else if (pointcutExpressionCache.containsKey(info)) {
+			return pointcutExpressionCache.get(info).pointcut;
+		}
 
-			if (pointcutExpressionCache.containsKey(info)) {
-				return pointcutExpressionCache.get(info);
-			}
+		// only cache the pointcut once the advice is fully configured
+		Object pc = initAspectJExpressionPointcut(info);
+		Object pointcut = configureAspectJAdvice(info, pc);
+		pointcutExpressionCache.put(info, new CachedPointcut(pc, pointcut));
+		return pointcut;
+	}
 
-			Object pc = initAspectJExpressionPointcut(info);
-			pointcutExpressionCache.put(info, pc);
+	/**
+	 * Creates the advice of the given {@link IAspectDefinition} for the given pointcut and returns the pointcut to
+	 * match with.
+	 */
+	private Object configureAspectJAdvice(IAspectDefinition info, Object pc) throws Throwable {
+		try {
 
 			Class<?> aspectJAdviceClass = AspectJAdviceClassFactory.getAspectJAdviceClass(info);
 			Class<?> aspectInstanceFactoryClass = ClassUtils
@@ -333,4 +357,20 @@ public class AspectDefinitionMatcher {
 				|| aopInfrastructureBeanClass.isAssignableFrom(beanClass);
 	}
 
-}
\ No newline at end of file
+	/**
+	 * The {@link AspectJExpressionPointcut} of an {@link IAspectDefinition} together with the pointcut of its
+	 * configured advice.
+	 */
+	private static class CachedPointcut {
+
+		private final Object expressionPointcut;
+
+		private final Object pointcut;
+
+		public CachedPointcut(Object expressionPointcut, Object pointcut) {
+			this.expressionPointcut = expressionPointcut;
+			this.pointcut = pointcut;
+		}
+	}
+
+}
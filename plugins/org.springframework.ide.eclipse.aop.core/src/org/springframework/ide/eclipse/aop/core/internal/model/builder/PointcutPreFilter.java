@@ -0,0 +1,956 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.aop.core.internal.model.builder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.FieldVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.Type;
+import org.springframework.ide.eclipse.core.type.asm.ClassReaderFactory;
+import org.springframework.ide.eclipse.core.type.asm.EmptyFieldVisitor;
+import org.springframework.ide.eclipse.core.type.asm.EmptyMethodVisitor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Cheap, conservative check if an AspectJ pointcut expression can match any method of a given class at all.
+ * <p>
+ * The statically decidable parts of the expression (<code>within</code>, the declaring type and method name patterns
+ * of <code>execution</code>, <code>@annotation</code>, <code>@within</code> and <code>@target</code>) are evaluated
+ * against the class metadata of the target class and its super types that is read by ASM; all other primitives are
+ * treated as unknown. This allows to skip loading and reflectively matching classes that will never be advised. The
+ * filter only answers <code>false</code> if the expression can't match; expressions it doesn't understand always pass.
+ * <p>
+ * The same metadata is used to compute structural fingerprints of type hierarchies and pointcuts. Fingerprints cover
+ * the state {@link org.springframework.ide.eclipse.core.java.TypeStructureCache} compares to detect structural changes
+ * (modifiers, super types, fields, method signatures and annotations including their values), but not method bodies.
+ * Pointcuts whose matches also depend on the hierarchies of other types, e.g. of parameter types with
+ * <code>args</code>, <code>this</code>, <code>target</code> or <code>Type+</code> patterns in method signatures, have
+ * no fingerprint.
+ * <p>
+ * Instances cache the parsed expressions and the class metadata and are meant to be used for the duration of a
+ * single build.
+ */
+public class PointcutPreFilter {
+
+	private static final String CONSTRUCTOR_NAME = "<init>";
+
+	private static final String STATIC_INITIALIZER_NAME = "<clinit>";
+
+	private static final String POINTCUT_ANNOTATION_DESC = "Lorg/aspectj/lang/annotation/Pointcut;";
+
+	private static final Set<String> PRIMITIVE_DESIGNATORS = new HashSet<String>(Arrays.asList("execution", "call",
+			"within", "withincode", "args", "this", "target", "@args", "@annotation", "@within", "@target",
+			"@withincode", "bean", "get", "set", "handler", "initialization", "preinitialization",
+			"staticinitialization", "adviceexecution", "cflow", "cflowbelow", "if"));
+
+	/** designators whose matches depend on the hierarchies of the types in the signatures of the matched methods */
+	private static final Set<String> TYPE_DEPENDENT_DESIGNATORS = new HashSet<String>(Arrays.asList("call", "args",
+			"this", "target", "@args"));
+
+	/** <code>+</code> that belongs to the declaring type pattern of an <code>execution</code> */
+	private static final Pattern DECLARING_TYPE_SUBTYPES = Pattern.compile("\\+\\.[\\w$*]*\\s*\\(");
+
+	private final ClassReaderFactory classReaderFactory;
+
+	private final Map<String, ParsedPointcut> pointcuts = new ConcurrentHashMap<String, ParsedPointcut>();
+
+	private final Map<String, TypeInfo> types = new ConcurrentHashMap<String, TypeInfo>();
+
+	private final Map<String, TypeHierarchy> hierarchies = new ConcurrentHashMap<String, TypeHierarchy>();
+
+	public PointcutPreFilter(ClassReaderFactory classReaderFactory) {
+		this.classReaderFactory = classReaderFactory;
+	}
+
+	/**
+	 * Returns <code>false</code> if the given pointcut expression can't match any method of the given class.
+	 */
+	public boolean couldMatch(String pointcutExpression, String className) {
+		if (pointcutExpression == null || className == null) {
+			return true;
+		}
+		return getPointcut(pointcutExpression).expression.evaluate(getTypeHierarchy(className)) != Match.FALSE;
+	}
+
+	/**
+	 * Returns <code>false</code> if neither the given class nor one of its super types matches the given AspectJ type
+	 * pattern, e.g. the <code>types-matching</code> pattern of an introduction.
+	 */
+	public boolean couldMatchType(String typePattern, String className) {
+		if (typePattern == null || className == null) {
+			return true;
+		}
+		return getPointcut("within(" + typePattern + ")").expression.evaluate(getTypeHierarchy(className)) != Match.FALSE;
+	}
+
+	/**
+	 * Returns the structural fingerprint of the given class and all its super types or <code>null</code> if one of
+	 * the types can't be read.
+	 */
+	public String getStructuralFingerprint(String className) {
+		return className != null ? getTypeHierarchy(className).fingerprint : null;
+	}
+
+	/**
+	 * Returns a fingerprint of everything the meaning of the given pointcut expression depends on besides the
+	 * expression itself and the target class hierarchy: the structure of the aspect class hierarchy, which declares
+	 * named pointcuts, and of the types that declare referenced named pointcuts. Returns <code>null</code> if the
+	 * expression can't be parsed, one of these types can't be read or the expression, including referenced named
+	 * pointcuts, uses primitives whose matches depend on the hierarchies of other types.
+	 */
+	public String getPointcutFingerprint(String pointcutExpression, String aspectClassName) {
+		if (pointcutExpression == null) {
+			return null;
+		}
+		ParsedPointcut pointcut = getPointcut(pointcutExpression);
+		if (pointcut.referencedTypes == null
+				|| isTypeDependent(pointcut, aspectClassName, new HashSet<String>())) {
+			return null;
+		}
+		List<String> fingerprints = new ArrayList<String>();
+		String aspectPackage = "";
+		if (aspectClassName != null) {
+			String fingerprint = getStructuralFingerprint(aspectClassName);
+			if (fingerprint == null) {
+				return null;
+			}
+			fingerprints.add(aspectClassName + ':' + fingerprint);
+			aspectPackage = ClassUtils.getPackageName(aspectClassName);
+		}
+		for (String typeName : pointcut.referencedTypes) {
+			String fingerprint = getStructuralFingerprint(typeName);
+			if (fingerprint == null && aspectPackage.length() > 0) {
+				// unqualified references are resolved against the package of the aspect
+				typeName = aspectPackage + '.' + typeName;
+				fingerprint = getStructuralFingerprint(typeName);
+			}
+			if (fingerprint == null) {
+				return null;
+			}
+			fingerprints.add(typeName + ':' + fingerprint);
+		}
+		return createFingerprint(fingerprints);
+	}
+
+	/**
+	 * Returns <code>true</code> if the given pointcut or one of the named pointcuts it references uses type dependent
+	 * primitives or if one of the referenced named pointcuts can't be resolved.
+	 */
+	private boolean isTypeDependent(ParsedPointcut pointcut, String declaringClassName, Set<String> visited) {
+		if (pointcut.typeDependent) {
+			return true;
+		}
+		for (String reference : pointcut.referencedPointcuts) {
+			int separator = reference.lastIndexOf('.');
+			String typeName = separator > 0 ? reference.substring(0, separator) : declaringClassName;
+			String pointcutName = reference.substring(separator + 1);
+			if (typeName == null) {
+				return true;
+			}
+			String expression = getTypeHierarchy(typeName).pointcuts.get(pointcutName);
+			if (expression == null && separator > 0 && declaringClassName != null) {
+				// unqualified references are resolved against the package of the declaring type
+				typeName = ClassUtils.getPackageName(declaringClassName) + '.' + typeName;
+				expression = getTypeHierarchy(typeName).pointcuts.get(pointcutName);
+			}
+			if (expression == null) {
+				return true;
+			}
+			if (!visited.add(typeName + '.' + pointcutName)) {
+				continue;
+			}
+			ParsedPointcut referencedPointcut = getPointcut(expression);
+			if (referencedPointcut.referencedTypes == null
+					|| isTypeDependent(referencedPointcut, typeName, visited)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private ParsedPointcut getPointcut(String pointcutExpression) {
+		ParsedPointcut pointcut = pointcuts.get(pointcutExpression);
+		if (pointcut == null) {
+			ExpressionParser parser = new ExpressionParser(pointcutExpression);
+			try {
+				pointcut = new ParsedPointcut(parser.parse(), parser.referencedTypes, parser.referencedPointcuts,
+						parser.typeDependent);
+			}
+			catch (IllegalArgumentException e) {
+				// leave reporting of malformed expressions to the real pointcut matching
+				pointcut = new ParsedPointcut(UNKNOWN, null, null, true);
+			}
+			pointcuts.put(pointcutExpression, pointcut);
+		}
+		return pointcut;
+	}
+
+	private TypeHierarchy getTypeHierarchy(String className) {
+		TypeHierarchy hierarchy = hierarchies.get(className);
+		if (hierarchy == null) {
+			hierarchy = new TypeHierarchy();
+			Set<String> visited = new HashSet<String>();
+			List<String> fingerprints = new ArrayList<String>();
+			Deque<String> pending = new ArrayDeque<String>();
+			pending.add(className);
+			while (!pending.isEmpty()) {
+				String name = pending.poll();
+				if (!visited.add(name)) {
+					continue;
+				}
+				hierarchy.addTypeName(name);
+				TypeInfo info = getTypeInfo(name);
+				if (info == null) {
+					hierarchy.complete = false;
+					continue;
+				}
+				fingerprints.add(name + ':' + info.fingerprint);
+				hierarchy.typeAnnotations.addAll(info.annotations);
+				hierarchy.methodNames.addAll(info.methodNames);
+				hierarchy.methodAnnotations.addAll(info.methodAnnotations);
+				for (Map.Entry<String, String> entry : info.pointcuts.entrySet()) {
+					// named pointcuts of sub types hide the ones of their super types
+					if (!hierarchy.pointcuts.containsKey(entry.getKey())) {
+						hierarchy.pointcuts.put(entry.getKey(), entry.getValue());
+					}
+				}
+				if (info.superClassName != null) {
+					pending.add(info.superClassName);
+				}
+				for (String interfaceName : info.interfaceNames) {
+					pending.add(interfaceName);
+				}
+			}
+			if (hierarchy.complete) {
+				hierarchy.fingerprint = createFingerprint(fingerprints);
+			}
+			hierarchies.put(className, hierarchy);
+		}
+		return hierarchy;
+	}
+
+	private TypeInfo getTypeInfo(String className) {
+		TypeInfo info = types.get(className);
+		if (info == null) {
+			info = MISSING_TYPE;
+			try {
+				ClassReader classReader = classReaderFactory.getClassReader(className);
+				if (classReader != null) {
+					TypeInfoVisitor visitor = new TypeInfoVisitor();
+					classReader.accept(visitor, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG
+							| ClassReader.SKIP_FRAMES);
+					info = visitor.info;
+				}
+			}
+			catch (IOException e) {
+				// class can't be read; fall back to the reflective matching
+			}
+			catch (RuntimeException e) {
+				// class file can't be parsed by the available ASM version
+			}
+			types.put(className, info);
+		}
+		return info != MISSING_TYPE ? info : null;
+	}
+
+	private static String getClassName(String internalName) {
+		return internalName != null ? Type.getObjectType(internalName).getClassName() : null;
+	}
+
+	private static String getAnnotationName(String desc) {
+		return Type.getType(desc).getClassName();
+	}
+
+	private static String createFingerprint(List<String> parts) {
+		Collections.sort(parts);
+		StringBuilder fingerprint = new StringBuilder();
+		for (String part : parts) {
+			fingerprint.append(part).append('\n');
+		}
+		return DigestUtils.md5DigestAsHex(fingerprint.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Parsed pointcut expression together with the named pointcuts it references and the names of the types that
+	 * declare them.
+	 */
+	private static class ParsedPointcut {
+
+		private final Expression expression;
+
+		/** <code>null</code> if the expression can't be parsed */
+		private final Set<String> referencedTypes;
+
+		/** qualified or unqualified names of the referenced named pointcuts */
+		private final Set<String> referencedPointcuts;
+
+		/** <code>true</code> if the expression itself uses type dependent primitives */
+		private final boolean typeDependent;
+
+		public ParsedPointcut(Expression expression, Set<String> referencedTypes, Set<String> referencedPointcuts,
+				boolean typeDependent) {
+			this.expression = expression;
+			this.referencedTypes = referencedTypes;
+			this.referencedPointcuts = referencedPointcuts;
+			this.typeDependent = typeDependent;
+		}
+	}
+
+	/**
+	 * Result of evaluating a pointcut expression for all methods of a type.
+	 */
+	private enum Match {
+		/** the expression matches all methods of the type */
+		TRUE,
+		/** the expression doesn't match any method of the type */
+		FALSE,
+		/** the expression might match some methods of the type */
+		MAYBE
+	}
+
+	private interface Expression {
+
+		Match evaluate(TypeHierarchy hierarchy);
+	}
+
+	private static final Expression UNKNOWN = new Expression() {
+
+		public Match evaluate(TypeHierarchy hierarchy) {
+			return Match.MAYBE;
+		}
+	};
+
+	private static final TypeInfo MISSING_TYPE = new TypeInfo();
+
+	private static class And implements Expression {
+
+		private final Expression left;
+
+		private final Expression right;
+
+		public And(Expression left, Expression right) {
+			this.left = left;
+			this.right = right;
+		}
+
+		public Match evaluate(TypeHierarchy hierarchy) {
+			Match leftMatch = left.evaluate(hierarchy);
+			if (leftMatch == Match.FALSE) {
+				return Match.FALSE;
+			}
+			Match rightMatch = right.evaluate(hierarchy);
+			if (rightMatch == Match.FALSE) {
+				return Match.FALSE;
+			}
+			return leftMatch == Match.TRUE && rightMatch == Match.TRUE ? Match.TRUE : Match.MAYBE;
+		}
+	}
+
+	private static class Or implements Expression {
+
+		private final Expression left;
+
+		private final Expression right;
+
+		public Or(Expression left, Expression right) {
+			this.left = left;
+			this.right = right;
+		}
+
+		public Match evaluate(TypeHierarchy hierarchy) {
+			Match leftMatch = left.evaluate(hierarchy);
+			if (leftMatch == Match.TRUE) {
+				return Match.TRUE;
+			}
+			Match rightMatch = right.evaluate(hierarchy);
+			if (rightMatch == Match.TRUE) {
+				return Match.TRUE;
+			}
+			return leftMatch == Match.FALSE && rightMatch == Match.FALSE ? Match.FALSE : Match.MAYBE;
+		}
+	}
+
+	private static class Not implements Expression {
+
+		private final Expression expression;
+
+		public Not(Expression expression) {
+			this.expression = expression;
+		}
+
+		public Match evaluate(TypeHierarchy hierarchy) {
+			switch (expression.evaluate(hierarchy)) {
+			case TRUE:
+				return Match.FALSE;
+			case FALSE:
+				return Match.TRUE;
+			default:
+				return Match.MAYBE;
+			}
+		}
+	}
+
+	/**
+	 * <code>within(TypePattern)</code>: one of the types in the hierarchy has to match the pattern.
+	 */
+	private static class Within implements Expression {
+
+		private final NamePattern typePattern;
+
+		public Within(NamePattern typePattern) {
+			this.typePattern = typePattern;
+		}
+
+		public Match evaluate(TypeHierarchy hierarchy) {
+			if (hierarchy.complete && !typePattern.matchesAny(hierarchy.typeNames)) {
+				return Match.FALSE;
+			}
+			return Match.MAYBE;
+		}
+	}
+
+	/**
+	 * <code>execution(...)</code>: the declaring type pattern has to match one of the types in the hierarchy and the
+	 * method name pattern has to match one of the methods in the hierarchy.
+	 */
+	private static class Execution implements Expression {
+
+		private final NamePattern declaringTypePattern;
+
+		private final NamePattern methodNamePattern;
+
+		public Execution(NamePattern declaringTypePattern, NamePattern methodNamePattern) {
+			this.declaringTypePattern = declaringTypePattern;
+			this.methodNamePattern = methodNamePattern;
+		}
+
+		public Match evaluate(TypeHierarchy hierarchy) {
+			if (!hierarchy.complete) {
+				return Match.MAYBE;
+			}
+			if (declaringTypePattern != null && !declaringTypePattern.matchesAny(hierarchy.typeNames)) {
+				return Match.FALSE;
+			}
+			return methodNamePattern.matchesAny(hierarchy.methodNames) ? Match.MAYBE : Match.FALSE;
+		}
+	}
+
+	/**
+	 * <code>@annotation</code>, <code>@within</code> and <code>@target</code>: one of the methods or types in the
+	 * hierarchy has to carry the annotation.
+	 */
+	private static class Annotation implements Expression {
+
+		private final NamePattern annotationType;
+
+		private final boolean onMethod;
+
+		public Annotation(NamePattern annotationType, boolean onMethod) {
+			this.annotationType = annotationType;
+			this.onMethod = onMethod;
+		}
+
+		public Match evaluate(TypeHierarchy hierarchy) {
+			if (hierarchy.complete
+					&& !annotationType.matchesAny(onMethod ? hierarchy.methodAnnotations : hierarchy.typeAnnotations)) {
+				return Match.FALSE;
+			}
+			return Match.MAYBE;
+		}
+	}
+
+	/**
+	 * Simple AspectJ name pattern consisting of identifiers and the <code>*</code> and <code>..</code> wildcards.
+	 * <p>
+	 * Unqualified and partially qualified type names might be resolved against the imports of the aspect; therefore
+	 * patterns match any package prefix.
+	 */
+	private static class NamePattern {
+
+		private static final Pattern SIMPLE_PATTERN = Pattern.compile("[\\w$.*]+");
+
+		private final Pattern pattern;
+
+		private NamePattern(Pattern pattern) {
+			this.pattern = pattern;
+		}
+
+		/**
+		 * Returns the pattern or <code>null</code> if the given pattern uses unsupported syntax.
+		 */
+		public static NamePattern create(String pattern, boolean typePattern) {
+			if (typePattern && pattern.endsWith("+")) {
+				// sub types are already covered by matching the whole hierarchy
+				pattern = pattern.substring(0, pattern.length() - 1);
+			}
+			if (!SIMPLE_PATTERN.matcher(pattern).matches() || pattern.contains("...")) {
+				return null;
+			}
+			StringBuilder regex = new StringBuilder(typePattern ? "(?:.*\\.)?" : "");
+			for (int i = 0; i < pattern.length(); i++) {
+				char c = pattern.charAt(i);
+				if (c == '*') {
+					regex.append("[^.]*");
+				}
+				else if (c == '.' && i + 1 < pattern.length() && pattern.charAt(i + 1) == '.') {
+					regex.append("(?:\\..*\\.|\\.)?");
+					i++;
+				}
+				else if (c == '.' || c == '$') {
+					regex.append('\\').append(c);
+				}
+				else {
+					regex.append(c);
+				}
+			}
+			return new NamePattern(Pattern.compile(regex.toString()));
+		}
+
+		public boolean matchesAny(Set<String> names) {
+			for (String name : names) {
+				if (pattern.matcher(name).matches()) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Recursive descent parser for the boolean structure of pointcut expressions.
+	 */
+	private static class ExpressionParser {
+
+		private final String expression;
+
+		private final Set<String> referencedTypes = new HashSet<String>();
+
+		private final Set<String> referencedPointcuts = new HashSet<String>();
+
+		private boolean typeDependent = false;
+
+		private int position = 0;
+
+		public ExpressionParser(String expression) {
+			this.expression = expression;
+		}
+
+		public Expression parse() {
+			Expression result = parseOr();
+			skipWhitespace();
+			if (position != expression.length()) {
+				throw new IllegalArgumentException(expression);
+			}
+			return result;
+		}
+
+		private Expression parseOr() {
+			Expression result = parseAnd();
+			while (consume("||") || consumeWord("or")) {
+				result = new Or(result, parseAnd());
+			}
+			return result;
+		}
+
+		private Expression parseAnd() {
+			Expression result = parseUnary();
+			while (consume("&&") || consumeWord("and")) {
+				result = new And(result, parseUnary());
+			}
+			return result;
+		}
+
+		private Expression parseUnary() {
+			if (consume("!") || consumeWord("not")) {
+				return new Not(parseUnary());
+			}
+			if (consume("(")) {
+				Expression result = parseOr();
+				if (!consume(")")) {
+					throw new IllegalArgumentException(expression);
+				}
+				return result;
+			}
+			return parsePrimitive();
+		}
+
+		private Expression parsePrimitive() {
+			skipWhitespace();
+			int start = position;
+			while (position < expression.length()
+					&& (Character.isJavaIdentifierPart(expression.charAt(position))
+							|| expression.charAt(position) == '.' || expression.charAt(position) == '@')) {
+				position++;
+			}
+			String designator = expression.substring(start, position);
+			if (designator.length() == 0 || !consume("(")) {
+				throw new IllegalArgumentException(expression);
+			}
+			int argumentsStart = position;
+			int depth = 1;
+			while (position < expression.length() && depth > 0) {
+				char c = expression.charAt(position++);
+				if (c == '(') {
+					depth++;
+				}
+				else if (c == ')') {
+					depth--;
+				}
+			}
+			if (depth > 0) {
+				throw new IllegalArgumentException(expression);
+			}
+			return createPrimitive(designator, expression.substring(argumentsStart, position - 1).trim());
+		}
+
+		private Expression createPrimitive(String designator, String arguments) {
+			if (TYPE_DEPENDENT_DESIGNATORS.contains(designator)
+					|| ("execution".equals(designator)
+							&& DECLARING_TYPE_SUBTYPES.matcher(arguments).replaceAll("(").indexOf('+') >= 0)) {
+				typeDependent = true;
+			}
+			if ("within".equals(designator)) {
+				NamePattern typePattern = NamePattern.create(arguments, true);
+				return typePattern != null ? new Within(typePattern) : UNKNOWN;
+			}
+			else if ("execution".equals(designator)) {
+				return createExecution(arguments);
+			}
+			else if ("@annotation".equals(designator) || "@within".equals(designator)
+					|| "@target".equals(designator)) {
+				// unqualified names might be bound to a parameter of the advice method
+				if (arguments.indexOf('.') < 0 || arguments.indexOf('*') >= 0) {
+					return UNKNOWN;
+				}
+				NamePattern annotationType = NamePattern.create(arguments, true);
+				return annotationType != null ? new Annotation(annotationType, "@annotation".equals(designator))
+						: UNKNOWN;
+			}
+			else if (designator.lastIndexOf('.') > 0) {
+				// reference to a named pointcut declared in another type
+				referencedTypes.add(designator.substring(0, designator.lastIndexOf('.')));
+				referencedPointcuts.add(designator);
+			}
+			else if (!PRIMITIVE_DESIGNATORS.contains(designator)) {
+				// reference to a named pointcut declared in the aspect
+				referencedPointcuts.add(designator);
+			}
+			return UNKNOWN;
+		}
+
+		/**
+		 * Extracts the declaring type and method name patterns from
+		 * <code>modifiers? ret-type declaring-type?.name(params) throws?</code>.
+		 */
+		private Expression createExecution(String arguments) {
+			int parametersEnd = arguments.lastIndexOf(')');
+			if (parametersEnd < 0) {
+				return UNKNOWN;
+			}
+			int depth = 0;
+			int parametersStart = -1;
+			for (int i = parametersEnd; i >= 0 && parametersStart < 0; i--) {
+				char c = arguments.charAt(i);
+				if (c == ')') {
+					depth++;
+				}
+				else if (c == '(' && --depth == 0) {
+					parametersStart = i;
+				}
+			}
+			if (parametersStart < 0) {
+				return UNKNOWN;
+			}
+			String head = arguments.substring(0, parametersStart);
+			if (head.length() == 0 || Character.isWhitespace(head.charAt(head.length() - 1))
+					|| head.matches(".*[()@<>].*")) {
+				return UNKNOWN;
+			}
+			String[] tokens = head.trim().split("\\s+");
+			if (tokens.length < 2) {
+				return UNKNOWN;
+			}
+			String qualifiedName = tokens[tokens.length - 1];
+			int separator = qualifiedName.lastIndexOf('.');
+			String methodName = qualifiedName.substring(separator + 1);
+			NamePattern declaringTypePattern = null;
+			if (separator >= 0) {
+				String declaringType = qualifiedName.substring(0, separator);
+				if (declaringType.length() == 0 || declaringType.endsWith(".")) {
+					return UNKNOWN;
+				}
+				declaringTypePattern = NamePattern.create(declaringType, true);
+				if (declaringTypePattern == null) {
+					return UNKNOWN;
+				}
+			}
+			NamePattern methodNamePattern = NamePattern.create(methodName, false);
+			if (methodNamePattern == null || methodName.length() == 0 || "new".equals(methodName)) {
+				return UNKNOWN;
+			}
+			return new Execution(declaringTypePattern, methodNamePattern);
+		}
+
+		private boolean consume(String token) {
+			skipWhitespace();
+			if (expression.startsWith(token, position)) {
+				position += token.length();
+				return true;
+			}
+			return false;
+		}
+
+		private boolean consumeWord(String word) {
+			skipWhitespace();
+			int end = position + word.length();
+			if (expression.startsWith(word, position)
+					&& (end == expression.length() || !Character.isJavaIdentifierPart(expression.charAt(end)))) {
+				position = end;
+				return true;
+			}
+			return false;
+		}
+
+		private void skipWhitespace() {
+			while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+				position++;
+			}
+		}
+	}
+
+	/**
+	 * Merged names of all types, methods and annotations in the type hierarchy of a class.
+	 */
+	private static class TypeHierarchy {
+
+		private final Set<String> typeNames = new HashSet<String>();
+
+		private final Set<String> typeAnnotations = new HashSet<String>();
+
+		private final Set<String> methodNames = new HashSet<String>();
+
+		private final Set<String> methodAnnotations = new HashSet<String>();
+
+		/** expressions of the named pointcuts declared in the hierarchy by name */
+		private final Map<String, String> pointcuts = new HashMap<String, String>();
+
+		/** <code>false</code> if one of the super types could not be read */
+		private boolean complete = true;
+
+		/** <code>null</code> if the hierarchy isn't complete */
+		private String fingerprint;
+
+		public void addTypeName(String className) {
+			typeNames.add(className);
+			// nested types might be referenced with their source name and join points in nested types are within
+			// their enclosing types as well
+			typeNames.add(className.replace('$', '.'));
+			for (int i = className.indexOf('$'); i > 0; i = className.indexOf('$', i + 1)) {
+				typeNames.add(className.substring(0, i));
+			}
+		}
+	}
+
+	private static class TypeInfo {
+
+		private String superClassName;
+
+		private String[] interfaceNames = new String[0];
+
+		private final Set<String> annotations = new HashSet<String>();
+
+		private final Set<String> methodNames = new HashSet<String>();
+
+		private final Set<String> methodAnnotations = new HashSet<String>();
+
+		private final Map<String, String> pointcuts = new HashMap<String, String>();
+
+		private String fingerprint;
+	}
+
+	/**
+	 * ASM visitor that collects the super types, method names and annotations of a class and computes its structural
+	 * fingerprint.
+	 */
+	private static class TypeInfoVisitor extends ClassVisitor {
+
+		private final TypeInfo info = new TypeInfo();
+
+		private final StringBuilder type = new StringBuilder();
+
+		private final List<StringBuilder> members = new ArrayList<StringBuilder>();
+
+		public TypeInfoVisitor() {
+			super(SpringAsmInfo.ASM_VERSION);
+		}
+
+		@Override
+		public void visit(int version, int access, String name, String signature, String superName,
+				String[] interfaces) {
+			info.superClassName = getClassName(superName);
+			if (interfaces != null) {
+				info.interfaceNames = new String[interfaces.length];
+				for (int i = 0; i < interfaces.length; i++) {
+					info.interfaceNames[i] = getClassName(interfaces[i]);
+				}
+			}
+			type.append(access).append(' ').append(name).append(' ').append(signature).append(' ').append(superName)
+					.append(' ').append(ObjectUtils.nullSafeToString(interfaces));
+		}
+
+		@Override
+		public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+			addAnnotation(info.annotations, desc);
+			return new FingerprintAnnotationVisitor(type.append(" @").append(desc), ")");
+		}
+
+		@Override
+		public FieldVisitor visitField(int access, String name, String desc, String signature, Object value) {
+			final StringBuilder field = addMember(access, name, desc, signature);
+			return new EmptyFieldVisitor() {
+
+				@Override
+				public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+					return new FingerprintAnnotationVisitor(field.append(" @").append(desc), ")");
+				}
+			};
+		}
+
+		@Override
+		public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
+			final String methodName = name;
+			final StringBuilder method = addMember(access, name, desc, signature);
+			final boolean initializer = CONSTRUCTOR_NAME.equals(name) || STATIC_INITIALIZER_NAME.equals(name);
+			if (!initializer) {
+				info.methodNames.add(name);
+			}
+			return new EmptyMethodVisitor() {
+
+				@Override
+				public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+					if (!initializer) {
+						addAnnotation(info.methodAnnotations, desc);
+					}
+					AnnotationVisitor visitor = new FingerprintAnnotationVisitor(method.append(" @").append(desc),
+							")");
+					if (POINTCUT_ANNOTATION_DESC.equals(desc)) {
+						return new AnnotationVisitor(SpringAsmInfo.ASM_VERSION, visitor) {
+
+							@Override
+							public void visit(String name, Object value) {
+								if ("value".equals(name) && value instanceof String) {
+									info.pointcuts.put(methodName, (String) value);
+								}
+								super.visit(name, value);
+							}
+						};
+					}
+					return visitor;
+				}
+
+				@Override
+				public AnnotationVisitor visitParameterAnnotation(int parameter, String desc, boolean visible) {
+					return new FingerprintAnnotationVisitor(method.append(" @").append(parameter).append(desc), ")");
+				}
+
+				@Override
+				public AnnotationVisitor visitAnnotationDefault() {
+					return new FingerprintAnnotationVisitor(method.append(" default"), ")");
+				}
+			};
+		}
+
+		@Override
+		public void visitEnd() {
+			List<String> parts = new ArrayList<String>(members.size() + 1);
+			parts.add(type.toString());
+			for (StringBuilder member : members) {
+				parts.add(member.toString());
+			}
+			info.fingerprint = createFingerprint(parts);
+		}
+
+		private StringBuilder addMember(int access, String name, String desc, String signature) {
+			StringBuilder member = new StringBuilder();
+			member.append(access).append(' ').append(name).append(' ').append(desc).append(' ').append(signature);
+			members.add(member);
+			return member;
+		}
+
+		private void addAnnotation(Set<String> annotations, String desc) {
+			String annotationName = getAnnotationName(desc);
+			annotations.add(annotationName);
+			annotations.add(annotationName.replace('$', '.'));
+		}
+	}
+
+	/**
+	 * ASM visitor that appends annotation values to a structural fingerprint.
+	 */
+	private static class FingerprintAnnotationVisitor extends AnnotationVisitor {
+
+		private final StringBuilder fingerprint;
+
+		private final String end;
+
+		public FingerprintAnnotationVisitor(StringBuilder fingerprint, String end) {
+			super(SpringAsmInfo.ASM_VERSION);
+			this.fingerprint = fingerprint.append('(');
+			this.end = end;
+		}
+
+		@Override
+		public void visit(String name, Object value) {
+			fingerprint.append(name).append('=').append(ObjectUtils.nullSafeToString(value)).append(',');
+		}
+
+		@Override
+		public void visitEnum(String name, String desc, String value) {
+			fingerprint.append(name).append('=').append(desc).append('.').append(value).append(',');
+		}
+
+		@Override
+		public AnnotationVisitor visitAnnotation(String name, String desc) {
+			return new FingerprintAnnotationVisitor(fingerprint.append(name).append("=@").append(desc), "),");
+		}
+
+		@Override
+		public AnnotationVisitor visitArray(String name) {
+			return new FingerprintAnnotationVisitor(fingerprint.append(name).append('='), "),");
+		}
+
+		@Override
+		public void visitEnd() {
+			fingerprint.append(end);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2008 Spring IDE Developers
+ * Copyright (c) 2006, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,12 +10,15 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.aop.core.model;
 
+import java.util.Collection;
 import java.util.Set;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.jdt.core.IJavaProject;
 
 /**
+ * The AOP references of a project. Implementations need to be thread-safe, as references are added by multiple
+ * matching threads.
  * @author Christian Dupuis
  */
 public interface IAopProject {
@@ -24,6 +27,11 @@ public interface IAopProject {
 
 	void addAopReference(IAopReference reference);
 
+	/**
+	 * Adds the given references at once.
+	 */
+	void addAopReferences(Collection<IAopReference> references);
+
 	IJavaProject getProject();
 
 	void clearReferencesForResource(IResource resource);
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BeansConfigLoaderTest {
+
+	private BeansConfigLoader loader;
+
+	@Before
+	public void createLoader() {
+		loader = new BeansConfigLoader(2);
+	}
+
+	@After
+	public void shutdownLoader() {
+		loader.shutdown();
+	}
+
+	@Test
+	public void testLoadReturnsResult() throws Exception {
+		final Thread caller = Thread.currentThread();
+		String result = loader.load(new Callable<String>() {
+
+			public String call() throws Exception {
+				assertTrue(caller != Thread.currentThread());
+				return "loaded";
+			}
+		}, 10, TimeUnit.SECONDS);
+		assertEquals("loaded", result);
+	}
+
+	@Test
+	public void testNestedLoadRunsOnLoadingThread() throws Exception {
+		final Thread[] threads = new Thread[2];
+		loader.load(new Callable<Object>() {
+
+			public Object call() throws Exception {
+				threads[0] = Thread.currentThread();
+				return loader.load(new Callable<Object>() {
+
+					public Object call() throws Exception {
+						threads[1] = Thread.currentThread();
+						return null;
+					}
+				}, 10, TimeUnit.SECONDS);
+			}
+		}, 10, TimeUnit.SECONDS);
+		assertEquals(threads[0], threads[1]);
+	}
+
+	@Test
+	public void testTimeoutCancelsLoad() throws Exception {
+		final CountDownLatch canceled = new CountDownLatch(1);
+		try {
+			loader.load(new Callable<Object>() {
+
+				public Object call() throws Exception {
+					try {
+						while (true) {
+							BeansConfigLoader.checkCanceled();
+							Thread.yield();
+						}
+					}
+					catch (OperationCanceledException e) {
+						// the loading thread must not be interrupted, as that closes NIO channels
+						if (!Thread.currentThread().isInterrupted()) {
+							canceled.countDown();
+						}
+						throw e;
+					}
+				}
+			}, 100, TimeUnit.MILLISECONDS);
+			fail("Expected TimeoutException");
+		}
+		catch (TimeoutException e) {
+			// expected
+		}
+		assertTrue(canceled.await(10, TimeUnit.SECONDS));
+
+		// the worker can be used again afterwards
+		assertEquals("next", loader.load(new Callable<String>() {
+
+			public String call() throws Exception {
+				BeansConfigLoader.checkCanceled();
+				return "next";
+			}
+		}, 10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testQueuedLoadsDontTimeOut() throws Exception {
+		loader.shutdown();
+		loader = new BeansConfigLoader(1);
+
+		final CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> blocking = loader.submit(new Callable<String>() {
+
+			public String call() throws Exception {
+				release.await();
+				return "blocking";
+			}
+		}, 10, TimeUnit.SECONDS);
+
+		// more loads than the loader accepts at once, each with a timeout shorter than the wait
+		long start = System.nanoTime();
+		List<CompletableFuture<String>> queued = new ArrayList<CompletableFuture<String>>();
+		for (int i = 0; i < 10; i++) {
+			queued.add(loader.submit(new Callable<String>() {
+
+				public String call() throws Exception {
+					return "queued";
+				}
+			}, 200, TimeUnit.MILLISECONDS));
+		}
+		assertTrue("submit must not wait for a free slot", System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(200));
+
+		Thread.sleep(500);
+		release.countDown();
+
+		assertEquals("blocking", blocking.get(10, TimeUnit.SECONDS));
+		for (CompletableFuture<String> future : queued) {
+			assertEquals("queued", future.get(10, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test
+	public void testFailureIsReportedToFuture() throws Exception {
+		CompletableFuture<Object> future = loader.submit(new Callable<Object>() {
+
+			public Object call() throws Exception {
+				throw new IllegalStateException("broken");
+			}
+		}, 10, TimeUnit.SECONDS);
+		try {
+			future.get();
+			fail("Expected ExecutionException");
+		}
+		catch (ExecutionException e) {
+			assertEquals("broken", e.getCause().getMessage());
+		}
+	}
+
+}
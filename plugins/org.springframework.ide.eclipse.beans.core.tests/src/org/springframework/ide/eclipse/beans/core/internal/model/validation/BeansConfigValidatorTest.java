@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansProject;
+import org.springframework.ide.eclipse.beans.core.tests.BeansCoreTestCase;
+import org.springframework.ide.eclipse.core.SpringCore;
+import org.springframework.ide.eclipse.core.internal.model.validation.ValidatorDefinition;
+import org.springframework.ide.eclipse.core.internal.model.validation.ValidatorDefinitionFactory;
+import org.springframework.ide.eclipse.core.model.validation.AbstractValidator;
+import org.springframework.ide.eclipse.core.model.validation.ValidationProblem;
+import org.springsource.ide.eclipse.commons.tests.util.StsTestUtil;
+
+public class BeansConfigValidatorTest extends BeansCoreTestCase {
+
+	private static final String VALIDATOR_ID = "org.springframework.ide.eclipse.beans.core.beansvalidator";
+
+	@After
+	public void resetParallelValidation() {
+		InstanceScope.INSTANCE.getNode(SpringCore.PLUGIN_ID).remove(SpringCore.USE_PARALLEL_VALIDATION);
+	}
+
+	@Test
+	public void testMarkersOfRemovedConfigAreDeleted() throws Exception {
+		assertMarkersOfRemovedConfigAreDeleted(false);
+	}
+
+	@Test
+	public void testMarkersOfRemovedConfigAreDeletedInParallel() throws Exception {
+		assertMarkersOfRemovedConfigAreDeleted(true);
+	}
+
+	private void assertMarkersOfRemovedConfigAreDeleted(boolean parallel) throws Exception {
+		InstanceScope.INSTANCE.getNode(SpringCore.PLUGIN_ID).putBoolean(SpringCore.USE_PARALLEL_VALIDATION, parallel);
+
+		IProject project = createPredefinedProject("validation");
+		IFile file = (IFile) project.findMember("src/bean-class-rule-tests.xml");
+		StsTestUtil.waitForResource(file);
+
+		ValidatorDefinition definition = ValidatorDefinitionFactory.getValidatorDefinition(VALIDATOR_ID);
+		assertTrue(file.findMarkers(definition.getMarkerId(), true, IResource.DEPTH_ZERO).length > 0);
+
+		((BeansProject) BeansCorePlugin.getModel().getProject(project)).removeConfig(file);
+
+		AbstractValidator validator = (AbstractValidator) definition.getValidator();
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		Map<IResource, Set<ValidationProblem>> problems = validator.computeProblems(
+				Collections.<IResource> singleton(file), IncrementalProjectBuilder.FULL_BUILD, monitor);
+		assertEquals(Collections.<ValidationProblem> emptySet(), problems.get(file));
+
+		validator.applyProblems(problems, monitor);
+		assertEquals(0, file.findMarkers(definition.getMarkerId(), true, IResource.DEPTH_ZERO).length);
+	}
+
+}
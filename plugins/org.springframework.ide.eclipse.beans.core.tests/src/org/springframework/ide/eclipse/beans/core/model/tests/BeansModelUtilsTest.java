@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2014 GoPivotal, Inc.
+ * Copyright (c) 2013, 2026 GoPivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,11 +23,14 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansConfig;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansConfigSet;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansModel;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansModelUtils;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansProject;
 import org.springframework.ide.eclipse.beans.core.model.IBean;
 import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfigSet;
 import org.springframework.ide.eclipse.core.SpringCore;
 import org.springframework.ide.eclipse.core.java.JdtUtils;
 import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyEngine;
@@ -297,4 +300,52 @@ public class BeansModelUtilsTest {
 		assertTrue(realConfig2 == config1 || realConfig2 == config2);
 	}
 
+	@Test
+	public void testRepeatedQueriesInGetConfigsByType() throws Exception {
+		IResource superInterface = javaProject.findType("org.test.spring.SuperInterface").getResource();
+		IResource acrossConfigs = javaProject.findType("org.test.spring.UsedAcrossBeanConfigs").getResource();
+
+		assertEquals(1, BeansModelUtils.getConfigsByContainingTypes(superInterface, typeEngine, null).size());
+		assertEquals(2, BeansModelUtils.getConfigsByContainingTypes(acrossConfigs, typeEngine, null).size());
+		assertTrue(beansProject.getBeanClassHierarchyIndex().size() > 0);
+
+		// answered from the index
+		assertEquals(1, BeansModelUtils.getConfigsByContainingTypes(superInterface, typeEngine, null).size());
+
+		// re-calculated after the type information has been thrown away
+		typeEngine.clearCache();
+		assertEquals(2, BeansModelUtils.getConfigsByContainingTypes(acrossConfigs, typeEngine, null).size());
+
+		// re-read after a config got reloaded
+		((BeansConfig) beansProject.getConfig("basic-bean-config-2.xml")).reload();
+		assertEquals(2, BeansModelUtils.getConfigsByContainingTypes(acrossConfigs, typeEngine, null).size());
+		assertEquals(1, BeansModelUtils.getConfigsByContainingTypes(superInterface, typeEngine, null).size());
+	}
+
+	@Test
+	public void testGetBeanByNameAndAlias() throws Exception {
+		IBeansConfig config = beansProject.getConfig("basic-bean-config-2.xml");
+		IBean bean = config.getBean("acrossConfigsBean2");
+		assertNotNull(bean);
+		assertSame(bean, BeansModelUtils.getBean("acrossConfigsBean2", config));
+		assertSame(bean, BeansModelUtils.getBean("acrossConfigsAlias", config));
+		assertNull(BeansModelUtils.getBean("simpleBean1", config));
+		assertNull(BeansModelUtils.getBean(null, config));
+
+		BeansConfigSet configSet = new BeansConfigSet(beansProject, "configSet", IBeansConfigSet.Type.MANUAL);
+		configSet.addConfig("basic-bean-config.xml");
+		configSet.addConfig("basic-bean-config-2.xml");
+		beansProject.addConfigSet(configSet);
+		assertSame(bean, BeansModelUtils.getBean("acrossConfigsAlias", configSet));
+		assertNotNull(BeansModelUtils.getBean("simpleBean1", configSet));
+		assertNull(BeansModelUtils.getBean("unknownBean", configSet));
+
+		// reloading the config resets the config sets that contain it, so both indexes are re-built
+		((BeansConfig) config).reload();
+		IBean reloadedBean = config.getBean("acrossConfigsBean2");
+		assertNotSame(bean, reloadedBean);
+		assertSame(reloadedBean, BeansModelUtils.getBean("acrossConfigsAlias", config));
+		assertSame(reloadedBean, BeansModelUtils.getBean("acrossConfigsAlias", configSet));
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2014 Spring IDE Developers
+ * Copyright (c) 2005, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,7 +18,9 @@ import org.springframework.ide.core.classreading.tests.JdtBasedAnnotationMetadat
 import org.springframework.ide.core.classreading.tests.JdtClassMetadataTest;
 import org.springframework.ide.eclipse.beans.core.autowire.AutowireDependencyProviderTest;
 import org.springframework.ide.eclipse.beans.core.autowire.CommonAnnotationInjectionMetadataProviderTests;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansConfigLoaderTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.resources.tests.ResourceChangeEventHandlerTest;
+import org.springframework.ide.eclipse.beans.core.internal.model.validation.BeansConfigValidatorTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanClassRuleTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanConstructorArgumentRuleTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanConstructorArgumentRulesAutowireTest;
@@ -38,9 +40,17 @@ import org.springframework.ide.eclipse.beans.core.model.tests.BeansJavaConfigTes
 import org.springframework.ide.eclipse.beans.core.model.tests.BeansModelUtilsTest;
 import org.springframework.ide.eclipse.beans.core.model.tests.BeansProjectTest;
 import org.springframework.ide.eclipse.beans.ui.refactoring.tests.BeansJavaConfigRenameTypeRefactoringParticipantTest;
+import org.springframework.ide.eclipse.core.internal.project.ProjectContributorSchedulerTest;
+import org.springframework.ide.eclipse.core.io.xml.XercesParserPoolTest;
 import org.springframework.ide.eclipse.core.java.IntrospectorTest;
+import org.springframework.ide.eclipse.core.java.JarClassIndexTest;
 import org.springframework.ide.eclipse.core.java.JdtUtilsTest;
+import org.springframework.ide.eclipse.core.java.MappedJarFileTest;
+import org.springframework.ide.eclipse.core.java.TypeHierarchyElementCacheTest;
 import org.springframework.ide.eclipse.core.java.TypeHierarchyEngineTest;
+import org.springframework.ide.eclipse.core.java.TypeHierarchyIndexTest;
+import org.springframework.ide.eclipse.core.model.validation.ValidationStatisticsTest;
+import org.springframework.ide.eclipse.core.model.validation.ValidationUtilsTest;
 
 /**
  * Test suite for <code>beans.core</code> plugin.
@@ -80,7 +90,17 @@ import org.springframework.ide.eclipse.core.java.TypeHierarchyEngineTest;
 	BeansJavaConfigRenameTypeRefactoringParticipantTest.class,
 	ResourceChangeEventHandlerTest.class,
 	TypeHierarchyEngineTest.class,
-	BeansModelUtilsTest.class
+	TypeHierarchyElementCacheTest.class,
+	JarClassIndexTest.class,
+	MappedJarFileTest.class,
+	TypeHierarchyIndexTest.class,
+	ValidationUtilsTest.class,
+	ValidationStatisticsTest.class,
+	BeansConfigValidatorTest.class,
+	BeansModelUtilsTest.class,
+	ProjectContributorSchedulerTest.class,
+	BeansConfigLoaderTest.class,
+	XercesParserPoolTest.class
 })
 public class AllBeansCoreTests {
 	// goofy junit4, no class body needed
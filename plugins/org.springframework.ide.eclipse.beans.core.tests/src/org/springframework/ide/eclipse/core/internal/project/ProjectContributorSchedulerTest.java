@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.internal.project;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.internal.project.ProjectContributorScheduler.Contribution;
+
+public class ProjectContributorSchedulerTest {
+
+	@Test
+	public void testPrerequisites() throws Exception {
+		ProjectContributorScheduler scheduler = new ProjectContributorScheduler();
+		List<String> events = new ArrayList<String>();
+		scheduler.add(new RecordingContribution("a", false, events));
+		scheduler.add(new RecordingContribution("b", true, events));
+		scheduler.add(new RecordingContribution("c", true, events, "b", "unknown"));
+		scheduler.add(new RecordingContribution("d", false, events));
+		scheduler.add(new RecordingContribution("e", true, events, "a"));
+
+		assertEquals(bits(), scheduler.getPrerequisites(0));
+		assertEquals(bits(0), scheduler.getPrerequisites(1));
+		assertEquals(bits(0, 1), scheduler.getPrerequisites(2));
+		assertEquals(bits(0, 1, 2), scheduler.getPrerequisites(3));
+		assertEquals(bits(3), scheduler.getPrerequisites(4));
+	}
+
+	@Test
+	public void testSequentialExecutionWithoutExecutor() throws Exception {
+		ProjectContributorScheduler scheduler = new ProjectContributorScheduler();
+		List<String> events = new ArrayList<String>();
+		scheduler.add(new RecordingContribution("a", true, events));
+		scheduler.add(new RecordingContribution("b", false, events));
+		scheduler.add(new RecordingContribution("c", true, events));
+
+		scheduler.execute(null, new NullProgressMonitor());
+
+		assertEquals(Arrays.asList("start a", "run a", "finish a", "start b", "run b", "finish b", "start c", "run c",
+				"finish c"), events);
+	}
+
+	@Test
+	public void testIndependentContributionsRunConcurrently() throws Exception {
+		final CountDownLatch bothRunning = new CountDownLatch(2);
+		final List<String> events = Collections.synchronizedList(new ArrayList<String>());
+		final Thread schedulingThread = Thread.currentThread();
+
+		ProjectContributorScheduler scheduler = new ProjectContributorScheduler();
+		for (String id : new String[] { "a", "b" }) {
+			scheduler.add(new RecordingContribution(id, true, events) {
+
+				@Override
+				protected void run(IProgressMonitor monitor) {
+					super.run(monitor);
+					bothRunning.countDown();
+					try {
+						// only returns if the other contribution runs at the same time
+						assertTrue(bothRunning.await(10, TimeUnit.SECONDS));
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+
+				@Override
+				protected void finish() {
+					assertEquals(schedulingThread, Thread.currentThread());
+					super.finish();
+				}
+			});
+		}
+		scheduler.add(new RecordingContribution("c", true, events, "a", "b"));
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			scheduler.execute(executor, new NullProgressMonitor());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(9, events.size());
+		assertEquals(Arrays.asList("start c", "run c", "finish c"), events.subList(6, 9));
+		assertEquals(new HashSet<String>(Arrays.asList("start a", "start b")), new HashSet<String>(events.subList(0, 2)));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testFailureOfConcurrentContributionIsReported() throws Exception {
+		ProjectContributorScheduler scheduler = new ProjectContributorScheduler();
+		final List<String> events = Collections.synchronizedList(new ArrayList<String>());
+		scheduler.add(new RecordingContribution("a", true, events) {
+
+			@Override
+			protected void run(IProgressMonitor monitor) {
+				throw new IllegalStateException();
+			}
+		});
+		scheduler.add(new RecordingContribution("b", true, events));
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			scheduler.execute(executor, new NullProgressMonitor());
+		}
+		finally {
+			executor.shutdownNow();
+			assertTrue(events.contains("finish a"));
+			assertTrue(events.contains("finish b"));
+		}
+	}
+
+	@Test
+	public void testResultsAreAppliedOnSchedulingThread() throws Exception {
+		final List<String> events = Collections.synchronizedList(new ArrayList<String>());
+		final Thread schedulingThread = Thread.currentThread();
+
+		ProjectContributorScheduler scheduler = new ProjectContributorScheduler();
+		scheduler.add(new RecordingContribution("a", true, events) {
+
+			@Override
+			protected void run(IProgressMonitor monitor) {
+				assertTrue(schedulingThread != Thread.currentThread());
+				super.run(monitor);
+			}
+
+			@Override
+			protected void apply(IProgressMonitor monitor) {
+				assertEquals(schedulingThread, Thread.currentThread());
+				events.add("apply " + getId());
+			}
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(1);
+		try {
+			scheduler.execute(executor, new NullProgressMonitor());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(Arrays.asList("start a", "run a", "apply a", "finish a"), events);
+	}
+
+	@Test
+	public void testCancelStopsSchedulingAndDrainsRunningContributions() throws Exception {
+		final List<String> events = Collections.synchronizedList(new ArrayList<String>());
+		final IProgressMonitor monitor = new NullProgressMonitor();
+
+		ProjectContributorScheduler scheduler = new ProjectContributorScheduler();
+		scheduler.add(new RecordingContribution("a", true, events) {
+
+			@Override
+			protected void run(IProgressMonitor workerMonitor) {
+				monitor.setCanceled(true);
+				// keeps running until the cancellation is passed on to the worker
+				while (!workerMonitor.isCanceled()) {
+					Thread.yield();
+				}
+				super.run(workerMonitor);
+			}
+
+			@Override
+			protected void apply(IProgressMonitor applyMonitor) {
+				events.add("apply " + getId());
+			}
+		});
+		scheduler.add(new RecordingContribution("b", true, events, "a"));
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			scheduler.execute(executor, monitor);
+			fail();
+		}
+		catch (OperationCanceledException e) {
+			// expected
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(Arrays.asList("start a", "run a", "finish a"), events);
+	}
+
+	private static BitSet bits(int... indexes) {
+		BitSet bits = new BitSet();
+		for (int index : indexes) {
+			bits.set(index);
+		}
+		return bits;
+	}
+
+	private static class RecordingContribution extends Contribution {
+
+		private final List<String> events;
+
+		public RecordingContribution(String id, boolean concurrent, List<String> events, String... dependencies) {
+			super(id, concurrent, new HashSet<String>(Arrays.asList(dependencies)));
+			this.events = events;
+		}
+
+		@Override
+		protected void start() {
+			events.add("start " + getId());
+		}
+
+		@Override
+		protected void run(IProgressMonitor monitor) {
+			events.add("run " + getId());
+		}
+
+		@Override
+		protected void finish() {
+			events.add("finish " + getId());
+		}
+	}
+
+}
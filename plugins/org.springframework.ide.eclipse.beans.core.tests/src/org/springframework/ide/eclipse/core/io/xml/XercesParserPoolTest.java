@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.io.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
+import org.w3c.dom.Document;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXParseException;
+
+public class XercesParserPoolTest {
+
+	private static final String NAMESPACE = "http://www.example.org/schema/demo";
+
+	private final Map<String, String> schemas = new HashMap<String, String>();
+
+	private int resolvedSchemas;
+
+	@Before
+	public void setup() {
+		schemas.put(NAMESPACE + "/demo-1.0.xsd", createSchema("one"));
+		schemas.put(NAMESPACE + "/demo-2.0.xsd", createSchema("two"));
+		resolvedSchemas = 0;
+	}
+
+	@Test
+	public void testSchemaIsCompiledOnce() throws Exception {
+		XercesParserPool pool = new XercesParserPool();
+		XercesDocumentLoader loader = new XercesDocumentLoader(pool);
+
+		for (int i = 0; i < 3; i++) {
+			Document document = load(loader, "demo-1.0.xsd");
+			assertEquals("one", document.getDocumentElement().getAttribute("mode"));
+		}
+		assertEquals(1, resolvedSchemas);
+		long misses = pool.getGrammarMisses();
+		assertTrue(misses > 0);
+		assertEquals(2, pool.getGrammarHits());
+
+		load(loader, "demo-1.0.xsd");
+		assertEquals(misses, pool.getGrammarMisses());
+		assertEquals(3, pool.getGrammarHits());
+		assertEquals(1, pool.getParserMisses());
+		assertEquals(3, pool.getParserHits());
+		assertEquals(1, pool.getGrammarCount());
+	}
+
+	@Test
+	public void testSchemaVersionsOfSameNamespace() throws Exception {
+		XercesParserPool pool = new XercesParserPool();
+		XercesDocumentLoader loader = new XercesDocumentLoader(pool);
+
+		assertEquals("one", load(loader, "demo-1.0.xsd").getDocumentElement().getAttribute("mode"));
+		assertEquals("two", load(loader, "demo-2.0.xsd").getDocumentElement().getAttribute("mode"));
+		assertEquals("one", load(loader, "demo-1.0.xsd").getDocumentElement().getAttribute("mode"));
+		assertEquals("two", load(loader, "demo-2.0.xsd").getDocumentElement().getAttribute("mode"));
+		assertEquals(2, resolvedSchemas);
+		assertEquals(2, pool.getGrammarCount());
+	}
+
+	@Test
+	public void testClearedPoolCompilesSchemaAgain() throws Exception {
+		XercesParserPool pool = new XercesParserPool();
+		XercesDocumentLoader loader = new XercesDocumentLoader(pool);
+
+		load(loader, "demo-1.0.xsd");
+		pool.clear();
+		assertEquals(0, pool.getGrammarCount());
+
+		schemas.put(NAMESPACE + "/demo-1.0.xsd", createSchema("changed"));
+		assertEquals("changed", load(loader, "demo-1.0.xsd").getDocumentElement().getAttribute("mode"));
+		assertEquals(2, resolvedSchemas);
+		assertEquals(2, pool.getParserMisses());
+	}
+
+	private Document load(XercesDocumentLoader loader, String schema) throws Exception {
+		String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+				"<demo xmlns=\"" + NAMESPACE + "\"\n" +
+				"	xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n" +
+				"	xsi:schemaLocation=\"" + NAMESPACE + " " + NAMESPACE + "/" + schema + "\"/>\n";
+		return loader.loadDocument(new InputSource(new StringReader(xml)), new EntityResolver() {
+			public InputSource resolveEntity(String publicId, String systemId) {
+				String schema = schemas.get(systemId);
+				if (schema == null) {
+					return null;
+				}
+				resolvedSchemas++;
+				InputSource source = new InputSource(new StringReader(schema));
+				source.setSystemId(systemId);
+				return source;
+			}
+		}, new FailingErrorHandler(), XmlBeanDefinitionReader.VALIDATION_XSD, true);
+	}
+
+	private static String createSchema(String defaultMode) {
+		return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+				"<xsd:schema xmlns=\"" + NAMESPACE + "\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\"\n" +
+				"	targetNamespace=\"" + NAMESPACE + "\" elementFormDefault=\"qualified\">\n" +
+				"	<xsd:element name=\"demo\">\n" +
+				"		<xsd:complexType>\n" +
+				"			<xsd:attribute name=\"mode\" type=\"xsd:string\" default=\"" + defaultMode + "\"/>\n" +
+				"		</xsd:complexType>\n" +
+				"	</xsd:element>\n" +
+				"</xsd:schema>\n";
+	}
+
+	private static class FailingErrorHandler implements ErrorHandler {
+
+		public void warning(SAXParseException exception) {
+		}
+
+		public void error(SAXParseException exception) throws SAXParseException {
+			throw exception;
+		}
+
+		public void fatalError(SAXParseException exception) throws SAXParseException {
+			throw exception;
+		}
+	}
+
+}
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.java.typehierarchy.ClasspathElement;
+import org.springframework.ide.eclipse.core.java.typehierarchy.ClasspathElementJar;
+import org.springframework.ide.eclipse.core.java.typehierarchy.ClasspathLookupDirect;
+import org.springframework.ide.eclipse.core.java.typehierarchy.JarClassIndex;
+
+public class JarClassIndexTest {
+
+	private File firstJar;
+	private File secondJar;
+	private JarClassIndex index;
+
+	@Before
+	public void createJars() throws Exception {
+		firstJar = File.createTempFile("first", ".jar");
+		secondJar = File.createTempFile("second", ".jar");
+		createJar(firstJar, "org/Shared.class", "first", "org/OnlyFirst.class", "first");
+		createJar(secondJar, "org/Shared.class", "second", "org/OnlySecond.class", "second");
+		index = new JarClassIndex();
+	}
+
+	@After
+	public void deleteJars() throws Exception {
+		index.closeAll();
+		firstJar.delete();
+		secondJar.delete();
+	}
+
+	@Test
+	public void testFindJarsByClassFileName() throws Exception {
+		index.getContents(firstJar.getAbsolutePath());
+		index.getContents(secondJar.getAbsolutePath());
+
+		assertEquals(2, index.getIndexedJarCount());
+		assertEquals(2, index.findJars("org/Shared.class").length);
+		assertEquals(1, index.findJars("org/OnlySecond.class").length);
+		assertEquals(0, index.findJars("org/Unknown.class").length);
+	}
+
+	@Test
+	public void testLookupRespectsClasspathOrder() throws Exception {
+		ClasspathLookupDirect lookup = new ClasspathLookupDirect(new ClasspathElement[] {
+				new ClasspathElementJar(secondJar.getAbsolutePath(), index),
+				new ClasspathElementJar(firstJar.getAbsolutePath(), index) });
+
+		assertEquals("second", read(lookup.getStream("org/Shared.class", "org", "Shared.class")));
+		assertEquals("first", read(lookup.getStream("org/OnlyFirst.class", "org", "OnlyFirst.class")));
+		assertNotNull(lookup.getResource("org/OnlyFirst.class", "org", "OnlyFirst.class"));
+		assertNull(lookup.getStream("org/Unknown.class", "org", "Unknown.class"));
+		lookup.close();
+	}
+
+	@Test
+	public void testInvalidateRemovesJar() throws Exception {
+		index.getContents(firstJar.getAbsolutePath());
+		index.invalidate(firstJar.getAbsolutePath());
+		assertEquals(0, index.findJars("org/OnlyFirst.class").length);
+	}
+
+	@Test
+	public void testDisposedLookupReleasesJars() throws Exception {
+		ClasspathLookupDirect first = new ClasspathLookupDirect(new ClasspathElement[] {
+				new ClasspathElementJar(firstJar.getAbsolutePath(), index),
+				new ClasspathElementJar(secondJar.getAbsolutePath(), index) });
+		ClasspathLookupDirect second = new ClasspathLookupDirect(new ClasspathElement[] {
+				new ClasspathElementJar(secondJar.getAbsolutePath(), index) });
+		assertEquals(2, index.getIndexedJarCount());
+
+		first.dispose();
+		assertEquals(1, index.getIndexedJarCount());
+		assertEquals(0, index.findJars("org/OnlyFirst.class").length);
+		assertEquals("second", read(second.getStream("org/Shared.class", "org", "Shared.class")));
+
+		second.dispose();
+		assertEquals(0, index.getIndexedJarCount());
+		assertEquals(0, index.getIndexedClassFileCount());
+	}
+
+	@Test
+	public void testOwnerKeepsJarsIndexed() throws Exception {
+		Object project = new Object();
+		ClasspathLookupDirect first = new ClasspathLookupDirect(new ClasspathElement[] {
+				new ClasspathElementJar(firstJar.getAbsolutePath(), index),
+				new ClasspathElementJar(secondJar.getAbsolutePath(), index) }, null, project);
+		first.dispose();
+		assertEquals(2, index.getIndexedJarCount());
+
+		// a new lookup for the same owner only drops the jars that are no longer used
+		ClasspathLookupDirect second = new ClasspathLookupDirect(new ClasspathElement[] {
+				new ClasspathElementJar(secondJar.getAbsolutePath(), index) }, null, project);
+		assertEquals(1, index.getIndexedJarCount());
+		assertEquals(0, index.findJars("org/OnlyFirst.class").length);
+		assertEquals("second", read(second.getStream("org/Shared.class", "org", "Shared.class")));
+
+		index.releaseJars(project);
+		assertEquals(0, index.getIndexedJarCount());
+		assertFalse(index.isUsed(secondJar.getAbsolutePath()));
+	}
+
+	@Test
+	public void testDisposedLookupDoesNotIndexJars() throws Exception {
+		ClasspathLookupDirect lookup = new ClasspathLookupDirect(new ClasspathElement[] {
+				new ClasspathElementJar(firstJar.getAbsolutePath(), index) });
+		lookup.close();
+		lookup.dispose();
+
+		assertNull(lookup.getStream("org/OnlyFirst.class", "org", "OnlyFirst.class"));
+		assertEquals(0, index.getIndexedJarCount());
+	}
+
+	@Test
+	public void testLookupPicksUpChangedJar() throws Exception {
+		ClasspathLookupDirect lookup = new ClasspathLookupDirect(new ClasspathElement[] {
+				new ClasspathElementJar(firstJar.getAbsolutePath(), index) });
+		assertNull(lookup.getStream("org/Added.class", "org", "Added.class"));
+		lookup.close();
+
+		createJar(firstJar, "org/Shared.class", "first", "org/Added.class", "added");
+		firstJar.setLastModified(firstJar.lastModified() + 2000);
+
+		assertEquals("added", read(lookup.getStream("org/Added.class", "org", "Added.class")));
+		assertEquals(1, index.getIndexedJarCount());
+		assertEquals(0, index.findJars("org/OnlyFirst.class").length);
+		lookup.dispose();
+	}
+
+	private static String read(InputStream stream) throws Exception {
+		try {
+			byte[] buffer = new byte[64];
+			int length = stream.read(buffer);
+			return new String(buffer, 0, length, "UTF-8");
+		}
+		finally {
+			stream.close();
+		}
+	}
+
+	private static void createJar(File file, String... entries) throws Exception {
+		JarOutputStream out = new JarOutputStream(new FileOutputStream(file));
+		try {
+			for (int i = 0; i < entries.length; i += 2) {
+				out.putNextEntry(new ZipEntry(entries[i]));
+				out.write(entries[i + 1].getBytes("UTF-8"));
+				out.closeEntry();
+			}
+		}
+		finally {
+			out.close();
+		}
+	}
+
+}
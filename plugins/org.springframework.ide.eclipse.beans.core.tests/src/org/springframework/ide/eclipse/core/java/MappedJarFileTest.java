@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.java.typehierarchy.MappedJarFile;
+
+public class MappedJarFileTest {
+
+	private File jar;
+	private byte[] storedContent;
+	private byte[] deflatedContent;
+
+	@Before
+	public void createJar() throws Exception {
+		storedContent = "stored class file content".getBytes("UTF-8");
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 2000; i++) {
+			builder.append("deflated class file content ").append(i);
+		}
+		deflatedContent = builder.toString().getBytes("UTF-8");
+
+		jar = File.createTempFile("mapped", ".jar");
+		ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar));
+		try {
+			ZipEntry stored = new ZipEntry("org/Stored.class");
+			stored.setMethod(ZipEntry.STORED);
+			stored.setSize(storedContent.length);
+			CRC32 crc = new CRC32();
+			crc.update(storedContent);
+			stored.setCrc(crc.getValue());
+			out.putNextEntry(stored);
+			out.write(storedContent);
+			out.closeEntry();
+
+			out.putNextEntry(new ZipEntry("org/Deflated.class"));
+			out.write(deflatedContent);
+			out.closeEntry();
+		}
+		finally {
+			out.close();
+		}
+	}
+
+	@After
+	public void deleteJar() throws Exception {
+		jar.delete();
+	}
+
+	@Test
+	public void testReadEntries() throws Exception {
+		MappedJarFile mapped = MappedJarFile.open(jar.getAbsolutePath());
+		assertEquals(2, mapped.getEntryNames().size());
+		assertTrue(mapped.hasEntry("org/Stored.class"));
+		assertArrayEquals(storedContent, read(mapped.getInputStream("org/Stored.class")));
+		assertArrayEquals(deflatedContent, read(mapped.getInputStream("org/Deflated.class")));
+		assertNull(mapped.getInputStream("org/Unknown.class"));
+	}
+
+	@Test
+	public void testConcurrentReads() throws Exception {
+		final MappedJarFile mapped = MappedJarFile.open(jar.getAbsolutePath());
+		final Throwable[] failure = new Throwable[1];
+		Thread[] threads = new Thread[8];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						for (int j = 0; j < 50; j++) {
+							assertArrayEquals(deflatedContent, read(mapped.getInputStream("org/Deflated.class")));
+						}
+					}
+					catch (Throwable e) {
+						failure[0] = e;
+					}
+				}
+			};
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertNull(failure[0]);
+	}
+
+	@Test
+	public void testChangedJarIsNotRead() throws Exception {
+		MappedJarFile mapped = MappedJarFile.open(jar.getAbsolutePath());
+		assertFalse(mapped.isModified());
+
+		FileOutputStream out = new FileOutputStream(jar);
+		try {
+			out.write(storedContent);
+		}
+		finally {
+			out.close();
+		}
+
+		assertTrue(mapped.isModified());
+		try {
+			mapped.getInputStream("org/Stored.class");
+			fail("read from the mapping of a changed jar");
+		}
+		catch (IOException e) {
+			// expected
+		}
+	}
+
+	private static byte[] read(InputStream stream) throws Exception {
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[1024];
+			int length;
+			while ((length = stream.read(buffer)) != -1) {
+				out.write(buffer, 0, length);
+			}
+			return out.toByteArray();
+		}
+		finally {
+			stream.close();
+		}
+	}
+
+}
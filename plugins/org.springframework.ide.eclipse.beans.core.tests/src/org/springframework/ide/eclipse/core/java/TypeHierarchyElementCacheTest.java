@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyElement;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyElementCache;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyNamePool;
+
+public class TypeHierarchyElementCacheTest {
+
+	@Test
+	public void testClassNamesWithSameHashCode() throws Exception {
+		// "Aa" and "BB" have the same hash code
+		assertEquals("org/Aa".hashCode(), "org/BB".hashCode());
+
+		TypeHierarchyElementCache cache = new TypeHierarchyElementCache(new TypeHierarchyNamePool(16));
+		TypeHierarchyElement aa = new TypeHierarchyElement("org/Aa".toCharArray(), "java/lang/Object".toCharArray(), null);
+		TypeHierarchyElement bb = new TypeHierarchyElement("org/BB".toCharArray(), "org/Aa".toCharArray(), null);
+		cache.put("org/Aa".toCharArray(), aa);
+
+		assertNull(cache.get("org/BB".toCharArray()));
+
+		cache.put("org/BB".toCharArray(), bb);
+		assertSame(aa, cache.get("org/Aa".toCharArray()));
+		assertSame(bb, cache.get("org/BB".toCharArray()));
+		assertEquals(2, cache.size());
+		assertEquals(2, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	public void testGrowingCache() throws Exception {
+		TypeHierarchyElementCache cache = new TypeHierarchyElementCache(new TypeHierarchyNamePool(16));
+		for (int i = 0; i < 5000; i++) {
+			char[] name = ("org/Class" + i).toCharArray();
+			cache.put(name, new TypeHierarchyElement(name, null, null));
+		}
+		assertEquals(5000, cache.size());
+		for (int i = 0; i < 5000; i++) {
+			assertEquals("org/Class" + i, new String(cache.get(("org/Class" + i).toCharArray()).className));
+		}
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		final TypeHierarchyElementCache cache = new TypeHierarchyElementCache(new TypeHierarchyNamePool(16));
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Void>> results = new ArrayList<Future<Void>>();
+			for (int t = 0; t < 4; t++) {
+				results.add(executor.submit(new Callable<Void>() {
+					public Void call() throws Exception {
+						for (int i = 0; i < 1000; i++) {
+							char[] name = ("org/Class" + i).toCharArray();
+							if (cache.get(name) == null) {
+								cache.put(name, new TypeHierarchyElement(name, null, null));
+							}
+						}
+						return null;
+					}
+				}));
+			}
+			for (Future<Void> result : results) {
+				result.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		assertEquals(1000, cache.size());
+		assertEquals(4000, cache.getHitCount() + cache.getMissCount());
+	}
+
+	@Test
+	public void testNamePoolSharesInstances() throws Exception {
+		TypeHierarchyNamePool pool = new TypeHierarchyNamePool(16);
+		char[] first = pool.intern("java/io/Serializable".toCharArray());
+		char[] second = pool.intern("java/io/Serializable".toCharArray());
+		assertSame(first, second);
+		assertEquals(1, pool.size());
+		assertEquals(1, pool.getSharedCount());
+	}
+
+	@Test
+	public void testNamePoolClear() throws Exception {
+		TypeHierarchyNamePool pool = new TypeHierarchyNamePool(16);
+		for (int i = 0; i < 1000; i++) {
+			pool.intern(("org/Class" + i).toCharArray());
+		}
+		assertEquals(1000, pool.size());
+
+		pool.clear();
+		assertEquals(0, pool.size());
+		char[] name = "org/Class1".toCharArray();
+		assertSame(name, pool.intern(name));
+	}
+
+}
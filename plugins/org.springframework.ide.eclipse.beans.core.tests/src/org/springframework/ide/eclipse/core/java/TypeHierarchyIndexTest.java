@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.net.URL;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyElement;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyIndex;
+
+public class TypeHierarchyIndexTest {
+
+	private File indexFile;
+	private File classFile;
+	private File jarFile;
+
+	@Before
+	public void createFiles() throws Exception {
+		indexFile = File.createTempFile("typehierarchy", ".index");
+		indexFile.delete();
+		classFile = File.createTempFile("Subclass", ".class");
+		jarFile = File.createTempFile("library", ".jar");
+		write(classFile, "first");
+		write(jarFile, "jar content");
+	}
+
+	@After
+	public void deleteFiles() throws Exception {
+		indexFile.delete();
+		classFile.delete();
+		jarFile.delete();
+	}
+
+	@Test
+	public void testPersistAndReloadIndex() throws Exception {
+		URL classFileUrl = classFile.toURI().toURL();
+		URL jarEntryUrl = new URL("jar:" + jarFile.toURI().toURL() + "!/org/SimpleClass.class");
+
+		TypeHierarchyIndex index = new TypeHierarchyIndex(indexFile);
+		index.put(classFileUrl, new TypeHierarchyElement("org/Subclass".toCharArray(), "org/SimpleClass".toCharArray(), null));
+		index.put(jarEntryUrl, new TypeHierarchyElement("org/SimpleClass".toCharArray(), "java/lang/Object".toCharArray(),
+				new char[][] {"org/SimpleInterface".toCharArray()}));
+		index.save();
+
+		TypeHierarchyIndex reloaded = new TypeHierarchyIndex(indexFile);
+		TypeHierarchyElement subclass = reloaded.get(classFileUrl);
+		assertNotNull(subclass);
+		assertEquals("org/SimpleClass", new String(subclass.superclassName));
+		assertNull(subclass.interfaces);
+
+		TypeHierarchyElement simpleClass = reloaded.get(jarEntryUrl);
+		assertNotNull(simpleClass);
+		assertEquals("java/lang/Object", new String(simpleClass.superclassName));
+		assertArrayEquals("org/SimpleInterface".toCharArray(), simpleClass.interfaces[0]);
+
+		assertNotSame(simpleClass, reloaded.get(jarEntryUrl));
+	}
+
+	@Test
+	public void testChangedFilesInvalidateEntries() throws Exception {
+		URL classFileUrl = classFile.toURI().toURL();
+		URL jarEntryUrl = new URL("jar:" + jarFile.toURI().toURL() + "!/org/SimpleClass.class");
+
+		TypeHierarchyIndex index = new TypeHierarchyIndex(indexFile);
+		index.put(classFileUrl, new TypeHierarchyElement("org/Subclass".toCharArray(), "org/SimpleClass".toCharArray(), null));
+		index.put(jarEntryUrl, new TypeHierarchyElement("org/SimpleClass".toCharArray(), "java/lang/Object".toCharArray(), null));
+
+		write(classFile, "second version");
+		classFile.setLastModified(classFile.lastModified() + 10000);
+		// stamps are only checked again once the index is revalidated
+		assertNotNull(index.get(classFileUrl));
+		index.revalidate();
+		assertNull(index.get(classFileUrl));
+		assertNotNull(index.get(jarEntryUrl));
+
+		index.invalidate(jarFile);
+		assertNull(index.get(jarEntryUrl));
+	}
+
+	private static void write(File file, String content) throws Exception {
+		FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.write(content.getBytes("UTF-8"));
+		}
+		finally {
+			out.close();
+		}
+	}
+
+}
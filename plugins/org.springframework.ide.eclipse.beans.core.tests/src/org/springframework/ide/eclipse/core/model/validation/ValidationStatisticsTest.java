@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.model.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.model.validation.ValidationStatistics.Counter;
+
+public class ValidationStatisticsTest {
+
+	@Test
+	public void testRecordRulesAndResources() throws Exception {
+		ValidationStatistics statistics = new ValidationStatistics();
+		statistics.recordRule("beans", "beanClass", 2000000, 1);
+		statistics.recordRule("beans", "beanClass", 5000000, 0);
+		statistics.recordRule("beans", "beanProperty", 1000000, 2);
+		statistics.recordResource("beans", "/project/beans.xml", 8000000, 3);
+		statistics.recordContributor("beans", 1, 9000000);
+
+		Counter beanClass = statistics.getRuleStatistics("beans").get("beanClass");
+		assertEquals(2, beanClass.getInvocations());
+		assertEquals(1, beanClass.getProblems());
+		assertEquals(7000000, beanClass.getTotalNanos());
+		assertEquals(5000000, beanClass.getMaxNanos());
+
+		Counter validator = statistics.getContributorStatistics().get("beans");
+		assertEquals(1, validator.getInvocations());
+		assertEquals(1, validator.getResources());
+		assertEquals(3, validator.getProblems());
+
+		assertEquals(1, statistics.getResourceStatistics("beans").get("/project/beans.xml").getResources());
+		assertTrue(statistics.getRuleStatistics("other").isEmpty());
+	}
+
+	@Test
+	public void testJsonReportIsSortedByTotalTime() throws Exception {
+		ValidationStatistics statistics = new ValidationStatistics();
+		statistics.recordRule("beans", "fast", 1000000, 0);
+		statistics.recordRule("beans", "slow \"rule\"", 3000000, 4);
+
+		StringWriter writer = new StringWriter();
+		statistics.writeJson(writer);
+		String json = writer.toString();
+
+		assertTrue(json.contains("\"rule\": \"slow \\\"rule\\\"\", \"invocations\": 1, \"resources\": 0, \"problems\": 4, \"totalMillis\": 3.000"));
+		assertTrue(json.indexOf("slow") < json.indexOf("fast"));
+
+		statistics.reset();
+		writer = new StringWriter();
+		statistics.writeJson(writer);
+		assertEquals("{\n  \"contributors\": [\n  ],\n  \"rules\": [\n  ],\n  \"resources\": [\n  ]\n}\n", writer.toString());
+	}
+
+}
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.model.validation;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class ValidationUtilsTest {
+
+	@Test
+	public void testProblemOrderIsIndependentOfReportingOrder() throws Exception {
+		ValidationProblem warningLine10 = new ValidationProblem("rule", "warn", IValidationProblemMarker.SEVERITY_WARNING, "b", null, 10);
+		ValidationProblem errorLine10 = new ValidationProblem("rule", "error", IValidationProblemMarker.SEVERITY_ERROR, "a", null, 10);
+		ValidationProblem errorLine3 = new ValidationProblem("rule", "error", IValidationProblemMarker.SEVERITY_ERROR, "c", null, 3);
+		ValidationProblem infoNoRule = new ValidationProblem(null, null, IValidationProblemMarker.SEVERITY_INFO, "d", null, 3);
+
+		List<ValidationProblem> expected = Arrays.asList(errorLine3, infoNoRule, errorLine10, warningLine10);
+		for (int i = 0; i < 10; i++) {
+			List<ValidationProblem> problems = new ArrayList<ValidationProblem>(expected);
+			Collections.shuffle(problems);
+			Collections.sort(problems, ValidationUtils.PROBLEM_ORDER);
+			assertEquals(expected, problems);
+		}
+	}
+
+}
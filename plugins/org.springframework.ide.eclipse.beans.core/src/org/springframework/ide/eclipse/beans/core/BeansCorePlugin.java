@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 Spring IDE Developers
+ * Copyright (c) 2004, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -36,6 +36,7 @@ import org.osgi.framework.BundleEvent;
 import org.osgi.framework.BundleListener;
 import org.osgi.framework.Constants;
 import org.osgi.framework.Version;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansConfigLoader;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansModel;
 import org.springframework.ide.eclipse.beans.core.model.IBeansModel;
 import org.springframework.ide.eclipse.core.MessageUtils;
@@ -77,6 +78,9 @@ public class BeansCorePlugin extends AbstractUIPlugin {
 	private AtomicInteger threadCount = new AtomicInteger(0);
 	private static final String THREAD_NAME_TEMPLATE = "Background Thread-%s (%s/%s.%s.%s)";
 
+	/** Bounded loader for bean definitions */
+	private BeansConfigLoader configLoader;
+
 	/**
 	 * Preference ID to globally disable any beans auto detection scanning.
 	 */
@@ -137,6 +141,7 @@ public class BeansCorePlugin extends AbstractUIPlugin {
 				return reportingThread;
 			}
 		});
+		configLoader = new BeansConfigLoader(Math.max(2, Runtime.getRuntime().availableProcessors()));
 
 		
 //		nsManager = new NamespaceManager(context);
@@ -167,6 +172,7 @@ public class BeansCorePlugin extends AbstractUIPlugin {
 			isClosed = true;
 		}
 		model.stop();
+		configLoader.shutdown();
 //		if (projectAwareUrlService != null) {
 //			projectAwareUrlService.unregister();
 //		}
@@ -198,6 +204,13 @@ public class BeansCorePlugin extends AbstractUIPlugin {
 		return getDefault().executorService;
 	}
 
+	/**
+	 * Returns the bounded loader that is used to load the bean definitions of all configs.
+	 */
+	public static BeansConfigLoader getConfigLoader() {
+		return getDefault().configLoader;
+	}
+
 	/**
 	 * Returns the {@link IWorkspace} instance.
 	 */
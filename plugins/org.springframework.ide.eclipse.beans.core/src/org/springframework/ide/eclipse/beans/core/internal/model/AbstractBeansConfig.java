@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 Spring IDE Developers
+ * Copyright (c) 2008, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -105,6 +105,13 @@ public abstract class AbstractBeansConfig extends AbstractResourceModelElement i
 
 	protected volatile Set<IBeansConfigEventListener> eventListeners = new LinkedHashSet<IBeansConfigEventListener>();
 
+	/** Flattened index of all beans by name and alias; rebuilt lazily after it got invalidated */
+	private volatile BeanNameIndex beanNameIndex;
+
+	private int beanNameIndexGeneration;
+
+	private final Object beanNameIndexMonitor = new Object();
+
 	public AbstractBeansConfig(IBeansModelElement project, String name, Type type) {
 		super(project, name);
 		this.type = type;
@@ -737,6 +744,38 @@ public abstract class AbstractBeansConfig extends AbstractResourceModelElement i
 		return false;
 	}
 
+	/**
+	 * Returns the index of all beans of this config and its imports by bean name and alias.
+	 */
+	BeanNameIndex getBeanNameIndex() {
+		BeanNameIndex index = beanNameIndex;
+		if (index == null) {
+			int generation;
+			synchronized (beanNameIndexMonitor) {
+				generation = beanNameIndexGeneration;
+			}
+			index = BeanNameIndex.create(this);
+			synchronized (beanNameIndexMonitor) {
+				// don't keep an index that got outdated while it was created
+				if (generation == beanNameIndexGeneration) {
+					beanNameIndex = index;
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Invalidates the index of beans by name and alias; must be called whenever beans, aliases or components are
+	 * added or removed.
+	 */
+	protected void invalidateBeanNameIndex() {
+		synchronized (beanNameIndexMonitor) {
+			beanNameIndexGeneration++;
+			beanNameIndex = null;
+		}
+	}
+
 	/**
 	 * Read the resource backing this beans configuration and initialize all internal state.
 	 */
@@ -0,0 +1,397 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IProject;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.beans.core.model.IBeansProject;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyEngine;
+
+/**
+ * Reverse index from a type to the bean classes of a {@link IBeansProject} that extend or implement that
+ * type, and from those bean classes to the {@link IBeansConfig}s and {@link IBean}s using them.
+ * <p>
+ * This index answers the question which configs and beans are affected by a change to a java type with a
+ * couple of hash lookups, instead of walking the type hierarchy of every bean class of every config for
+ * every changed type.
+ * <p>
+ * The index is maintained incrementally:
+ * <ul>
+ * <li>the bean classes of a config are re-read only if the config has been reset since the last request
+ * (see {@link #configChanged(IBeansConfig)}), and only the classes that are new to the project are
+ * analyzed</li>
+ * <li>the supertypes of the bean classes are re-calculated once for every new
+ * {@link TypeHierarchyEngine} (which is created for every build) or whenever the engine has thrown away
+ * its cached type information, sharing the results for common supertypes, and only the changed parts of
+ * the reverse mapping get updated</li>
+ * </ul>
+ * The configs of the project are fetched before the index is locked, and the project itself never calls
+ * into the index while holding one of its locks, it only marks the index as stale (see
+ * {@link #invalidate()}).
+ */
+public class BeanClassHierarchyIndex {
+
+	private final IBeansProject project;
+
+	/** Bean class and bean information per config, by identity of the config */
+	private final Map<IBeansConfig, ConfigEntry> configs = new IdentityHashMap<IBeansConfig, ConfigEntry>();
+
+	/** The number of configs using a certain class as bean class or bean type */
+	private final Map<String, Integer> classUsages = new HashMap<String, Integer>();
+
+	/** All supertypes (including the class itself) per used class */
+	private final Map<String, Set<String>> supertypesByClass = new HashMap<String, Set<String>>();
+
+	/** The reverse mapping: used classes per supertype */
+	private final Map<String, Set<String>> classesBySupertype = new HashMap<String, Set<String>>();
+
+	/** Supertypes per type, calculated using the current type hierarchy engine */
+	private final Map<String, Set<String>> supertypesCache = new HashMap<String, Set<String>>();
+
+	private WeakReference<TypeHierarchyEngine> currentEngine = new WeakReference<TypeHierarchyEngine>(null);
+
+	private int currentEngineGeneration;
+
+	/** Configs that have been reset since they have been read into the index */
+	private final Set<IBeansConfig> changedConfigs = Collections.newSetFromMap(new ConcurrentHashMap<IBeansConfig, Boolean>());
+
+	private volatile boolean stale;
+
+	public BeanClassHierarchyIndex(IBeansProject project) {
+		this.project = project;
+	}
+
+	/**
+	 * Returns the index that is maintained by the given project or a new, transient one if the project
+	 * doesn't maintain an index itself.
+	 */
+	public static BeanClassHierarchyIndex getIndex(IBeansProject project) {
+		if (project instanceof BeansProject) {
+			return ((BeansProject) project).getBeanClassHierarchyIndex();
+		}
+		return new BeanClassHierarchyIndex(project);
+	}
+
+	/**
+	 * Returns all configs of the project that contain a bean class that is one of the given types or that
+	 * extends or implements one of them.
+	 */
+	public Set<IBeansConfig> getConfigsByTypes(String[] typeNames, TypeHierarchyEngine typeEngine) {
+		List<IBeansConfig> projectConfigs = new ArrayList<IBeansConfig>(project.getConfigs());
+		synchronized (this) {
+			update(projectConfigs, typeEngine, false);
+			Set<String> affectedClasses = getAffectedClasses(typeNames);
+
+			Set<IBeansConfig> result = new LinkedHashSet<IBeansConfig>();
+			if (affectedClasses.isEmpty()) {
+				return result;
+			}
+			for (IBeansConfig config : projectConfigs) {
+				if (containsAny(configs.get(config).beanClasses, affectedClasses)) {
+					result.add(config);
+				}
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Returns all beans of the project whose type is one of the given types or extends or implements one of
+	 * them.
+	 * @param includeUnresolvedBeans whether beans without resolvable type should be part of the result
+	 */
+	public Set<IBean> getBeansByTypes(String[] typeNames, TypeHierarchyEngine typeEngine,
+			boolean includeUnresolvedBeans) {
+		List<IBeansConfig> projectConfigs = new ArrayList<IBeansConfig>(project.getConfigs());
+		synchronized (this) {
+			update(projectConfigs, typeEngine, true);
+			Set<String> affectedClasses = getAffectedClasses(typeNames);
+
+			Set<IBean> result = new LinkedHashSet<IBean>();
+			for (IBeansConfig config : projectConfigs) {
+				ConfigEntry entry = configs.get(config);
+				for (int i = 0; i < entry.beans.length; i++) {
+					String beanType = entry.beanTypes[i];
+					if (beanType != null ? affectedClasses.contains(beanType) : includeUnresolvedBeans) {
+						result.add(entry.beans[i]);
+					}
+				}
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Returns the number of classes that are currently analyzed by this index.
+	 */
+	public synchronized int size() {
+		return supertypesByClass.size();
+	}
+
+	/**
+	 * Marks the given config as changed, so that its bean classes and beans are read again on the next
+	 * request. Doesn't lock the index, so it can be called at any time.
+	 */
+	public void configChanged(IBeansConfig config) {
+		changedConfigs.add(config);
+	}
+
+	/**
+	 * Marks the whole index as outdated, so that it is rebuilt on the next request. Doesn't lock the
+	 * index, so it can be called at any time.
+	 */
+	public void invalidate() {
+		stale = true;
+	}
+
+	private void clear() {
+		configs.clear();
+		changedConfigs.clear();
+		classUsages.clear();
+		supertypesByClass.clear();
+		classesBySupertype.clear();
+		supertypesCache.clear();
+		currentEngine = new WeakReference<TypeHierarchyEngine>(null);
+	}
+
+	private Set<String> getAffectedClasses(String[] typeNames) {
+		Set<String> result = new HashSet<String>();
+		for (String typeName : typeNames) {
+			Set<String> classes = classesBySupertype.get(typeName);
+			if (classes != null) {
+				result.addAll(classes);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Brings the index up-to-date with the given current configs of the project and the given type
+	 * hierarchy engine.
+	 */
+	private void update(List<IBeansConfig> projectConfigs, TypeHierarchyEngine typeEngine, boolean includeBeans) {
+		if (stale) {
+			stale = false;
+			clear();
+		}
+
+		if (currentEngine.get() != typeEngine || currentEngineGeneration != typeEngine.getCacheGeneration()) {
+			currentEngine = new WeakReference<TypeHierarchyEngine>(typeEngine);
+			currentEngineGeneration = typeEngine.getCacheGeneration();
+			supertypesCache.clear();
+			for (String className : new ArrayList<String>(supertypesByClass.keySet())) {
+				updateSupertypes(className, calculateSupertypes(className, typeEngine));
+			}
+		}
+
+		Set<IBeansConfig> removedConfigs = Collections.newSetFromMap(new IdentityHashMap<IBeansConfig, Boolean>());
+		removedConfigs.addAll(configs.keySet());
+
+		for (IBeansConfig config : projectConfigs) {
+			removedConfigs.remove(config);
+
+			ConfigEntry entry = configs.get(config);
+			// take the change mark before reading, so that a reset while reading is not lost
+			boolean changed = changedConfigs.remove(config);
+			if (entry == null) {
+				entry = new ConfigEntry();
+				configs.put(config, entry);
+				changed = true;
+			}
+			else if (!changed && (!includeBeans || entry.beans != null)) {
+				continue;
+			}
+			Set<String> oldClasses = entry.getUsedClasses();
+
+			if (changed) {
+				entry.beanClasses = new HashSet<String>(config.getBeanClasses());
+				entry.clearBeans();
+			}
+			if (includeBeans) {
+				entry.setBeans(BeansModelUtils.getBeans(config));
+			}
+
+			updateUsages(oldClasses, entry.getUsedClasses(), typeEngine);
+		}
+
+		for (IBeansConfig config : removedConfigs) {
+			ConfigEntry entry = configs.remove(config);
+			changedConfigs.remove(config);
+			updateUsages(entry.getUsedClasses(), Collections.<String> emptySet(), typeEngine);
+		}
+	}
+
+	private void updateUsages(Set<String> oldClasses, Set<String> newClasses, TypeHierarchyEngine typeEngine) {
+		if (oldClasses.equals(newClasses)) {
+			return;
+		}
+		for (String className : newClasses) {
+			if (!oldClasses.contains(className)) {
+				Integer usages = classUsages.get(className);
+				classUsages.put(className, usages == null ? 1 : usages + 1);
+				if (usages == null) {
+					updateSupertypes(className, calculateSupertypes(className, typeEngine));
+				}
+			}
+		}
+		for (String className : oldClasses) {
+			if (!newClasses.contains(className)) {
+				Integer usages = classUsages.get(className);
+				if (usages == null || usages <= 1) {
+					classUsages.remove(className);
+					updateSupertypes(className, Collections.<String> emptySet());
+				}
+				else {
+					classUsages.put(className, usages - 1);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Replaces the supertypes of the given class, updating the reverse mapping for the changes only.
+	 */
+	private void updateSupertypes(String className, Set<String> supertypes) {
+		Set<String> oldSupertypes = supertypesByClass.get(className);
+		if (oldSupertypes == null) {
+			oldSupertypes = Collections.emptySet();
+		}
+		if (oldSupertypes.equals(supertypes)) {
+			return;
+		}
+
+		for (String supertype : oldSupertypes) {
+			if (!supertypes.contains(supertype)) {
+				Set<String> classes = classesBySupertype.get(supertype);
+				if (classes != null && classes.remove(className) && classes.isEmpty()) {
+					classesBySupertype.remove(supertype);
+				}
+			}
+		}
+		for (String supertype : supertypes) {
+			if (!oldSupertypes.contains(supertype)) {
+				Set<String> classes = classesBySupertype.get(supertype);
+				if (classes == null) {
+					classes = new HashSet<String>();
+					classesBySupertype.put(supertype, classes);
+				}
+				classes.add(className);
+			}
+		}
+
+		if (supertypes.isEmpty()) {
+			supertypesByClass.remove(className);
+		}
+		else {
+			supertypesByClass.put(className, supertypes);
+		}
+	}
+
+	/**
+	 * Calculates all superclasses and all implemented interfaces of the given type, including the type
+	 * itself. Results for the supertypes are cached as long as the type hierarchy engine doesn't change,
+	 * so common supertypes are analyzed only once.
+	 */
+	private Set<String> calculateSupertypes(String className, TypeHierarchyEngine typeEngine) {
+		Set<String> result = supertypesCache.get(className);
+		if (result != null) {
+			return result;
+		}
+
+		result = new HashSet<String>();
+		result.add(className);
+		// register early to break cycles in broken class hierarchies
+		supertypesCache.put(className, result);
+
+		IProject resource = project.getProject();
+		String superclassName = typeEngine.getSupertype(resource, className);
+		if (superclassName != null) {
+			result.addAll(calculateSupertypes(superclassName, typeEngine));
+		}
+		String[] interfaces = typeEngine.getInterfaces(resource, className);
+		if (interfaces != null) {
+			for (String interfaceName : interfaces) {
+				result.addAll(calculateSupertypes(interfaceName, typeEngine));
+			}
+		}
+		return result;
+	}
+
+	private static boolean containsAny(Set<String> classes, Set<String> candidates) {
+		if (classes.size() > candidates.size()) {
+			for (String candidate : candidates) {
+				if (classes.contains(candidate)) {
+					return true;
+				}
+			}
+		}
+		else {
+			for (String className : classes) {
+				if (candidates.contains(className)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Snapshot of the bean classes and the resolved bean types of a single config.
+	 */
+	private static class ConfigEntry {
+
+		private Set<String> beanClasses = Collections.emptySet();
+
+		private IBean[] beans;
+
+		private String[] beanTypes;
+
+		public Set<String> getUsedClasses() {
+			if (beanTypes == null) {
+				return beanClasses;
+			}
+			Set<String> result = new HashSet<String>(beanClasses);
+			for (String beanType : beanTypes) {
+				if (beanType != null) {
+					result.add(beanType);
+				}
+			}
+			return result;
+		}
+
+		public void clearBeans() {
+			this.beans = null;
+			this.beanTypes = null;
+		}
+
+		public void setBeans(Set<IBean> currentBeans) {
+			this.beans = currentBeans.toArray(new IBean[currentBeans.size()]);
+			this.beanTypes = new String[beans.length];
+			for (int i = 0; i < beans.length; i++) {
+				beanTypes[i] = BeansModelUtils.resolveBeanTypeAsString(beans[i]);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+import org.springframework.ide.eclipse.beans.core.model.IBeanAlias;
+import org.springframework.ide.eclipse.beans.core.model.IBeansComponent;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfigSet;
+
+/**
+ * Immutable, flattened index of the beans of an {@link IBeansConfig} or {@link IBeansConfigSet} by bean name and
+ * alias, including the beans nested in components.
+ * <p>
+ * Lookups return the same bean as the recursive lookup of {@link BeansModelUtils#getBean(String,
+ * org.springframework.ide.eclipse.core.model.IModelElement)}: top-level beans take precedence over aliases of
+ * top-level beans, which take precedence over the beans of components in depth-first order.
+ */
+class BeanNameIndex {
+
+	private final Map<String, IBean> beans;
+
+	public static BeanNameIndex create(IBeansConfig config) {
+		return new BeanNameIndex(config.getBeans(), config.getAliases(), config.getComponents());
+	}
+
+	public static BeanNameIndex create(IBeansConfigSet configSet) {
+		return new BeanNameIndex(configSet.getBeans(), configSet.getAliases(), configSet.getComponents());
+	}
+
+	BeanNameIndex(Collection<IBean> topLevelBeans, Collection<IBeanAlias> aliases, Collection<IBeansComponent> components) {
+		Map<String, IBean> topLevelBeansByName = new HashMap<String, IBean>();
+		for (IBean bean : topLevelBeans) {
+			topLevelBeansByName.putIfAbsent(bean.getElementName(), bean);
+		}
+
+		this.beans = new HashMap<String, IBean>(topLevelBeansByName);
+		for (IBeanAlias alias : aliases) {
+			if (!beans.containsKey(alias.getElementName())) {
+				IBean bean = topLevelBeansByName.get(alias.getBeanName());
+				if (bean != null) {
+					beans.put(alias.getElementName(), bean);
+				}
+			}
+		}
+		for (IBeansComponent component : components) {
+			addComponentBeans(component);
+		}
+	}
+
+	private void addComponentBeans(IBeansComponent component) {
+		for (IBean bean : component.getBeans()) {
+			beans.putIfAbsent(bean.getElementName(), bean);
+		}
+		for (IBeansComponent nestedComponent : component.getComponents()) {
+			addComponentBeans(nestedComponent);
+		}
+	}
+
+	/**
+	 * Returns the bean with the given name or alias or <code>null</code> if there is no such bean.
+	 */
+	public IBean getBean(String name) {
+		return name != null ? beans.get(name) : null;
+	}
+
+	public int size() {
+		return beans.size();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2017 Spring IDE Developers
+ * Copyright (c) 2004, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -24,7 +24,6 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -38,6 +37,7 @@ import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
@@ -108,6 +108,7 @@ import org.springframework.ide.eclipse.core.io.StorageResource;
 import org.springframework.ide.eclipse.core.io.ZipEntryStorage;
 import org.springframework.ide.eclipse.core.io.xml.LineNumberPreservingDOMParser;
 import org.springframework.ide.eclipse.core.io.xml.XercesDocumentLoader;
+import org.springframework.ide.eclipse.core.io.xml.XercesParserPool;
 import org.springframework.ide.eclipse.core.java.JdtUtils;
 import org.springframework.ide.eclipse.core.model.DefaultModelSourceLocation;
 import org.springframework.ide.eclipse.core.model.ILazyInitializedModelElement;
@@ -228,6 +229,7 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 				aliases.clear();
 				beans.clear();
 				components.clear();
+				invalidateBeanNameIndex();
 				isBeanClassesMapPopulated = false;
 				beanClassesMap.clear();
 				problems.clear();
@@ -360,9 +362,15 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 					}
 
 					// Set up classloader to use for NamespaceHandler and XSD loading
+					// and the parsers sharing the XSDs compiled for that classloader
 					ClassLoader namespaceResolvingClassloader = projectIncludingClassloader;
+					XercesParserPool parserPool = null;
 					if (!XmlNamespaceUtils.useNamespacesFromClasspath(file.getProject())) {
 						 namespaceResolvingClassloader = BeansCorePlugin.getClassLoader();
+						 parserPool = XercesParserPool.getSharedPool();
+					}
+					else if (!XmlNamespaceUtils.disableCachingForNamespaceLoadingFromClasspath(file.getProject())) {
+						parserPool = XercesParserPool.getPool(file.getProject());
 					}
 
 					registry = new ScannedGenericBeanDefinitionSuppressingBeanDefinitionRegistry();
@@ -381,6 +389,9 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 						public int loadBeanDefinitions(EncodedResource encodedResource)
 								throws BeanDefinitionStoreException {
 
+							// Stop processing further resources if loading has been cancelled
+							BeansConfigLoader.checkCanceled();
+
 							// Capture the current resource being processed to handle parsing exceptions correctly and
 							// create the validation error on the correct resource
 							if (encodedResource != null && encodedResource.getResource() instanceof IAdaptable) {
@@ -427,7 +438,7 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 						}
 					};
 
-					reader.setDocumentLoader(new XercesDocumentLoader());
+					reader.setDocumentLoader(new XercesDocumentLoader(parserPool));
 					reader.setResourceLoader(resourceLoader);
 
 					reader.setEntityResolver(resolver);
@@ -461,6 +472,9 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 
 									return count;
 								}
+								catch (OperationCanceledException e) {
+									throw e;
+								}
 								catch (Exception e) {
 									// Record the exception to throw it later
 									throwables.put(e, LineNumberPreservingDOMParser.getStartLineNumber(documentAccessor.getLastElement()));
@@ -475,17 +489,15 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 						};
 
 						try {
-							FutureTask<Integer> task = new FutureTask<Integer>(loadBeanDefinitionOperation);
-							BeansCorePlugin.getExecutorService().submit(task);
-							count = task.get(BeansCorePlugin.getDefault().getPreferenceStore().getInt(BeansCorePlugin.TIMEOUT_CONFIG_LOADING_PREFERENCE_ID),
-									TimeUnit.SECONDS);
+							count = BeansCorePlugin.getConfigLoader().load(loadBeanDefinitionOperation,
+									BeansConfigLoader.getTimeout(), TimeUnit.SECONDS);
 
 							// if we recored an exception use this instead of stupid concurrent exception
 							if (throwables.size() > 0) {
 								throw throwables.keySet().iterator().next();
 							}
 						}
-						catch (TimeoutException e) {
+						catch (TimeoutException | OperationCanceledException e) {
 							problems.add(new ValidationProblem(IMarker.SEVERITY_ERROR, "Loading of resource '"
 									+ resource.getFile().getAbsolutePath() + "' took more than "
 									+ BeansCorePlugin.getDefault().getPreferenceStore()
@@ -536,6 +548,7 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 				this.children = allChildren.toArray(new IModelElement[allChildren.size()]);
 
 				this.isModelPopulated = true;
+				invalidateBeanNameIndex();
 				w.unlock();
 
 				// Run external post processors
@@ -631,6 +644,7 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 
 		// Run all post processors specific to a bean class
 		for (IBean bean : beansClone) {
+			BeansConfigLoader.checkCanceled();
 			String beanClassName = bean.getClassName();
 			if (beanClassName != null) {
 				IType type = JdtUtils.getJavaType(getElementResource().getProject(), beanClassName);
@@ -802,6 +816,7 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 		else if (element instanceof IBeansComponent) {
 			components.add((IBeansComponent) element);
 		}
+		invalidateBeanNameIndex();
 	}
 
 	/**
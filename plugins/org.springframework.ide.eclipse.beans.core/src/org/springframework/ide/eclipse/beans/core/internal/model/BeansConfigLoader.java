@@ -0,0 +1,290 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+
+/**
+ * Loads bean definitions of {@link IBeansConfig}s on a bounded work-stealing pool.
+ * <p>
+ * The number of loads handed to the pool is limited: further loads wait in a backlog, without blocking the caller,
+ * until a running load finishes. The timeout of a load starts when it begins to run, so waiting in the backlog or in
+ * the pool doesn't count against it. Loads that don't finish within the timeout are cancelled cooperatively: the
+ * loading thread is never interrupted, as that would close the NIO channels used by JDT and the parsers. Instead parsers should call
+ * {@link #checkCanceled()} at convenient points, e.g. between the configs they load, to stop processing. Loads that
+ * are started from within another load (e.g. for imported configs) run directly on the loading thread and are covered
+ * by the timeout of the outer load.
+ */
+public class BeansConfigLoader {
+
+	private static final int PENDING_LOADS_PER_THREAD = 4;
+
+	/** The load that runs on the current loader thread */
+	private static final ThreadLocal<LoadFuture<?>> currentLoad = new ThreadLocal<LoadFuture<?>>();
+
+	private final ForkJoinPool pool;
+
+	private final ScheduledThreadPoolExecutor watchdog;
+
+	private final Semaphore pendingLoads;
+
+	/** Loads that wait for a free slot, in submission order */
+	private final Queue<LoadFuture<?>> backlog = new ConcurrentLinkedQueue<LoadFuture<?>>();
+
+	private final Set<LoadFuture<?>> runningLoads = ConcurrentHashMap.newKeySet();
+
+	public BeansConfigLoader(int parallelism) {
+		this.pool = new ForkJoinPool(parallelism, new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+
+			private final AtomicInteger count = new AtomicInteger();
+
+			public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+				ForkJoinWorkerThread thread = new LoaderThread(pool);
+				thread.setName("Spring Config Loader " + count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		}, null, true);
+		this.watchdog = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "Spring Config Loader Watchdog");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.watchdog.setRemoveOnCancelPolicy(true);
+		this.pendingLoads = new Semaphore(parallelism * PENDING_LOADS_PER_THREAD);
+	}
+
+	/**
+	 * Loads the bean definitions of the given config in the background. The returned future completes with the config
+	 * once it is loaded, or exceptionally with a {@link TimeoutException} if loading took longer than the configured
+	 * timeout.
+	 */
+	public CompletableFuture<IBeansConfig> loadAsync(final IBeansConfig config) {
+		return submit(() -> {
+			// accessing the beans triggers the lazy loading of the config
+			config.getBeans();
+			return config;
+		}, getTimeout(), TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Runs the given load operation and waits for its result.
+	 * @throws TimeoutException if the operation didn't finish within the given timeout; the operation is cancelled
+	 */
+	public <T> T load(Callable<T> operation, long timeout, TimeUnit unit) throws Exception {
+		if (isLoaderThread()) {
+			return operation.call();
+		}
+		CompletableFuture<T> result = submit(operation, timeout, unit);
+		try {
+			return result.get();
+		}
+		catch (InterruptedException e) {
+			result.cancel(true);
+			throw e;
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			}
+			throw (Error) e.getCause();
+		}
+	}
+
+	/**
+	 * Submits the given load operation. The timeout starts when the operation begins to run. Cancelling the returned
+	 * future lets {@link #checkCanceled()} fail within the running operation.
+	 */
+	public <T> CompletableFuture<T> submit(Callable<T> operation, long timeout, TimeUnit unit) {
+		if (isLoaderThread()) {
+			CompletableFuture<T> result = new CompletableFuture<T>();
+			try {
+				result.complete(operation.call());
+			}
+			catch (Throwable e) {
+				result.completeExceptionally(e);
+			}
+			return result;
+		}
+
+		LoadFuture<T> result = new LoadFuture<T>(operation, timeout, unit);
+		backlog.add(result);
+		dispatch();
+		return result;
+	}
+
+	/**
+	 * Throws an {@link OperationCanceledException} if the current load has been cancelled.
+	 */
+	public static void checkCanceled() {
+		LoadFuture<?> load = currentLoad.get();
+		if (load != null && load.canceled) {
+			throw new OperationCanceledException();
+		}
+	}
+
+	/**
+	 * Returns the configured timeout for loading a single config in seconds.
+	 */
+	public static int getTimeout() {
+		return BeansCorePlugin.getDefault().getPreferenceStore().getInt(
+				BeansCorePlugin.TIMEOUT_CONFIG_LOADING_PREFERENCE_ID);
+	}
+
+	public void shutdown() {
+		watchdog.shutdownNow();
+		for (LoadFuture<?> load = backlog.poll(); load != null; load = backlog.poll()) {
+			load.cancel(false);
+		}
+		for (LoadFuture<?> load : runningLoads) {
+			load.cancel(false);
+		}
+		pool.shutdown();
+	}
+
+	/**
+	 * Hands loads from the backlog to the pool as long as there are free slots.
+	 */
+	private void dispatch() {
+		while (!backlog.isEmpty() && pendingLoads.tryAcquire()) {
+			final LoadFuture<?> load = backlog.poll();
+			if (load == null || load.isDone()) {
+				// taken by another thread or cancelled while waiting
+				pendingLoads.release();
+				continue;
+			}
+			try {
+				pool.execute(() -> run(load));
+			}
+			catch (RejectedExecutionException e) {
+				pendingLoads.release();
+				load.completeExceptionally(e);
+			}
+		}
+	}
+
+	/**
+	 * Runs the given load on the current loader thread, guarded by a timeout that starts now.
+	 */
+	private void run(final LoadFuture<?> load) {
+		runningLoads.add(load);
+		currentLoad.set(load);
+		ScheduledFuture<?> timeoutTask = null;
+		try {
+			timeoutTask = watchdog.schedule(() -> {
+				if (load.cancelLoad()) {
+					load.completeExceptionally(new TimeoutException("Loading of bean definitions took more than "
+							+ load.timeout + " " + load.unit.toString().toLowerCase()));
+				}
+			}, load.timeout, load.unit);
+		}
+		catch (RejectedExecutionException e) {
+			// the loader is shutting down, run without timeout
+		}
+		try {
+			load.task.run();
+		}
+		finally {
+			if (timeoutTask != null) {
+				timeoutTask.cancel(false);
+			}
+			currentLoad.remove();
+			runningLoads.remove(load);
+			load.taskFinished();
+			pendingLoads.release();
+			dispatch();
+		}
+	}
+
+	private boolean isLoaderThread() {
+		Thread thread = Thread.currentThread();
+		return thread instanceof LoaderThread && ((LoaderThread) thread).getPool() == pool;
+	}
+
+	private static class LoaderThread extends ForkJoinWorkerThread {
+
+		public LoaderThread(ForkJoinPool pool) {
+			super(pool);
+		}
+	}
+
+	/**
+	 * Future of a single load that cancels the underlying task if it gets cancelled itself.
+	 */
+	private static class LoadFuture<T> extends CompletableFuture<T> {
+
+		private final FutureTask<T> task;
+
+		private final long timeout;
+
+		private final TimeUnit unit;
+
+		private volatile boolean canceled;
+
+		public LoadFuture(Callable<T> operation, long timeout, TimeUnit unit) {
+			this.task = new FutureTask<T>(operation);
+			this.timeout = timeout;
+			this.unit = unit;
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			cancelLoad();
+			return super.cancel(mayInterruptIfRunning);
+		}
+
+		/**
+		 * Marks the load as cancelled without interrupting the loading thread; returns <code>false</code> if the load
+		 * already completed.
+		 */
+		private boolean cancelLoad() {
+			canceled = true;
+			return task.cancel(false);
+		}
+
+		private void taskFinished() {
+			if (task.isCancelled()) {
+				// already completed by the watchdog or by cancelling this future
+				return;
+			}
+			try {
+				complete(task.get());
+			}
+			catch (ExecutionException e) {
+				completeExceptionally(e.getCause());
+			}
+			catch (Exception e) {
+				completeExceptionally(e);
+			}
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2011 Spring IDE Developers
+ * Copyright (c) 2004, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -70,6 +70,12 @@ public class BeansConfigSet extends AbstractResourceModelElement implements IBea
 
 	private volatile boolean isBeanClassesMapPopulated = false;
 
+	private volatile BeanNameIndex beanNameIndex;
+
+	private int beanNameIndexGeneration;
+
+	private final Object beanNameIndexMonitor = new Object();
+
 	private volatile Type type;
 
 	private volatile Set<String> profiles;
@@ -105,6 +111,10 @@ public class BeansConfigSet extends AbstractResourceModelElement implements IBea
 		finally {
 			w.unlock();
 		}
+		synchronized (beanNameIndexMonitor) {
+			beanNameIndexGeneration++;
+			beanNameIndex = null;
+		}
 	}
 
 	public int getElementType() {
@@ -294,6 +304,27 @@ public class BeansConfigSet extends AbstractResourceModelElement implements IBea
 		}
 	}
 
+	/**
+	 * Returns lazily initialized index of all beans defined in this config set by bean name and alias.
+	 */
+	BeanNameIndex getBeanNameIndex() {
+		BeanNameIndex index = beanNameIndex;
+		if (index == null) {
+			int generation;
+			synchronized (beanNameIndexMonitor) {
+				generation = beanNameIndexGeneration;
+			}
+			index = BeanNameIndex.create(this);
+			synchronized (beanNameIndexMonitor) {
+				// don't keep an index that got outdated while it was created
+				if (generation == beanNameIndexGeneration) {
+					beanNameIndex = index;
+				}
+			}
+		}
+		return index;
+	}
+
 	/**
 	 * Returns lazily initialized map with all beans defined in this config set.
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2017 Spring IDE Developers
+ * Copyright (c) 2013, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,7 +19,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -31,6 +30,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.core.IClassFile;
@@ -230,6 +230,7 @@ public class BeansJavaConfig extends AbstractBeansConfig implements IBeansConfig
 
 							IBeansConfigPostProcessor[] postProcessors = BeansConfigPostProcessorFactory.createPostProcessor(ConfigurationClassPostProcessor.class.getName());
 							for (IBeansConfigPostProcessor postProcessor : postProcessors) {
+								BeansConfigLoader.checkCanceled();
 								executePostProcessor(postProcessor, eventListener);
 							}
 						}
@@ -242,12 +243,10 @@ public class BeansJavaConfig extends AbstractBeansConfig implements IBeansConfig
 					}
 				};
 
-				FutureTask<Integer> task = new FutureTask<Integer>(loadBeanDefinitionOperation);
-				BeansCorePlugin.getExecutorService().submit(task);
-				task.get(BeansCorePlugin.getDefault().getPreferenceStore().getInt(BeansCorePlugin.TIMEOUT_CONFIG_LOADING_PREFERENCE_ID),
+				BeansCorePlugin.getConfigLoader().load(loadBeanDefinitionOperation, BeansConfigLoader.getTimeout(),
 						TimeUnit.SECONDS);
 			}
-			catch (TimeoutException e) {
+			catch (TimeoutException | OperationCanceledException e) {
 				problems.add(new ValidationProblem(IMarker.SEVERITY_ERROR, "Loading of configuration '"
 						+ this.configClass.getFullyQualifiedName() + "' took more than "
 						+ BeansCorePlugin.getDefault().getPreferenceStore()
@@ -256,9 +255,9 @@ public class BeansJavaConfig extends AbstractBeansConfig implements IBeansConfig
 			}
 			catch (Exception e) {
 				problems.add(new ValidationProblem(IMarker.SEVERITY_ERROR, String.format(
-						"Error occured processing Java config '%s'. See Error Log for more details", e.getCause().getMessage()), getElementResource()));
+						"Error occured processing Java config '%s'. See Error Log for more details", e.getMessage()), getElementResource()));
 				BeansCorePlugin.log(new Status(IStatus.INFO, BeansCorePlugin.PLUGIN_ID, String.format(
-						"Error occured processing '%s'", this.configClass.getFullyQualifiedName()), e.getCause()));
+						"Error occured processing '%s'", this.configClass.getFullyQualifiedName()), e));
 			}
 			finally {
 				// Prepare the internal cache of all children for faster access
@@ -274,6 +273,7 @@ public class BeansJavaConfig extends AbstractBeansConfig implements IBeansConfig
 				this.children = allChildren.toArray(new IModelElement[allChildren.size()]);
 
 				this.isModelPopulated = true;
+				invalidateBeanNameIndex();
 				w.unlock();
 			}
 
@@ -296,6 +296,7 @@ public class BeansJavaConfig extends AbstractBeansConfig implements IBeansConfig
 				aliases.clear();
 				beans.clear();
 				components.clear();
+				invalidateBeanNameIndex();
 				isBeanClassesMapPopulated = false;
 				beanClassesMap.clear();
 				problems.clear();
@@ -356,6 +357,7 @@ public class BeansJavaConfig extends AbstractBeansConfig implements IBeansConfig
 		else if (element instanceof IBeansComponent) {
 			components.add((IBeansComponent) element);
 		}
+		invalidateBeanNameIndex();
 	}
 
 	public void registerBean(ReaderEventListener eventListener, ClassLoader classloader) throws IOException {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2014 Spring IDE Developers
+ * Copyright (c) 2005, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -97,13 +97,21 @@ public abstract class BeansModelUtils {
 	/**
 	 * Returns the <code>IBean</code> for a given bean name from specified context ( <code>IBeansConfig</code> or
 	 * <code>IBeansConfigSet</code>). If the corresponding bean is not found then the context's list of
-	 * <code>IBeanAlias</code>es is checked too.
+	 * <code>IBeanAlias</code>es is checked too. Finally the beans nested in the context's components are checked.
+	 * <p>
+	 * Configs and config sets of the beans model answer this from a flattened {@link BeanNameIndex}.
 	 * @param context the context (<code>IBeanConfig</code> or <code>IBeanConfigSet</code>) the beans are looked-up
 	 * @return <code>IBean</code> or <code>null</code> if bean not found
 	 * @throws IllegalArgumentException if unsupported context specified
 	 */
 	public static IBean getBean(String name, IModelElement context) {
-		if (context instanceof IBeansConfig) {
+		if (context instanceof AbstractBeansConfig) {
+			return ((AbstractBeansConfig) context).getBeanNameIndex().getBean(name);
+		}
+		else if (context instanceof BeansConfigSet) {
+			return ((BeansConfigSet) context).getBeanNameIndex().getBean(name);
+		}
+		else if (context instanceof IBeansConfig) {
 			IBeansConfig config = (IBeansConfig) context;
 			IBean bean = config.getBean(name);
 			if (bean == null) {
@@ -1304,10 +1312,8 @@ public abstract class BeansModelUtils {
 					try {
 						IType[] types = ((ICompilationUnit) element).getAllTypes();
 						String[] changedTypeNames = new String[types.length];
-						boolean[] changedTypeIsInterface = new boolean[types.length];
 						for (int i = 0; i < types.length; i++) {
 							changedTypeNames[i] = types[i].getFullyQualifiedName();
-							changedTypeIsInterface[i] = types[i].isInterface();
 						}
 						
 						for (IBeansProject project : projects) {
@@ -1318,28 +1324,8 @@ public abstract class BeansModelUtils {
 									continue;
 								}
 								
-								Set<IBeansConfig> configs = project.getConfigs();
-								for (IBeansConfig config : configs) {
-									boolean configAdded = false;
-									Set<String> allBeanClasses = config.getBeanClasses();
-									for (int i = 0; i < changedTypeNames.length; i++) {
-										for (String className : allBeanClasses) {
-											if (changedTypeIsInterface[i] && typeEngine.doesImplement(className, changedTypeNames[i], project.getProject())) {
-												files.add(config);
-												configAdded = true;
-												break;
-											}
-											else if (!changedTypeIsInterface[i] && typeEngine.doesExtend(className, changedTypeNames[i], project.getProject())) {
-												files.add(config);
-												configAdded = true;
-												break;
-											}
-										}
-										if (configAdded) break;
-									}
-								}
-								
-//								typeHierarchyEngine.cleanup(project.getProject());
+								// the index covers both, bean classes extending a changed class and implementing a changed interface
+								files.addAll(BeanClassHierarchyIndex.getIndex(project).getConfigsByTypes(changedTypeNames, typeEngine));
 							}
 						}
 					}
@@ -1444,10 +1430,8 @@ public abstract class BeansModelUtils {
 					try {
 						IType[] types = ((ICompilationUnit) element).getAllTypes();
 						String[] changedTypeNames = new String[types.length];
-						boolean[] changedTypeIsInterface = new boolean[types.length];
 						for (int i = 0; i < types.length; i++) {
 							changedTypeNames[i] = types[i].getFullyQualifiedName();
-							changedTypeIsInterface[i] = types[i].isInterface();
 						}
 						
 						for (IBeansProject project : projects) {
@@ -1458,41 +1442,15 @@ public abstract class BeansModelUtils {
 									continue;
 								}
 								
-								Set<IBeansConfig> configs = project.getConfigs();
-								for (IBeansConfig config : configs) {
-									Set<IBean> allBeans = getBeans(config);
-
-									for (IBean bean : allBeans) {
-										String className = resolveBeanTypeAsString(bean);
-										
-										if (className != null) {
-											for (int i = 0; i < changedTypeNames.length; i++) {
-												if (changedTypeIsInterface[i] && typeEngine.doesImplement(className, changedTypeNames[i], project.getProject())) {
-													files.add(bean);
-													break;
-												}
-												else if (!changedTypeIsInterface[i] && typeEngine.doesExtend(className, changedTypeNames[i], project.getProject())) {
-													files.add(bean);
-													break;
-												}
-											}
-										}
-										else {
-											// We can't determine the beans type so don't be cleverer as we can and let
-											// it be processed again
-											// One last check before adding too much that is not even on the resource's
-											// classpath
-											if (project != null
-													&& JdtUtils.isJavaProject(project.getProject())
-													&& JdtUtils.getJavaProject(project.getProject()).isOnClasspath(
-															resource)) {
-												files.add(bean);
-											}
-										}
-									}
-								}
+								// We can't determine the type of some beans so don't be cleverer as we can and let
+								// them be processed again
+								// One last check before adding too much that is not even on the resource's
+								// classpath
+								boolean includeUnresolvedBeans = JdtUtils.isJavaProject(project.getProject())
+										&& JdtUtils.getJavaProject(project.getProject()).isOnClasspath(resource);
 								
-//								typeHierarchyEngine.cleanup(project.getProject());
+								files.addAll(BeanClassHierarchyIndex.getIndex(project).getBeansByTypes(changedTypeNames, typeEngine,
+										includeUnresolvedBeans));
 							}
 						}
 					}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2016 Spring IDE Developers
+ * Copyright (c) 2004, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -124,6 +124,8 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 
 	private boolean isAutoConfigStatePersisted = false;
 
+	private final BeanClassHierarchyIndex beanClassHierarchyIndex = new BeanClassHierarchyIndex(this);
+
 	public BeansProject(IBeansModel model, IProject project) {
 		super(model, project.getName());
 		this.project = project;
@@ -697,6 +699,13 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 		}
 	}
 
+	/**
+	 * Returns the index of bean classes by their supertypes for the configs of this project.
+	 */
+	public BeanClassHierarchyIndex getBeanClassHierarchyIndex() {
+		return beanClassHierarchyIndex;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -898,6 +907,8 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 			updateAllConfigsCache();
 			w.unlock();
 		}
+		// the index fetches the configs with a read lock, so it must not be locked while holding the write lock
+		beanClassHierarchyIndex.invalidate();
 	}
 
 	/**
@@ -1386,6 +1397,7 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 		 */
 		@Override
 		public void onReset(IBeansConfig config) {
+			beanClassHierarchyIndex.configChanged(config);
 			for (IBeansProject project : BeansCorePlugin.getModel().getProjects()) {
 				for (IBeansConfigSet configSet : project.getConfigSets()) {
 					if (configSet.hasConfig((IFile) config.getElementResource())) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Spring IDE Developers
+ * Copyright (c) 2008, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -98,14 +98,17 @@ public class ImportedBeansConfig extends AbstractBeansConfig implements IImporte
 
 	protected void addBean(IBean bean) {
 		beans.put(bean.getElementName(), bean);
+		invalidateBeanNameIndex();
 	}
 
 	protected void addComponent(IBeansComponent beansComponent) {
 		components.add(beansComponent);
+		invalidateBeanNameIndex();
 	}
 
 	protected void addAlias(IBeanAlias beanAlias) {
 		aliases.put(beanAlias.getElementName(), beanAlias);
+		invalidateBeanNameIndex();
 	}
 
 	protected void setDefaults(DocumentDefaultsDefinition defaultsDefinition) {
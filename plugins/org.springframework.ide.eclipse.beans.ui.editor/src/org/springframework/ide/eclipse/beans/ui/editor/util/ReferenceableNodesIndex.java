@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.ui.editor.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.wst.sse.core.internal.provisional.INodeAdapter;
+import org.eclipse.wst.sse.core.internal.provisional.INodeNotifier;
+import org.eclipse.wst.sse.core.internal.provisional.text.IStructuredDocument;
+import org.eclipse.wst.xml.core.internal.provisional.document.IDOMDocument;
+import org.eclipse.wst.xml.core.internal.provisional.document.IDOMModel;
+import org.eclipse.wst.xml.core.internal.provisional.document.IDOMNode;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.ui.editor.Activator;
+import org.springframework.ide.eclipse.beans.ui.editor.namespaces.IReferenceableElementsLocator;
+import org.springframework.ide.eclipse.beans.ui.editor.namespaces.NamespaceUtils;
+import org.springframework.ide.eclipse.core.model.IModelChangeListener;
+import org.springframework.ide.eclipse.core.model.IModelElement;
+import org.springframework.ide.eclipse.core.model.IResourceModelElement;
+import org.springframework.ide.eclipse.core.model.ModelChangeEvent;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+/**
+ * Index of the nodes that can be referenced by id or alias in a document, as found by all
+ * {@link IReferenceableElementsLocator}s.
+ * <p>
+ * Content assist, hyperlinks, validation and the graph editor all look up referenceable nodes, often several times per
+ * keystroke. Instead of running every locator over the whole document for each lookup, the index of an SSE document is
+ * attached to the document as an adapter and only rebuilt on the first lookup after the document changed. As locators
+ * may also take beans from other config files of the project into account, e.g. through imports, the index is rebuilt
+ * as well after the beans model of its project changed. Indexes of other projects are left alone.
+ */
+@SuppressWarnings("restriction")
+public class ReferenceableNodesIndex implements INodeAdapter, IDocumentListener {
+
+	private static final ConcurrentMap<IProject, AtomicLong> PROJECT_STAMPS = new ConcurrentHashMap<IProject, AtomicLong>();
+
+	private static IModelChangeListener modelListener;
+
+	/**
+	 * Returns the up-to-date index of the given document. Documents that aren't managed by SSE get a new index on every
+	 * call.
+	 */
+	public static ReferenceableNodesIndex getIndex(Document document, IFile file) {
+		ReferenceableNodesIndex index;
+		if (document instanceof IDOMDocument) {
+			index = getAttachedIndex((IDOMDocument) document);
+		}
+		else {
+			index = new ReferenceableNodesIndex(document);
+		}
+		index.update(file);
+		return index;
+	}
+
+	private static synchronized ReferenceableNodesIndex getAttachedIndex(IDOMDocument document) {
+		ReferenceableNodesIndex index = (ReferenceableNodesIndex) document
+				.getExistingAdapter(ReferenceableNodesIndex.class);
+		if (index == null) {
+			installModelListener();
+			index = new ReferenceableNodesIndex(document);
+			IDOMModel model = document.getModel();
+			IStructuredDocument structuredDocument = model != null ? model.getStructuredDocument() : null;
+			if (structuredDocument != null) {
+				structuredDocument.addDocumentListener(index);
+				document.addAdapter(index);
+			}
+		}
+		return index;
+	}
+
+	private static void installModelListener() {
+		if (modelListener == null) {
+			modelListener = new IModelChangeListener() {
+
+				public void elementChanged(ModelChangeEvent event) {
+					IModelElement element = event.getElement();
+					if (element instanceof IResourceModelElement) {
+						IResource resource = ((IResourceModelElement) element).getElementResource();
+						if (resource != null && resource.getProject() != null) {
+							getProjectStamp(resource.getProject()).incrementAndGet();
+						}
+					}
+				}
+			};
+			BeansCorePlugin.getModel().addChangeListener(modelListener);
+		}
+	}
+
+	private static AtomicLong getProjectStamp(IProject project) {
+		AtomicLong stamp = PROJECT_STAMPS.get(project);
+		if (stamp == null) {
+			AtomicLong newStamp = new AtomicLong();
+			stamp = PROJECT_STAMPS.putIfAbsent(project, newStamp);
+			if (stamp == null) {
+				stamp = newStamp;
+			}
+		}
+		return stamp;
+	}
+
+	private final Document document;
+
+	private volatile boolean documentChanged = true;
+
+	private IFile file;
+
+	private long projectStamp;
+
+	/** The first node per name, later locators overriding earlier ones */
+	private Map<String, Node> firstNodes = Collections.emptyMap();
+
+	/** All nodes per name, in the order the locators found them */
+	private Map<String, List<Node>> allNodes = Collections.emptyMap();
+
+	private ReferenceableNodesIndex(Document document) {
+		this.document = document;
+	}
+
+	/**
+	 * Returns the node the given id or alias refers to, or <code>null</code> if there is none.
+	 */
+	public synchronized Node getFirstNode(String id) {
+		return firstNodes.get(id);
+	}
+
+	/**
+	 * Returns all nodes with the given id or alias.
+	 */
+	public synchronized List<Node> getNodes(String id) {
+		List<Node> nodes = allNodes.get(id);
+		return nodes != null ? new ArrayList<Node>(nodes) : new ArrayList<Node>();
+	}
+
+	/**
+	 * Returns the first node for every id and alias.
+	 */
+	public synchronized Map<String, Node> getFirstNodes() {
+		return new HashMap<String, Node>(firstNodes);
+	}
+
+	private synchronized void update(IFile file) {
+		IProject project = file != null ? file.getProject() : null;
+		long currentProjectStamp = project != null ? getProjectStamp(project).get() : 0;
+		if (documentChanged || projectStamp != currentProjectStamp || !isSameFile(file)) {
+			// reset before locating, so that changes made while locating trigger another update
+			documentChanged = false;
+			this.file = file;
+			this.projectStamp = currentProjectStamp;
+			locateNodes();
+		}
+	}
+
+	private boolean isSameFile(IFile file) {
+		return this.file == null ? file == null : this.file.equals(file);
+	}
+
+	private void locateNodes() {
+		Map<String, Node> firstNodes = new HashMap<String, Node>();
+		Map<String, List<Node>> allNodes = new HashMap<String, List<Node>>();
+		for (IReferenceableElementsLocator locator : NamespaceUtils.getAllElementsLocators()) {
+			Map<String, Set<Node>> locatedNodes = locator.getReferenceableElements(document, file);
+			if (locatedNodes != null) {
+				for (Map.Entry<String, Set<Node>> entry : locatedNodes.entrySet()) {
+					String name = entry.getKey();
+					Set<Node> set = entry.getValue();
+					if (set != null && set.size() > 0) {
+						Node node = set.iterator().next();
+						if (node == null) {
+							Activator.log(new Status(IStatus.WARNING, Activator.PLUGIN_ID,
+									"Null entry in the set of referencable nodes. Name: '" + name
+											+ "'. Locator class: " + locator.getClass().getName()));
+						}
+						else {
+							firstNodes.put(name, node);
+						}
+					}
+					if (set != null) {
+						List<Node> nodes = allNodes.get(name);
+						if (nodes == null) {
+							nodes = new ArrayList<Node>(1);
+							allNodes.put(name, nodes);
+						}
+						for (Node node : set) {
+							if (node != null) {
+								addIfNew(node, nodes);
+							}
+						}
+					}
+				}
+			}
+		}
+		this.firstNodes = firstNodes;
+		this.allNodes = allNodes;
+	}
+
+	/**
+	 * Adds the node unless a node at the same position in the same document was found before.
+	 */
+	private static void addIfNew(Node newNode, List<Node> nodes) {
+		IDOMNode domNewNode = (IDOMNode) newNode;
+		for (Node node : nodes) {
+			if (newNode.getOwnerDocument().equals(node.getOwnerDocument())) {
+				IDOMNode domNode = (IDOMNode) node;
+				if (domNode.getStartOffset() == domNewNode.getStartOffset()
+						&& domNode.getEndOffset() == domNewNode.getEndOffset()) {
+					return;
+				}
+			}
+		}
+		nodes.add(newNode);
+	}
+
+	public void documentAboutToBeChanged(DocumentEvent event) {
+	}
+
+	public void documentChanged(DocumentEvent event) {
+		documentChanged = true;
+	}
+
+	public boolean isAdapterForType(Object type) {
+		return type == ReferenceableNodesIndex.class;
+	}
+
+	public void notifyChanged(INodeNotifier notifier, int eventType, Object changedFeature, Object oldValue,
+			Object newValue, int pos) {
+		// changes anywhere in the document are picked up as document changes
+	}
+
+}
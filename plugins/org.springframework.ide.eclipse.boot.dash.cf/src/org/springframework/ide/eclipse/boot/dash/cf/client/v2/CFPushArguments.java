@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 Pivotal, Inc.
+ * Copyright (c) 2016, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,7 @@ import java.util.Map;
 import java.util.zip.ZipFile;
 
 import org.eclipse.core.runtime.Assert;
+import org.springframework.ide.eclipse.boot.dash.cf.packaging.ApplicationArchiveCache;
 import org.springframework.ide.eclipse.boot.dash.cloudfoundry.deployment.DeploymentProperties;
 
 import com.google.common.collect.ImmutableList;
@@ -164,8 +165,10 @@ public class CFPushArguments implements AutoCloseable {
 
 	@Override
 	public void close() throws Exception {
-		//This used to do something more useful, we kept it for now to avoid having to
-		// change a lot of code. But calling `close` is no longer needed and does nothing.
+		//Lets the archive cache delete the pushed jar, once it is replaced by a newer one.
+		if (applicationDataAsFile!=null) {
+			ApplicationArchiveCache.getDefault().release(applicationDataAsFile);
+		}
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2018 Pivotal, Inc.
+ * Copyright (c) 2016, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -120,6 +120,11 @@ public class DefaultClientRequestsV2 implements ClientRequests {
 	public static final Duration GET_USERNAME_TIMEOUT = Duration.ofSeconds(5);
 	public static final Duration GET_SMALL_INFO_TIMEOUT = Duration.ofSeconds(20);
 
+	/**
+	 * Maximum number of applications whose details are requested at the same time.
+	 */
+	public static final int GET_APP_DETAILS_CONCURRENCY = 8;
+
 	private static final boolean DEBUG = (""+Platform.getLocation()).contains("kdvolder") || (""+Platform.getLocation()).contains("bamboo");
 //	private static final boolean DEBUG_REACTOR = (""+Platform.getLocation()).contains("kdvolder");
 									//|| (""+Platform.getLocation()).contains("bamboo");
@@ -349,6 +354,9 @@ public class DefaultClientRequestsV2 implements ClientRequests {
 	 * as many apps as possible but it does not guarantee that it will return details for each app in the
 	 * list. This is to avoid one 'bad apple' from spoiling the whole batch. (I.e if failing to fetch details for
 	 * some apps we can still return details for the others rather than throw an exception).
+	 * <p>
+	 * Each app takes several requests, so no more than {@link #GET_APP_DETAILS_CONCURRENCY} apps
+	 * are looked up at the same time to avoid flooding the cloud controller in large spaces.
 	 */
 	@Override
 	public Flux<CFApplicationDetail> getApplicationDetails(List<CFApplication> appsToLookUp) throws Exception {
@@ -360,7 +368,7 @@ public class DefaultClientRequestsV2 implements ClientRequests {
 				return Mono.empty();
 			})
 			.map((ApplicationDetail appDetails) -> CFWrappingV2.wrap((CFApplicationSummaryData)appSummary, appDetails));
-		});
+		}, GET_APP_DETAILS_CONCURRENCY);
 	}
 
 	@Override
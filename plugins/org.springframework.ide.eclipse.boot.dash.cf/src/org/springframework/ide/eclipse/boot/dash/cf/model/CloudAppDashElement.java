@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2018 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -848,9 +848,9 @@ public class CloudAppDashElement extends CloudDashElement<CloudAppIdentity> impl
 
 			checkTerminationRequested(cancelationToken, monitor);
 
-			CFPushArguments pushArgs = properties.toPushArguments(getBootDashModel().getCloudDomains(monitor));
-
-			getClient().push(pushArgs, CancelationTokens.merge(cancelationToken, monitor));
+			try (CFPushArguments pushArgs = properties.toPushArguments(getBootDashModel().getCloudDomains(monitor))) {
+				getClient().push(pushArgs, CancelationTokens.merge(cancelationToken, monitor));
+			}
 
 			log("Application pushed to Cloud Foundry: " + getName());
 		});
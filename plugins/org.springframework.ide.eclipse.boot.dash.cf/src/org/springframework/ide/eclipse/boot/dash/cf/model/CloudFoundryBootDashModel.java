@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2019 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -870,7 +870,7 @@ public class CloudFoundryBootDashModel extends RemoteBootDashModel implements Mo
 
 		return new CloudApplicationArchiverStrategy[] {
 				CloudApplicationArchiverStrategies.fromManifest(project, appName, parser),
-				CloudApplicationArchiverStrategies.packageAsJar(project, ui),
+				CloudApplicationArchiverStrategies.packageAsJar(project, ui, getRunTarget().getId()),
 				CloudApplicationArchiverStrategies.packageMvnAsWar(project, ui)
 		};
 	}
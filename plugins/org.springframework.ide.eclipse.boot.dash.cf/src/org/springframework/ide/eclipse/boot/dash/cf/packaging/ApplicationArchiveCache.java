@@ -0,0 +1,404 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.cf.packaging;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.loader.tools.JarWriter;
+import org.springframework.boot.loader.tools.Libraries;
+import org.springframework.boot.loader.tools.Library;
+import org.springframework.boot.loader.tools.LibraryCallback;
+import org.springframework.boot.loader.tools.LibraryScope;
+import org.springframework.boot.loader.tools.Repackager;
+import org.springsource.ide.eclipse.commons.frameworks.core.util.FileUtil;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+
+/**
+ * Keeps the jars created to push boot apps as standalone jars, so that the next push
+ * of the same app only rebuilds what changed.
+ * <p>
+ * Every classpath entry is identified by the SHA-1 of its contents. Jars created from
+ * output folders are reused while the contents of the folders stay the same, and so is
+ * the repackaged app jar while neither the project nor any of its dependencies changed.
+ * Reusing the very same files keeps the nested dependency jars byte-for-byte identical
+ * between pushes, which is what lets the resource matching done by the push skip the
+ * upload of dependencies the cloud controller already has.
+ * <p>
+ * The classpath entries are hashed, and jarred when needed, in parallel. Only writing
+ * the repackaged jar itself is sequential.
+ * <p>
+ * A jar returned by {@link #getArchive} is held until it is {@link #release(File) released},
+ * a jar that is replaced in the cache in the mean time is only deleted once nobody holds
+ * it anymore.
+ */
+public class ApplicationArchiveCache {
+
+	private static final String TEMP_FOLDER_NAME = "springideApplicationArchiveCache";
+
+	private static ApplicationArchiveCache instance;
+
+	public static synchronized ApplicationArchiveCache getDefault() {
+		if (instance==null) {
+			instance = new ApplicationArchiveCache();
+		}
+		return instance;
+	}
+
+	/**
+	 * A jar together with the SHA-1 of the contents it is made of.
+	 */
+	private static class CachedJar {
+		final String sha1;
+		final File file;
+		CachedJar(String sha1, File file) {
+			this.sha1 = sha1;
+			this.file = file;
+		}
+	}
+
+	/**
+	 * SHA-1 of a dependency jar. Jars from a repository hardly ever change, so the hash
+	 * is only computed again when their size or time stamp changes.
+	 */
+	private static class JarHash {
+		final long length;
+		final long lastModified;
+		final String sha1;
+		JarHash(long length, long lastModified, String sha1) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.sha1 = sha1;
+		}
+	}
+
+	private final Map<File, JarHash> jarHashes = new ConcurrentHashMap<>();
+	private final Map<String, CachedJar> createdJars = new ConcurrentHashMap<>();
+	private final AtomicInteger jarCounter = new AtomicInteger();
+	private File _folder;
+
+	/**
+	 * Number of users of each jar that is in use. Guarded by 'this'.
+	 */
+	private final Map<File, Integer> holds = new HashMap<>();
+
+	/**
+	 * Jars that were replaced in the cache while in use, to be deleted once released. Guarded by 'this'.
+	 */
+	private final Set<File> obsolete = new HashSet<>();
+
+	private final ThreadPoolExecutor executor = createExecutor();
+
+	private static ThreadPoolExecutor createExecutor() {
+		int threads = Runtime.getRuntime().availableProcessors();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+
+					private final AtomicInteger count = new AtomicInteger();
+
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable, "Application Archive Packaging " + count.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Returns a runnable jar for an app consisting of the project's output folders and its
+	 * dependencies. If nothing changed since the last time the same app was packaged for
+	 * the same target, the jar created back then is returned.
+	 * <p>
+	 * The returned jar is held for the caller, who must {@link #release(File) release} it
+	 * once done with it.
+	 *
+	 * @param target identifies the target and space the app is pushed to
+	 */
+	public File getArchive(String target, String appName, String mainClass, List<File> projectContents, List<File> dependencies, JarNameGenerator jarNames) throws IOException {
+		List<File> libraryFiles = new ArrayList<>(dependencies.size());
+		List<String> libraryNames = new ArrayList<>(dependencies.size());
+		for (File dep : dependencies) {
+			if (dep.isFile() || dep.isDirectory()) {
+				libraryFiles.add(dep);
+				libraryNames.add(jarNames.createName(dep));
+			}
+		}
+
+		Future<CachedJar> futureBaseJar = async(() -> getFolderJar("base:"+appName, appName+".original", projectContents));
+		List<Future<CachedJar>> futureLibraries = new ArrayList<>(libraryFiles.size());
+		for (int i = 0; i < libraryFiles.size(); i++) {
+			File dep = libraryFiles.get(i);
+			futureLibraries.add(async(() -> dep.isFile()
+					? new CachedJar(getSha1(dep), dep)
+					: getFolderJar("folder:"+dep.getAbsolutePath(), dep.getName(), Arrays.asList(dep))
+			));
+		}
+		try {
+			CachedJar baseJar = get(futureBaseJar);
+			List<CachedJar> libraries = new ArrayList<>(futureLibraries.size());
+			for (Future<CachedJar> library : futureLibraries) {
+				libraries.add(get(library));
+			}
+			return getRepackagedJar(target, appName, mainClass, baseJar, libraryNames, libraries);
+		} finally {
+			release(futureBaseJar);
+			for (Future<CachedJar> library : futureLibraries) {
+				release(library);
+			}
+		}
+	}
+
+	private File getRepackagedJar(String target, String appName, String mainClass, CachedJar baseJar, List<String> libraryNames, List<CachedJar> libraries) throws IOException {
+		Hasher hasher = Hashing.sha1().newHasher()
+				.putString(mainClass, Charsets.UTF_8)
+				.putString(baseJar.sha1, Charsets.UTF_8);
+		for (int i = 0; i < libraries.size(); i++) {
+			hasher.putString(libraryNames.get(i), Charsets.UTF_8);
+			hasher.putString(libraries.get(i).sha1, Charsets.UTF_8);
+		}
+		String sha1 = hasher.hash().toString();
+
+		String key = "app:"+target+":"+appName;
+		CachedJar cached = holdCached(key, sha1);
+		if (cached!=null) {
+			return cached.file;
+		}
+		File repackagedJar = newJarFile(appName+".repackaged");
+		Repackager repackager = new Repackager(baseJar.file);
+		repackager.setMainClass(mainClass);
+		repackager.repackage(repackagedJar, asLibraries(libraryNames, libraries));
+		hold(repackagedJar);
+		replace(key, new CachedJar(sha1, repackagedJar));
+		return repackagedJar;
+	}
+
+	/**
+	 * Releases a jar returned by {@link #getArchive}. Releasing a file that isn't held
+	 * does nothing.
+	 */
+	public synchronized void release(File jar) {
+		Integer count = holds.get(jar);
+		if (count!=null) {
+			if (count>1) {
+				holds.put(jar, count-1);
+			} else {
+				holds.remove(jar);
+				if (obsolete.remove(jar)) {
+					jar.delete();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Releases the jar computed by a task once it is done, if the task succeeded.
+	 */
+	private void release(Future<CachedJar> futureJar) {
+		try {
+			release(get(futureJar).file);
+		} catch (Exception e) {
+			//The task failed, so there is nothing to release.
+		}
+	}
+
+	private synchronized void hold(File jar) {
+		Integer count = holds.get(jar);
+		holds.put(jar, count==null ? 1 : count+1);
+	}
+
+	/**
+	 * Returns, and holds, the jar cached for the key if it was made from contents with the
+	 * given SHA-1.
+	 */
+	private synchronized CachedJar holdCached(String key, String sha1) {
+		CachedJar cached = createdJars.get(key);
+		if (cached!=null && cached.sha1.equals(sha1) && cached.file.isFile()) {
+			hold(cached.file);
+			return cached;
+		}
+		return null;
+	}
+
+	private Libraries asLibraries(final List<String> names, final List<CachedJar> jars) {
+		return new Libraries() {
+			public void doWithLibraries(LibraryCallback callback) throws IOException {
+				for (int i = 0; i < jars.size(); i++) {
+					callback.library(new Library(names.get(i), jars.get(i).file, LibraryScope.COMPILE, false));
+				}
+			}
+		};
+	}
+
+	/**
+	 * Returns, and holds, a jar with the contents of the given folders, reusing the jar created
+	 * the last time for the same key if the contents didn't change since.
+	 */
+	private CachedJar getFolderJar(String key, String name, List<File> folders) throws IOException {
+		String sha1 = hashFolders(folders);
+		CachedJar cached = holdCached(key, sha1);
+		if (cached!=null) {
+			return cached;
+		}
+		File jarFile = newJarFile(name);
+		JarWriter jarWriter = new JarWriter(jarFile);
+		try {
+			for (File folder : folders) {
+				writeFolder(jarWriter, folder);
+			}
+		} finally {
+			jarWriter.close();
+		}
+		CachedJar created = new CachedJar(sha1, jarFile);
+		hold(jarFile);
+		replace(key, created);
+		return created;
+	}
+
+	/**
+	 * Caches a new jar for the key. The jar it replaces is deleted right away, or once
+	 * released if it is still in use.
+	 */
+	private synchronized void replace(String key, CachedJar created) {
+		CachedJar old = createdJars.put(key, created);
+		if (old!=null && !old.file.equals(created.file)) {
+			if (holds.containsKey(old.file)) {
+				obsolete.add(old.file);
+			} else {
+				old.file.delete();
+			}
+		}
+	}
+
+	private String getSha1(File jar) throws IOException {
+		long length = jar.length();
+		long lastModified = jar.lastModified();
+		JarHash hash = jarHashes.get(jar);
+		if (hash==null || hash.length!=length || hash.lastModified!=lastModified) {
+			hash = new JarHash(length, lastModified, Files.asByteSource(jar).hash(Hashing.sha1()).toString());
+			jarHashes.put(jar, hash);
+		}
+		return hash.sha1;
+	}
+
+	private String hashFolders(List<File> folders) throws IOException {
+		Hasher hasher = Hashing.sha1().newHasher();
+		OutputStream contents = Funnels.asOutputStream(hasher);
+		for (File folder : folders) {
+			hasher.putString(folder.getAbsolutePath(), Charsets.UTF_8);
+			String[] names = folder.list();
+			if (names!=null) {
+				Arrays.sort(names);
+				for (String name : names) {
+					hashFile(hasher, contents, folder, name);
+				}
+			}
+		}
+		return hasher.hash().toString();
+	}
+
+	private void hashFile(Hasher hasher, OutputStream contents, File baseFolder, String relativePath) throws IOException {
+		File file = new File(baseFolder, relativePath);
+		if (file.isDirectory()) {
+			String[] names = file.list();
+			Arrays.sort(names);
+			for (String name : names) {
+				hashFile(hasher, contents, baseFolder, pathJoin(relativePath, name));
+			}
+		} else if (file.isFile()) {
+			hasher.putString(relativePath, Charsets.UTF_8);
+			hasher.putLong(file.length());
+			Files.asByteSource(file).copyTo(contents);
+		}
+	}
+
+	private void writeFolder(JarWriter jarWriter, File baseFolder) throws IOException {
+		for (String name : baseFolder.list()) {
+			write(jarWriter, baseFolder, name);
+		}
+	}
+
+	private void write(JarWriter jarWriter, File baseFolder, String relativePath) throws IOException {
+		File file = new File(baseFolder, relativePath);
+		if (file.isDirectory()) {
+			for (String name : file.list()) {
+				write(jarWriter, baseFolder, pathJoin(relativePath, name));
+			}
+		} else if (file.isFile()) {
+			jarWriter.writeEntry(relativePath, new FileInputStream(file));
+		}
+	}
+
+	private String pathJoin(String relativePath, String name) {
+		return relativePath + "/" +name;
+	}
+
+	/**
+	 * Creates the name of a new jar in the cache folder. Each jar gets a name of its own so
+	 * that a jar that is being pushed is never overwritten by the next push.
+	 */
+	private File newJarFile(String name) throws IOException {
+		return new File(getFolder(), name+"-"+jarCounter.incrementAndGet()+".jar");
+	}
+
+	private synchronized File getFolder() throws IOException {
+		if (_folder==null) {
+			_folder = FileUtil.createTempDirectory(TEMP_FOLDER_NAME);
+		}
+		return _folder;
+	}
+
+	private <T> Future<T> async(Callable<T> task) {
+		return executor.submit(task);
+	}
+
+	private static <T> T get(Future<T> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -39,6 +39,10 @@ public class CloudApplicationArchiverStrategies {
 		return new CloudApplicationArchiverStrategyAsJar(project, ui);
 	}
 
+	public static CloudApplicationArchiverStrategy packageAsJar(IProject project, UserInteractions ui, String target) {
+		return new CloudApplicationArchiverStrategyAsJar(project, ui, target);
+	}
+
 	public static CloudApplicationArchiverStrategy packageMvnAsWar(IProject project, UserInteractions ui) {
 		return new CloudApplicationArchiverStrategyMavenAsWar(project, ui);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2018 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,8 +11,6 @@
 package org.springframework.ide.eclipse.boot.dash.cf.packaging;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -28,12 +26,6 @@ import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
-import org.springframework.boot.loader.tools.JarWriter;
-import org.springframework.boot.loader.tools.Libraries;
-import org.springframework.boot.loader.tools.Library;
-import org.springframework.boot.loader.tools.LibraryCallback;
-import org.springframework.boot.loader.tools.LibraryScope;
-import org.springframework.boot.loader.tools.Repackager;
 import org.springframework.ide.eclipse.boot.core.ISpringBootProject;
 import org.springframework.ide.eclipse.boot.core.SpringBootCore;
 import org.springframework.ide.eclipse.boot.dash.model.UserInteractions;
@@ -41,19 +33,9 @@ import org.springframework.ide.eclipse.boot.launch.BootLaunchConfigurationDelega
 import org.springframework.ide.eclipse.boot.util.JavaProjectUtil;
 import org.springframework.ide.eclipse.boot.util.Log;
 import org.springsource.ide.eclipse.commons.frameworks.core.maintype.MainTypeFinder;
-import org.springsource.ide.eclipse.commons.frameworks.core.util.FileUtil;
 
 public class CloudApplicationArchiverStrategyAsJar implements CloudApplicationArchiverStrategy {
 
-	private static final String TEMP_FOLDER_NAME = "springidetempFolderForJavaAppJar";
-	private static final boolean DEBUG = false;
-
-	private static void debug(String string) {
-		if (DEBUG) {
-			System.out.println(string);
-		}
-	}
-
 	/**
 	 * Classpath entries spilt into two lists, one that correspond to the current project's output folders
 	 * and all the others (which correspond to the project's dependencies). The dependencies could be
@@ -125,17 +107,16 @@ public class CloudApplicationArchiverStrategyAsJar implements CloudApplicationAr
 
 		private IJavaProject jp;
 		private IType mainType;
+		private String target;
 		private ILaunchConfiguration conf;
 		private BootLaunchConfigurationDelegate delegate;
-		private JarNameGenerator jarNames;
-		private File _tempFolder;
 
-		Archiver(IJavaProject jp, IType mainType) throws CoreException {
+		Archiver(IJavaProject jp, IType mainType, String target) throws CoreException {
 			this.jp = jp;
 			this.mainType = mainType;
+			this.target = target;
 			this.conf = BootLaunchConfigurationDelegate.createWorkingCopy(mainType);
 			this.delegate = new BootLaunchConfigurationDelegate();
-			this.jarNames = new JarNameGenerator();
 		}
 
 		private SplitClasspath getRuntimeClasspath() throws CoreException {
@@ -156,95 +137,28 @@ public class CloudApplicationArchiverStrategyAsJar implements CloudApplicationAr
 		@Override
 		public File getApplicationArchive(IProgressMonitor mon) throws Exception {
 			SplitClasspath classpath = getRuntimeClasspath();
-			File tempFolder = getTempFolder();
-			File baseJar = new File(tempFolder, jp.getElementName()+".original.jar");
-			File repackagedJar = new File(tempFolder, jp.getElementName()+".repackaged.jar");
-
-			createBaseJar(classpath.projectContents, baseJar);
-			repackage(baseJar, classpath.dependencies, repackagedJar);
-			return repackagedJar;
-		}
-
-		private File getTempFolder() throws IOException {
-			if (_tempFolder==null) {
-				_tempFolder = FileUtil.createTempDirectory(TEMP_FOLDER_NAME);
-			}
-			return _tempFolder;
-		}
-
-		private void createBaseJar(List<File> projectContents, File baseJar) throws FileNotFoundException, IOException {
-			JarWriter jarWriter = new JarWriter(baseJar);
-			try {
-				for (File outputFolder : projectContents) {
-					writeFolder(jarWriter, outputFolder);
-				}
-			} finally {
-				jarWriter.close();
-			}
-		}
-
-		private void writeFolder(JarWriter jarWriter, File baseFolder) throws FileNotFoundException, IOException {
-			for (String name : baseFolder.list()) {
-				write(jarWriter, baseFolder, name);
-			}
-		}
-
-		private void write(JarWriter jarWriter, File baseFolder, String relativePath) throws FileNotFoundException, IOException {
-			debug("Writing: "+relativePath + " from "+baseFolder);
-			File file = new File(baseFolder, relativePath);
-			if (file.isDirectory()) {
-				debug("Folder");
-				for (String name : file.list()) {
-					write(jarWriter, baseFolder, pathJoin(relativePath, name));
-				}
-			} else if (file.isFile()) {
-				debug("File");
-				jarWriter.writeEntry(relativePath, new FileInputStream(file));
-			} else {
-				debug("Huh?");
-			}
-		}
-
-		private String pathJoin(String relativePath, String name) {
-			return relativePath + "/" +name;
-		}
-
-		private void repackage(File baseJar, List<File> dependencies, File repackagedJar) throws IOException {
-			Repackager repackager = new Repackager(baseJar);
-			repackager.setMainClass(mainType.getFullyQualifiedName());
-			repackager.repackage(repackagedJar, asLibraries(dependencies));
-		}
-
-		private Libraries asLibraries(final List<File> dependencies) {
-			return new Libraries() {
-				public void doWithLibraries(LibraryCallback callback) throws IOException {
-					for (File dep : dependencies) {
-						if (dep.isFile()) {
-							callback.library(new Library(jarNames.createName(dep), dep, LibraryScope.COMPILE, false));
-						} else if (dep.isDirectory()) {
-							String jarName = jarNames.createName(dep);
-							File jarFile = new File(getTempFolder(), jarName);
-							JarWriter jarWriter = new JarWriter(jarFile);
-							try {
-								writeFolder(jarWriter, dep);
-							} finally {
-								jarWriter.close();
-							}
-							callback.library(new Library(jarName, jarFile, LibraryScope.COMPILE, false));
-						}
-					}
-				}
-			};
+			return ApplicationArchiveCache.getDefault().getArchive(target, jp.getElementName(), mainType.getFullyQualifiedName(),
+					classpath.projectContents, classpath.dependencies, new JarNameGenerator());
 		}
 	}
 
 	private SpringBootCore springBootCore = SpringBootCore.getDefault();
 	private IProject project;
 	private UserInteractions ui;
+	private String target;
 
 	public CloudApplicationArchiverStrategyAsJar(IProject project, UserInteractions ui) {
+		this(project, ui, "");
+	}
+
+	/**
+	 * @param target identifies the target and space the app is pushed to, so that pushes to
+	 *  different targets don't replace each other's archives.
+	 */
+	public CloudApplicationArchiverStrategyAsJar(IProject project, UserInteractions ui, String target) {
 		this.project = project;
 		this.ui = ui;
+		this.target = target;
 	}
 
 	@Override
@@ -254,7 +168,7 @@ public class CloudApplicationArchiverStrategyAsJar implements CloudApplicationAr
 			if (jp!=null && checkPackagingType(jp)) {
 				final IType type = getMainType(jp, mon);
 				if (type!=null) {
-					return new Archiver(jp, type);
+					return new Archiver(jp, type, target);
 				}
 			}
 		} catch (Exception e) {
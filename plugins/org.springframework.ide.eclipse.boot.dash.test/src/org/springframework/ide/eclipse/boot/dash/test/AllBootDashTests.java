@@ -40,6 +40,7 @@ import org.springframework.ide.eclipse.boot.dash.test.yaml.Yaml2DeploymentProper
 	//Really short (less than 2 seconds per suite):
 	JLRMethodParserTest.class,
 	OrderBasedComparatorTest.class,
+	PollingSchedulerTest.class,
 	ManifestCompareMergeTests.class,
 	AbstractLaunchConfigurationsDashElementTest.class,
 	BootDashElementTagsTests.class,
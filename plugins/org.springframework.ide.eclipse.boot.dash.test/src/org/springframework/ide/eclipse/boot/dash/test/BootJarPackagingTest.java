@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -78,6 +78,44 @@ public class BootJarPackagingTest extends StsTestCase {
 		Mockito.verifyZeroInteractions(ui);
 	}
 
+	public void testUnchangedProjectReusesArchive() throws Exception {
+		UserInteractions ui = Mockito.mock(UserInteractions.class);
+		BootProjectTestHarness harness = getHarness();
+		IProject project = harness.createBootProject("simple-boot",
+				setPackage("demo")
+		);
+		String greeter =
+				"package demo;\n" +
+				"\n" +
+				"import org.springframework.boot.CommandLineRunner;\n" +
+				"import org.springframework.stereotype.Component;\n" +
+				"\n" +
+				"@Component\n" +
+				"public class Greeter implements CommandLineRunner {\n" +
+				"\n" +
+				"	@Override\n" +
+				"	public void run(String... arg0) throws Exception {\n" +
+				"		System.out.println(\"Hello World!\");\n" +
+				"	}\n" +
+				"\n" +
+				"}\n";
+		createFile(project, "src/main/java/demo/Greeter.java", greeter);
+		StsTestUtil.assertNoErrors(project); // Builds the project
+
+		File jarFile = packageAsJar(project, ui);
+		assertEquals(jarFile, packageAsJar(project, ui));
+
+		fileReplace(project, "src/main/java/demo/Greeter.java", "Hello World!", "Hello Again!");
+		StsTestUtil.assertNoErrors(project);
+
+		File changedJarFile = packageAsJar(project, ui);
+		assertFalse(jarFile.equals(changedJarFile));
+		LaunchResult result = java.runJar(changedJarFile);
+		assertContains("Hello Again!", result.out);
+		assertEquals(0, result.terminationCode);
+		Mockito.verifyZeroInteractions(ui);
+	}
+
 	public void testProjectDependency() throws Exception {
 		IProject depProject = createPredefinedProject("demo-lib");
 		StsTestUtil.assertNoErrors(depProject);
@@ -601,6 +601,39 @@ public class CloudFoundryBootDashModelMockingTest {
 		};
 	}
 
+	@Test
+	public void testRefreshFetchesDetailsOfAllApps() throws Exception {
+		CFClientParams targetParams = CfTestTargetParams.fromEnv();
+
+		MockCFSpace space = clientFactory.defSpace(targetParams.getOrgName(), targetParams.getSpaceName());
+
+		final MockCFApplication foo = space.defApp("foo");
+		space.defApp("bar");
+		space.defApp("baz");
+
+		final CloudFoundryBootDashModel target = harness.createCfTarget(targetParams);
+
+		waitForApps(target, "foo", "bar", "baz");
+		ACondition.waitFor("app details", 3000, () -> {
+			for (CloudAppDashElement app : target.getApplicationValues()) {
+				assertNotNull(app.getSummaryData());
+			}
+			assertEquals(RefreshState.READY, target.getRefreshState());
+		});
+		int detailsRequested = space.getAppDetailsRequestCount().getValue();
+
+		foo.start(CancelationTokens.NULL);
+		target.refresh(ui());
+
+		waitForState(target.getApplication("foo"), RunState.RUNNING, 3000);
+		ACondition.waitFor("refresh done", 3000, () -> {
+			assertEquals(detailsRequested + 3, (int) space.getAppDetailsRequestCount().getValue());
+			assertEquals(RefreshState.READY, target.getRefreshState());
+		});
+		assertEquals(RunState.INACTIVE, target.getApplication("bar").getRunState());
+		assertEquals(RunState.INACTIVE, target.getApplication("baz").getRunState());
+	}
+
 	@Test
 	public void testRefreshAppsHealthCheck() throws Exception {
 		CFClientParams targetParams = CfTestTargetParams.fromEnv();
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.ide.eclipse.boot.dash.util.PollingScheduler;
+import org.springframework.ide.eclipse.boot.dash.util.PollingScheduler.Poll;
+
+public class PollingSchedulerTest {
+
+	private PollingScheduler scheduler = new PollingScheduler(10, 4);
+
+	@After
+	public void tearDown() {
+		scheduler.dispose();
+	}
+
+	@Test
+	public void pollsUntilPollerStops() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(1);
+		scheduler.schedule(() -> {
+			if (count.incrementAndGet() < 5) {
+				return 20;
+			}
+			done.countDown();
+			return -1;
+		});
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		Thread.sleep(200);
+		assertEquals(5, count.get());
+	}
+
+	@Test
+	public void pollNowRestartsStoppedPoll() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		Poll poll = scheduler.schedule(() -> {
+			count.incrementAndGet();
+			return -1;
+		});
+		waitFor(() -> count.get()==1);
+		poll.pollNow();
+		waitFor(() -> count.get()==2);
+	}
+
+	@Test
+	public void pollNowDoesntWaitForScheduledTime() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		Poll poll = scheduler.schedule(() -> {
+			count.incrementAndGet();
+			return 60_000;
+		});
+		waitFor(() -> count.get()==1);
+		poll.pollNow();
+		waitFor(() -> count.get()==2);
+	}
+
+	@Test
+	public void cancelStopsPolling() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		Poll poll = scheduler.schedule(() -> {
+			count.incrementAndGet();
+			return 10;
+		});
+		waitFor(() -> count.get()>=3);
+		poll.cancel();
+		Thread.sleep(100);
+		int countAfterCancel = count.get();
+		Thread.sleep(200);
+		assertEquals(countAfterCancel, count.get());
+		assertTrue(poll.isCanceled());
+	}
+
+	@Test
+	public void pollerIsNeverCalledConcurrently() throws Exception {
+		AtomicBoolean running = new AtomicBoolean();
+		AtomicBoolean overlap = new AtomicBoolean();
+		AtomicInteger count = new AtomicInteger();
+		Poll poll = scheduler.schedule(() -> {
+			if (!running.compareAndSet(false, true)) {
+				overlap.set(true);
+			}
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException e) {
+				//ignore
+			}
+			running.set(false);
+			return count.incrementAndGet() < 50 ? 1 : -1;
+		});
+		for (int i = 0; i < 50; i++) {
+			poll.pollNow();
+			Thread.sleep(2);
+		}
+		waitFor(() -> count.get()>=50);
+		assertFalse(overlap.get());
+	}
+
+	private void waitFor(BooleanSupplier condition) throws InterruptedException {
+		long timeout = System.currentTimeMillis() + 5000;
+		while (!condition.getAsBoolean()) {
+			assertTrue("Timed out", System.currentTimeMillis() < timeout);
+			Thread.sleep(5);
+		}
+	}
+
+}
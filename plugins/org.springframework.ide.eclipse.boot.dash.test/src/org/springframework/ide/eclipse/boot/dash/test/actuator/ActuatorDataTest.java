@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Pivotal, Inc.
+ * Copyright (c) 2017, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,9 +11,13 @@
 package org.springframework.ide.eclipse.boot.dash.test.actuator;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -26,6 +30,7 @@ import org.springframework.ide.eclipse.beans.ui.live.model.LiveBeansModel;
 import org.springframework.ide.eclipse.beans.ui.live.model.TypeLookup;
 import org.springframework.ide.eclipse.boot.dash.model.actuator.ActuatorClient;
 import org.springframework.ide.eclipse.boot.dash.model.actuator.RequestMapping;
+import org.springframework.ide.eclipse.boot.dash.model.actuator.SnapshotDiff;
 import org.springframework.ide.eclipse.boot.dash.model.actuator.env.LiveEnvModel;
 import org.springframework.ide.eclipse.boot.dash.model.actuator.env.Profile;
 import org.springframework.ide.eclipse.boot.dash.model.actuator.env.Property;
@@ -326,4 +331,70 @@ public class ActuatorDataTest {
 		assertEquals("sun.io", property.getValue());
 
 	}
+
+	@Test public void testUnchangedDataIsReused() throws Exception {
+		TestActuatorClient client = new TestActuatorClient(null).version("2")
+				.beansJson(ActuatorClientTest.getContents("beans-sample-boot2-1.json"))
+				.requestMappingJson(ActuatorClientTest.getContents("requestmappings-sample-boot2.json"))
+				.envJson(ActuatorClientTest.getContents("env-sample-boot2.json"));
+		LiveBeansModel beans = client.getBeans();
+		List<RequestMapping> mappings = client.getRequestMappings();
+		LiveEnvModel env = client.getEnv();
+		assertNotNull(beans);
+		assertNotNull(mappings);
+		assertNotNull(env);
+		assertSame(beans, client.getBeans());
+		assertSame(mappings, client.getRequestMappings());
+		assertSame(env, client.getEnv());
+	}
+
+	@Test public void testChangedRequestMappingsReuseUnchangedEntries() throws Exception {
+		String json = ActuatorClientTest.getContents("requestmappings-sample-boot2.json");
+		TestActuatorClient client = new TestActuatorClient(null).version("2").requestMappingJson(json);
+		List<RequestMapping> mappings = client.getRequestMappings();
+		RequestMapping greeting = findMapping(mappings, "/greeting");
+
+		client.requestMappingJson(json.replace("\"/hello\"", "\"/hello-again\""));
+		List<RequestMapping> changed = client.getRequestMappings();
+		assertNotSame(mappings, changed);
+		assertNull(findMapping(changed, "/hello"));
+		assertNotNull(findMapping(changed, "/hello-again"));
+		assertSame(greeting, findMapping(changed, "/greeting"));
+	}
+
+	@Test public void testChangedEnvReusesUnchangedPropertySources() throws Exception {
+		String json = ActuatorClientTest.getContents("env-sample-boot2.json");
+		TestActuatorClient client = new TestActuatorClient(null).version("2").envJson(json);
+		LiveEnvModel env = client.getEnv();
+
+		client.envJson(json.replace("\"value\": 8080", "\"value\": 8081"));
+		LiveEnvModel changed = client.getEnv();
+		assertNotEquals(env, changed);
+		assertEquals("8081", findPropertySource(changed, "server.ports").getProperties().get(0).getValue());
+		assertSame(findPropertySource(env, "systemProperties"), findPropertySource(changed, "systemProperties"));
+		assertNotSame(findPropertySource(env, "server.ports"), findPropertySource(changed, "server.ports"));
+	}
+
+	@Test public void testSnapshotDiff() throws Exception {
+		String a = new String("a");
+		String b = new String("b");
+		SnapshotDiff<String> diff = SnapshotDiff.compute(ImmutableList.of(a, b), ImmutableList.of(new String("b"), "c"));
+		assertTrue(diff.hasChanges());
+		assertEquals(ImmutableList.of("c"), diff.getAdded());
+		assertEquals(ImmutableList.of("a"), diff.getRemoved());
+		assertSame(b, diff.getSnapshot().get(0));
+
+		assertTrue(SnapshotDiff.compute(ImmutableList.of(a, b), ImmutableList.of("b", "a")).hasChanges());
+		assertFalse(SnapshotDiff.compute(ImmutableList.of(a, b), ImmutableList.of(new String("a"), new String("b"))).hasChanges());
+	}
+
+	private RequestMapping findMapping(List<RequestMapping> mappings, String path) {
+		return mappings.stream().filter(rm -> path.equals(rm.getPath())).findFirst().orElse(null);
+	}
+
+	private PropertySource findPropertySource(LiveEnvModel env, String name) {
+		return env.getPropertySources().getPropertySources().stream()
+				.filter(propertysource -> name.equals(propertysource.getDisplayName())).findFirst()
+				.orElse(null);
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 Pivotal, Inc.
+ * Copyright (c) 2016, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -34,6 +34,7 @@ public class MockCFSpace extends CFSpaceData {
 	private Map<String, MockCFApplication> appsByName = new HashMap<>();
 	private MockCloudFoundryClientFactory owner;
 	private Map<String, LiveCounter> pushCounts = new HashMap<>();
+	private final LiveCounter appDetailsRequests = new LiveCounter();
 
 	public MockCFSpace(MockCloudFoundryClientFactory owner, String name, UUID guid, CFOrganization org) {
 		super(name, guid, org);
@@ -100,6 +101,14 @@ public class MockCFSpace extends CFSpaceData {
 		appsByName.put(app.getName(), app);
 	}
 
+	/**
+	 * Counts the apps whose details have been requested in bulk, i.e. through
+	 * {@link org.springframework.ide.eclipse.boot.dash.cf.client.ClientRequests#getApplicationDetails(List)}.
+	 */
+	public LiveCounter getAppDetailsRequestCount() {
+		return appDetailsRequests;
+	}
+
 	public synchronized LiveCounter getPushCount(String name) {
 		LiveCounter counter = pushCounts.get(name);
 		if (counter==null) {
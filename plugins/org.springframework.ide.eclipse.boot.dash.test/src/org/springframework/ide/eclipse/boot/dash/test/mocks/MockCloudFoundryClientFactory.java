@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 Pivotal, Inc.
+ * Copyright (c) 2016, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -250,6 +250,7 @@ public class MockCloudFoundryClientFactory extends CloudFoundryClientFactory {
 			MockCFSpace space = getSpace();
 			return Flux.fromIterable(appsToLookUp)
 			.flatMap((app) -> {
+				space.getAppDetailsRequestCount().increment();
 				return Mono.justOrEmpty(space.getApplication(app.getGuid()).getDetailedInfo());
 			});
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Pivotal, Inc.
+ * Copyright (c) 2017, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,20 +11,22 @@
 package org.springframework.ide.eclipse.boot.dash.livexp;
 
 import java.time.Duration;
+import java.util.Objects;
 
 import javax.inject.Provider;
 
-import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
-import org.eclipse.core.runtime.jobs.Job;
+import org.springframework.ide.eclipse.boot.dash.util.PollingScheduler;
+import org.springframework.ide.eclipse.boot.dash.util.PollingScheduler.Poll;
 import org.springsource.ide.eclipse.commons.livexp.core.LiveExpression;
 
 /**
- * LiveExpression that continually refreshes itself at regular intervals with a background job.
+ * LiveExpression that continually refreshes itself at regular intervals on the shared {@link PollingScheduler}.
  * <p>
  * The expression, when created, starts out in a 'sleeping' state. It will not start refreshing/computing
  * its value until methods like 'refreshOnce', 'refreshFor' or 'refreshForever' are called.
+ * <p>
+ * While the value doesn't change the time between refreshes doubles, up to 'maxSleepBetweenRefreshes';
+ * it drops back as soon as the value changes.
  *
  * @author Kris De Volder
  */
@@ -32,36 +34,70 @@ public abstract class PollingLiveExp<T> extends LiveExpression<T> {
 
 	private static final Provider<Boolean> STOP_REFRESHING = () -> false;
 
-	private Job refreshJob = createRefreshJob();
+	private Poll refreshPoll = null;
+
+	private volatile boolean disposed = false;
 
 	/**
 	 * Time in ms to 'sleep' between refreshes.
 	 */
 	private long sleepBetweenRefreshes = 500;
 
+	/**
+	 * Upper bound in ms for the time to 'sleep' between refreshes that don't change the value.
+	 */
+	private long maxSleepBetweenRefreshes = 4 * sleepBetweenRefreshes;
+
+	private long currentSleep = sleepBetweenRefreshes;
+
 	private Provider<Boolean> continueRefreshing = STOP_REFRESHING;
 
 	/**
-	 * Override the default 'sleepBetweenRefreshes' value.
+	 * Override the default 'sleepBetweenRefreshes' value; the maximum time between refreshes
+	 * is four times the given duration unless it is overridden as well.
 	 */
 	public PollingLiveExp<T> sleepBetweenRefreshes(Duration duration) {
 		this.sleepBetweenRefreshes = duration.toMillis();
+		this.maxSleepBetweenRefreshes = 4 * sleepBetweenRefreshes;
+		this.currentSleep = sleepBetweenRefreshes;
 		return this;
 	}
 
-	private Job createRefreshJob() {
-		Job job = new Job("Refresh PollingLiveExp") {
-			@Override
-			protected IStatus run(IProgressMonitor monitor) {
-				refresh();
-				if (continueRefreshing.get()) {
-					this.schedule(sleepBetweenRefreshes);
-				}
-				return Status.OK_STATUS;
-			}
-		};
-		job.setSystem(true);
-		return job;
+	/**
+	 * Override the default 'maxSleepBetweenRefreshes' value.
+	 */
+	public PollingLiveExp<T> maxSleepBetweenRefreshes(Duration duration) {
+		this.maxSleepBetweenRefreshes = Math.max(sleepBetweenRefreshes, duration.toMillis());
+		return this;
+	}
+
+	private long poll() {
+		T oldValue = getValue();
+		refresh();
+		if (!continueRefreshing.get()) {
+			return -1;
+		}
+		if (Objects.equals(oldValue, getValue())) {
+			currentSleep = Math.min(maxSleepBetweenRefreshes, currentSleep * 2);
+		} else {
+			currentSleep = sleepBetweenRefreshes;
+		}
+		return currentSleep;
+	}
+
+	/**
+	 * Refreshes right away and keeps refreshing as long as 'continueRefreshing' says so.
+	 */
+	private synchronized void startRefreshing() {
+		if (disposed) {
+			return;
+		}
+		currentSleep = sleepBetweenRefreshes;
+		if (refreshPoll==null) {
+			refreshPoll = PollingScheduler.getDefault().schedule(this::poll);
+		} else {
+			refreshPoll.pollNow();
+		}
 	}
 
 	@Override
@@ -73,7 +109,13 @@ public abstract class PollingLiveExp<T> extends LiveExpression<T> {
 
 	@Override
 	public void dispose() {
-		refreshJob = null;
+		synchronized (this) {
+			disposed = true;
+			if (refreshPoll!=null) {
+				refreshPoll.cancel();
+				refreshPoll = null;
+			}
+		}
 		continueRefreshing = STOP_REFRESHING;
 		super.dispose();
 	}
@@ -82,11 +124,10 @@ public abstract class PollingLiveExp<T> extends LiveExpression<T> {
 	 * Start refreshing now, and continue until given duration expires.
 	 */
 	public void refreshFor(Duration duration) {
-		Job job = refreshJob;
-		if (job!=null) {
+		if (!disposed) {
 			long stopRefrestingAfter = System.currentTimeMillis() + duration.toMillis();
 			this.continueRefreshing = () -> System.currentTimeMillis() <= stopRefrestingAfter;
-			job.schedule();
+			startRefreshing();
 		}
 	}
 
@@ -94,17 +135,15 @@ public abstract class PollingLiveExp<T> extends LiveExpression<T> {
 	 * Start refreshing now, and continue forever (or until this expression is disposed).
 	 */
 	public PollingLiveExp<T> refreshForever() {
-		Job job = refreshJob;
-		if (job!=null) {
+		if (!disposed) {
 			continueRefreshing = () -> true;
-			job.schedule();
+			startRefreshing();
 		}
 		return this;
 	}
 
 	public PollingLiveExp<T> refreshOnce() {
-		Job job = refreshJob;
-		if (job!=null) {
+		if (!disposed) {
 			continueRefreshing = new Provider<Boolean>() {
 
 				boolean firstTime = true;
@@ -118,7 +157,7 @@ public abstract class PollingLiveExp<T> extends LiveExpression<T> {
 					}
 				}
 			};
-			job.schedule();
+			startRefreshing();
 		}
 		return this;
 	}
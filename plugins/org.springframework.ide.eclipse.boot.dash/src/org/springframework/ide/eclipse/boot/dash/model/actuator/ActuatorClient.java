@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2019 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,20 +13,18 @@ package org.springframework.ide.eclipse.boot.dash.model.actuator;
 import java.util.List;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
-import org.json.JSONException;
 import org.json.JSONObject;
-import org.osgi.framework.Version;
-import org.osgi.framework.VersionRange;
-import org.springframework.ide.eclipse.beans.ui.live.model.JsonParser;
-import org.springframework.ide.eclipse.beans.ui.live.model.LiveBeansJsonParser;
-import org.springframework.ide.eclipse.beans.ui.live.model.LiveBeansJsonParser2;
 import org.springframework.ide.eclipse.beans.ui.live.model.LiveBeansModel;
 import org.springframework.ide.eclipse.beans.ui.live.model.TypeLookup;
 import org.springframework.ide.eclipse.boot.dash.model.actuator.env.LiveEnvJsonParser1x;
-import org.springframework.ide.eclipse.boot.dash.model.actuator.env.LiveEnvJsonParser2x;
 import org.springframework.ide.eclipse.boot.dash.model.actuator.env.LiveEnvModel;
+import org.springframework.ide.eclipse.boot.dash.model.actuator.env.LiveEnvStreamParser2x;
+import org.springframework.ide.eclipse.boot.dash.model.actuator.env.PropertySource;
+import org.springframework.ide.eclipse.boot.dash.model.actuator.env.PropertySources;
 import org.springsource.ide.eclipse.commons.livexp.util.Log;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 /**
  * Abstract implementation of a ActuatorClient. The actuar client connects
  * to an actuator endpoint retrieving some information from a running spring boot app.
@@ -34,94 +32,131 @@ import org.springsource.ide.eclipse.commons.livexp.util.Log;
  * This implementation is abstract because there is more than one way that we can
  * connect to an actuator endpoint and retrieve the data from it. The method
  * to retrieve the data is therefore an abstract method.
+ * <p>
+ * The data is parsed from a token stream rather than from a tree of json objects. Each
+ * result is reconciled with the previous result of the client, so that unchanged
+ * entries are shared between the two and an unchanged result is returned as the very
+ * same object as before.
  *
  * @author Kris De Volder
  */
 public abstract class ActuatorClient {
 
-	private static final VersionRange BEANS_PARSER_VERSION_1_RANGE = new VersionRange("[1.0.0, 2.0.0)");
-
 	private final TypeLookup typeLookup;
 
+	private volatile List<RequestMapping> lastRequestMappings;
+	private volatile LiveBeansModel lastBeans;
+	private volatile LiveEnvModel lastEnv;
+
 	public ActuatorClient(TypeLookup typeLookup) {
 		this.typeLookup = typeLookup;
 	}
 
 
-	private List<RequestMapping> parseRequestMappings(String json, String version) throws JSONException {
- 		JSONObject obj = new JSONObject(json);
- 		RequestMappingsParser parser;
+	private List<RequestMapping> parseRequestMappings(JsonParser tokens, String version) throws Exception {
 		if ("2".equals(version)) {
 			// Boot 2.x
-			parser = new Boot2RequestMappingsParser();
+			return new Boot2RequestMappingsStreamParser().parse(tokens, typeLookup);
 		} else {
 			//Boot 1.x
-			parser = new Boot1RequestMappingsParser();
+			return new Boot1RequestMappingsParser().parse(new JSONObject(JsonTokens.toJson(tokens)), typeLookup);
 		}
-		return parser.parse(obj, typeLookup);
 	}
 
 	public List<RequestMapping> getRequestMappings() {
+		List<RequestMapping> mappings = null;
 		try {
-			ImmutablePair<String, String> data = getRequestMappingData();
-			if (data != null) {
-				String json = data.left;
-				if (json!=null) {
-					return parseRequestMappings(json, data.right);
+			ImmutablePair<JsonParser, String> data = getRequestMappingTokens();
+			if (data != null && data.left != null) {
+				try (JsonParser tokens = data.left) {
+					mappings = SnapshotDiff.reconcile(lastRequestMappings, parseRequestMappings(tokens, data.right));
 				}
 			}
 		} catch (Exception e) {
 			Log.log(e);
 		}
-		return null;
+		return lastRequestMappings = mappings;
 	}
 
 	public LiveBeansModel getBeans() {
+		LiveBeansModel beans = null;
 		try {
-			ImmutablePair<String, String> data = getBeansData();
-			if (data != null) {
-				String json = data.left;
-				String version = data.right;
-				if (json != null) {
-					if (version != null) {
-						if (BEANS_PARSER_VERSION_1_RANGE.includes(Version.valueOf(version))) {
-							return new LiveBeansJsonParser(typeLookup, json).parse();
-						}
-					}
-					return new LiveBeansJsonParser2(typeLookup, json).parse();
+			ImmutablePair<JsonParser, String> data = getBeansTokens();
+			if (data != null && data.left != null) {
+				try (JsonParser tokens = data.left) {
+					// The stream parser understands the formats of all Boot versions
+					beans = new LiveBeansStreamParser(typeLookup).parse(tokens);
+				}
+				LiveBeansModel previous = lastBeans;
+				if (beans.equals(previous)) {
+					beans = previous;
 				}
 			}
 		} catch (Exception e) {
 			Log.log(e);
 		}
-		return null;
+		return lastBeans = beans;
 	}
 
 	public LiveEnvModel getEnv() {
+		LiveEnvModel env = null;
 		try {
-			ImmutablePair<String, String> data = getEnvData();
-			if (data != null) {
-				String json = data.left;
-				if (json!=null) {
-					return parseEnv(json, data.right);
+			ImmutablePair<JsonParser, String> data = getEnvTokens();
+			if (data != null && data.left != null) {
+				try (JsonParser tokens = data.left) {
+					env = reconcile(lastEnv, parseEnv(tokens, data.right));
 				}
 			}
 		} catch (Exception e) {
 			Log.log(e);
 		}
-		return null;
+		return lastEnv = env;
 	}
 
-	private LiveEnvModel parseEnv(String json, String version) throws Exception {
-		JsonParser<LiveEnvModel> parser = null;
+	private LiveEnvModel parseEnv(JsonParser tokens, String version) throws Exception {
 		if ("2".equals(version)) {
 			// Boot 2.x
-			parser = new LiveEnvJsonParser2x();
+			return new LiveEnvStreamParser2x().parse(tokens);
 		} else {
 			//Boot 1.x
-			parser = new LiveEnvJsonParser1x();
+			return new LiveEnvJsonParser1x().parse(JsonTokens.toJson(tokens));
+		}
+	}
+
+	private static LiveEnvModel reconcile(LiveEnvModel previous, LiveEnvModel current) {
+		if (previous == null) {
+			return current;
 		}
-		return parser.parse(json);
+		List<PropertySource> previousSources = previous.getPropertySources().getPropertySources();
+		List<PropertySource> sources = SnapshotDiff.reconcile(previousSources, current.getPropertySources().getPropertySources());
+		if (sources == previousSources && previous.getActiveProfiles().equals(current.getActiveProfiles())) {
+			return previous;
+		}
+		return new LiveEnvModel(current.getActiveProfiles(), new PropertySources(sources));
+	}
+
+	/**
+	 * Returns the token stream of the request mappings endpoint and the Boot version of the
+	 * format. By default this parses the json data; override to stream the data from its
+	 * source instead.
+	 */
+	protected ImmutablePair<JsonParser, String> getRequestMappingTokens() throws Exception {
+		return tokens(getRequestMappingData());
+	}
+
+	protected ImmutablePair<JsonParser, String> getBeansTokens() throws Exception {
+		return tokens(getBeansData());
+	}
+
+	protected ImmutablePair<JsonParser, String> getEnvTokens() throws Exception {
+		return tokens(getEnvData());
+	}
+
+	private static ImmutablePair<JsonParser, String> tokens(ImmutablePair<String, String> data) throws Exception {
+		if (data != null && data.left != null) {
+			return ImmutablePair.of(JsonTokens.parser(data.left), data.right);
+		}
+		return null;
 	}
 
 	protected abstract ImmutablePair<String, String> getRequestMappingData() throws Exception;
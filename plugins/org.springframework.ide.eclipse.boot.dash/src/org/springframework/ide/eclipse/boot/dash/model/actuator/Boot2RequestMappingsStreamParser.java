@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.model.actuator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.ide.eclipse.beans.ui.live.model.TypeLookup;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Streaming counterpart of {@link Boot2RequestMappingsParser}: creates the request
+ * mappings of the Boot 2.x mappings endpoint straight from its token stream.
+ */
+public class Boot2RequestMappingsStreamParser {
+
+	/**
+	 * The parts of an entry of a dispatcher servlet or handler that request mappings are created from.
+	 */
+	private static class Handler {
+		String handler;
+		String predicate;
+		boolean hasDetails;
+		boolean isHandlerFunction;
+		String fqClassName;
+		String methodName;
+		List<String> patterns;
+
+		Handler(JsonParser tokens) throws IOException {
+			JsonTokens.forEachField(tokens, (name, value) -> {
+				switch (name) {
+				case "handler":
+					handler = JsonTokens.optText(value);
+					break;
+				case "predicate":
+					predicate = JsonTokens.optText(value);
+					break;
+				case "details":
+					if (value.getCurrentToken()==JsonToken.START_OBJECT) {
+						hasDetails = true;
+						JsonTokens.forEachField(value, this::detail);
+					}
+					break;
+				default:
+					break;
+				}
+			});
+		}
+
+		private void detail(String name, JsonParser value) throws IOException {
+			switch (name) {
+			case "handlerMethod":
+				JsonTokens.forEachField(value, (field, methodValue) -> {
+					if ("className".equals(field)) {
+						fqClassName = JsonTokens.optText(methodValue);
+					} else if ("name".equals(field)) {
+						methodName = JsonTokens.optText(methodValue);
+					}
+				});
+				break;
+			case "handlerFunction":
+				if (value.getCurrentToken()==JsonToken.START_OBJECT) {
+					// WebFlux functional endpoint
+					isHandlerFunction = true;
+				} else if (fqClassName==null && value.getCurrentToken()==JsonToken.VALUE_STRING) {
+					fqClassName = RequestMapping2x.handlerFunctionClassName(value.getText());
+				}
+				break;
+			case "requestMappingConditions":
+				JsonTokens.forEachField(value, (field, conditionValue) -> {
+					if ("patterns".equals(field)) {
+						patterns = JsonTokens.texts(conditionValue);
+					}
+				});
+				break;
+			default:
+				break;
+			}
+		}
+
+		void addRequestMappings(TypeLookup typeLookup, List<RequestMapping> result) {
+			if (!hasDetails) {
+				// Fall back to 1.x for missing "details" property, i.e. no method handler defined
+				if (predicate!=null && handler!=null) {
+					result.addAll(RequestMapping1x.create(predicate, handler, typeLookup));
+				}
+			} else if (isHandlerFunction) {
+				result.addAll(RequestMapping2x.createWebFlux(typeLookup, predicate));
+			} else if (patterns!=null) {
+				result.addAll(RequestMapping2x.create(typeLookup, handler, patterns.toArray(new String[patterns.size()]), fqClassName, methodName));
+			}
+		}
+	}
+
+	public List<RequestMapping> parse(JsonParser tokens, TypeLookup typeLookup) throws IOException {
+		JsonTokens.start(tokens);
+		List<RequestMapping> result = new ArrayList<>();
+		JsonTokens.forEachField(tokens, (name, contexts) -> {
+			if ("contexts".equals(name)) {
+				JsonTokens.forEachField(contexts, (contextId, context) -> {
+					JsonTokens.forEachField(context, (field, mappings) -> {
+						if ("mappings".equals(field)) {
+							parseMappings(mappings, typeLookup, result);
+						}
+					});
+				});
+			}
+		});
+		return result;
+	}
+
+	private void parseMappings(JsonParser tokens, TypeLookup typeLookup, List<RequestMapping> result) throws IOException {
+		List<Handler> dispatcherServlets = new ArrayList<>();
+		List<Handler> dispatcherHandlers = new ArrayList<>();
+		boolean[] hasDispatcherServlets = { false };
+		List<RequestMapping> servlets = new ArrayList<>();
+		JsonTokens.forEachField(tokens, (name, value) -> {
+			switch (name) {
+			case "dispatcherServlets":
+				// Regular Web starter endpoints RMs JMX beans format
+				hasDispatcherServlets[0] = true;
+				parseHandlers(value, "dispatcherServlet", dispatcherServlets);
+				break;
+			case "dispatcherHandlers":
+				// WebFlux endpoints RMs JMX bean format
+				parseHandlers(value, "webHandler", dispatcherHandlers);
+				break;
+			case "servlets":
+				JsonTokens.forEachElement(value, servlet -> parseServlet(servlet, typeLookup, servlets));
+				break;
+			default:
+				break;
+			}
+		});
+		for (Handler handler : hasDispatcherServlets[0] ? dispatcherServlets : dispatcherHandlers) {
+			handler.addRequestMappings(typeLookup, result);
+		}
+		result.addAll(servlets);
+	}
+
+	private void parseHandlers(JsonParser tokens, String key, List<Handler> handlers) throws IOException {
+		JsonTokens.forEachField(tokens, (name, value) -> {
+			if (key.equals(name)) {
+				JsonTokens.forEachElement(value, handler -> handlers.add(new Handler(handler)));
+			}
+		});
+	}
+
+	private void parseServlet(JsonParser tokens, TypeLookup typeLookup, List<RequestMapping> result) throws IOException {
+		String[] className = { null };
+		List<String> paths = new ArrayList<>();
+		JsonTokens.forEachField(tokens, (name, value) -> {
+			if ("className".equals(name)) {
+				className[0] = JsonTokens.optText(value);
+			} else if ("mappings".equals(name)) {
+				paths.addAll(JsonTokens.texts(value));
+			}
+		});
+		if (className[0]!=null) {
+			result.addAll(RequestMapping2x.createFromSimpleServlet(typeLookup, className[0], paths.toArray(new String[paths.size()])));
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2019 Pivotal, Inc.
+ * Copyright (c) 2017, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,7 +20,9 @@ import org.springframework.ide.eclipse.beans.ui.live.model.TypeLookup;
 import org.springframework.ide.eclipse.boot.launch.util.JMXClient;
 import org.springsource.ide.eclipse.commons.livexp.util.ExceptionUtil;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.google.common.collect.ImmutableSet;
 
 /**
@@ -59,6 +61,8 @@ public class JMXActuatorClient extends ActuatorClient {
 			new OperationInfo("org.springframework.boot:type=Endpoint,name=environmentEndpoint", "getData", "1") //Boot 1.x
 	};
 
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
 	private JMXClient client = null;
 	private Integer port = null;
 
@@ -82,7 +86,44 @@ public class JMXActuatorClient extends ActuatorClient {
 		return getDataFrom(ENV_OPERATIONS);
 	}
 
+	@Override
+	protected ImmutablePair<JsonParser, String> getRequestMappingTokens() throws Exception {
+		return getTokensFrom(REQUEST_MAPPINGS_OPERATIONS);
+	}
+
+	@Override
+	protected ImmutablePair<JsonParser, String> getBeansTokens() throws Exception {
+		return getTokensFrom(BEANS_OPERATIONS);
+	}
+
+	@Override
+	protected ImmutablePair<JsonParser, String> getEnvTokens() throws Exception {
+		return getTokensFrom(ENV_OPERATIONS);
+	}
+
 	protected ImmutablePair<String, String> getDataFrom(OperationInfo[] infos) throws Exception {
+		ImmutablePair<Object, String> data = callOperation(infos);
+		if (data!=null) {
+			return ImmutablePair.of(MAPPER.writeValueAsString(data.left), data.right);
+		}
+		return null;
+	}
+
+	/**
+	 * Serializes the result of the operation into a buffer of tokens rather than into json
+	 * text, so it can be parsed without creating and scanning a large string.
+	 */
+	protected ImmutablePair<JsonParser, String> getTokensFrom(OperationInfo[] infos) throws Exception {
+		ImmutablePair<Object, String> data = callOperation(infos);
+		if (data!=null) {
+			TokenBuffer tokens = new TokenBuffer(MAPPER, false);
+			MAPPER.writeValue(tokens, data.left);
+			return ImmutablePair.of(tokens.asParser(), data.right);
+		}
+		return null;
+	}
+
+	private ImmutablePair<Object, String> callOperation(OperationInfo[] infos) throws Exception {
 		try {
 			JMXClient client = getClient();
 			if (client!=null && infos!=null) {
@@ -90,7 +131,7 @@ public class JMXActuatorClient extends ActuatorClient {
 					try {
 						Object obj = client.callOperation(op.objectName, op.operationName);
 						if (obj!=null) {
-							return ImmutablePair.of(new ObjectMapper().writeValueAsString(obj), op.version);
+							return ImmutablePair.of(obj, op.version);
 						}
 					} catch (InstanceNotFoundException e) {
 						//Ignore and try other mbean
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.model.actuator;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Helpers to walk the token stream of actuator data without building a tree of
+ * json objects first.
+ * <p>
+ * The handlers passed to {@link #forEachField(JsonParser, FieldHandler)} and
+ * {@link #forEachElement(JsonParser, ElementHandler)} are called with the parser
+ * positioned on the first token of a value. A handler may leave the value alone,
+ * in which case it is skipped, or consume it up to its last token.
+ */
+public class JsonTokens {
+
+	private static final JsonFactory FACTORY = new JsonFactory();
+
+	@FunctionalInterface
+	public interface FieldHandler {
+		void field(String name, JsonParser tokens) throws IOException;
+	}
+
+	@FunctionalInterface
+	public interface ElementHandler {
+		void element(JsonParser tokens) throws IOException;
+	}
+
+	public static JsonParser parser(String json) throws IOException {
+		return FACTORY.createParser(json);
+	}
+
+	/**
+	 * Moves to the first token of the stream.
+	 */
+	public static JsonToken start(JsonParser tokens) throws IOException {
+		JsonToken token = tokens.nextToken();
+		if (token==null) {
+			throw new JsonParseException(tokens, "No content");
+		}
+		return token;
+	}
+
+	/**
+	 * Calls the handler for each field of the object starting at the current token. Skips
+	 * the current value if it is not an object.
+	 */
+	public static void forEachField(JsonParser tokens, FieldHandler handler) throws IOException {
+		if (tokens.getCurrentToken()!=JsonToken.START_OBJECT) {
+			tokens.skipChildren();
+			return;
+		}
+		while (tokens.nextToken()==JsonToken.FIELD_NAME) {
+			String name = tokens.getCurrentName();
+			tokens.nextToken();
+			handler.field(name, tokens);
+			tokens.skipChildren();
+		}
+	}
+
+	/**
+	 * Calls the handler for each element of the array starting at the current token. Skips
+	 * the current value if it is not an array.
+	 */
+	public static void forEachElement(JsonParser tokens, ElementHandler handler) throws IOException {
+		if (tokens.getCurrentToken()!=JsonToken.START_ARRAY) {
+			tokens.skipChildren();
+			return;
+		}
+		JsonToken token;
+		while ((token = tokens.nextToken())!=null && token!=JsonToken.END_ARRAY) {
+			handler.element(tokens);
+			tokens.skipChildren();
+		}
+	}
+
+	/**
+	 * Returns the text of the current value. Like <code>org.json</code> this is "null" for
+	 * json null and the json text of objects and arrays.
+	 */
+	public static String text(JsonParser tokens) throws IOException {
+		JsonToken token = tokens.getCurrentToken();
+		if (token==JsonToken.START_OBJECT || token==JsonToken.START_ARRAY) {
+			StringWriter json = new StringWriter();
+			try (JsonGenerator generator = FACTORY.createGenerator(json)) {
+				generator.copyCurrentStructure(tokens);
+			}
+			return json.toString();
+		}
+		return tokens.getText();
+	}
+
+	/**
+	 * Returns the text of the current value, or <code>null</code> for json null.
+	 */
+	public static String optText(JsonParser tokens) throws IOException {
+		return tokens.getCurrentToken()==JsonToken.VALUE_NULL ? null : text(tokens);
+	}
+
+	/**
+	 * Returns the texts of the elements of the array starting at the current token.
+	 */
+	public static List<String> texts(JsonParser tokens) throws IOException {
+		List<String> texts = new ArrayList<>();
+		forEachElement(tokens, element -> texts.add(text(element)));
+		return texts;
+	}
+
+	/**
+	 * Returns the remaining tokens of the stream as json text; only meant for parsers of old
+	 * Boot versions that still need the whole document.
+	 */
+	public static String toJson(JsonParser tokens) throws IOException {
+		start(tokens);
+		return text(tokens);
+	}
+
+}
@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.model.actuator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.ide.eclipse.beans.ui.live.model.LiveBean;
+import org.springframework.ide.eclipse.beans.ui.live.model.LiveBeansContext;
+import org.springframework.ide.eclipse.beans.ui.live.model.LiveBeansModel;
+import org.springframework.ide.eclipse.beans.ui.live.model.LiveBeansResource;
+import org.springframework.ide.eclipse.beans.ui.live.model.TypeLookup;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Builds a {@link LiveBeansModel} straight from the token stream of the beans endpoint.
+ * Understands the Boot 1.x format (an array of contexts with an array of beans each) as
+ * well as the Boot 2.x format (contexts and beans keyed by their ids), so it produces
+ * the same model as the {@link org.springframework.ide.eclipse.beans.ui.live.model.LiveBeansJsonParser}s
+ * without holding the whole document in memory.
+ */
+public class LiveBeansStreamParser {
+
+	private static final String CONTEXTS = "contexts";
+
+	private static class ParsedBean {
+		final LiveBean bean;
+		final List<String> dependencies;
+		ParsedBean(LiveBean bean, List<String> dependencies) {
+			this.bean = bean;
+			this.dependencies = dependencies;
+		}
+	}
+
+	private static class ParsedContext {
+		String id;
+		String parent;
+		List<ParsedBean> beans = Collections.emptyList();
+	}
+
+	private final TypeLookup typeLookup;
+
+	private final Map<String, LiveBean> beansMap = new LinkedHashMap<>();
+	private final Map<String, LiveBeansContext> contextMap = new LinkedHashMap<>();
+	private final Map<String, LiveBeansResource> resourceMap = new LinkedHashMap<>();
+
+	private final List<ParsedBean> parsedBeans = new ArrayList<>();
+	private final List<ParsedContext> parsedContexts = new ArrayList<>();
+
+	public LiveBeansStreamParser(TypeLookup typeLookup) {
+		this.typeLookup = typeLookup;
+	}
+
+	public LiveBeansModel parse(JsonParser tokens) throws IOException {
+		JsonToken token = JsonTokens.start(tokens);
+		if (token==JsonToken.START_ARRAY) {
+			JsonTokens.forEachElement(tokens, context -> addContext(parseContext(null, context)));
+		} else if (token==JsonToken.START_OBJECT) {
+			// Either all contexts keyed by their ids or a single context
+			ParsedContext single = new ParsedContext();
+			boolean[] hasContexts = { false };
+			JsonTokens.forEachField(tokens, (name, value) -> {
+				if (CONTEXTS.equals(name)) {
+					hasContexts[0] = true;
+					JsonTokens.forEachField(value, (id, context) -> addContext(parseContext(id, context)));
+				} else if (!hasContexts[0]) {
+					parseContextField(single, name, value);
+				}
+			});
+			if (!hasContexts[0]) {
+				addContext(single);
+			}
+		} else {
+			throw new JsonParseException(tokens, "Expected contexts but found "+token);
+		}
+
+		populateContextDependencies();
+		populateBeanDependencies();
+		groupByResource();
+
+		LiveBeansModel model = new LiveBeansModel(typeLookup);
+		model.addBeans(beansMap.values());
+		model.addContexts(contextMap.values());
+		model.addResources(resourceMap.values());
+		return model;
+	}
+
+	private ParsedContext parseContext(String id, JsonParser tokens) throws IOException {
+		ParsedContext context = new ParsedContext();
+		context.id = id;
+		JsonTokens.forEachField(tokens, (name, value) -> parseContextField(context, name, value));
+		return context;
+	}
+
+	private void parseContextField(ParsedContext context, String name, JsonParser value) throws IOException {
+		switch (name) {
+		case LiveBeansContext.ATTR_CONTEXT_ID:
+		case LiveBeansContext.ATTR_CONTEXT:
+			if (context.id==null) {
+				context.id = JsonTokens.optText(value);
+			}
+			break;
+		case LiveBeansContext.ATTR_PARENT:
+			context.parent = JsonTokens.optText(value);
+			break;
+		case LiveBeansContext.ATTR_BEANS:
+			context.beans = parseBeans(value);
+			break;
+		default:
+			break;
+		}
+	}
+
+	private List<ParsedBean> parseBeans(JsonParser tokens) throws IOException {
+		List<ParsedBean> beans = new ArrayList<>();
+		if (tokens.getCurrentToken()==JsonToken.START_ARRAY) {
+			// Boot 1.x: array of beans with an id attribute
+			JsonTokens.forEachElement(tokens, bean -> {
+				ParsedBean parsed = parseBean(null, bean);
+				if (parsed!=null) {
+					beans.add(parsed);
+				}
+			});
+		} else {
+			// Boot 2.x: beans keyed by their ids
+			JsonTokens.forEachField(tokens, (id, bean) -> {
+				ParsedBean parsed = parseBean(id, bean);
+				if (parsed!=null) {
+					beans.add(parsed);
+				}
+			});
+		}
+		return beans;
+	}
+
+	private ParsedBean parseBean(String id, JsonParser tokens) throws IOException {
+		if (tokens.getCurrentToken()!=JsonToken.START_OBJECT) {
+			tokens.skipChildren();
+			return null;
+		}
+		Map<String, String> attributes = new HashMap<>();
+		List<String> dependencies = new ArrayList<>();
+		JsonTokens.forEachField(tokens, (name, value) -> {
+			switch (name) {
+			case LiveBean.ATTR_BEAN:
+			case LiveBean.ATTR_SCOPE:
+			case LiveBean.ATTR_TYPE:
+			case LiveBean.ATTR_RESOURCE:
+				attributes.put(name, JsonTokens.text(value));
+				break;
+			case LiveBean.ATTR_DEPENDENCIES:
+				dependencies.addAll(JsonTokens.texts(value));
+				break;
+			default:
+				break;
+			}
+		});
+		String beanId = id!=null ? id : attributes.get(LiveBean.ATTR_BEAN);
+		if (beanId==null) {
+			return null;
+		}
+		LiveBean bean = new LiveBean(typeLookup, beanId);
+		for (String attribute : new String[] { LiveBean.ATTR_SCOPE, LiveBean.ATTR_TYPE, LiveBean.ATTR_RESOURCE }) {
+			String value = attributes.get(attribute);
+			if (value!=null) {
+				bean.addAttribute(attribute, value);
+			}
+		}
+		addApplicationName(bean);
+		return new ParsedBean(bean, dependencies);
+	}
+
+	private void addApplicationName(LiveBean bean) {
+		if (typeLookup != null && typeLookup.getApplicationName() != null) {
+			bean.addAttribute(LiveBean.ATTR_APPLICATION, typeLookup.getApplicationName());
+		}
+	}
+
+	private void addContext(ParsedContext parsed) throws IOException {
+		if (parsed.id==null) {
+			throw new IOException("Context without id");
+		}
+		LiveBeansContext context = new LiveBeansContext(parsed.id);
+		for (ParsedBean parsedBean : parsed.beans) {
+			LiveBean bean = parsedBean.bean;
+			bean.addAttribute(LiveBeansContext.ATTR_CONTEXT, context.getLabel());
+			context.addElement(bean);
+			beansMap.put(bean.getId(), bean);
+			parsedBeans.add(parsedBean);
+		}
+		contextMap.put(context.getLabel(), context);
+		parsedContexts.add(parsed);
+	}
+
+	private void populateContextDependencies() {
+		for (ParsedContext parsed : parsedContexts) {
+			if (parsed.parent!=null) {
+				LiveBeansContext parentContext = contextMap.get(parsed.parent);
+				if (parentContext != null) {
+					contextMap.get(parsed.id).setParent(parentContext);
+				}
+			}
+		}
+	}
+
+	private void populateBeanDependencies() {
+		for (ParsedBean parsed : parsedBeans) {
+			for (String dependency : parsed.dependencies) {
+				LiveBean dependencyBean = beansMap.get(dependency);
+				if (dependencyBean == null) {
+					dependencyBean = new LiveBean(typeLookup, dependency, true);
+					addApplicationName(dependencyBean);
+				}
+				parsed.bean.addDependency(dependencyBean);
+			}
+		}
+	}
+
+	private void groupByResource() {
+		for (LiveBean bean : beansMap.values()) {
+			String resource = bean.getResource();
+			LiveBeansResource group = resourceMap.get(resource);
+			if (group == null) {
+				group = new LiveBeansResource(resource, bean.getTypeLookup());
+				resourceMap.put(resource, group);
+			}
+			group.addElement(bean);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2020 Pivotal, Inc.
+ * Copyright (c) 2018, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -67,6 +67,10 @@ public class RequestMapping2x extends AbstractRequestMapping {
 	}
 
 	public static Collection<RequestMapping2x> createWebFlux(TypeLookup typeLookup, String predicate, JSONObject details) {
+		return createWebFlux(typeLookup, predicate);
+	}
+
+	public static Collection<RequestMapping2x> createWebFlux(TypeLookup typeLookup, String predicate) {
 		try {
 			if (predicate != null) {
 				// Predicate is and/or string expression: ((GET && /hello) && Accept: [text/plain])
@@ -109,17 +113,9 @@ public class RequestMapping2x extends AbstractRequestMapping {
 						fqClassName = handlerMethod.getString("className");
 						methodName = handlerMethod.getString("name");
 					} else if (details.has("handlerFunction")) {
-						fqClassName = details.getString("handlerFunction");
-						int idx = fqClassName.indexOf("$$");
-						if (idx >= 0) {
-							fqClassName = fqClassName.substring(0, idx);
-						}
+						fqClassName = handlerFunctionClassName(details.getString("handlerFunction"));
 					}
-					final String clazz = fqClassName;
-					final String method = methodName;
-					return Arrays.stream(paths)
-							.map(path -> new RequestMapping2x(typeLookup, path, clazz, method, methodString))
-							.collect(Collectors.toList());
+					return create(typeLookup, methodString, paths, fqClassName, methodName);
 				}
 			}
 		} catch (JSONException e) {
@@ -128,24 +124,38 @@ public class RequestMapping2x extends AbstractRequestMapping {
 		return Collections.emptyList();
 	}
 
+	public static Collection<RequestMapping2x> create(TypeLookup typeLookup, String methodString, String[] paths, String fqClassName, String methodName) {
+		return Arrays.stream(paths)
+				.map(path -> new RequestMapping2x(typeLookup, path, fqClassName, methodName, methodString))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Strips the suffix of generated lambda classes from the name of a handler function.
+	 */
+	public static String handlerFunctionClassName(String handlerFunction) {
+		int idx = handlerFunction.indexOf("$$");
+		return idx >= 0 ? handlerFunction.substring(0, idx) : handlerFunction;
+	}
+
 	public static Collection<? extends RequestMapping> createFromSimpleServlet(TypeLookup typeLookup,
 			JSONObject servlet) {
 		try {
-			String[] extractPaths = extractPaths(servlet.getJSONArray("mappings"));
-			String className = servlet.getString("className");
-
-			if (extractPaths.length > 0) {
-				return Arrays.stream(extractPaths)
-						.filter(path -> path.length() > 0 && !path.equals("/"))
-						.map(path -> new RequestMapping2x(typeLookup, path, className, null, className))
-						.collect(Collectors.toList());
-			}
+			return createFromSimpleServlet(typeLookup, servlet.getString("className"), extractPaths(servlet.getJSONArray("mappings")));
 		} catch (JSONException e) {
 			Log.log(e);
 		}
 		return Collections.emptyList();
 	}
 
+	public static Collection<? extends RequestMapping> createFromSimpleServlet(TypeLookup typeLookup,
+			String className, String[] paths) {
+		return Arrays.stream(paths)
+				.filter(path -> path.length() > 0 && !path.equals("/"))
+				.map(path -> new RequestMapping2x(typeLookup, path, className, null, className))
+				.collect(Collectors.toList());
+	}
+
 	private static String[] extractPaths(JSONArray pathArray) throws JSONException {
 		String[] paths = new String[pathArray.length()];
 		for (int i = 0; i < pathArray.length(); i++) {
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.model.actuator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Difference between two snapshots of the entries of some live data, e.g. the request
+ * mappings of an app.
+ * <p>
+ * The {@link #getSnapshot()} of the diff is the new snapshot with every entry that also
+ * is in the previous snapshot replaced by the previous instance. So unchanged entries
+ * keep their identity across refreshes and viewers only update the entries that
+ * actually changed.
+ */
+public class SnapshotDiff<T> {
+
+	private final List<T> snapshot;
+	private final List<T> added;
+	private final List<T> removed;
+	private final boolean changed;
+
+	private SnapshotDiff(List<T> snapshot, List<T> added, List<T> removed, boolean changed) {
+		this.snapshot = snapshot;
+		this.added = added;
+		this.removed = removed;
+		this.changed = changed;
+	}
+
+	/**
+	 * Computes the difference between two snapshots; entries are compared with equals.
+	 */
+	public static <T> SnapshotDiff<T> compute(List<T> previous, List<T> current) {
+		Map<T, Deque<T>> unmatched = new HashMap<>();
+		for (T entry : previous) {
+			unmatched.computeIfAbsent(entry, e -> new ArrayDeque<>()).add(entry);
+		}
+		Set<T> reused = Collections.newSetFromMap(new IdentityHashMap<>());
+		List<T> snapshot = new ArrayList<>(current.size());
+		List<T> added = new ArrayList<>();
+		for (T entry : current) {
+			Deque<T> same = unmatched.get(entry);
+			T old = same!=null ? same.poll() : null;
+			if (old!=null) {
+				reused.add(old);
+				snapshot.add(old);
+			} else {
+				added.add(entry);
+				snapshot.add(entry);
+			}
+		}
+		List<T> removed = new ArrayList<>();
+		for (T entry : previous) {
+			if (!reused.contains(entry)) {
+				removed.add(entry);
+			}
+		}
+		boolean changed = !added.isEmpty() || !removed.isEmpty();
+		for (int i = 0; !changed && i < snapshot.size(); i++) {
+			changed = snapshot.get(i)!=previous.get(i);
+		}
+		return new SnapshotDiff<>(snapshot, added, removed, changed);
+	}
+
+	/**
+	 * Returns the previous snapshot if nothing changed, and the reconciled new snapshot otherwise.
+	 * Returns the current snapshot as is if either of them is <code>null</code>.
+	 */
+	public static <T> List<T> reconcile(List<T> previous, List<T> current) {
+		if (previous==null || current==null) {
+			return current;
+		}
+		SnapshotDiff<T> diff = compute(previous, current);
+		return diff.hasChanges() ? diff.getSnapshot() : previous;
+	}
+
+	public List<T> getSnapshot() {
+		return snapshot;
+	}
+
+	public List<T> getAdded() {
+		return added;
+	}
+
+	public List<T> getRemoved() {
+		return removed;
+	}
+
+	/**
+	 * Whether entries were added, removed or reordered.
+	 */
+	public boolean hasChanges() {
+		return changed;
+	}
+
+}
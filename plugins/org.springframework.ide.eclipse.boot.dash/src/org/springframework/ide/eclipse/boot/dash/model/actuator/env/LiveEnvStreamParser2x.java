@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.model.actuator.env;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.ide.eclipse.boot.dash.model.actuator.JsonTokens;
+import org.springsource.ide.eclipse.commons.frameworks.core.util.StringUtils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Streaming counterpart of {@link LiveEnvJsonParser2x}: creates the {@link LiveEnvModel}
+ * of the Boot 2.x env endpoint straight from its token stream.
+ */
+public class LiveEnvStreamParser2x {
+
+	public LiveEnvModel parse(JsonParser tokens) throws IOException {
+		JsonTokens.start(tokens);
+		ImmutableList.Builder<Profile> profiles = ImmutableList.builder();
+		ImmutableList.Builder<PropertySource> sources = ImmutableList.builder();
+		JsonTokens.forEachField(tokens, (name, value) -> {
+			if ("activeProfiles".equals(name)) {
+				JsonTokens.forEachElement(value, profile -> {
+					if (profile.getCurrentToken()==JsonToken.VALUE_STRING) {
+						profiles.add(new Profile(profile.getText()));
+					}
+				});
+			} else if ("propertySources".equals(name)) {
+				JsonTokens.forEachElement(value, source -> {
+					if (source.getCurrentToken()==JsonToken.START_OBJECT) {
+						sources.add(parsePropertySource(source));
+					}
+				});
+			}
+		});
+		return new LiveEnvModel(new ActiveProfiles(profiles.build()), new PropertySources(sources.build()));
+	}
+
+	private PropertySource parsePropertySource(JsonParser tokens) throws IOException {
+		String[] sourceName = { "" };
+		List<Property> properties = new ArrayList<>();
+		JsonTokens.forEachField(tokens, (name, value) -> {
+			if ("name".equals(name)) {
+				sourceName[0] = JsonTokens.text(value);
+			} else if ("properties".equals(name)) {
+				JsonTokens.forEachField(value, (key, content) -> properties.add(parseProperty(key, content)));
+			}
+		});
+		PropertySource propertySource = new PropertySource(sourceName[0]);
+		propertySource.add(properties);
+		return propertySource;
+	}
+
+	private Property parseProperty(String key, JsonParser tokens) throws IOException {
+		if (tokens.getCurrentToken()!=JsonToken.START_OBJECT) {
+			return new Property(key, null, null);
+		}
+		String[] value = { "" };
+		String[] origin = { null };
+		JsonTokens.forEachField(tokens, (name, content) -> {
+			if ("value".equals(name)) {
+				value[0] = JsonTokens.text(content);
+			} else if ("origin".equals(name)) {
+				origin[0] = JsonTokens.text(content);
+			}
+		});
+		return new Property(key, value[0], StringUtils.hasText(origin[0]) ? new PropertyOrigin(origin[0]) : null);
+	}
+
+}
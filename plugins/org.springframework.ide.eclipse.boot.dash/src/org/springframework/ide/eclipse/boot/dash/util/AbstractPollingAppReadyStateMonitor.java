@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Pivotal Software, Inc.
+ * Copyright (c) 2017, 2026 Pivotal Software, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,10 +10,7 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.dash.util;
 
-import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
-import org.eclipse.core.runtime.jobs.Job;
+import org.springframework.ide.eclipse.boot.dash.util.PollingScheduler.Poll;
 import org.springsource.ide.eclipse.commons.livexp.core.LiveExpression;
 import org.springsource.ide.eclipse.commons.livexp.core.LiveVariable;
 
@@ -23,6 +20,11 @@ import org.springsource.ide.eclipse.commons.livexp.core.LiveVariable;
  * An instance of this class starts checking an application's lifecyle
  * repeatedly with a short delay between polls. This continues until either the
  * monitor object is disposed, or the application enters the 'ready' state.
+ * The delay grows gradually for applications that take long to start. Polls
+ * run on the shared {@link PollingScheduler}.
+ * <p>
+ * Applications that notify changes of their ready state are only polled rarely,
+ * to catch notifications that got lost, see {@link #listenForReadyState(Runnable)}.
  * <p>
  * When the application reaches ready state then its 'ready' LiveExp will change
  * value from false to true. Clients who wish to respond to this 'event' can
@@ -36,30 +38,47 @@ public abstract class AbstractPollingAppReadyStateMonitor implements ReadyStateM
 
 	public static final long POLLING_INTERVAL = 500/*ms*/;
 
-	private Job job;
+	/**
+	 * Upper bound of the delay between polls of an application that takes long to start.
+	 */
+	public static final long MAX_POLLING_INTERVAL = 1500/*ms*/;
+
+	/**
+	 * Delay between polls of an application that notifies changes of its ready state.
+	 */
+	public static final long NOTIFIED_POLLING_INTERVAL = 5000/*ms*/;
+
+	private Poll poll;
 	private LiveVariable<Boolean> ready = new LiveVariable<>(false);
+	private long pollingInterval = POLLING_INTERVAL;
 
 	final public void startPolling() {
-		initPollingJob();
+		this.poll = PollingScheduler.getDefault().schedule(this::poll);
 	}
 
-	private void initPollingJob() {
-		this.job = new Job("Ready state poller") {
-			protected IStatus run(IProgressMonitor monitor) {
-				LiveVariable<Boolean> r = ready;
-				if (r!=null) { //null means disposed. Job may be lagging behind
-					r.setValue(checkReady());
-					if (!r.getValue()) {
-						this.schedule(POLLING_INTERVAL);
-					} else {
-						// don't reschedule
-					}
-				}
-				return Status.OK_STATUS;
-			}
-		};
-		job.setSystem(true);
-		job.schedule();
+	private long poll() {
+		LiveVariable<Boolean> r = ready;
+		if (r==null) { //null means disposed. Poll may be lagging behind
+			return -1;
+		}
+		r.setValue(checkReady());
+		if (r.getValue()) {
+			// don't reschedule
+			return -1;
+		}
+		if (listenForReadyState(this::readyStateChanged)) {
+			return NOTIFIED_POLLING_INTERVAL;
+		}
+		long delay = pollingInterval;
+		pollingInterval = Math.min(MAX_POLLING_INTERVAL, pollingInterval * 3 / 2);
+		return delay;
+	}
+
+	private void readyStateChanged() {
+		Poll p = poll;
+		if (p!=null) {
+			p.pollNow();
+		}
 	}
 
 	final public LiveExpression<Boolean> getReady() {
@@ -67,9 +86,9 @@ public abstract class AbstractPollingAppReadyStateMonitor implements ReadyStateM
 	}
 
 	public void dispose() {
-		if (job!=null) {
-			job.cancel();
-			job = null;
+		if (poll!=null) {
+			poll.cancel();
+			poll = null;
 		}
 		ready = null;
 	}
@@ -79,4 +98,17 @@ public abstract class AbstractPollingAppReadyStateMonitor implements ReadyStateM
 	 * @return <code>true</code> if application is up and running
 	 */
 	abstract protected boolean checkReady();
+
+	/**
+	 * Makes sure that the given callback is called when the ready state of the
+	 * application changes, if the application supports such notifications. Called
+	 * after each poll that didn't find the application ready; implementations
+	 * should only register once per connection.
+	 *
+	 * @return <code>true</code> if changes of the ready state are notified, in which
+	 *         case the application is polled less often
+	 */
+	protected boolean listenForReadyState(Runnable callback) {
+		return false;
+	}
 }
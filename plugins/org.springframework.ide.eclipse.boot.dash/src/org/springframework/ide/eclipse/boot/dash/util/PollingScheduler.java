@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.springsource.ide.eclipse.commons.livexp.util.Log;
+
+/**
+ * Scheduler shared by everything in the boot dash that polls periodically (e.g. ready state
+ * monitors and live data expressions).
+ * <p>
+ * Polls are kept in a hashed timer wheel that is advanced by a single timer thread. Polls that
+ * fall due in the same tick are run together on a small pool of worker threads, and each
+ * re-scheduling is jittered a little so that polls of many apps started at the same time
+ * spread out instead of running in lock-step. The timer only ticks while polls are scheduled.
+ */
+public class PollingScheduler {
+
+	/**
+	 * Tick length of the shared scheduler; delays are rounded up to multiples of it.
+	 */
+	public static final long DEFAULT_TICK = 50/*ms*/;
+
+	private static final int WHEEL_SIZE = 256;
+
+	/**
+	 * Delays are randomly shortened or lengthened by up to this fraction.
+	 */
+	private static final double JITTER = 0.1;
+
+	private static PollingScheduler instance;
+
+	public static synchronized PollingScheduler getDefault() {
+		if (instance==null) {
+			instance = new PollingScheduler(DEFAULT_TICK, Math.max(2, Runtime.getRuntime().availableProcessors()));
+		}
+		return instance;
+	}
+
+	private final long tick;
+	private final List<Set<Poll>> wheel = new ArrayList<>(WHEEL_SIZE);
+	private final ScheduledExecutorService timer;
+	private final ExecutorService workers;
+
+	/**
+	 * Number of the current tick; guarded by 'this' like the wheel.
+	 */
+	private long currentTick = 0;
+	private int scheduledCount = 0;
+	private ScheduledFuture<?> ticker;
+
+	public PollingScheduler(long tick, int workerThreads) {
+		this.tick = tick;
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel.add(new HashSet<>());
+		}
+		this.timer = new ScheduledThreadPoolExecutor(1, daemonThreads("Boot Dash Poll Timer"));
+		ThreadPoolExecutor workers = new ThreadPoolExecutor(workerThreads, workerThreads, 30, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), daemonThreads("Boot Dash Poller"));
+		workers.allowCoreThreadTimeOut(true);
+		this.workers = workers;
+	}
+
+	private static ThreadFactory daemonThreads(String name) {
+		AtomicInteger count = new AtomicInteger();
+		return (runnable) -> {
+			Thread thread = new Thread(runnable, name + " " + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * Starts polling right away. The poller returns the delay in milliseconds until it
+	 * wants to be called again, or a negative value to stop polling.
+	 * <p>
+	 * A poller is never called concurrently with itself.
+	 */
+	public Poll schedule(LongSupplier poller) {
+		Poll poll = new Poll(poller);
+		poll.pollNow();
+		return poll;
+	}
+
+	/**
+	 * Returns the given delay randomly shortened or lengthened by up to 10 percent.
+	 */
+	static long jitter(long delay) {
+		long range = (long) (delay * JITTER);
+		return range > 0 ? delay + ThreadLocalRandom.current().nextLong(-range, range + 1) : delay;
+	}
+
+	private synchronized void add(Poll poll, long delay) {
+		long ticks = Math.max(1, (delay + tick - 1) / tick);
+		poll.deadline = currentTick + ticks;
+		if (wheel.get(slot(poll.deadline)).add(poll)) {
+			scheduledCount++;
+		}
+		if (ticker==null) {
+			ticker = timer.scheduleAtFixedRate(this::advance, tick, tick, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private synchronized boolean remove(Poll poll) {
+		if (wheel.get(slot(poll.deadline)).remove(poll)) {
+			scheduledCount--;
+			return true;
+		}
+		return false;
+	}
+
+	private int slot(long tickNumber) {
+		return (int) (tickNumber % WHEEL_SIZE);
+	}
+
+	/**
+	 * Advances the wheel by one tick and hands all polls that are due to the workers.
+	 */
+	private void advance() {
+		List<Poll> due = new ArrayList<>();
+		synchronized (this) {
+			currentTick++;
+			Iterator<Poll> polls = wheel.get(slot(currentTick)).iterator();
+			while (polls.hasNext()) {
+				Poll poll = polls.next();
+				if (poll.deadline<=currentTick) {
+					polls.remove();
+					scheduledCount--;
+					due.add(poll);
+				}
+			}
+			if (scheduledCount==0 && ticker!=null) {
+				ticker.cancel(false);
+				ticker = null;
+			}
+		}
+		for (Poll poll : due) {
+			poll.dispatch();
+		}
+	}
+
+	/**
+	 * Stops all polling; only meant for schedulers that aren't shared.
+	 */
+	public void dispose() {
+		timer.shutdownNow();
+		workers.shutdownNow();
+	}
+
+	/**
+	 * A repeatedly called poller.
+	 */
+	public class Poll {
+
+		private final LongSupplier poller;
+
+		/**
+		 * Tick at which the poll falls due; guarded by the scheduler.
+		 */
+		private long deadline;
+
+		private State state = State.IDLE;
+		private boolean pollAgain = false;
+		private volatile boolean canceled = false;
+
+		private Poll(LongSupplier poller) {
+			this.poller = poller;
+		}
+
+		private synchronized void dispatch() {
+			if (state==State.SCHEDULED && !canceled) {
+				state = State.QUEUED;
+				workers.execute(this::run);
+			}
+		}
+
+		private void run() {
+			synchronized (this) {
+				if (state!=State.QUEUED || canceled) {
+					return;
+				}
+				state = State.RUNNING;
+				pollAgain = false;
+			}
+			long delay = -1;
+			try {
+				delay = poller.getAsLong();
+			} catch (Throwable e) {
+				Log.log(e);
+			}
+			synchronized (this) {
+				state = State.IDLE;
+				if (canceled) {
+					return;
+				}
+				if (pollAgain) {
+					state = State.QUEUED;
+					workers.execute(this::run);
+				} else if (delay>=0) {
+					state = State.SCHEDULED;
+					add(this, jitter(delay));
+				}
+			}
+		}
+
+		/**
+		 * Polls as soon as possible instead of waiting for the scheduled time. Restarts polling if
+		 * the poller stopped it. If the poller is running right now it is called again once it
+		 * is done.
+		 */
+		public synchronized void pollNow() {
+			if (canceled) {
+				return;
+			}
+			switch (state) {
+			case RUNNING:
+				pollAgain = true;
+				break;
+			case SCHEDULED:
+				if (!remove(this)) {
+					// the timer is handing it to the workers already
+					break;
+				}
+				//fall through
+			case IDLE:
+				state = State.QUEUED;
+				workers.execute(this::run);
+				break;
+			case QUEUED:
+				break;
+			}
+		}
+
+		/**
+		 * Stops polling; a poll that is running right now is not interrupted.
+		 */
+		public void cancel() {
+			canceled = true;
+			remove(this);
+		}
+
+		public boolean isCanceled() {
+			return canceled;
+		}
+	}
+
+	private enum State {
+		IDLE,
+		SCHEDULED,
+		QUEUED,
+		RUNNING
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2017 GoPivotal, Inc.
+ * Copyright (c) 2015, 2026 GoPivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -30,6 +30,12 @@ public class SpringApplicationReadyStateMonitor extends AbstractPollingAppReadyS
 
 	private SpringApplicationLifeCycleClientManager clientManager;
 
+	/**
+	 * The client that has been asked to notify ready state changes already.
+	 */
+	private SpringApplicationLifecycleClient listeningClient;
+	private boolean notifying = false;
+
 	public SpringApplicationReadyStateMonitor(ILaunch launch) {
 		super();
 		clientManager = new SpringApplicationLifeCycleClientManager(launch);
@@ -58,4 +64,22 @@ public class SpringApplicationReadyStateMonitor extends AbstractPollingAppReadyS
 		return false;
 	}
 
+	@Override
+	protected boolean listenForReadyState(Runnable callback) {
+		try {
+			SpringApplicationLifecycleClient client = clientManager.getLifeCycleClient();
+			if (client==null) {
+				return false;
+			}
+			if (client!=listeningClient) {
+				notifying = client.addReadyListener(callback);
+				listeningClient = client;
+			}
+			return notifying;
+		} catch (Exception e) {
+			//Mbean not registered yet or connection lost, keep polling and try again later.
+			return false;
+		}
+	}
+
 }
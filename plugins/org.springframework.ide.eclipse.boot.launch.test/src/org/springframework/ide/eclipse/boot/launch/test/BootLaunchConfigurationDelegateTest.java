@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2018 Pivotal Software, Inc.
+ * Copyright (c) 2015, 2026 Pivotal Software, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,12 +14,14 @@ import static org.springframework.ide.eclipse.boot.test.BootProjectTestHarness.w
 
 import java.io.File;
 import java.net.URL;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 import java.util.function.Predicate;
+import java.util.jar.JarFile;
 
 import javax.xml.transform.stream.StreamResult;
 
@@ -30,15 +32,22 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.Launch;
 import org.eclipse.debug.internal.core.IInternalDebugCoreConstants;
+import org.eclipse.jdt.launching.AbstractVMInstall;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
+import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.JavaLaunchDelegate;
+import org.eclipse.jdt.launching.JavaRuntime;
 import org.springframework.ide.eclipse.boot.core.BootActivator;
 import org.springframework.ide.eclipse.boot.core.BootPreferences;
 import org.springframework.ide.eclipse.boot.launch.BootLaunchConfigurationDelegate;
 import org.springframework.ide.eclipse.boot.launch.livebean.JmxBeanSupport;
 import org.springframework.ide.eclipse.boot.launch.process.BootProcessFactory;
+import org.springframework.ide.eclipse.boot.launch.util.ClassDataSharing;
 import org.springframework.ide.eclipse.boot.test.util.LaunchResult;
 import org.springframework.ide.eclipse.boot.test.util.LaunchUtil;
 import org.springsource.ide.eclipse.commons.frameworks.test.util.ACondition;
@@ -166,6 +175,128 @@ public class BootLaunchConfigurationDelegateTest extends BootLaunchTestCase {
 		assertEquals(false, BootLaunchConfigurationDelegate.getFastStartup(wc));
 	}
 
+	public void testSetGetClassDataSharing() throws Exception {
+		ILaunchConfigurationWorkingCopy wc = createWorkingCopy();
+		assertEquals(BootLaunchConfigurationDelegate.DEFAULT_CLASS_DATA_SHARING,
+				BootLaunchConfigurationDelegate.getClassDataSharing(wc));
+
+		BootLaunchConfigurationDelegate.setClassDataSharing(wc, true);
+		assertEquals(true, BootLaunchConfigurationDelegate.getClassDataSharing(wc));
+
+		BootLaunchConfigurationDelegate.setClassDataSharing(wc, false);
+		assertEquals(false, BootLaunchConfigurationDelegate.getClassDataSharing(wc));
+	}
+
+	public void testClassDataSharingStartupTime() throws Exception {
+		assertEquals(3.871, ClassDataSharing.parseStartupTime(
+				"2026-10-18 11:49:20.123  INFO 4711 --- [           main] com.example.DemoApplication              : Started DemoApplication in 3.214 seconds (JVM running for 3.871)"), 0.0001);
+		assertEquals(2.5, ClassDataSharing.parseStartupTime(
+				"Started DemoApplication in 2,1 seconds (process running for 2,5)"), 0.0001);
+		assertNull(ClassDataSharing.parseStartupTime("Starting DemoApplication using Java 17"));
+		assertEquals(8, ClassDataSharing.getMajorVersion("1.8.0_202"));
+		assertEquals(17, ClassDataSharing.getMajorVersion("17.0.2"));
+		assertEquals(13, ClassDataSharing.getMajorVersion("13"));
+	}
+
+	public void testClassDataSharingArchiveIsSavedAndUsed() throws Exception {
+		ILaunchConfiguration conf = createWorkingCopy().doSave();
+		IVMInstall vm = new AbstractVMInstall(JavaRuntime.getDefaultVMInstall().getVMInstallType(), "cds-test") {
+			@Override
+			public String getJavaVersion() {
+				return "17.0.2";
+			}
+		};
+		File jar = File.createTempFile("cds-test", ".jar");
+		jar.deleteOnExit();
+		String[] classpath = { jar.getAbsolutePath() };
+
+		//Without an archive, the app dumps one when it exits
+		Launch launch = new Launch(conf, ILaunchManager.RUN_MODE, null);
+		File pending = new File(getVMArgument(ClassDataSharing.getVMArguments(conf, launch, vm, classpath), "-XX:ArchiveClassesAtExit="));
+		File archive = new File(pending.getParentFile(), pending.getName().substring(0, pending.getName().indexOf(".jsa") + 4));
+		String prefix = archive.getName().substring(0, archive.getName().length() - "0123456789abcdef.jsa".length());
+		File olderArchive = new File(archive.getParentFile(), prefix + "0123456789abcdef.jsa");
+		File otherFile = new File(archive.getParentFile(), prefix + "other-0123456789abcdef.jsa");
+		Files.write(olderArchive.toPath(), new byte[] { 1 });
+		Files.write(otherFile.toPath(), new byte[] { 1 });
+		Files.write(pending.toPath(), new byte[] { 1 }); //Stands in for the archive the VM dumps
+		try {
+			terminate(launch);
+			new ACondition() {
+				@Override
+				public boolean test() throws Exception {
+					assertTrue(archive.isFile());
+					assertFalse(pending.exists());
+					assertFalse(olderArchive.exists());
+					return true;
+				}
+			}.waitFor(5000);
+			assertTrue(otherFile.exists());
+
+			//The next launch uses it
+			List<String> args = ClassDataSharing.getVMArguments(conf, new Launch(conf, ILaunchManager.RUN_MODE, null), vm, classpath);
+			assertEquals(archive.getAbsolutePath(), getVMArgument(args, "-XX:SharedArchiveFile="));
+
+			//A folder with classes can't be on the classpath of the VM
+			File folder = Files.createTempDirectory("cds-test").toFile();
+			File classFile = new File(folder, "demo/Demo.class");
+			classFile.getParentFile().mkdirs();
+			Files.write(classFile.toPath(), new byte[] { 1 });
+			assertEquals(Arrays.asList(), ClassDataSharing.getVMArguments(conf, new Launch(conf, ILaunchManager.RUN_MODE, null), vm,
+					new String[] { folder.getAbsolutePath(), jar.getAbsolutePath() }));
+
+			//So it is replaced by a jar of its contents, which is reused while they stay the same
+			String[] jarredClasspath = ClassDataSharing.getClasspath(vm, new String[] { folder.getAbsolutePath(), jar.getAbsolutePath() });
+			File folderJar = new File(jarredClasspath[0]);
+			try {
+				assertTrue(folderJar.isFile());
+				assertEquals(jar.getAbsolutePath(), jarredClasspath[1]);
+				try (JarFile jarFile = new JarFile(folderJar)) {
+					assertNotNull(jarFile.getEntry("demo/"));
+					assertNotNull(jarFile.getEntry("demo/Demo.class"));
+				}
+				assertEquals(Arrays.asList(jarredClasspath), Arrays.asList(ClassDataSharing.getClasspath(vm, new String[] { folder.getAbsolutePath(), jar.getAbsolutePath() })));
+				args = ClassDataSharing.getVMArguments(conf, new Launch(conf, ILaunchManager.RUN_MODE, null), vm, jarredClasspath);
+				assertNotNull(getVMArgument(args, "-XX:ArchiveClassesAtExit="));
+
+				//Changed contents get a jar of their own
+				Files.write(classFile.toPath(), new byte[] { 2 });
+				File changedJar = new File(ClassDataSharing.getClasspath(vm, new String[] { folder.getAbsolutePath() })[0]);
+				assertTrue(changedJar.isFile());
+				assertFalse(changedJar.equals(folderJar));
+				assertFalse(folderJar.exists());
+				changedJar.delete();
+			} finally {
+				folderJar.delete();
+				classFile.delete();
+				classFile.getParentFile().delete();
+				folder.delete();
+			}
+		} finally {
+			archive.delete();
+			otherFile.delete();
+		}
+	}
+
+	private static String getVMArgument(List<String> args, String prefix) {
+		for (String arg : args) {
+			if (arg.startsWith(prefix)) {
+				return arg.substring(prefix.length());
+			}
+		}
+		fail("No " + prefix + " in " + args);
+		return null;
+	}
+
+	/**
+	 * Terminates the given launch the way a launched app does, by adding a process to it that exits.
+	 */
+	private static void terminate(Launch launch) throws Exception {
+		DebugPlugin.getDefault().getLaunchManager().addLaunch(launch);
+		String java = new File(System.getProperty("java.home"), "bin/java").getAbsolutePath();
+		DebugPlugin.newProcess(launch, new ProcessBuilder(java, "-version").start(), "test");
+	}
+
 	public void testClearProperties() throws Exception {
 		ILaunchConfigurationWorkingCopy wc = createWorkingCopy();
 		BootLaunchConfigurationDelegate.setRawApplicationProperties(wc,
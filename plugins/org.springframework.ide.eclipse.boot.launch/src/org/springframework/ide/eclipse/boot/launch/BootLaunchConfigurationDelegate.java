@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2018 Pivotal Software, Inc.
+ * Copyright (c) 2015, 2026 Pivotal Software, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -54,6 +54,7 @@ import org.springframework.ide.eclipse.boot.launch.livebean.JmxBeanSupport;
 import org.springframework.ide.eclipse.boot.launch.livebean.JmxBeanSupport.Feature;
 import org.springframework.ide.eclipse.boot.launch.process.BootProcessFactory;
 import org.springframework.ide.eclipse.boot.launch.profiles.ProfileHistory;
+import org.springframework.ide.eclipse.boot.launch.util.ClassDataSharing;
 import org.springframework.ide.eclipse.boot.launch.util.PortFinder;
 import org.springframework.ide.eclipse.boot.util.Log;
 import org.springsource.ide.eclipse.commons.core.util.OsUtils;
@@ -114,6 +115,9 @@ public class BootLaunchConfigurationDelegate extends AbstractBootLaunchConfigura
 
 	public static final String FAST_STARTUP = "spring.boot.fast.startup";
 
+	public static final String CLASS_DATA_SHARING = "spring.boot.cds.enable";
+	public static final boolean DEFAULT_CLASS_DATA_SHARING = false;
+
 	private static final String PROFILE = "spring.boot.profile";
 	public static final String DEFAULT_PROFILE = "";
 
@@ -244,6 +248,11 @@ public class BootLaunchConfigurationDelegate extends AbstractBootLaunchConfigura
 				// Add space to separate fast startup args from the preceding arguments
 				vmArgs.addAll(Arrays.asList(DebugPlugin.parseArguments(fastStartupArgs)));
 			}
+			// Class data sharing VM args
+			ILaunch currentLaunch = CURRENT_LAUNCH.get();
+			if (currentLaunch!=null && getClassDataSharing(conf) && !useThinWrapper(conf)) {
+				vmArgs.addAll(ClassDataSharing.getVMArguments(conf, currentLaunch, getVMInstall(conf), getClasspath(conf)));
+			}
 
 			String projectName = AbstractBootLaunchConfigurationDelegate.getProjectName(conf);
 			vmArgs.add("-D" + SPRING_PROJECT_NAME_ATTRIBUTE + "=" + projectName);
@@ -308,6 +317,15 @@ public class BootLaunchConfigurationDelegate extends AbstractBootLaunchConfigura
 		return defaultValue;
 	}
 
+	public static boolean getClassDataSharing(ILaunchConfiguration conf) {
+		try {
+			return conf.getAttribute(CLASS_DATA_SHARING, DEFAULT_CLASS_DATA_SHARING);
+		} catch (Exception e) {
+			Log.log(e);
+		}
+		return DEFAULT_CLASS_DATA_SHARING;
+	}
+
 	public static void setEnableJMX(ILaunchConfigurationWorkingCopy wc, boolean enable) {
 		wc.setAttribute(ENABLE_JMX, enable);
 	}
@@ -320,6 +338,10 @@ public class BootLaunchConfigurationDelegate extends AbstractBootLaunchConfigura
 		wc.setAttribute(FAST_STARTUP, enable);
 	}
 
+	public static void setClassDataSharing(ILaunchConfigurationWorkingCopy wc, boolean enable) {
+		wc.setAttribute(CLASS_DATA_SHARING, enable);
+	}
+
 	public static boolean canUseLifeCycle(ILaunchConfiguration conf) {
 		return BootLaunchConfigurationDelegate.getEnableLifeCycle(conf)
 				&& BootLaunchConfigurationDelegate.supportsLifeCycleManagement(conf);
@@ -578,7 +600,11 @@ public class BootLaunchConfigurationDelegate extends AbstractBootLaunchConfigura
 					MethodType.methodType(String[][].class, ILaunchConfiguration.class),
 					BootLaunchConfigurationDelegate.class
 			);
-			return (String[][]) m.invoke(this, conf);
+			String[][] paths = (String[][]) m.invoke(this, conf);
+			if (paths!=null && paths.length>0 && paths[0]!=null) {
+				paths[0] = getClassDataSharingClasspath(conf, paths[0]);
+			}
+			return paths;
 		} catch (Throwable e) {
 			throw ExceptionUtil.coreException(e);
 		}
@@ -594,7 +620,18 @@ public class BootLaunchConfigurationDelegate extends AbstractBootLaunchConfigura
 					thinWrapper.getAbsolutePath()
 			};
 		}
-		return super.getClasspath(conf);
+		return getClassDataSharingClasspath(conf, super.getClasspath(conf));
+	}
+
+	/**
+	 * Launches with class data sharing run with jars instead of the folders on their classpath, as
+	 * the JVM only archives classes loaded from jars.
+	 */
+	private String[] getClassDataSharingClasspath(ILaunchConfiguration conf, String[] classpath) throws CoreException {
+		if (CURRENT_LAUNCH.get()!=null && getClassDataSharing(conf)) {
+			return ClassDataSharing.getClasspath(getVMInstall(conf), classpath);
+		}
+		return classpath;
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2016 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -73,6 +73,7 @@ public class BootLaunchUIModel {
 	public final LaunchTabSelectionModel<Boolean> hideFromDash;
 	public final LaunchTabSelectionModel<Boolean> ansiConsoleOutput;
 	public final LaunchTabSelectionModel<Boolean> fastStartup;
+	public final LaunchTabSelectionModel<Boolean> classDataSharing;
 	public final LaunchTabSelectionModel<Boolean> useThinWrapper;
 
 	public BootLaunchUIModel(IProfileHistory profileHistory) {
@@ -85,6 +86,7 @@ public class BootLaunchUIModel {
 		ansiConsoleOutput = CheckboxLaunchTabModel.create(ANSI_CONSOLE_OUTPUT, BootLaunchConfigurationDelegate.supportsAnsiConsoleOutput());
 		fastStartup = CheckboxLaunchTabModel.create(FAST_STARTUP, BootActivator.getDefault().getPreferenceStore()
 				.getBoolean(BootPreferences.PREF_BOOT_FAST_STARTUP_DEFAULT));
+		classDataSharing = CheckboxLaunchTabModel.create(CLASS_DATA_SHARING, DEFAULT_CLASS_DATA_SHARING);
 		Validator thinWrapperValidator = new Validator() {
 			@Override
 			protected ValidationResult compute() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2018 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -54,6 +54,7 @@ public class BootMainTab extends LaunchConfigurationTabWithSections implements I
 		jvmArgsSections.add(new EnableDebugSection(this, model.enableDebug));
 		jvmArgsSections.add(new HideFromBootDashSection(this, model.hideFromDash));
 		jvmArgsSections.add(new FastStartupLaunchTabSection(this, model.fastStartup));
+		jvmArgsSections.add(new DelegatingLaunchConfigurationTabSection(this, model.classDataSharing, new CheckboxSection(this, model.classDataSharing, "Class data sharing (Java 13+)")));
 		/*
 		 * Show UI for enabling/disabling ANSI console output only if
 		 * IDE supports ANSI console output
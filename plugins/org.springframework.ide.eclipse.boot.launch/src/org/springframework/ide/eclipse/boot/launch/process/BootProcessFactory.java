@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -24,6 +24,7 @@ import org.eclipse.debug.core.model.IStreamsProxy;
 import org.eclipse.debug.core.model.RuntimeProcess;
 import org.springframework.ide.eclipse.boot.core.BootActivator;
 import org.springframework.ide.eclipse.boot.launch.BootLaunchConfigurationDelegate;
+import org.springframework.ide.eclipse.boot.launch.util.ClassDataSharing;
 import org.springframework.ide.eclipse.boot.launch.util.SpringApplicationLifeCycleClientManager;
 import org.springframework.ide.eclipse.boot.launch.util.SpringApplicationLifecycleClient;
 import org.springframework.ide.eclipse.boot.util.DumpOutput;
@@ -94,6 +95,9 @@ public class BootProcessFactory implements IProcessFactory {
 					streams.getOutputStreamMonitor().addListener(new DumpOutput("%out: "));
 					streams.getErrorStreamMonitor().addListener(new DumpOutput("%err: "));
 				}
+				if (streams!=null) {
+					ClassDataSharing.trackStartupTime(launch, streams);
+				}
 				if (streamsProxyListeners!=null) {
 					for (StreamsProxyListener streamsProxyListener : streamsProxyListeners) {
 						streamsProxyListener.streamsProxyCreated(streams, launch);
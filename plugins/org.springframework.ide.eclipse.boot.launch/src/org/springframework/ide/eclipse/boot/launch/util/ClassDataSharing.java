@@ -0,0 +1,475 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.launch.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IStreamListener;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchesListener2;
+import org.eclipse.debug.core.model.IStreamMonitor;
+import org.eclipse.debug.core.model.IStreamsProxy;
+import org.eclipse.jdt.launching.IVMInstall;
+import org.eclipse.jdt.launching.IVMInstall2;
+import org.springframework.ide.eclipse.boot.launch.BootLaunchActivator;
+import org.springframework.ide.eclipse.boot.util.Log;
+
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * Creates and reuses an AppCDS archive per Boot launch configuration.
+ * <p>
+ * The archives of a launch configuration are named after a hash of its memento, followed by a hash
+ * of the Java VM and of the jars on the runtime classpath (the JVM only shares classes loaded from
+ * jars). When there is no archive for the current key yet, the launched app dumps the classes it
+ * loaded into a new archive when it exits (<code>-XX:ArchiveClassesAtExit</code>), and a background
+ * job replaces the archives of older keys with it. Launches with an archive use it through
+ * <code>-XX:SharedArchiveFile</code>.
+ * <p>
+ * The JVM refuses to dump an archive when there is a non-empty folder on the classpath, it exits
+ * with an error instead once the app is done. Launches with class data sharing therefore run with
+ * the folders on their classpath, like the output folders of workspace projects, replaced by jars
+ * of their contents (see {@link #getClasspath(IVMInstall, String[])}). The jars are kept in the
+ * state location and only recreated when the contents of a folder change, so that the key of the
+ * archive stays the same as long as the app doesn't change.
+ * <p>
+ * To be able to tell the gain, the startup time the app reports is logged, together with the
+ * startup time of the last launch without an archive.
+ */
+public class ClassDataSharing {
+
+	/**
+	 * Dynamic archives, which don't need a separate class list dumping run, are supported since
+	 * Java 13.
+	 */
+	private static final int MIN_JAVA_VERSION = 13;
+
+	private static final String ARCHIVE_FOLDER = "cds";
+	private static final String CLASSES_FOLDER = "classes";
+	private static final String STARTUP_TIMES_FILE = "startup-times.properties";
+
+	private static final String PENDING_ARCHIVE = "spring.boot.cds.pending";
+	private static final String ARCHIVE = "spring.boot.cds.archive";
+	private static final String ARCHIVE_USED = "spring.boot.cds.used";
+
+	/**
+	 * Length of the hashes in the names of the archives.
+	 */
+	private static final int HASH_LENGTH = 16;
+
+	private static final Pattern STARTED = Pattern.compile("Started .* in [0-9.,]+ seconds \\((?:JVM|process) running for ([0-9.,]+)\\)");
+
+	private static ILaunchesListener2 terminationListener = null;
+
+	/**
+	 * Returns the classpath to launch with class data sharing: the given classpath with each
+	 * non-empty folder replaced by a jar of its contents. A jar is reused while the contents of its
+	 * folder stay the same. Returns the given classpath if the VM doesn't support dynamic archives or
+	 * a folder can't be jarred.
+	 */
+	public static String[] getClasspath(IVMInstall vm, String[] classpath) {
+		File folder = getArchiveFolder();
+		String javaVersion = getJavaVersion(vm);
+		if (folder==null || javaVersion==null || getMajorVersion(javaVersion) < MIN_JAVA_VERSION) {
+			return classpath;
+		}
+		String[] jarred = new String[classpath.length];
+		for (int i = 0; i < classpath.length; i++) {
+			File entry = new File(classpath[i]);
+			String[] contents = entry.list();
+			if (contents!=null && contents.length>0) {
+				try {
+					jarred[i] = getFolderJar(new File(folder, CLASSES_FOLDER), entry).getAbsolutePath();
+				} catch (IOException e) {
+					Log.log(e);
+					return classpath;
+				}
+			} else {
+				jarred[i] = classpath[i];
+			}
+		}
+		return jarred;
+	}
+
+	/**
+	 * Returns the VM arguments to use or create the archive of the given launch, or an empty list
+	 * if the VM doesn't support dynamic archives or the classpath contains a non-empty folder, i.e.
+	 * it wasn't obtained from {@link #getClasspath(IVMInstall, String[])}.
+	 */
+	public static List<String> getVMArguments(ILaunchConfiguration conf, ILaunch launch, IVMInstall vm, String[] classpath) {
+		File folder = getArchiveFolder();
+		String javaVersion = getJavaVersion(vm);
+		if (folder==null || javaVersion==null || getMajorVersion(javaVersion) < MIN_JAVA_VERSION) {
+			return Collections.emptyList();
+		}
+		File nonEmptyFolder = getNonEmptyFolder(classpath);
+		if (nonEmptyFolder!=null) {
+			Log.info("'" + conf.getName() + "' doesn't use class data sharing, because of the folder "
+					+ nonEmptyFolder + " on its classpath");
+			return Collections.emptyList();
+		}
+		File archive = new File(folder, getArchivePrefix(conf) + getKey(vm, javaVersion, classpath) + ".jsa");
+		List<String> args = new ArrayList<>();
+		if (archive.isFile()) {
+			args.add("-XX:SharedArchiveFile=" + archive.getAbsolutePath());
+			args.add("-Xshare:auto");
+			launch.setAttribute(ARCHIVE_USED, "true");
+		} else {
+			//Dump into a file of its own, so that concurrent launches don't write the same file
+			File pending = new File(folder, archive.getName() + "." + System.currentTimeMillis() + ".tmp");
+			args.add("-XX:ArchiveClassesAtExit=" + pending.getAbsolutePath());
+			launch.setAttribute(PENDING_ARCHIVE, pending.getAbsolutePath());
+			ensureTerminationListener();
+		}
+		launch.setAttribute(ARCHIVE, archive.getAbsolutePath());
+		return args;
+	}
+
+	/**
+	 * Starts watching the output of a launched app for its startup time, if the launch uses or creates
+	 * an archive.
+	 */
+	public static void trackStartupTime(ILaunch launch, IStreamsProxy streams) {
+		String archive = launch.getAttribute(ARCHIVE);
+		ILaunchConfiguration conf = launch.getLaunchConfiguration();
+		if (archive!=null && conf!=null && streams.getOutputStreamMonitor()!=null) {
+			boolean archiveUsed = Boolean.valueOf(launch.getAttribute(ARCHIVE_USED));
+			streams.getOutputStreamMonitor().addListener(new IStreamListener() {
+
+				private StringBuilder line = new StringBuilder();
+
+				@Override
+				public void streamAppended(String text, IStreamMonitor monitor) {
+					for (int i = 0; i < text.length(); i++) {
+						char c = text.charAt(i);
+						if (c=='\n' || c=='\r') {
+							Double seconds = parseStartupTime(line);
+							line.setLength(0);
+							if (seconds!=null) {
+								monitor.removeListener(this);
+								reportStartupTime(conf, archiveUsed, seconds);
+								return;
+							}
+						} else {
+							line.append(c);
+						}
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * Returns the time in seconds the JVM had been running when the app logged it was started, or
+	 * <code>null</code> if the given line isn't that log message.
+	 */
+	public static Double parseStartupTime(CharSequence line) {
+		Matcher matcher = STARTED.matcher(line);
+		if (matcher.find()) {
+			try {
+				return Double.valueOf(matcher.group(1).replace(',', '.'));
+			} catch (NumberFormatException e) {
+				//Not a time after all
+			}
+		}
+		return null;
+	}
+
+	private static synchronized void reportStartupTime(ILaunchConfiguration conf, boolean archiveUsed, double seconds) {
+		File folder = getArchiveFolder();
+		if (folder==null) {
+			return;
+		}
+		File file = new File(folder, STARTUP_TIMES_FILE);
+		Properties startupTimes = new Properties();
+		if (file.isFile()) {
+			try (InputStream in = new FileInputStream(file)) {
+				startupTimes.load(in);
+			} catch (IOException e) {
+				Log.log(e);
+			}
+		}
+		String key = getArchivePrefix(conf);
+		if (archiveUsed) {
+			String without = startupTimes.getProperty(key);
+			Log.info("'" + conf.getName() + "' started in " + seconds + " seconds with class data sharing"
+					+ (without != null ? " (" + without + " seconds without)" : ""));
+		} else {
+			Log.info("'" + conf.getName() + "' started in " + seconds + " seconds without class data sharing");
+			startupTimes.setProperty(key, "" + seconds);
+			try (OutputStream out = new FileOutputStream(file)) {
+				startupTimes.store(out, null);
+			} catch (IOException e) {
+				Log.log(e);
+			}
+		}
+	}
+
+	private static synchronized void ensureTerminationListener() {
+		if (terminationListener==null) {
+			terminationListener = new ILaunchesListener2() {
+				@Override
+				public void launchesTerminated(ILaunch[] launches) {
+					for (ILaunch launch : launches) {
+						String pending = launch.getAttribute(PENDING_ARCHIVE);
+						String archive = launch.getAttribute(ARCHIVE);
+						if (pending!=null && archive!=null) {
+							saveArchive(new File(pending), new File(archive), launch.getLaunchConfiguration());
+						}
+					}
+				}
+
+				@Override
+				public void launchesRemoved(ILaunch[] launches) {
+				}
+
+				@Override
+				public void launchesAdded(ILaunch[] launches) {
+				}
+
+				@Override
+				public void launchesChanged(ILaunch[] launches) {
+				}
+			};
+			DebugPlugin.getDefault().getLaunchManager().addLaunchListener(terminationListener);
+		}
+	}
+
+	private static void saveArchive(File pending, File archive, ILaunchConfiguration conf) {
+		Job job = new Job("Save class data sharing archive") {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					if (pending.length()>0) {
+						try {
+							Files.move(pending.toPath(), archive.toPath(), StandardCopyOption.ATOMIC_MOVE);
+						} catch (AtomicMoveNotSupportedException e) {
+							Files.move(pending.toPath(), archive.toPath(), StandardCopyOption.REPLACE_EXISTING);
+						}
+						if (conf!=null) {
+							deleteOtherArchives(archive, getArchivePrefix(conf));
+						}
+					} else {
+						//The app didn't exit normally, so nothing was dumped
+						Files.deleteIfExists(pending.toPath());
+					}
+				} catch (IOException e) {
+					Log.log(e);
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.schedule();
+	}
+
+	/**
+	 * Deletes the archives of the same launch configuration that were created for older classpaths
+	 * or VMs.
+	 */
+	private static void deleteOtherArchives(File archive, String prefix) {
+		Pattern archiveName = Pattern.compile(Pattern.quote(prefix) + "[0-9a-f]{" + HASH_LENGTH + "}\\.jsa");
+		File[] files = archive.getParentFile().listFiles();
+		if (files!=null) {
+			for (File file : files) {
+				if (archiveName.matcher(file.getName()).matches() && !file.equals(archive)) {
+					file.delete();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the jar with the contents of the given folder, creating it if there is no jar for the
+	 * current contents yet. The jars of a folder are named after a hash of its path, followed by a
+	 * hash of its contents; the jars of older contents are deleted.
+	 */
+	private static synchronized File getFolderJar(File jarFolder, File folder) throws IOException {
+		if (!jarFolder.isDirectory() && !jarFolder.mkdirs()) {
+			throw new IOException("Couldn't create " + jarFolder);
+		}
+		String prefix = Hashing.sha256().hashString(folder.getAbsolutePath(), StandardCharsets.UTF_8).toString().substring(0, HASH_LENGTH) + "-";
+		List<String> paths = new ArrayList<>();
+		collectPaths(folder, "", paths);
+		Hasher hasher = Hashing.sha256().newHasher();
+		try (OutputStream contents = Funnels.asOutputStream(hasher)) {
+			for (String path : paths) {
+				hasher.putString(path, StandardCharsets.UTF_8);
+				File file = new File(folder, path);
+				if (file.isFile()) {
+					hasher.putLong(file.length());
+					Files.copy(file.toPath(), contents);
+				}
+			}
+		}
+		File jar = new File(jarFolder, prefix + hasher.hash().toString().substring(0, HASH_LENGTH) + ".jar");
+		if (jar.isFile()) {
+			return jar;
+		}
+		File pending = new File(jarFolder, jar.getName() + "." + System.currentTimeMillis() + ".tmp");
+		try {
+			try (JarOutputStream out = new JarOutputStream(new FileOutputStream(pending))) {
+				for (String path : paths) {
+					File file = new File(folder, path);
+					JarEntry entry = new JarEntry(path);
+					entry.setTime(file.lastModified());
+					out.putNextEntry(entry);
+					if (file.isFile()) {
+						Files.copy(file.toPath(), out);
+					}
+					out.closeEntry();
+				}
+			}
+			Files.move(pending.toPath(), jar.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(pending.toPath());
+		}
+		Pattern jarName = Pattern.compile(Pattern.quote(prefix) + "[0-9a-f]{" + HASH_LENGTH + "}\\.jar");
+		File[] files = jarFolder.listFiles();
+		if (files!=null) {
+			for (File file : files) {
+				if (jarName.matcher(file.getName()).matches() && !file.equals(jar)) {
+					//Fails on some platforms while a running app still uses it, the next jar of the folder tries again
+					file.delete();
+				}
+			}
+		}
+		return jar;
+	}
+
+	/**
+	 * Collects the paths of the files and folders below the given folder in a stable order. Folders
+	 * get a trailing slash, they need entries of their own in the jar to be found as resources, e.g.
+	 * by classpath scanning.
+	 */
+	private static void collectPaths(File folder, String path, List<String> paths) {
+		String[] names = folder.list();
+		if (names!=null) {
+			Arrays.sort(names);
+			for (String name : names) {
+				File file = new File(folder, name);
+				if (file.isDirectory()) {
+					paths.add(path + name + "/");
+					collectPaths(file, path + name + "/", paths);
+				} else if (file.isFile()) {
+					paths.add(path + name);
+				}
+			}
+		}
+	}
+
+	private static File getNonEmptyFolder(String[] classpath) {
+		for (String entry : classpath) {
+			String[] contents = new File(entry).list();
+			if (contents!=null && contents.length>0) {
+				return new File(entry);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Hashes the VM and the jars on the classpath with their size and time stamp, so that the key
+	 * changes whenever a dependency changes.
+	 */
+	private static String getKey(IVMInstall vm, String javaVersion, String[] classpath) {
+		Hasher hasher = Hashing.sha256().newHasher();
+		hasher.putString(javaVersion, StandardCharsets.UTF_8);
+		hasher.putString(""+vm.getInstallLocation(), StandardCharsets.UTF_8);
+		for (String entry : classpath) {
+			File file = new File(entry);
+			hasher.putString(entry, StandardCharsets.UTF_8);
+			if (file.isFile()) {
+				hasher.putLong(file.length());
+				hasher.putLong(file.lastModified());
+			}
+		}
+		return hasher.hash().toString().substring(0, HASH_LENGTH);
+	}
+
+	/**
+	 * Identifies the launch configuration by a hash of its memento, which is unique, unlike its name
+	 * once made safe for a file name.
+	 */
+	private static String getArchivePrefix(ILaunchConfiguration conf) {
+		String id;
+		try {
+			id = conf.getMemento();
+		} catch (CoreException e) {
+			Log.log(e);
+			id = conf.getName();
+		}
+		return Hashing.sha256().hashString(id, StandardCharsets.UTF_8).toString().substring(0, HASH_LENGTH) + "-";
+	}
+
+	private static String getJavaVersion(IVMInstall vm) {
+		if (vm instanceof IVMInstall2) {
+			return ((IVMInstall2) vm).getJavaVersion();
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the feature release of a version like '1.8.0_202' or '17.0.2', or -1 if it can't be
+	 * parsed.
+	 */
+	public static int getMajorVersion(String javaVersion) {
+		String version = javaVersion.startsWith("1.") ? javaVersion.substring(2) : javaVersion;
+		int end = 0;
+		while (end < version.length() && Character.isDigit(version.charAt(end))) {
+			end++;
+		}
+		try {
+			return Integer.parseInt(version.substring(0, end));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private static File getArchiveFolder() {
+		BootLaunchActivator activator = BootLaunchActivator.getInstance();
+		if (activator!=null) {
+			File folder = activator.getStateLocation().append(ARCHIVE_FOLDER).toFile();
+			if (folder.isDirectory() || folder.mkdirs()) {
+				return folder;
+			}
+		}
+		return null;
+	}
+
+}
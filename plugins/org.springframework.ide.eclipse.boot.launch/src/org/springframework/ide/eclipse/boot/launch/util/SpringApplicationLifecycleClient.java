@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013-2017 Pivotal Software, Inc.
+ * Copyright (c) 2013-2026 Pivotal Software, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,11 +12,13 @@ package org.springframework.ide.eclipse.boot.launch.util;
 
 import java.io.IOException;
 
+import javax.management.AttributeChangeNotificationFilter;
 import javax.management.AttributeNotFoundException;
 import javax.management.InstanceNotFoundException;
 import javax.management.MBeanException;
 import javax.management.MBeanServerConnection;
 import javax.management.MalformedObjectNameException;
+import javax.management.NotificationBroadcaster;
 import javax.management.ObjectName;
 import javax.management.ReflectionException;
 
@@ -71,6 +73,24 @@ public class SpringApplicationLifecycleClient {
 		}
 	}
 
+	/**
+	 * Register a listener that is called whenever the mbean notifies a change of its
+	 * {@code Ready} attribute.
+	 * @return {@code false} if the mbean doesn't emit notifications
+	 * @throws InstanceNotFoundException if the mbean is not deployed yet
+	 * @throws IOException if the JMX service could not be contacted
+	 */
+	public boolean addReadyListener(Runnable listener) throws InstanceNotFoundException, IOException {
+		if (!this.connection.isInstanceOf(this.objectName, NotificationBroadcaster.class.getName())) {
+			return false;
+		}
+		AttributeChangeNotificationFilter filter = new AttributeChangeNotificationFilter();
+		filter.enableAttribute("Ready");
+		this.connection.addNotificationListener(this.objectName,
+				(notification, handback) -> listener.run(), filter, null);
+		return true;
+	}
+
 	public int getProperty(String prop, int defaultValue) throws InstanceNotFoundException, MBeanException, ReflectionException, IOException {
 		Object o = this.connection.invoke(this.objectName,"getProperty",
 				new String[] {prop},
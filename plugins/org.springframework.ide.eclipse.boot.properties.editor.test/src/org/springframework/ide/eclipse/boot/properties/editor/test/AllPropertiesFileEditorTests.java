@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014-2015 Pivotal, Inc.
+ * Copyright (c) 2014-2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -27,6 +27,7 @@ import org.junit.runners.Suite.SuiteClasses;
 	SpringPropertiesEditorTests.class,
 	TypeUtilTests.class,
 	FuzzyMapTests.class,
+	ConfigMetadataJarCacheTest.class,
 	TypeParserTest.class,
 
 	YamlASTTests.class,
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor.test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import junit.framework.TestCase;
+
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataRepository;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataRepositoryJsonBuilder;
+import org.springframework.boot.configurationmetadata.RawConfigurationMetadata;
+import org.springframework.ide.eclipse.boot.properties.editor.ConfigMetadataJarCache;
+import org.springframework.ide.eclipse.boot.properties.editor.StsConfigMetadataRepositoryJsonLoader;
+
+public class ConfigMetadataJarCacheTest extends TestCase {
+
+	private static final String METADATA =
+			"{\"groups\": [{\"name\": \"server\", \"type\": \"demo.ServerProperties\", \"sourceType\": \"demo.ServerProperties\"}],\n" +
+			" \"properties\": [\n" +
+			"   {\"name\": \"server.port\", \"type\": \"java.lang.Integer\", \"sourceType\": \"demo.ServerProperties\"},\n" +
+			"   {\"name\": \"server.mode\", \"type\": \"java.lang.String\", \"sourceType\": \"demo.ServerProperties\"}\n" +
+			" ],\n" +
+			" \"hints\": [{\"name\": \"server.mode\", \"values\": [{\"value\": \"fast\"}, {\"value\": \"slow\"}]}]\n" +
+			"}";
+
+	private File tempDir;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		tempDir = Files.createTempDirectory("config-metadata-cache").toFile();
+	}
+
+	public void testSharedMetadataIsNotChangedByRepositories() throws Exception {
+		File jar = createJar("demo.jar", METADATA);
+		ConfigMetadataJarCache cache = new ConfigMetadataJarCache(null);
+
+		List<RawConfigurationMetadata> metadata = getMetadata(cache, jar);
+		assertSame(metadata, getMetadata(cache, jar));
+
+		for (int i = 0; i < 3; i++) {
+			ConfigurationMetadataRepository repository = build(getMetadata(cache, jar));
+			ConfigurationMetadataProperty mode = repository.getAllProperties().get("server.mode");
+			assertEquals(2, mode.getHints().getValueHints().size());
+			assertEquals(2, repository.getAllGroups().get("server").getSources().get("demo.ServerProperties").getProperties().size());
+		}
+	}
+
+	public void testChangedJarIsReadAgain() throws Exception {
+		File jar = createJar("demo.jar", METADATA);
+		ConfigMetadataJarCache cache = new ConfigMetadataJarCache(null);
+		List<RawConfigurationMetadata> metadata = getMetadata(cache, jar);
+		assertNotNull(build(metadata).getAllProperties().get("server.mode"));
+
+		long lastModified = jar.lastModified();
+		createJar("demo.jar", METADATA.replace("server.mode", "server.other"));
+		jar.setLastModified(lastModified + 2000);
+		List<RawConfigurationMetadata> changed = getMetadata(cache, jar);
+		assertNotSame(metadata, changed);
+		assertNull(build(changed).getAllProperties().get("server.mode"));
+		assertNotNull(build(changed).getAllProperties().get("server.other"));
+	}
+
+	public void testSavedCache() throws Exception {
+		File jar = createJar("demo.jar", METADATA);
+		File noMetadata = createJar("other.jar", null);
+		File cacheFile = new File(tempDir, "cache.bin");
+
+		ConfigMetadataJarCache cache = new ConfigMetadataJarCache(cacheFile);
+		assertEquals(1, getMetadata(cache, jar).size());
+		assertEquals(0, getMetadata(cache, noMetadata).size());
+		cache.save();
+		assertTrue(cacheFile.isFile());
+
+		// Jars aren't read anymore after a restart, not even when their contents are unreadable
+		long lastModified = jar.lastModified();
+		Files.write(jar.toPath(), new byte[(int) jar.length()]);
+		jar.setLastModified(lastModified);
+
+		ConfigMetadataJarCache restarted = new ConfigMetadataJarCache(cacheFile);
+		assertEquals(2, build(getMetadata(restarted, jar)).getAllProperties().size());
+		assertEquals(0, getMetadata(restarted, noMetadata).size());
+	}
+
+	public void testFailedReadIsNotCached() throws Exception {
+		File jar = createJar("demo.jar", METADATA);
+		byte[] contents = Files.readAllBytes(jar.toPath());
+		long lastModified = jar.lastModified();
+		Files.write(jar.toPath(), new byte[contents.length]);
+		jar.setLastModified(lastModified);
+		File cacheFile = new File(tempDir, "cache.bin");
+
+		ConfigMetadataJarCache cache = new ConfigMetadataJarCache(cacheFile);
+		assertEquals(0, getMetadata(cache, jar).size());
+		cache.save();
+		assertFalse(cacheFile.exists());
+
+		// Once the jar can be read, its metadata is found, even though its size and time stamp are the same
+		Files.write(jar.toPath(), contents);
+		jar.setLastModified(lastModified);
+		assertEquals(1, getMetadata(cache, jar).size());
+	}
+
+	public void testMissingJarsAreNotSaved() throws Exception {
+		File jar = createJar("demo.jar", METADATA);
+		File cacheFile = new File(tempDir, "cache.bin");
+
+		ConfigMetadataJarCache cache = new ConfigMetadataJarCache(cacheFile);
+		assertEquals(1, getMetadata(cache, jar).size());
+		long length = jar.length();
+		long lastModified = jar.lastModified();
+		assertTrue(jar.delete());
+		assertEquals(0, getMetadata(cache, createJar("other.jar", null)).size());
+		cache.save();
+
+		// A jar that is unreadable now must be read again after a restart, instead of coming from the cache
+		Files.write(jar.toPath(), new byte[(int) length]);
+		jar.setLastModified(lastModified);
+		ConfigMetadataJarCache restarted = new ConfigMetadataJarCache(cacheFile);
+		assertEquals(0, getMetadata(restarted, jar).size());
+	}
+
+	private ConfigurationMetadataRepository build(List<RawConfigurationMetadata> metadata) {
+		ConfigurationMetadataRepositoryJsonBuilder builder = ConfigurationMetadataRepositoryJsonBuilder.create();
+		for (RawConfigurationMetadata m : metadata) {
+			builder.withMetadata(m);
+		}
+		return builder.build();
+	}
+
+	private List<RawConfigurationMetadata> getMetadata(ConfigMetadataJarCache cache, File jar) {
+		return cache.getMetadata(jar, StsConfigMetadataRepositoryJsonLoader.JAR_META_DATA_LOCATIONS);
+	}
+
+	private File createJar(String name, String metadata) throws Exception {
+		File jar = new File(tempDir, name);
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+			out.putNextEntry(new ZipEntry("demo/"));
+			out.closeEntry();
+			if (metadata!=null) {
+				out.putNextEntry(new ZipEntry(StsConfigMetadataRepositoryJsonLoader.JAR_META_DATA_LOCATIONS[0]));
+				out.write(metadata.getBytes(StandardCharsets.UTF_8));
+				out.closeEntry();
+			}
+		}
+		return jar;
+	}
+
+}
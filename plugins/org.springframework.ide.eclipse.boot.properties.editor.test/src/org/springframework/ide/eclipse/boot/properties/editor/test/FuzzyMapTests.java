@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,9 +10,12 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.properties.editor.test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import junit.framework.TestCase;
 
@@ -65,6 +68,53 @@ public class FuzzyMapTests extends TestCase {
 		);
 	}
 
+	public void testIndexedFindMatchesAllKeys() {
+		String[] keys = {
+				"server.port",
+				"server.address",
+				"spring.datasource.url",
+				"spring.datasource.username",
+				"spring.jpa.show-sql",
+				"spring.cloud.config.uri",
+				"Spring.Upper_Case",
+				"logging.level.root",
+				"management.port",
+				"x[0].y"
+		};
+		TestMap map = new TestMap(keys);
+		//Typing more characters narrows down the candidates of the previous search,
+		// deleting characters starts over.
+		String[] patterns = {
+				"s", "sp", "spr", "spri", "sprid", "sp", "spu", "spUC",
+				"port", "PORT", "s.d.u", "[0]", "x", "zz", "ss", "serverport"
+		};
+		for (String pattern : patterns) {
+			assertFound(map, pattern, keys);
+		}
+
+		map.add("sprinkler");
+		String[] moreKeys = Arrays.copyOf(keys, keys.length+1);
+		moreKeys[keys.length] = "sprinkler";
+		assertFound(map, "spri", moreKeys);
+	}
+
+	/**
+	 * Verifies that searching the map finds the same keys as matching the pattern against each of them.
+	 */
+	private void assertFound(TestMap map, String pattern, String... keys) {
+		Set<String> expected = new HashSet<>();
+		for (String key : keys) {
+			if (FuzzyMatcher.matchScore(pattern, key)!=0.0) {
+				expected.add(key);
+			}
+		}
+		Set<String> found = new HashSet<>();
+		for (Match<String> match : map.find(pattern)) {
+			found.add(match.data);
+		}
+		assertEquals(pattern, expected, found);
+	}
+
 	public class TestMap extends FuzzyMap<String> {
 		public TestMap(String... entries) {
 			for (String e : entries) {
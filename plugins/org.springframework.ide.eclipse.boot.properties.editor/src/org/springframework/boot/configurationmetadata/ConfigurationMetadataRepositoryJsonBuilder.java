@@ -87,6 +87,35 @@ public final class ConfigurationMetadataRepositoryJsonBuilder {
 		return this;
 	}
 
+	/**
+	 * Add metadata parsed with {@link #parse(InputStream)}. The metadata is not changed by
+	 * this builder, so the same metadata can be added to any number of builders.
+	 * @param metadata the parsed metadata
+	 * @return this builder
+	 */
+	public ConfigurationMetadataRepositoryJsonBuilder withMetadata(
+			RawConfigurationMetadata metadata) {
+		this.rawDatas.add(metadata.copy());
+		return this;
+	}
+
+	/**
+	 * Parse a json document using {@link #UTF_8} into metadata that can be added to
+	 * builders with {@link #withMetadata(RawConfigurationMetadata)}.
+	 * <p>
+	 * Leaves the stream open when done.
+	 * @param inputStream the source input stream
+	 * @return the parsed metadata
+	 * @throws IOException in case of I/O errors
+	 */
+	public static RawConfigurationMetadata parse(InputStream inputStream)
+			throws IOException {
+		if (inputStream == null) {
+			throw new IllegalArgumentException("InputStream must not be null.");
+		}
+		return create().parseRaw(inputStream, UTF_8);
+	}
+
 	/**
 	 * Build a {@link ConfigurationMetadataRepository} with the current state of this
 	 * builder.
@@ -25,7 +25,7 @@ import java.util.List;
  * @author Stephane Nicoll
  * @since 1.3.0
  */
-class RawConfigurationMetadata {
+public class RawConfigurationMetadata {
 
 	private final List<ConfigurationMetadataSource> sources;
 
@@ -65,6 +65,54 @@ class RawConfigurationMetadata {
 		return this.hints;
 	}
 
+	/**
+	 * Creates a copy that can be added to a repository while this instance stays unchanged,
+	 * so that it can be shared by several repositories. Only the parts a repository changes
+	 * while it is being built are copied.
+	 */
+	RawConfigurationMetadata copy() {
+		List<ConfigurationMetadataSource> sources = new ArrayList<>(this.sources.size());
+		for (ConfigurationMetadataSource source : this.sources) {
+			sources.add(copy(source));
+		}
+		List<ConfigurationMetadataItem> items = new ArrayList<>(this.items.size());
+		for (ConfigurationMetadataItem item : this.items) {
+			items.add(copy(item));
+		}
+		return new RawConfigurationMetadata(sources, items, this.hints);
+	}
+
+	private static ConfigurationMetadataSource copy(ConfigurationMetadataSource source) {
+		ConfigurationMetadataSource copy = new ConfigurationMetadataSource();
+		copy.setGroupId(source.getGroupId());
+		copy.setType(source.getType());
+		copy.setDescription(source.getDescription());
+		copy.setShortDescription(source.getShortDescription());
+		copy.setSourceType(source.getSourceType());
+		copy.setSourceMethod(source.getSourceMethod());
+		copy.getProperties().putAll(source.getProperties());
+		return copy;
+	}
+
+	private static ConfigurationMetadataItem copy(ConfigurationMetadataItem item) {
+		ConfigurationMetadataItem copy = new ConfigurationMetadataItem();
+		copy.setId(item.getId());
+		copy.setName(item.getName());
+		copy.setType(item.getType());
+		copy.setDescription(item.getDescription());
+		copy.setShortDescription(item.getShortDescription());
+		copy.setDefaultValue(item.getDefaultValue());
+		copy.setDeprecation(item.getDeprecation());
+		copy.setSourceType(item.getSourceType());
+		copy.setSourceMethod(item.getSourceMethod());
+		Hints hints = item.getHints();
+		copy.getHints().getKeyHints().addAll(hints.getKeyHints());
+		copy.getHints().getKeyProviders().addAll(hints.getKeyProviders());
+		copy.getHints().getValueHints().addAll(hints.getValueHints());
+		copy.getHints().getValueProviders().addAll(hints.getValueProviders());
+		return copy;
+	}
+
 	/**
 	 * Resolve the name of an item against this instance.
 	 * @param item the item to resolve
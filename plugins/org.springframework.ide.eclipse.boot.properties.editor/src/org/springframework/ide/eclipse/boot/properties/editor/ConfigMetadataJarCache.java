@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor;
+
+import static org.springframework.ide.eclipse.boot.properties.editor.SpringPropertiesCompletionEngine.debug;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataRepositoryJsonBuilder;
+import org.springframework.boot.configurationmetadata.RawConfigurationMetadata;
+
+import com.google.common.io.ByteStreams;
+
+/**
+ * Workspace-wide cache of the configuration metadata in jars, shared by the
+ * {@link SpringPropertyIndex}es of all projects.
+ * <p>
+ * The metadata of a jar is only read and parsed again when the size or the time
+ * stamp of the jar changes. The parsed metadata is never changed, so the indexes
+ * of all projects using the same jar are built from the same instances.
+ * <p>
+ * The metadata documents of all jars, including the fact that most jars have none,
+ * are also saved to a file, so that after a restart jars still don't need to be
+ * opened again. Jars that couldn't be read are not remembered, they are simply read
+ * again the next time.
+ */
+public class ConfigMetadataJarCache {
+
+	private static final String CACHE_FILE_NAME = "config-metadata-cache.bin";
+	private static final int FORMAT_VERSION = 1;
+
+	private static ConfigMetadataJarCache instance;
+
+	public static synchronized ConfigMetadataJarCache getDefault() {
+		if (instance==null) {
+			SpringPropertiesEditorPlugin plugin = SpringPropertiesEditorPlugin.getDefault();
+			File file = plugin==null ? null : plugin.getStateLocation().append(CACHE_FILE_NAME).toFile();
+			instance = new ConfigMetadataJarCache(file);
+		}
+		return instance;
+	}
+
+	/**
+	 * The metadata documents of a jar, as of the time the jar had the given size and time stamp.
+	 */
+	private static class JarMetadata {
+		final long length;
+		final long lastModified;
+		final List<byte[]> documents;
+		private List<RawConfigurationMetadata> parsed;
+
+		JarMetadata(long length, long lastModified, List<byte[]> documents) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.documents = documents;
+		}
+
+		boolean isValidFor(File jar) {
+			return length==jar.length() && lastModified==jar.lastModified();
+		}
+
+		synchronized List<RawConfigurationMetadata> getParsed(File jar) {
+			if (parsed==null) {
+				List<RawConfigurationMetadata> parsed = new ArrayList<>(documents.size());
+				for (byte[] document : documents) {
+					try {
+						parsed.add(ConfigurationMetadataRepositoryJsonBuilder.parse(new ByteArrayInputStream(document)));
+					} catch (Throwable e) {
+						SpringPropertiesEditorPlugin.log(new IOException("Invalid configuration metadata in "+jar, e));
+					}
+				}
+				this.parsed = Collections.unmodifiableList(parsed);
+			}
+			return parsed;
+		}
+	}
+
+	private final File cacheFile;
+	private Map<File, JarMetadata> jars;
+	private boolean dirty = false;
+
+	/**
+	 * @param cacheFile file to save the cache in, or null to only keep it in memory.
+	 */
+	public ConfigMetadataJarCache(File cacheFile) {
+		this.cacheFile = cacheFile;
+	}
+
+	/**
+	 * Returns the parsed configuration metadata found in a jar at the given locations.
+	 */
+	public List<RawConfigurationMetadata> getMetadata(File jar, String[] locations) {
+		JarMetadata metadata;
+		synchronized (this) {
+			Map<File, JarMetadata> jars = getJars();
+			metadata = jars.get(jar);
+			if (metadata==null || !metadata.isValidFor(jar)) {
+				metadata = readJar(jar, locations);
+				if (metadata==null) {
+					if (jars.remove(jar)!=null) {
+						dirty = true;
+					}
+					return Collections.emptyList();
+				}
+				jars.put(jar, metadata);
+				dirty = true;
+			}
+		}
+		return metadata.getParsed(jar);
+	}
+
+	/**
+	 * Saves the cache if jars were read since it was last saved. Jars that no longer
+	 * exist are dropped from the cache first.
+	 */
+	public synchronized void save() {
+		if (dirty && cacheFile!=null) {
+			for (Iterator<File> iter = jars.keySet().iterator(); iter.hasNext();) {
+				if (!iter.next().isFile()) {
+					iter.remove();
+				}
+			}
+			try {
+				File tmp = new File(cacheFile.getPath()+".tmp");
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+					out.writeInt(FORMAT_VERSION);
+					out.writeInt(jars.size());
+					for (Map.Entry<File, JarMetadata> e : jars.entrySet()) {
+						JarMetadata metadata = e.getValue();
+						out.writeUTF(e.getKey().getPath());
+						out.writeLong(metadata.length);
+						out.writeLong(metadata.lastModified);
+						out.writeInt(metadata.documents.size());
+						for (byte[] document : metadata.documents) {
+							out.writeInt(document.length);
+							out.write(document);
+						}
+					}
+				}
+				cacheFile.delete();
+				if (!tmp.renameTo(cacheFile)) {
+					throw new IOException("Couldn't rename "+tmp+" to "+cacheFile);
+				}
+				dirty = false;
+			} catch (IOException e) {
+				SpringPropertiesEditorPlugin.log(e);
+			}
+		}
+	}
+
+	private Map<File, JarMetadata> getJars() {
+		if (jars==null) {
+			jars = new HashMap<>();
+			if (cacheFile!=null && cacheFile.isFile()) {
+				try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+					if (in.readInt()==FORMAT_VERSION) {
+						int count = in.readInt();
+						for (int i = 0; i < count; i++) {
+							File jar = new File(in.readUTF());
+							long length = in.readLong();
+							long lastModified = in.readLong();
+							int documentCount = in.readInt();
+							List<byte[]> documents = new ArrayList<>(documentCount);
+							for (int j = 0; j < documentCount; j++) {
+								byte[] document = new byte[in.readInt()];
+								in.readFully(document);
+								documents.add(document);
+							}
+							jars.put(jar, new JarMetadata(length, lastModified, documents));
+						}
+					}
+				} catch (IOException e) {
+					//A corrupt cache is no big deal, jars will just be read again
+					SpringPropertiesEditorPlugin.log(e);
+					jars.clear();
+				}
+			}
+		}
+		return jars;
+	}
+
+	/**
+	 * @return the metadata documents in the jar, or null if the jar couldn't be read.
+	 */
+	private JarMetadata readJar(File jar, String[] locations) {
+		debug("load from jar: "+jar);
+		long length = jar.length();
+		long lastModified = jar.lastModified();
+		List<byte[]> documents = new ArrayList<>(locations.length);
+		try (JarFile jarFile = new JarFile(jar)) {
+			for (String loc : locations) {
+				ZipEntry e = jarFile.getEntry(loc);
+				if (e!=null) {
+					try (InputStream is = jarFile.getInputStream(e)) {
+						documents.add(ByteStreams.toByteArray(is));
+					}
+				}
+			}
+		} catch (Throwable e) {
+			SpringPropertiesEditorPlugin.log(e);
+			return null;
+		}
+		return new JarMetadata(length, lastModified, documents);
+	}
+
+}
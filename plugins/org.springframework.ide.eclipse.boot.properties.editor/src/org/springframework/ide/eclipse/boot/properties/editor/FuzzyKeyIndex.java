@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor;
+
+import java.util.BitSet;
+
+/**
+ * Index over the keys of a {@link FuzzyMap} to quickly narrow down the keys that
+ * may match a fuzzy pattern.
+ * <p>
+ * A pattern matches a key when its characters occur in the key in the same order,
+ * possibly with gaps in between. So every pair of consecutive pattern characters
+ * must also occur in the key in that order, though not necessarily next to each other.
+ * The index keeps a posting list, as a {@link BitSet} of key positions, for every such
+ * ordered character pair. Intersecting the postings of the pairs in a pattern yields
+ * a small superset of the matching keys, which then only have to be scored one by one.
+ * <p>
+ * Characters are indexed in lower case, and uncommon characters share a single
+ * slot, so the candidates never miss a matching key.
+ */
+class FuzzyKeyIndex {
+
+	private static final int LETTERS = 26;
+	private static final int DIGITS = 10;
+	private static final int DOT = LETTERS + DIGITS;
+	private static final int DASH = DOT + 1;
+	private static final int UNDERSCORE = DASH + 1;
+	private static final int OTHER = UNDERSCORE + 1;
+	private static final int ALPHABET_SIZE = OTHER + 1;
+
+	private final String[] keys;
+	private final BitSet all;
+	private final BitSet[] singles = new BitSet[ALPHABET_SIZE];
+	private final BitSet[] pairs = new BitSet[ALPHABET_SIZE*ALPHABET_SIZE];
+
+	/**
+	 * Candidates of the last search, so that a search for a pattern that extends it,
+	 * as happens when the user types more characters, only has to narrow these down.
+	 */
+	private volatile Narrowing last;
+
+	private static class Narrowing {
+		final String pattern;
+		final BitSet candidates;
+		Narrowing(String pattern, BitSet candidates) {
+			this.pattern = pattern;
+			this.candidates = candidates;
+		}
+	}
+
+	/**
+	 * @param keys the keys to index, in the order candidates are returned in.
+	 */
+	FuzzyKeyIndex(String[] keys) {
+		this.keys = keys;
+		this.all = new BitSet(keys.length);
+		all.set(0, keys.length);
+		boolean[] seen = new boolean[ALPHABET_SIZE];
+		int[] seenChars = new int[ALPHABET_SIZE];
+		for (int k = 0; k < keys.length; k++) {
+			String key = keys[k];
+			int seenCount = 0;
+			for (int i = 0; i < key.length(); i++) {
+				int c = slot(key.charAt(i));
+				for (int j = 0; j < seenCount; j++) {
+					posting(pairs, seenChars[j]*ALPHABET_SIZE + c).set(k);
+				}
+				if (!seen[c]) {
+					seen[c] = true;
+					seenChars[seenCount++] = c;
+					posting(singles, c).set(k);
+				}
+			}
+			for (int j = 0; j < seenCount; j++) {
+				seen[seenChars[j]] = false;
+			}
+		}
+	}
+
+	public String getKey(int position) {
+		return keys[position];
+	}
+
+	/**
+	 * Returns the positions of the keys that may match a (non-empty) pattern. All keys that
+	 * actually match are among them, but some of the candidates may not match. The returned
+	 * set must not be modified.
+	 */
+	public BitSet candidates(String pattern) {
+		Narrowing previous = last;
+		BitSet candidates;
+		int from;
+		if (previous!=null && pattern.startsWith(previous.pattern)) {
+			// Each key matching the pattern also matches the shorter pattern
+			candidates = (BitSet) previous.candidates.clone();
+			from = previous.pattern.length() - 1;
+		} else {
+			candidates = (BitSet) all.clone();
+			from = 0;
+			narrow(candidates, singles[slot(pattern.charAt(0))]);
+		}
+		for (int i = from; i < pattern.length() - 1 && !candidates.isEmpty(); i++) {
+			int pair = slot(pattern.charAt(i))*ALPHABET_SIZE + slot(pattern.charAt(i+1));
+			narrow(candidates, pairs[pair]);
+		}
+		last = new Narrowing(pattern, candidates);
+		return candidates;
+	}
+
+	private static void narrow(BitSet candidates, BitSet posting) {
+		if (posting==null) {
+			candidates.clear();
+		} else {
+			candidates.and(posting);
+		}
+	}
+
+	private static BitSet posting(BitSet[] postings, int index) {
+		BitSet posting = postings[index];
+		if (posting==null) {
+			posting = postings[index] = new BitSet();
+		}
+		return posting;
+	}
+
+	private static int slot(char c) {
+		c = Character.toLowerCase(c);
+		if (c>='a' && c<='z') {
+			return c - 'a';
+		} else if (c>='0' && c<='9') {
+			return LETTERS + c - '0';
+		}
+		switch (c) {
+		case '.':
+			return DOT;
+		case '-':
+			return DASH;
+		case '_':
+			return UNDERSCORE;
+		default:
+			return OTHER;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 Pivotal, Inc.
+ * Copyright (c) 2014, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
 package org.springframework.ide.eclipse.boot.properties.editor;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -26,7 +27,8 @@ import org.springsource.ide.eclipse.commons.core.util.StringUtil;
  * a search 'key' is associated with each data item.
  * <p>
  * The collection can then be searched for items who's key matches
- * simple 'fuzzy' patterns.
+ * simple 'fuzzy' patterns. Searches only score the keys that a {@link FuzzyKeyIndex}
+ * finds as candidates for the pattern rather than every key in the map.
  */
 public abstract class FuzzyMap<E> implements Iterable<E> {
 
@@ -68,6 +70,11 @@ public abstract class FuzzyMap<E> implements Iterable<E> {
 
 	private TreeMap<String,E> entries = new TreeMap<>();
 
+	/**
+	 * Created on the first search after entries were added.
+	 */
+	private volatile FuzzyKeyIndex index;
+
 	protected abstract String getKey(E entry);
 
 	public void add(E value) {
@@ -76,6 +83,7 @@ public abstract class FuzzyMap<E> implements Iterable<E> {
 		E existing = entries.get(key);
 		if (existing==null) {
 			entries.put(getKey(value), value);
+			index = null;
 		} else {
 			SpringPropertiesEditorPlugin.warning(FuzzyMap.class.getName()+": Multiple entries for key "+key+" some entries discarded");
 		}
@@ -99,19 +107,28 @@ public abstract class FuzzyMap<E> implements Iterable<E> {
 			}
 			return matches;
 		} else {
-			//TODO: optimize somehow with a smarter index? (right now searches all map entries sequentially)
+			FuzzyKeyIndex index = getIndex();
+			BitSet candidates = index.candidates(pattern);
 			ArrayList<Match<E>> matches = new ArrayList<>();
-			for (Entry<String, E> e : entries.entrySet()) {
-				String key = e.getKey();
+			for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i+1)) {
+				String key = index.getKey(i);
 				double score = FuzzyMatcher.matchScore(pattern, key);
 				if (score!=0.0) {
-					matches.add(new Match<>(pattern, score, e.getValue()));
+					matches.add(new Match<>(pattern, score, entries.get(key)));
 				}
 			}
 			return matches;
 		}
 	}
 
+	private FuzzyKeyIndex getIndex() {
+		FuzzyKeyIndex index = this.index;
+		if (index==null) {
+			index = this.index = new FuzzyKeyIndex(entries.keySet().toArray(new String[entries.size()]));
+		}
+		return index;
+	}
+
 	/**
 	 * Searches the index for the longest string which is both
 	 *  - a prefix of propertyName
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014-2016 Pivotal, Inc.
+ * Copyright (c) 2014-2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,8 +15,6 @@ import static org.springframework.ide.eclipse.boot.properties.editor.SpringPrope
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.jar.JarFile;
-import java.util.zip.ZipEntry;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
@@ -30,11 +28,15 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.springframework.boot.configurationmetadata.ConfigurationMetadataRepository;
 import org.springframework.boot.configurationmetadata.ConfigurationMetadataRepositoryJsonBuilder;
+import org.springframework.boot.configurationmetadata.RawConfigurationMetadata;
 import org.springsource.ide.eclipse.commons.frameworks.core.util.FileUtil;
 
 /**
  * Load a {@link ConfigMetadataRepository} from the content of an eclipse
  * projects classpath.
+ * <p>
+ * The metadata of jars comes from the workspace-wide {@link ConfigMetadataJarCache},
+ * so jars are only read again when they changed.
  *
  * @author Kris De Volder
  */
@@ -62,6 +64,16 @@ public class StsConfigMetadataRepositoryJsonLoader {
 
 	private ConfigurationMetadataRepositoryJsonBuilder builder = ConfigurationMetadataRepositoryJsonBuilder.create();
 
+	private final ConfigMetadataJarCache jarCache;
+
+	public StsConfigMetadataRepositoryJsonLoader() {
+		this(ConfigMetadataJarCache.getDefault());
+	}
+
+	public StsConfigMetadataRepositoryJsonLoader(ConfigMetadataJarCache jarCache) {
+		this.jarCache = jarCache;
+	}
+
 	/**
 	 * Load the {@link ConfigMetadataRepository} with the metadata of the current
 	 * classpath using the {@link #DEFAULT_LOCATION_PATTERN}. If the same config
@@ -88,6 +100,7 @@ public class StsConfigMetadataRepositoryJsonLoader {
 			}
 		}
 		loadFromOutputFolder(project);
+		jarCache.save();
 		ConfigurationMetadataRepository repository = builder.build();
 		debug("<< load ConfigurationMetadataRepository for "+project.getElementName()+": "+repository.getAllProperties().size()+" properties");
 		return repository;
@@ -143,44 +156,8 @@ public class StsConfigMetadataRepositoryJsonLoader {
 	}
 
 	private void loadFromJar(File f) {
-		debug("load from jar: "+f);
-		JarFile jarFile = null;
-		try {
-			jarFile = new JarFile(f);
-			//jarDump(jarFile);
-			for (String loc : JAR_META_DATA_LOCATIONS) {
-				ZipEntry e = jarFile.getEntry(loc);
-				if (e!=null) {
-					loadFrom(jarFile, e);
-				}
-			}
-		} catch (Throwable e) {
-			SpringPropertiesEditorPlugin.log(e);
-		} finally {
-			if (jarFile!=null) {
-				try {
-					jarFile.close();
-				} catch (IOException e) {
-				}
-			}
-		}
-	}
-
-
-	private void loadFrom(JarFile jarFile, ZipEntry ze) {
-		InputStream is = null;
-		try {
-			is = jarFile.getInputStream(ze);
-			loadFromInputStream(jarFile.getName()+"["+ze.getName()+"]", is);
-		} catch (Throwable e) {
-			SpringPropertiesEditorPlugin.log(e);
-		} finally {
-			if (is!=null) {
-				try {
-					is.close();
-				} catch (IOException e) {
-				}
-			}
+		for (RawConfigurationMetadata metadata : jarCache.getMetadata(f, JAR_META_DATA_LOCATIONS)) {
+			builder.withMetadata(metadata);
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Pivotal, Inc.
+ * Copyright (c) 2016, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -28,6 +28,7 @@ import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.wst.server.core.IModule;
 import org.eclipse.wst.server.core.IServer;
 import org.eclipse.wst.server.core.model.IModuleResource;
+import org.springframework.ide.eclipse.boot.dash.cf.packaging.ApplicationArchiveCache;
 import org.springframework.ide.eclipse.boot.dash.cf.packaging.CloudApplicationArchiverStrategies;
 import org.springframework.ide.eclipse.boot.dash.cf.packaging.CloudApplicationArchiverStrategy;
 import org.springframework.ide.eclipse.boot.dash.cf.packaging.ICloudApplicationArchiver;
@@ -72,7 +73,8 @@ public class BootDashboardArchiver implements ICloudFoundryArchiver {
 		// Bugzilla (CFT) 495814 fix
 		refreshProject(project, appModule, cloudServer, monitor);
 
-		CloudApplicationArchiverStrategy strategy = CloudApplicationArchiverStrategies.packageAsJar(project, uiInteractions.getUserInteractions());
+		CloudApplicationArchiverStrategy strategy = CloudApplicationArchiverStrategies.packageAsJar(project, uiInteractions.getUserInteractions(),
+				cloudServer.getServer().getId());
 		ICloudApplicationArchiver archiver = strategy.getArchiver(monitor);
 
 		// Null archiver means operation cancelled.
@@ -86,7 +88,12 @@ public class BootDashboardArchiver implements ICloudFoundryArchiver {
 	    if (file != null) {
 			printToConsole(appModule, cloudServer,
 					"Succeeded in generating archive file using Boot Dashboard archiver:  " + file.getAbsolutePath());
-			return new ZipArchive(new ZipFile(file));
+			try {
+				return new ZipArchive(new ZipFile(file));
+			} finally {
+				// The open zip file keeps the contents readable, so the cache may delete the jar once replaced.
+				ApplicationArchiveCache.getDefault().release(file);
+			}
 		} else {
 			String warning = "Unable to archive the application project. No archive file generated for: "
 					+ appModule.getDeployedApplicationName() + ". Falling back to default CFT framework JAR archiver.";
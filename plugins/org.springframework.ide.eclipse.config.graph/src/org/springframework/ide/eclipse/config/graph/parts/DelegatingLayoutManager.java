@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2012 VMware, Inc.
+ *  Copyright (c) 2012, 2026 VMware, Inc.
  *  All rights reserved. This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License v1.0
  *  which accompanies this distribution, and is available at
@@ -35,7 +35,7 @@ public class DelegatingLayoutManager implements LayoutManager {
 
 	DelegatingLayoutManager(ActivityDiagramPart diagram) {
 		this.diagram = diagram;
-		graphLayoutManager = new GraphLayoutManager(diagram, diagram.getDirection());
+		graphLayoutManager = new GraphLayoutManager(diagram, diagram.getDirection(), true);
 		xyLayoutManager = new GraphXYLayout(diagram, diagram.getDirection());
 		activeLayoutManager = graphLayoutManager;
 	}
@@ -64,7 +64,8 @@ public class DelegatingLayoutManager implements LayoutManager {
 		if (diagram.isManualLayout()) {
 			if (diagram.isFirstManualLayout()) {
 				setLayoutManager(figure, graphLayoutManager);
-				activeLayoutManager.layout(figure);
+				// The positions are needed right away to seed the manual layout
+				graphLayoutManager.layoutNow(figure);
 			}
 			diagram.setBoundsOnFigure(true);
 			setLayoutManager(figure, xyLayoutManager);
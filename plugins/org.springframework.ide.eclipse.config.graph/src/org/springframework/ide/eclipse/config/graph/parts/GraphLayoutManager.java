@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2012 VMware, Inc.
+ *  Copyright (c) 2012, 2026 VMware, Inc.
  *  All rights reserved. This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License v1.0
  *  which accompanies this distribution, and is available at
@@ -10,10 +10,16 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.config.graph.parts;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.draw2d.AbstractLayout;
 import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.PositionConstants;
@@ -21,21 +27,58 @@ import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.draw2d.graph.CompoundDirectedGraph;
 import org.eclipse.draw2d.graph.CompoundDirectedGraphLayout;
+import org.eclipse.draw2d.graph.Edge;
+import org.eclipse.draw2d.graph.Node;
+import org.eclipse.draw2d.graph.Subgraph;
+import org.eclipse.gef.EditPart;
 import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
+import org.eclipse.ui.progress.UIJob;
+import org.springframework.ide.eclipse.config.graph.ConfigGraphPlugin;
+import org.springsource.ide.eclipse.commons.core.StatusHandler;
 
 /**
+ * Lays out the diagram with a {@link CompoundDirectedGraphLayout}.
+ * <p>
+ * The result of the last layout is kept together with a description of the
+ * graph it was computed for. As long as the nodes, their sizes and the edges
+ * don't change, e.g. while editing attributes that aren't shown in the
+ * diagram, the kept positions are applied instead of laying out the graph
+ * again. Large graphs can be laid out in the background, in which case the
+ * figures keep their current positions until the layout is done.
  * @author Leo Dos Santos
  * @author Christian Dupuis
  */
 class GraphLayoutManager extends AbstractLayout {
 
+	private static final int BACKGROUND_LAYOUT_THRESHOLD = 150;
+
 	private final ActivityDiagramPart diagram;
 
 	private final int direction;
 
+	private final boolean backgroundLayout;
+
+	private List<Object> laidOutSignature;
+
+	private CompoundDirectedGraph laidOutGraph;
+
+	/** The nodes and edges contributed to the last laid out graph, in order */
+	private List<Object> laidOutElements;
+
+	private List<Object> pendingSignature;
+
 	GraphLayoutManager(ActivityDiagramPart diagram, int direction) {
+		this(diagram, direction, false);
+	}
+
+	/**
+	 * @param backgroundLayout whether large graphs may be laid out off the UI
+	 * thread
+	 */
+	GraphLayoutManager(ActivityDiagramPart diagram, int direction, boolean backgroundLayout) {
 		this.diagram = diagram;
 		this.direction = direction;
+		this.backgroundLayout = backgroundLayout;
 	}
 
 	@Override
@@ -51,6 +94,18 @@ class GraphLayoutManager extends AbstractLayout {
 	}
 
 	public void layout(IFigure container) {
+		layout(container, backgroundLayout);
+	}
+
+	/**
+	 * Lays out the diagram on the calling thread, for callers that need the
+	 * result right away.
+	 */
+	void layoutNow(IFigure container) {
+		layout(container, false);
+	}
+
+	private void layout(IFigure container, boolean inBackground) {
 		GraphAnimation.recordInitialState(container);
 		if (GraphAnimation.playbackState(container)) {
 			return;
@@ -63,9 +118,138 @@ class GraphLayoutManager extends AbstractLayout {
 		Map<AbstractGraphicalEditPart, Object> partsToNodes = new HashMap<AbstractGraphicalEditPart, Object>();
 		diagram.contributeNodesToGraph(graph, null, partsToNodes);
 		diagram.contributeEdgesToGraph(graph, partsToNodes);
-		new CompoundDirectedGraphLayout().visit(graph);
-		diagram.applyGraphResults(graph, partsToNodes);
+
+		List<Object> signature = getSignature(graph);
+		if (signature.equals(laidOutSignature)) {
+			diagram.applyGraphResults(laidOutGraph, getLaidOutNodes(graph));
+		}
+		else if (inBackground && graph.nodes.size() >= BACKGROUND_LAYOUT_THRESHOLD) {
+			if (!signature.equals(pendingSignature)) {
+				scheduleLayout(container, graph, getElements(graph), signature);
+			}
+			return;
+		}
+		else {
+			// The layout adds and removes helper nodes and edges of its own
+			List<Object> elements = getElements(graph);
+			new CompoundDirectedGraphLayout().visit(graph);
+			laidOutSignature = signature;
+			laidOutGraph = graph;
+			laidOutElements = elements;
+			diagram.applyGraphResults(graph, partsToNodes);
+		}
 		diagram.setBoundsOnModel();
 	}
 
+	private void scheduleLayout(final IFigure container, final CompoundDirectedGraph graph,
+			final List<Object> elements, final List<Object> signature) {
+		pendingSignature = signature;
+		Job job = new Job("Laying out diagram") {
+
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					new CompoundDirectedGraphLayout().visit(graph);
+				}
+				catch (RuntimeException e) {
+					StatusHandler.log(new Status(IStatus.ERROR, ConfigGraphPlugin.PLUGIN_ID,
+							"Could not lay out diagram", e)); //$NON-NLS-1$
+					layoutDone(container, signature, null, null);
+					return Status.OK_STATUS;
+				}
+				layoutDone(container, signature, graph, elements);
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.schedule();
+	}
+
+	private void layoutDone(final IFigure container, final List<Object> signature, final CompoundDirectedGraph graph,
+			final List<Object> elements) {
+		UIJob applyJob = new UIJob("Applying diagram layout") {
+
+			@Override
+			public IStatus runInUIThread(IProgressMonitor monitor) {
+				if (signature.equals(pendingSignature)) {
+					pendingSignature = null;
+					if (graph != null) {
+						laidOutSignature = signature;
+						laidOutGraph = graph;
+						laidOutElements = elements;
+						if (diagram.isActive()) {
+							// The next layout of the container finds the
+							// result of this one
+							container.revalidate();
+						}
+					}
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		applyJob.setSystem(true);
+		applyJob.schedule();
+	}
+
+	/**
+	 * Returns a description of everything the layout of the given graph
+	 * depends on: the model of each node, its size and constraints and its
+	 * parent, and the nodes each edge connects.
+	 */
+	private List<Object> getSignature(CompoundDirectedGraph graph) {
+		Map<Node, Integer> indexes = new IdentityHashMap<Node, Integer>();
+		for (int i = 0; i < graph.nodes.size(); i++) {
+			indexes.put(graph.nodes.getNode(i), i);
+		}
+		List<Object> signature = new ArrayList<Object>();
+		signature.add(graph.getDirection());
+		for (int i = 0; i < graph.nodes.size(); i++) {
+			Node node = graph.nodes.getNode(i);
+			signature.add(node.data instanceof EditPart ? ((EditPart) node.data).getModel() : null);
+			signature.add(node.getParent() != null ? indexes.get(node.getParent()) : null);
+			signature.add(node.width);
+			signature.add(node.height);
+			signature.add(node.getRowConstraint());
+			signature.add(node.incomingOffset);
+			signature.add(node.outgoingOffset);
+			if (node instanceof Subgraph) {
+				signature.add(((Subgraph) node).insets.getCopy());
+			}
+		}
+		for (int i = 0; i < graph.edges.size(); i++) {
+			Edge edge = graph.edges.getEdge(i);
+			signature.add(indexes.get(edge.source));
+			signature.add(indexes.get(edge.target));
+		}
+		return signature;
+	}
+
+	/**
+	 * Returns the nodes followed by the edges of the given graph.
+	 */
+	private List<Object> getElements(CompoundDirectedGraph graph) {
+		List<Object> elements = new ArrayList<Object>(graph.nodes.size() + graph.edges.size());
+		elements.addAll(graph.nodes);
+		elements.addAll(graph.edges);
+		return elements;
+	}
+
+	/**
+	 * Maps the parts that contributed to the given graph to the nodes and
+	 * edges of the last laid out graph, which has the same signature and
+	 * therefore the same nodes and edges in the same order.
+	 */
+	private Map<AbstractGraphicalEditPart, Object> getLaidOutNodes(CompoundDirectedGraph graph) {
+		Map<AbstractGraphicalEditPart, Object> partsToNodes = new HashMap<AbstractGraphicalEditPart, Object>();
+		List<Object> elements = getElements(graph);
+		for (int i = 0; i < elements.size(); i++) {
+			Object data = elements.get(i) instanceof Node ? ((Node) elements.get(i)).data
+					: ((Edge) elements.get(i)).data;
+			if (data instanceof AbstractGraphicalEditPart) {
+				partsToNodes.put((AbstractGraphicalEditPart) data, laidOutElements.get(i));
+			}
+		}
+		return partsToNodes;
+	}
+
 }
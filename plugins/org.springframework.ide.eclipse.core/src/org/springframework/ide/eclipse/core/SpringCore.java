@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2014 Spring IDE Developers
+ * Copyright (c) 2005, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,14 @@ package org.springframework.ide.eclipse.core;
 import java.text.MessageFormat;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IWorkspace;
@@ -23,11 +31,14 @@ import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.Status;
 import org.osgi.framework.BundleContext;
 import org.springframework.ide.eclipse.core.internal.model.SpringModel;
+import org.springframework.ide.eclipse.core.internal.project.ValidationStatisticsResourceChangeListener;
 import org.springframework.ide.eclipse.core.java.ITypeStructureCache;
 import org.springframework.ide.eclipse.core.java.TypeStructureCache;
 import org.springframework.ide.eclipse.core.java.typehierarchy.BytecodeTypeHierarchyClassReaderFactory;
 import org.springframework.ide.eclipse.core.java.typehierarchy.DirectTypeHierarchyElementCacheFactory;
+import org.springframework.ide.eclipse.core.java.typehierarchy.JarClassIndex;
 import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyEngine;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyIndex;
 import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyResourceChangeListener;
 import org.springframework.ide.eclipse.core.model.ISpringModel;
 
@@ -74,6 +85,21 @@ public class SpringCore extends Plugin {
 	/** Temporally setting to enable or disable the use of XBean's non-locking classloader infrastructure */
 	public static final String USE_NON_LOCKING_CLASSLOADER = PLUGIN_ID + ".useNonLockingClassLoader";
 
+	/** Temporally setting to enable or disable the persistent, workspace-wide type hierarchy index */
+	public static final String USE_PERSISTENT_TYPE_HIERARCHY_INDEX = PLUGIN_ID + ".usePersistentTypeHierarchyIndex";
+
+	/** Temporally setting to enable or disable reading jar files for the type hierarchy through memory mapping */
+	public static final String USE_MAPPED_JAR_FILES = PLUGIN_ID + ".useMappedJarFiles";
+
+	/** Temporally setting to enable or disable validating resources and context elements in parallel */
+	public static final String USE_PARALLEL_VALIDATION = PLUGIN_ID + ".useParallelValidation";
+
+	/** Temporally setting to enable or disable collecting timing statistics for builders, validators and rules */
+	public static final String COLLECT_VALIDATION_STATISTICS = PLUGIN_ID + ".collectValidationStatistics";
+
+	/** Temporally setting to enable or disable running independent validators concurrently */
+	public static final String USE_CONCURRENT_CONTRIBUTORS = PLUGIN_ID + ".useConcurrentContributors";
+
 	/** The shared instance */
 	private static SpringCore plugin;
 
@@ -87,6 +113,12 @@ public class SpringCore extends Plugin {
 	
 	private static TypeHierarchyEngine typeHierarchyEngine;
 
+	private static TypeHierarchyIndex typeHierarchyIndex;
+
+	private static ForkJoinPool validationPool;
+
+	private static ThreadPoolExecutor contributorPool;
+
 	/**
 	 * Creates the Spring core plug-in.
 	 * <p>
@@ -102,7 +134,10 @@ public class SpringCore extends Plugin {
 		typeHierarchyEngine.setTypeHierarchyElementCacheFactory(new DirectTypeHierarchyElementCacheFactory());
 
 		TypeHierarchyResourceChangeListener resetListener = new TypeHierarchyResourceChangeListener();
-		ResourcesPlugin.getWorkspace().addResourceChangeListener(resetListener, IResourceChangeEvent.PRE_BUILD);
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(resetListener,
+				IResourceChangeEvent.PRE_BUILD | IResourceChangeEvent.POST_BUILD);
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(new ValidationStatisticsResourceChangeListener(),
+				IResourceChangeEvent.PRE_BUILD | IResourceChangeEvent.POST_BUILD);
 		
 		try {
 			resourceBundle = ResourceBundle.getBundle(RESOURCE_NAME);
@@ -121,12 +156,38 @@ public class SpringCore extends Plugin {
 		plugin.getPluginPreferences().setDefault(USE_CHANGE_DETECTION_IN_JAVA_FILES, true);
 		// non.locking classloader is not enabled by default
 		plugin.getPluginPreferences().setDefault(USE_NON_LOCKING_CLASSLOADER, false);
+		// persistent type hierarchy index is enabled by default
+		plugin.getPluginPreferences().setDefault(USE_PERSISTENT_TYPE_HIERARCHY_INDEX, true);
+		// mapped jar files can't be unmapped explicitly and would lock the jars on windows
+		plugin.getPluginPreferences().setDefault(USE_MAPPED_JAR_FILES, !Platform.OS_WIN32.equals(Platform.getOS()));
+		// parallel validation is not enabled by default, as not all validation rules might be thread-safe
+		plugin.getPluginPreferences().setDefault(USE_PARALLEL_VALIDATION, false);
+		// validation statistics are only collected on demand
+		plugin.getPluginPreferences().setDefault(COLLECT_VALIDATION_STATISTICS, false);
+		// concurrent contributors are not enabled by default, as they only pay off with several independent contributors
+		plugin.getPluginPreferences().setDefault(USE_CONCURRENT_CONTRIBUTORS, false);
+
+		typeHierarchyIndex = new TypeHierarchyIndex(getStateLocation().append("typehierarchy").append(".index").toFile());
 	}
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
 		model.shutdown();
 		typeStructureCache.shutdown();
+		if (typeHierarchyIndex != null) {
+			typeHierarchyIndex.save();
+		}
+		JarClassIndex.getDefault().closeAll();
+		synchronized (SpringCore.class) {
+			if (validationPool != null) {
+				validationPool.shutdownNow();
+				validationPool = null;
+			}
+			if (contributorPool != null) {
+				contributorPool.shutdownNow();
+				contributorPool = null;
+			}
+		}
 		super.stop(context);
 	}
 
@@ -152,6 +213,78 @@ public class SpringCore extends Plugin {
 		return typeHierarchyEngine;
 	}
 
+	/**
+	 * Returns the workspace-wide, persistent {@link TypeHierarchyIndex} or <code>null</code> if the
+	 * use of the index is disabled.
+	 */
+	public static final TypeHierarchyIndex getTypeHierarchyIndex() {
+		if (plugin == null || !plugin.getPluginPreferences().getBoolean(USE_PERSISTENT_TYPE_HIERARCHY_INDEX)) {
+			return null;
+		}
+		return typeHierarchyIndex;
+	}
+
+	/**
+	 * Returns <code>true</code> if validators should validate resources and context elements in parallel.
+	 */
+	public static final boolean isParallelValidationEnabled() {
+		return plugin != null && plugin.getPluginPreferences().getBoolean(USE_PARALLEL_VALIDATION);
+	}
+
+	/**
+	 * Returns the bounded pool that is shared by all validators for parallel validation. The pool is created
+	 * lazily with one worker thread per available processor.
+	 */
+	public static final synchronized ForkJoinPool getValidationPool() {
+		if (validationPool == null) {
+			validationPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+					new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+
+						private final AtomicInteger count = new AtomicInteger();
+
+						public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+							ForkJoinWorkerThread thread = new ForkJoinWorkerThread(pool) {
+							};
+							thread.setName("Spring Validation Worker " + count.incrementAndGet());
+							thread.setDaemon(true);
+							return thread;
+						}
+					}, null, false);
+		}
+		return validationPool;
+	}
+
+	/**
+	 * Returns <code>true</code> if independent validators should run concurrently.
+	 */
+	public static final boolean isConcurrentContributorsEnabled() {
+		return plugin != null && plugin.getPluginPreferences().getBoolean(USE_CONCURRENT_CONTRIBUTORS);
+	}
+
+	/**
+	 * Returns the bounded pool that is shared by all projects to run independent validators
+	 * concurrently. The pool is separate from the {@link #getValidationPool() validation pool}, so that contributors
+	 * can validate in parallel without blocking the workers they are waiting for.
+	 */
+	public static final synchronized ExecutorService getContributorPool() {
+		if (contributorPool == null) {
+			int threads = Runtime.getRuntime().availableProcessors();
+			contributorPool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+
+						private final AtomicInteger count = new AtomicInteger();
+
+						public Thread newThread(Runnable runnable) {
+							Thread thread = new Thread(runnable, "Spring Project Contributor " + count.incrementAndGet());
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+			contributorPool.allowCoreThreadTimeOut(true);
+		}
+		return contributorPool;
+	}
+
 	/**
 	 * Returns the workspace instance.
 	 */
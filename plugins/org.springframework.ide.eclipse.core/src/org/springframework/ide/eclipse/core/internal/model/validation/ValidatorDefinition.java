@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2008 Spring IDE Developers
+ * Copyright (c) 2007, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.core.internal.model.validation;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.eclipse.core.resources.IProject;
@@ -34,6 +36,10 @@ public class ValidatorDefinition extends PersistablePreferenceObjectSupport {
 
 	private static final String CLASS_ATTRIBUTE = "class";
 
+	private static final String CONCURRENT_ATTRIBUTE = "concurrent";
+
+	private static final String DEPENDS_ON_ATTRIBUTE = "dependsOn";
+
 	private static final String DESCRIPTION_ATTRIBUTE = "description";
 
 	private static final String ENABLED_BY_DEFAULT_ATTRIBUTE = "enabledByDefault";
@@ -50,6 +56,10 @@ public class ValidatorDefinition extends PersistablePreferenceObjectSupport {
 
 	private static final String ORDER_ATTRIBUTE = "order";
 
+	private boolean concurrent;
+
+	private Set<String> dependencies;
+
 	private String description;
 
 	private String iconUri;
@@ -93,6 +103,21 @@ public class ValidatorDefinition extends PersistablePreferenceObjectSupport {
 		}
 	}
 
+	/**
+	 * Returns <code>true</code> if the validator doesn't depend on any validator other than the declared
+	 * {@link #getDependencies() dependencies} and can therefore run concurrently to them.
+	 */
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Returns the ids of the validators that need to finish before this validator runs.
+	 */
+	public Set<String> getDependencies() {
+		return dependencies;
+	}
+
 	public String getDescription() {
 		return description;
 	}
@@ -159,6 +184,9 @@ public class ValidatorDefinition extends PersistablePreferenceObjectSupport {
 		else {
 			setEnabledByDefault(true);
 		}
+		concurrent = Boolean.valueOf(element.getAttribute(CONCURRENT_ATTRIBUTE));
+		dependencies = Collections.unmodifiableSet(new LinkedHashSet<String>(StringUtils
+				.commaDelimitedListToSet(StringUtils.trimAllWhitespace(element.getAttribute(DEPENDS_ON_ATTRIBUTE)))));
 		initValidator();
 	}
 
@@ -0,0 +1,315 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.internal.project;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * Runs the builders and validators of a single project build with respect to their declared dependencies.
+ * <p>
+ * Contributions which are not {@link Contribution#isConcurrent() concurrent} act as barrier: they run after all
+ * contributions that have been added before them and before all contributions that are added after them. Concurrent
+ * contributions only wait for the preceding barrier and the preceding contributions they declare as dependencies, so
+ * that independent contributions are handed to the given executor at the same time.
+ * <p>
+ * Only {@link Contribution#run(IProgressMonitor)} of concurrent contributions is called on a worker thread and must
+ * therefore not modify the workspace, as the build thread holds the workspace lock. {@link Contribution#start()},
+ * {@link Contribution#apply(IProgressMonitor)} and {@link Contribution#finish()} are always called on the thread
+ * that calls {@link #execute(ExecutorService, IProgressMonitor)}.
+ */
+public class ProjectContributorScheduler {
+
+	private static final long POLL_INTERVAL = 100;
+
+	private final List<Contribution> contributions = new ArrayList<Contribution>();
+
+	public void add(Contribution contribution) {
+		contributions.add(contribution);
+	}
+
+	/**
+	 * Returns the indexes of all contributions the contribution with the given index has to wait for.
+	 */
+	public BitSet getPrerequisites(int index) {
+		BitSet prerequisites = new BitSet();
+		Contribution contribution = contributions.get(index);
+		if (!contribution.isConcurrent()) {
+			prerequisites.set(0, index);
+			return prerequisites;
+		}
+		for (int i = index - 1; i >= 0; i--) {
+			Contribution previous = contributions.get(i);
+			if (!previous.isConcurrent()) {
+				prerequisites.set(i);
+				break;
+			}
+			else if (contribution.getDependencies().contains(previous.getId())) {
+				prerequisites.set(i);
+			}
+		}
+		return prerequisites;
+	}
+
+	/**
+	 * Runs all contributions. Concurrent contributions are handed to the given executor; if the executor is
+	 * <code>null</code> all contributions run one after another on the calling thread in the order they were added.
+	 * <p>
+	 * Once the given monitor is canceled no further contributions are started; the contributions that are already
+	 * running on the executor are waited for before {@link OperationCanceledException} is thrown, so that no worker
+	 * outlives the build.
+	 */
+	public void execute(ExecutorService executor, IProgressMonitor monitor) throws CoreException {
+		int size = contributions.size();
+		List<BitSet> prerequisites = new ArrayList<BitSet>(size);
+		for (int i = 0; i < size; i++) {
+			prerequisites.add(getPrerequisites(i));
+		}
+
+		BitSet started = new BitSet(size);
+		BitSet finished = new BitSet(size);
+		CompletionService<Integer> completionService = executor != null ? new ExecutorCompletionService<Integer>(
+				executor) : null;
+		final CancelableProgressMonitor workerMonitor = new CancelableProgressMonitor();
+		final Throwable[] failures = new Throwable[size];
+		int running = 0;
+
+		try {
+			while (finished.cardinality() < size) {
+				checkCanceled(monitor);
+				boolean ranOnCallingThread = false;
+				for (int i = started.nextClearBit(0); i < size && !ranOnCallingThread; i = started.nextClearBit(i + 1)) {
+					if (!isReady(prerequisites.get(i), finished)) {
+						continue;
+					}
+					checkCanceled(monitor);
+					final int index = i;
+					final Contribution contribution = contributions.get(index);
+					started.set(index);
+					contribution.start();
+					if (completionService != null && contribution.isConcurrent()) {
+						completionService.submit(new Callable<Integer>() {
+
+							public Integer call() {
+								try {
+									contribution.run(workerMonitor);
+								}
+								catch (Throwable e) {
+									failures[index] = e;
+								}
+								return index;
+							}
+						});
+						running++;
+					}
+					else {
+						try {
+							contribution.run(monitor);
+							contribution.apply(monitor);
+						}
+						finally {
+							contribution.finish();
+							finished.set(index);
+						}
+						ranOnCallingThread = true;
+					}
+				}
+
+				if (!ranOnCallingThread && finished.cardinality() < size) {
+					Future<Integer> future = completionService.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+					if (future != null) {
+						running--;
+						int index = future.get();
+						Contribution contribution = contributions.get(index);
+						try {
+							if (failures[index] == null) {
+								contribution.apply(monitor);
+							}
+						}
+						finally {
+							contribution.finish();
+							finished.set(index);
+						}
+						if (monitor != null) {
+							monitor.worked(1);
+						}
+					}
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		}
+		catch (ExecutionException e) {
+			// can't happen as failures are kept in the workers
+			throw new IllegalStateException(e.getCause());
+		}
+		finally {
+			if (running > 0) {
+				// the build is aborted: stop the workers and wait for the ones that are still running
+				workerMonitor.setCanceled(true);
+				drain(completionService, running, finished);
+			}
+		}
+
+		// report the first failure of a concurrent contribution
+		Throwable failure = null;
+		for (int i = 0; i < size && failure == null; i++) {
+			failure = failures[i];
+		}
+		if (failure instanceof RuntimeException) {
+			throw (RuntimeException) failure;
+		}
+		else if (failure instanceof Error) {
+			throw (Error) failure;
+		}
+		else if (failure instanceof CoreException) {
+			throw (CoreException) failure;
+		}
+	}
+
+	private void checkCanceled(IProgressMonitor monitor) {
+		if (monitor != null && monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+	}
+
+	/**
+	 * Waits for the given number of running contributions to complete without applying their results; listeners
+	 * are still notified that the contributions finished.
+	 */
+	private void drain(CompletionService<Integer> completionService, int running, BitSet finished) {
+		boolean interrupted = false;
+		while (running > 0) {
+			try {
+				int index = completionService.take().get();
+				running--;
+				contributions.get(index).finish();
+				finished.set(index);
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+			catch (ExecutionException e) {
+				// can't happen as failures are kept in the workers
+				running--;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private boolean isReady(BitSet prerequisites, BitSet finished) {
+		for (int i = prerequisites.nextSetBit(0); i >= 0; i = prerequisites.nextSetBit(i + 1)) {
+			if (!finished.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * A single builder or validator run scheduled by the {@link ProjectContributorScheduler}.
+	 */
+	public static abstract class Contribution {
+
+		private final String id;
+
+		private final boolean concurrent;
+
+		private final Set<String> dependencies;
+
+		public Contribution(String id, boolean concurrent, Set<String> dependencies) {
+			this.id = id;
+			this.concurrent = concurrent;
+			this.dependencies = dependencies != null ? dependencies : Collections.<String> emptySet();
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public boolean isConcurrent() {
+			return concurrent;
+		}
+
+		public Set<String> getDependencies() {
+			return dependencies;
+		}
+
+		/**
+		 * Called on the scheduling thread right before the contribution runs.
+		 */
+		protected void start() throws CoreException {
+		}
+
+		/**
+		 * Runs the builder or validator; this is called on a worker thread for concurrent contributions, which must
+		 * therefore only compute their results and leave it to {@link #apply(IProgressMonitor)} to store them in the
+		 * workspace.
+		 */
+		protected abstract void run(IProgressMonitor monitor) throws CoreException;
+
+		/**
+		 * Called on the scheduling thread after {@link #run(IProgressMonitor)} completed successfully, e.g. to create
+		 * the problem markers of a validator.
+		 */
+		protected void apply(IProgressMonitor monitor) throws CoreException {
+		}
+
+		/**
+		 * Called on the scheduling thread after the contribution ran.
+		 */
+		protected void finish() {
+		}
+
+		@Override
+		public String toString() {
+			return id;
+		}
+	}
+
+	/**
+	 * Progress monitor handed to the workers which only forwards the cancellation of the build.
+	 */
+	private static class CancelableProgressMonitor extends NullProgressMonitor {
+
+		private volatile boolean canceled;
+
+		@Override
+		public boolean isCanceled() {
+			return canceled;
+		}
+
+		@Override
+		public void setCanceled(boolean canceled) {
+			this.canceled = canceled;
+		}
+	}
+
+}
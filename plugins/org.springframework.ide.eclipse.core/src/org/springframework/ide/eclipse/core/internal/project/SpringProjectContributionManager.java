@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2013 Spring IDE Developers
+ * Copyright (c) 2007, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,10 +29,14 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.SubProgressMonitor;
+import org.springframework.ide.eclipse.core.SpringCore;
 import org.springframework.ide.eclipse.core.SpringCoreUtils;
 import org.springframework.ide.eclipse.core.internal.model.validation.ValidatorDefinition;
 import org.springframework.ide.eclipse.core.internal.model.validation.ValidatorDefinitionFactory;
+import org.springframework.ide.eclipse.core.model.validation.AbstractValidator;
 import org.springframework.ide.eclipse.core.model.validation.IValidator;
+import org.springframework.ide.eclipse.core.model.validation.ValidationProblem;
+import org.springframework.ide.eclipse.core.model.validation.ValidationStatistics;
 import org.springframework.ide.eclipse.core.project.DefaultProjectContributorState;
 import org.springframework.ide.eclipse.core.project.IProjectBuilder;
 import org.springframework.ide.eclipse.core.project.IProjectContributionEventListener;
@@ -55,6 +59,14 @@ import org.springframework.ide.eclipse.core.project.ProjectContributionEventList
  * <p>
  * {@link IProjectBuilder} or {@link IValidator} implementations that want to access the state should implement the
  * {@link IProjectContributorStateAware} interface to a call back with the current state.
+ * <p>
+ * If {@link SpringCore#COLLECT_VALIDATION_STATISTICS} is enabled, the time spent in every builder and validator is
+ * recorded in the {@link ValidationStatistics}, see {@link ValidationStatisticsResourceChangeListener}.
+ * <p>
+ * If {@link SpringCore#USE_CONCURRENT_CONTRIBUTORS} is enabled, the validation of {@link AbstractValidator}s that are
+ * declared as <code>concurrent</code> runs on a shared pool as soon as the validators they declare in
+ * <code>dependsOn</code> have finished. Builders, listeners and the creation of problem markers stay on the build
+ * thread, which holds the workspace lock.
  * 
  * @author Torsten Juergeleit
  * @author Christian Dupuis
@@ -67,7 +79,7 @@ import org.springframework.ide.eclipse.core.project.ProjectContributionEventList
  * @see IProjectContributorState
  */
 public class SpringProjectContributionManager extends IncrementalProjectBuilder {
-	
+
 	private static Object dummyMapObject = new Object();
 	private static Map<String, Object> classpathChanged = new ConcurrentHashMap<String, Object>();
 	
@@ -115,22 +127,21 @@ public class SpringProjectContributionManager extends IncrementalProjectBuilder
 
 		}
 
-		// At first run all builders
+		// At first run all builders and finally all validators; independent ones might run concurrently
+		ProjectContributorScheduler scheduler = new ProjectContributorScheduler();
 		for (ProjectBuilderDefinition builderDefinition : builderDefinitions) {
 			if (builderDefinition.isEnabled(project)) {
-				Set<IResource> affectedResources = getAffectedResources(builderDefinition.getProjectBuilder(), project,
-						buildKind, delta);
-				runBuilder(builderDefinition, affectedResources, buildKind, monitor, listeners);
+				scheduler.add(new BuilderContribution(builderDefinition, project, buildKind, delta, monitor, listeners));
 			}
 		}
-
-		// Finally run all validators
 		for (ValidatorDefinition validatorDefinition : validatorDefinitions) {
 			if (validatorDefinition.isEnabled(project)) {
-				Set<IResource> affectedResources = getAffectedResources(validatorDefinition.getValidator(), project, buildKind, delta);
-				runValidator(validatorDefinition, affectedResources, buildKind, monitor, listeners);
+				scheduler.add(new ValidatorContribution(validatorDefinition, project, buildKind, delta, monitor,
+						listeners));
 			}
 		}
+		scheduler.execute(SpringCore.isConcurrentContributorsEnabled() ? SpringCore.getContributorPool() : null,
+				monitor);
 
 		// Fire end event on listeners
 		for (final IProjectContributionEventListener listener : listeners) {
@@ -196,82 +207,199 @@ public class SpringProjectContributionManager extends IncrementalProjectBuilder
 	}
 
 	/**
-	 * Runs all given {@link IProjectBuilder} in the order as they are given in the set.
+	 * Runs a single {@link IProjectBuilder} on the build thread.
 	 */
-	private void runBuilder(final ProjectBuilderDefinition builderDefinition, final Set<IResource> affectedResources,
-			final int kind, IProgressMonitor monitor, final List<IProjectContributionEventListener> listeners) {
-		
-		for (final IProjectContributionEventListener listener : listeners) {
+	private class BuilderContribution extends ProjectContributorScheduler.Contribution {
 
-			execute(new SafeExecutableWithMonitor() {
+		private final ProjectBuilderDefinition builderDefinition;
 
-				@SuppressWarnings("deprecation")
-				public void execute(IProgressMonitor subMonitor) throws Exception {
-					listener.startContributor(builderDefinition.getProjectBuilder(), affectedResources, subMonitor);
-					listener.startProjectBuilder(builderDefinition, affectedResources, subMonitor);
-				}
-			}, monitor);
+		private final IProject project;
+
+		private final int kind;
+
+		private final IResourceDelta delta;
+
+		private final IProgressMonitor monitor;
+
+		private final List<IProjectContributionEventListener> listeners;
 
+		private Set<IResource> affectedResources;
+
+		public BuilderContribution(ProjectBuilderDefinition builderDefinition, IProject project, int kind,
+				IResourceDelta delta, IProgressMonitor monitor, List<IProjectContributionEventListener> listeners) {
+			// builders modify the workspace and therefore always run on the build thread
+			super(builderDefinition.getNamespaceUri() + "." + builderDefinition.getId(), false, null);
+			this.builderDefinition = builderDefinition;
+			this.project = project;
+			this.kind = kind;
+			this.delta = delta;
+			this.monitor = monitor;
+			this.listeners = listeners;
 		}
 
-		execute(new SafeExecutableWithMonitor() {
+		@Override
+		protected void start() throws CoreException {
+			affectedResources = getAffectedResources(builderDefinition.getProjectBuilder(), project, kind, delta);
+
+			for (final IProjectContributionEventListener listener : listeners) {
+
+				execute(new SafeExecutableWithMonitor() {
+
+					@SuppressWarnings("deprecation")
+					public void execute(IProgressMonitor subMonitor) throws Exception {
+						listener.startContributor(builderDefinition.getProjectBuilder(), affectedResources, subMonitor);
+						listener.startProjectBuilder(builderDefinition, affectedResources, subMonitor);
+					}
+				}, monitor);
 
-			public void execute(IProgressMonitor subMonitor) throws Exception {
-				builderDefinition.getProjectBuilder().build(affectedResources, kind, subMonitor);
 			}
-		}, monitor);
+		}
 
-		for (final IProjectContributionEventListener listener : listeners) {
-			
+		@Override
+		protected void run(IProgressMonitor runMonitor) {
 			execute(new SafeExecutableWithMonitor() {
-				
-				@SuppressWarnings("deprecation")
+
 				public void execute(IProgressMonitor subMonitor) throws Exception {
-					listener.finishContributor(builderDefinition.getProjectBuilder(), affectedResources, subMonitor);
-					listener.finishProjectBuilder(builderDefinition, affectedResources, subMonitor);
+					long start = System.nanoTime();
+					try {
+						builderDefinition.getProjectBuilder().build(affectedResources, kind, subMonitor);
+					}
+					finally {
+						recordStatistics(builderDefinition.getId(), affectedResources, start);
+					}
 				}
-			}, monitor);
-			
+			}, runMonitor);
+		}
+
+		@Override
+		protected void finish() {
+			for (final IProjectContributionEventListener listener : listeners) {
+
+				execute(new SafeExecutableWithMonitor() {
+
+					@SuppressWarnings("deprecation")
+					public void execute(IProgressMonitor subMonitor) throws Exception {
+						listener.finishContributor(builderDefinition.getProjectBuilder(), affectedResources, subMonitor);
+						listener.finishProjectBuilder(builderDefinition, affectedResources, subMonitor);
+					}
+				}, monitor);
+
+			}
 		}
 	}
 
 	/**
-	 * Runs all given {@link IValidator} in the order as they are given in the set.
+	 * Runs a single {@link IValidator}. The affected resources are collected, the listeners are notified and the
+	 * markers are created on the build thread; only the validation of an {@link AbstractValidator} might run on a
+	 * worker thread.
 	 */
-	private void runValidator(final ValidatorDefinition validatorDefinition, final Set<IResource> affectedResources,
-			final int kind, IProgressMonitor monitor, List<IProjectContributionEventListener> listeners) {
+	private class ValidatorContribution extends ProjectContributorScheduler.Contribution {
 
-		for (final IProjectContributionEventListener listener : listeners) {
+		private final ValidatorDefinition validatorDefinition;
 
-			execute(new SafeExecutableWithMonitor() {
+		private final IProject project;
 
-				@SuppressWarnings("deprecation")
-				public void execute(IProgressMonitor subMonitor) throws Exception {
-					listener.startContributor(validatorDefinition.getValidator(), affectedResources, subMonitor);
-					listener.startValidator(validatorDefinition, affectedResources, subMonitor);
-				}
-			}, monitor);
+		private final int kind;
+
+		private final IResourceDelta delta;
+
+		private final IProgressMonitor monitor;
+
+		private final List<IProjectContributionEventListener> listeners;
 
+		private Set<IResource> affectedResources;
+
+		private volatile Map<IResource, Set<ValidationProblem>> problems;
+
+		public ValidatorContribution(ValidatorDefinition validatorDefinition, IProject project, int kind,
+				IResourceDelta delta, IProgressMonitor monitor, List<IProjectContributionEventListener> listeners) {
+			super(validatorDefinition.getID(), validatorDefinition.isConcurrent()
+					&& validatorDefinition.getValidator() instanceof AbstractValidator, validatorDefinition
+					.getDependencies());
+			this.validatorDefinition = validatorDefinition;
+			this.project = project;
+			this.kind = kind;
+			this.delta = delta;
+			this.monitor = monitor;
+			this.listeners = listeners;
 		}
 
-		execute(new SafeExecutableWithMonitor() {
+		@Override
+		protected void start() throws CoreException {
+			affectedResources = getAffectedResources(validatorDefinition.getValidator(), project, kind, delta);
+
+			for (final IProjectContributionEventListener listener : listeners) {
+
+				execute(new SafeExecutableWithMonitor() {
+
+					@SuppressWarnings("deprecation")
+					public void execute(IProgressMonitor subMonitor) throws Exception {
+						listener.startContributor(validatorDefinition.getValidator(), affectedResources, subMonitor);
+						listener.startValidator(validatorDefinition, affectedResources, subMonitor);
+					}
+				}, monitor);
 
-			public void execute(IProgressMonitor subMonitor) throws Exception {
-				validatorDefinition.getValidator().validate(affectedResources, kind, subMonitor);
 			}
-		}, monitor);
+		}
 
-		for (final IProjectContributionEventListener listener : listeners) {
-			
+		@Override
+		protected void run(IProgressMonitor runMonitor) {
 			execute(new SafeExecutableWithMonitor() {
-				
-				@SuppressWarnings("deprecation")
+
 				public void execute(IProgressMonitor subMonitor) throws Exception {
-					listener.finishContributor(validatorDefinition.getValidator(), affectedResources, subMonitor);
-					listener.finishValidator(validatorDefinition, affectedResources, subMonitor);
+					long start = System.nanoTime();
+					try {
+						if (isConcurrent()) {
+							problems = ((AbstractValidator) validatorDefinition.getValidator()).computeProblems(
+									affectedResources, kind, subMonitor);
+						}
+						else {
+							validatorDefinition.getValidator().validate(affectedResources, kind, subMonitor);
+						}
+					}
+					finally {
+						recordStatistics(validatorDefinition.getID(), affectedResources, start);
+					}
 				}
-			}, monitor);
-			
+			}, runMonitor);
+		}
+
+		@Override
+		protected void apply(IProgressMonitor applyMonitor) {
+			final Map<IResource, Set<ValidationProblem>> computedProblems = problems;
+			if (computedProblems != null) {
+				problems = null;
+				execute(new SafeExecutableWithMonitor() {
+
+					public void execute(IProgressMonitor subMonitor) throws Exception {
+						((AbstractValidator) validatorDefinition.getValidator()).applyProblems(computedProblems,
+								subMonitor);
+					}
+				}, applyMonitor);
+			}
+		}
+
+		@Override
+		protected void finish() {
+			for (final IProjectContributionEventListener listener : listeners) {
+
+				execute(new SafeExecutableWithMonitor() {
+
+					@SuppressWarnings("deprecation")
+					public void execute(IProgressMonitor subMonitor) throws Exception {
+						listener.finishContributor(validatorDefinition.getValidator(), affectedResources, subMonitor);
+						listener.finishValidator(validatorDefinition, affectedResources, subMonitor);
+					}
+				}, monitor);
+
+			}
+		}
+	}
+
+	private void recordStatistics(String contributorId, Set<IResource> affectedResources, long start) {
+		if (ValidationStatistics.isEnabled()) {
+			ValidationStatistics.getDefault().recordContributor(contributorId, affectedResources.size(),
+					System.nanoTime() - start);
 		}
 	}
 
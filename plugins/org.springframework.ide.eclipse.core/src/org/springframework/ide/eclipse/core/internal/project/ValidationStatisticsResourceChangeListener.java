@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.internal.project;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.springframework.ide.eclipse.core.SpringCore;
+import org.springframework.ide.eclipse.core.model.validation.ValidationStatistics;
+
+/**
+ * {@link IResourceChangeListener} that scopes the {@link ValidationStatistics} to a workspace build: the
+ * statistics are reset before the build and the totals of all projects built are written as JSON report into
+ * the state location of the core plugin after it.
+ */
+public class ValidationStatisticsResourceChangeListener implements IResourceChangeListener {
+
+	/** Name of the JSON report of the {@link ValidationStatistics} within the state location of the core plugin */
+	public static final String STATISTICS_REPORT_FILE_NAME = "validation-statistics.json";
+
+	public void resourceChanged(IResourceChangeEvent event) {
+		if (!ValidationStatistics.isEnabled()) {
+			return;
+		}
+		if (event.getType() == IResourceChangeEvent.PRE_BUILD) {
+			ValidationStatistics.getDefault().reset();
+		}
+		else if (event.getType() == IResourceChangeEvent.POST_BUILD
+				&& !ValidationStatistics.getDefault().getContributorStatistics().isEmpty()) {
+			File report = SpringCore.getDefault().getStateLocation().append(STATISTICS_REPORT_FILE_NAME).toFile();
+			try {
+				ValidationStatistics.getDefault().writeJson(report);
+			}
+			catch (IOException e) {
+				SpringCore.log("Error writing validation statistics to '" + report + "'", e);
+			}
+		}
+	}
+
+}
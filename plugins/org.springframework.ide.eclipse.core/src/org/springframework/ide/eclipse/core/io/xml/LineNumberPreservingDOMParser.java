@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2009 Spring IDE Developers
+ * Copyright (c) 2005, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,7 @@ import org.apache.xerces.xni.QName;
 import org.apache.xerces.xni.XMLAttributes;
 import org.apache.xerces.xni.XMLLocator;
 import org.apache.xerces.xni.XNIException;
+import org.apache.xerces.xni.grammars.XMLGrammarPool;
 import org.w3c.dom.Node;
 import org.xml.sax.SAXException;
 
@@ -37,9 +38,30 @@ public class LineNumberPreservingDOMParser extends DOMParser {
 
 	private XMLLocator locator;
 
+	private final XMLGrammarPool grammarPool;
+
 	public LineNumberPreservingDOMParser() throws SAXException {
 		// To access current nodes we have to turn off a feature
 		setFeature(DEFER_NODE_EXPANSION, false);
+		this.grammarPool = null;
+	}
+
+	/**
+	 * Creates a parser which takes the grammars of the documents it parses from the given pool and adds newly loaded
+	 * grammars to it.
+	 */
+	public LineNumberPreservingDOMParser(XMLGrammarPool grammarPool) throws SAXException {
+		super(null, grammarPool);
+		// To access current nodes we have to turn off a feature
+		setFeature(DEFER_NODE_EXPANSION, false);
+		this.grammarPool = grammarPool;
+	}
+
+	/**
+	 * Returns the pool this parser shares its grammars with, or <code>null</code> if it doesn't use one.
+	 */
+	public XMLGrammarPool getGrammarPool() {
+		return grammarPool;
 	}
 
 	public static final int getStartLineNumber(Node node) {
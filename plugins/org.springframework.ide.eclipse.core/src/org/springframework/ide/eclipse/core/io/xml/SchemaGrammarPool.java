@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.io.xml;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.xerces.xni.grammars.Grammar;
+import org.apache.xerces.xni.grammars.XMLGrammarDescription;
+import org.apache.xerces.xni.grammars.XMLGrammarPool;
+import org.apache.xerces.xni.grammars.XMLSchemaDescription;
+
+/**
+ * {@link XMLGrammarPool} that keeps compiled XML schemas, so that parsing another document which uses the same
+ * schemas doesn't have to resolve, read and compile them again.
+ * <p>
+ * Xerces' own pool identifies a schema by its target namespace only. Different versions of a Spring schema share the
+ * same namespace though, so this pool identifies a schema by its namespace together with the schema location it was
+ * loaded from. For the same reason the pool never hands out its whole content up front, every schema is looked up
+ * when a document refers to it. DTD grammars are not pooled.
+ */
+class SchemaGrammarPool implements XMLGrammarPool {
+
+	private static final Grammar[] NO_GRAMMARS = new Grammar[0];
+
+	private final Map<String, Grammar> grammars = new ConcurrentHashMap<String, Grammar>();
+
+	private final AtomicLong hits;
+
+	private final AtomicLong misses;
+
+	private volatile boolean locked = false;
+
+	public SchemaGrammarPool(AtomicLong hits, AtomicLong misses) {
+		this.hits = hits;
+		this.misses = misses;
+	}
+
+	public Grammar[] retrieveInitialGrammarSet(String grammarType) {
+		return NO_GRAMMARS;
+	}
+
+	public void cacheGrammars(String grammarType, Grammar[] newGrammars) {
+		if (locked || !XMLGrammarDescription.XML_SCHEMA.equals(grammarType)) {
+			return;
+		}
+		for (Grammar grammar : newGrammars) {
+			XMLGrammarDescription description = grammar.getGrammarDescription();
+			String location = description.getLiteralSystemId();
+			if (location != null) {
+				grammars.put(getKey(description.getNamespace(), location, description.getBaseSystemId()), grammar);
+			}
+		}
+	}
+
+	public Grammar retrieveGrammar(XMLGrammarDescription description) {
+		if (description instanceof XMLSchemaDescription) {
+			String namespace = description.getNamespace();
+			String base = description.getBaseSystemId();
+			Grammar grammar = null;
+			if (description.getLiteralSystemId() != null) {
+				grammar = grammars.get(getKey(namespace, description.getLiteralSystemId(), base));
+			}
+			String[] locationHints = ((XMLSchemaDescription) description).getLocationHints();
+			if (locationHints != null) {
+				for (int i = 0; grammar == null && i < locationHints.length; i++) {
+					grammar = grammars.get(getKey(namespace, locationHints[i], base));
+				}
+			}
+			if (grammar != null) {
+				hits.incrementAndGet();
+				return grammar;
+			}
+			misses.incrementAndGet();
+		}
+		return null;
+	}
+
+	public void lockPool() {
+		locked = true;
+	}
+
+	public void unlockPool() {
+		locked = false;
+	}
+
+	public void clear() {
+		grammars.clear();
+	}
+
+	public int size() {
+		return grammars.size();
+	}
+
+	/**
+	 * Relative schema locations are only unique in combination with the location of the document referring to them.
+	 */
+	private static String getKey(String namespace, String location, String base) {
+		StringBuilder key = new StringBuilder();
+		key.append(namespace).append(' ');
+		if (location.indexOf(':') < 0 && base != null) {
+			key.append(base).append(' ');
+		}
+		return key.append(location).toString();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2009 Spring IDE Developers
+ * Copyright (c) 2006, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,30 +23,51 @@ import org.xml.sax.SAXNotSupportedException;
 
 /**
  * A {@link DocumentLoader} implementation which loads {@link Document documents} using Apache's Xerces XML parser.
+ * <p>
+ * If created with a {@link XercesParserPool} the parsers are taken from that pool, and share the XML schemas they
+ * compiled with all other documents loaded through the same pool.
  * @author Torsten Juergeleit
  * @author Christian Dupuis
  * @auhtor Christian Dupuis
  */
 public class XercesDocumentLoader implements DocumentLoader {
 
+	private final XercesParserPool parserPool;
+
+	public XercesDocumentLoader() {
+		this(null);
+	}
+
+	/**
+	 * @param parserPool the pool to take parsers from, or <code>null</code> to create a new parser for every document
+	 */
+	public XercesDocumentLoader(XercesParserPool parserPool) {
+		this.parserPool = parserPool;
+	}
+
 	public Document loadDocument(InputSource inputSource, EntityResolver entityResolver, ErrorHandler errorHandler,
 			int validationMode, boolean namespaceAware) throws Exception {
 		try {
-			LineNumberPreservingDOMParser parser = new LineNumberPreservingDOMParser();
-			parser.setEntityResolver(entityResolver);
-			parser.setErrorHandler(errorHandler);
-			
-			// Setting this to true will trigger XSD downloads from the internet which will really slow down Spring in
-			// case of flaky internet connection
-			if (validationMode != XmlBeanDefinitionReader.VALIDATION_NONE) {
+			LineNumberPreservingDOMParser parser = parserPool != null ? parserPool.acquire()
+					: new LineNumberPreservingDOMParser();
+			try {
+				parser.setEntityResolver(entityResolver);
+				parser.setErrorHandler(errorHandler);
+
+				// Setting this to true will trigger XSD downloads from the internet which will really slow down Spring
+				// in case of flaky internet connection. Pooled parsers keep their features, so all of them are set.
 				parser.setFeature("http://xml.org/sax/features/validation", false);
 				parser.setFeature("http://apache.org/xml/features/validation/dynamic", false);
-				if (validationMode == XmlBeanDefinitionReader.VALIDATION_XSD) {
-					parser.setFeature("http://apache.org/xml/features/validation/schema", true);
+				parser.setFeature("http://apache.org/xml/features/validation/schema",
+						validationMode == XmlBeanDefinitionReader.VALIDATION_XSD);
+				parser.parse(inputSource);
+				return parser.getDocument();
+			}
+			finally {
+				if (parserPool != null) {
+					parserPool.release(parser);
 				}
 			}
-			parser.parse(inputSource);
-			return parser.getDocument();
 		}
 		catch (LinkageError e) {
 			logXercesLocation(e);
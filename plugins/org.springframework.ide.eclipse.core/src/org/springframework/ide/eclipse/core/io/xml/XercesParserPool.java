@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.io.xml;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.springframework.ide.eclipse.core.java.JdtUtils;
+import org.xml.sax.SAXException;
+
+/**
+ * Pool of {@link LineNumberPreservingDOMParser}s that share the XML schemas they compiled, so that loading the next
+ * config file of a project neither creates a new parser nor reads and compiles the Spring schemas again.
+ * <p>
+ * Which schema a namespace resolves to depends on the <code>spring.schemas</code> mappings on the classpath of the
+ * project, so there is a pool per project. The pool of a project is dropped whenever its classpath, or anything on its
+ * classpath, changes, which are the same changes that make the project's classpath URI resolver reload its mappings.
+ * Parsers that are still busy with a document while their pool is dropped are not reused.
+ */
+public class XercesParserPool {
+
+	private static final int MAX_IDLE_PARSERS = 4;
+
+	private static final ConcurrentMap<IProject, XercesParserPool> PROJECT_POOLS = new ConcurrentHashMap<IProject, XercesParserPool>();
+
+	private static final XercesParserPool SHARED_POOL = new XercesParserPool();
+
+	private static IElementChangedListener classpathListener;
+
+	/**
+	 * Returns the pool for documents whose schemas are resolved on the classpath of the given project.
+	 */
+	public static XercesParserPool getPool(IProject project) {
+		XercesParserPool pool = PROJECT_POOLS.get(project);
+		if (pool == null) {
+			installClasspathListener();
+			XercesParserPool newPool = new XercesParserPool();
+			pool = PROJECT_POOLS.putIfAbsent(project, newPool);
+			if (pool == null) {
+				pool = newPool;
+			}
+		}
+		return pool;
+	}
+
+	/**
+	 * Returns the pool for documents whose schemas are resolved independent of any project, from the schemas that
+	 * ship with Spring IDE.
+	 */
+	public static XercesParserPool getSharedPool() {
+		return SHARED_POOL;
+	}
+
+	/**
+	 * Drops the pool of the given project, e.g. because the schemas on its classpath changed.
+	 */
+	public static void invalidate(IProject project) {
+		XercesParserPool pool = PROJECT_POOLS.remove(project);
+		if (pool != null) {
+			pool.clear();
+		}
+	}
+
+	private static synchronized void installClasspathListener() {
+		if (classpathListener == null) {
+			classpathListener = new IElementChangedListener() {
+
+				public void elementChanged(ElementChangedEvent event) {
+					for (IJavaElementDelta delta : event.getDelta().getAffectedChildren()) {
+						if ((delta.getFlags() & (IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+								| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_CLOSED
+								| IJavaElementDelta.F_OPENED)) != 0
+								|| delta.getKind() == IJavaElementDelta.REMOVED
+								|| delta.getKind() == IJavaElementDelta.ADDED) {
+							invalidateForChangedElement(delta.getElement());
+						}
+					}
+				}
+			};
+			JavaCore.addElementChangedListener(classpathListener, ElementChangedEvent.POST_CHANGE);
+		}
+	}
+
+	private static void invalidateForChangedElement(IJavaElement element) {
+		if (element instanceof IJavaProject) {
+			invalidate(((IJavaProject) element).getProject());
+		}
+		for (IProject project : PROJECT_POOLS.keySet()) {
+			IJavaProject javaProject = JdtUtils.getJavaProject(project);
+			if (javaProject == null || javaProject.isOnClasspath(element)) {
+				invalidate(project);
+			}
+		}
+	}
+
+	private final AtomicLong grammarHits = new AtomicLong();
+
+	private final AtomicLong grammarMisses = new AtomicLong();
+
+	private final AtomicLong parserHits = new AtomicLong();
+
+	private final AtomicLong parserMisses = new AtomicLong();
+
+	private final Deque<LineNumberPreservingDOMParser> idleParsers = new ArrayDeque<LineNumberPreservingDOMParser>();
+
+	private SchemaGrammarPool grammarPool = new SchemaGrammarPool(grammarHits, grammarMisses);
+
+	/**
+	 * Returns an idle parser of this pool, or a new one if all of them are busy. The parser has to be given back with
+	 * {@link #release(LineNumberPreservingDOMParser)} once the document it parsed has been taken from it.
+	 */
+	public LineNumberPreservingDOMParser acquire() throws SAXException {
+		SchemaGrammarPool currentGrammarPool;
+		synchronized (this) {
+			LineNumberPreservingDOMParser parser = idleParsers.poll();
+			if (parser != null) {
+				parserHits.incrementAndGet();
+				return parser;
+			}
+			currentGrammarPool = grammarPool;
+		}
+		parserMisses.incrementAndGet();
+		return new LineNumberPreservingDOMParser(currentGrammarPool);
+	}
+
+	/**
+	 * Gives back a parser after use. The parser forgets the last document and the handlers of its user, so that the
+	 * pool doesn't keep them alive.
+	 */
+	public void release(LineNumberPreservingDOMParser parser) {
+		parser.dropDocumentReferences();
+		parser.setEntityResolver(null);
+		parser.setErrorHandler(null);
+		synchronized (this) {
+			if (parser.getGrammarPool() == grammarPool && idleParsers.size() < MAX_IDLE_PARSERS) {
+				idleParsers.push(parser);
+			}
+		}
+	}
+
+	/**
+	 * Forgets all compiled schemas and idle parsers.
+	 */
+	public synchronized void clear() {
+		grammarPool.lockPool();
+		grammarPool = new SchemaGrammarPool(grammarHits, grammarMisses);
+		idleParsers.clear();
+	}
+
+	/**
+	 * Returns how many times a schema referred to by a document was found in the pool.
+	 */
+	public long getGrammarHits() {
+		return grammarHits.get();
+	}
+
+	/**
+	 * Returns how many times a schema was looked up but not found in the pool, after which the parser loads and
+	 * compiles it.
+	 */
+	public long getGrammarMisses() {
+		return grammarMisses.get();
+	}
+
+	/**
+	 * Returns how many times an idle parser was reused.
+	 */
+	public long getParserHits() {
+		return parserHits.get();
+	}
+
+	/**
+	 * Returns how many times a new parser had to be created.
+	 */
+	public long getParserMisses() {
+		return parserMisses.get();
+	}
+
+	/**
+	 * Returns the number of compiled schemas in the pool.
+	 */
+	public synchronized int getGrammarCount() {
+		return grammarPool.size();
+	}
+
+}
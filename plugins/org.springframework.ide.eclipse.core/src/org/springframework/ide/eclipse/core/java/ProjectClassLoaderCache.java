@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 Spring IDE Developers
+ * Copyright (c) 2009, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -46,6 +46,11 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.springframework.ide.eclipse.core.SpringCore;
+import org.springframework.ide.eclipse.core.java.typehierarchy.ClasspathLookup;
+import org.springframework.ide.eclipse.core.java.typehierarchy.ClasspathLookupClassloader;
+import org.springframework.ide.eclipse.core.java.typehierarchy.ClasspathLookupDirect;
+import org.springframework.ide.eclipse.core.java.typehierarchy.JarClassIndex;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyIndex;
 
 /**
  * Internal cache of classpath urls and corresponding classloaders.
@@ -340,6 +345,24 @@ public class ProjectClassLoaderCache {
 		return classLoader;
 	}
 	
+	/**
+	 * Returns a {@link ClasspathLookup} for the classpath of the given project. The lookup shares the
+	 * resolved classpath with the project's cached class loader, resolves jar entries through the
+	 * workspace-wide {@link JarClassIndex} and falls back to the class loader for everything else.
+	 * The lookup is cached together with the class loader and can be used concurrently.
+	 */
+	public static ClasspathLookup getClasspathLookup(IProject project) {
+		ClassLoader classLoader = getClassLoader(project, null);
+		synchronized (CLASSLOADER_CACHE) {
+			for (ClassLoaderCacheEntry entry : CLASSLOADER_CACHE) {
+				if (entry.matches(project, null)) {
+					return entry.getClasspathLookup();
+				}
+			}
+		}
+		return new ClasspathLookupClassloader(classLoader);
+	}
+
 	/**
 	 * Removes any cached {@link ClassLoaderCacheEntry} for the given {@link IProject}.
 	 * @param project the project to remove {@link ClassLoaderCacheEntry} for
@@ -376,6 +399,8 @@ public class ProjectClassLoaderCache {
 
 		private URL[] urls;
 
+		private ClasspathLookup classpathLookup;
+
 		public ClassLoaderCacheEntry(IProject project, List<URL> urls, ClassLoader parentClassLoader) {
 			this.project = project;
 			this.urls = urls.toArray(new URL[urls.size()]);
@@ -384,10 +409,24 @@ public class ProjectClassLoaderCache {
 			JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
 		}
 
-		public void dispose() {
+		public synchronized void dispose() {
 			JavaCore.removeElementChangedListener(this);
+			if (this.classpathLookup instanceof ClasspathLookupDirect) {
+				((ClasspathLookupDirect) this.classpathLookup).dispose();
+			}
 			this.urls = null;
 			this.jarClassLoader = null;
+			this.classpathLookup = null;
+		}
+
+		public synchronized ClasspathLookup getClasspathLookup() {
+			if (classpathLookup == null) {
+				URL[] classpath = urls != null ? urls : new URL[0];
+				// the jars are held for the project, so that they stay indexed when this entry is evicted
+				classpathLookup = new ClasspathLookupDirect(classpath, new ClasspathLookupClassloader(getClassLoader()),
+						project);
+			}
+			return classpathLookup;
 		}
 
 		public void elementChanged(ElementChangedEvent event) {
@@ -398,6 +437,10 @@ public class ProjectClassLoaderCache {
 							|| (delta.getFlags() & IJavaElementDelta.F_CLASSPATH_CHANGED) != 0) {
 						if (javaProject.equals(delta.getElement()) || javaProject.isOnClasspath(delta.getElement())) {
 							removeClassLoaderEntryFromCache(this);
+							TypeHierarchyIndex index = SpringCore.getTypeHierarchyIndex();
+							if (index != null) {
+								index.revalidate();
+							}
 						}
 					}
 				}
@@ -495,14 +538,19 @@ public class ProjectClassLoaderCache {
 		public void propertyChange(PropertyChangeEvent event) {
 			if (SpringCore.USE_NON_LOCKING_CLASSLOADER.equals(event.getProperty())) {
 				synchronized (CLASSLOADER_CACHE) {
+					for (ClassLoaderCacheEntry entry : CLASSLOADER_CACHE) {
+						entry.dispose();
+					}
 					CLASSLOADER_CACHE.clear();
 				}
+				JarClassIndex.getDefault().closeAll();
 			}
 		}
 	}
 	
 	/**
-	 * {@link IResourceChangeListener} to clear the cache whenever new source or output folders are being added.
+	 * {@link IResourceChangeListener} to clear the cache whenever new source or output folders are being added,
+	 * and to release the jars of projects that are closed or deleted.
 	 * @since 2.5.2
 	 */
 	static class SourceAndOutputLocationResourceChangeListener implements IResourceChangeListener {
@@ -527,6 +575,14 @@ public class ProjectClassLoaderCache {
 						}
 					}
 					break;
+				case IResourceChangeEvent.PRE_CLOSE:
+				case IResourceChangeEvent.PRE_DELETE:
+					if (event.getResource() instanceof IProject) {
+						// release the jars that stay indexed for the project while it is open
+						removeClassLoaderEntryFromCache((IProject) event.getResource());
+						JarClassIndex.getDefault().releaseJars(event.getResource());
+					}
+					break;
 				}
 			}
 			else if (event.getSource() instanceof IProject) {
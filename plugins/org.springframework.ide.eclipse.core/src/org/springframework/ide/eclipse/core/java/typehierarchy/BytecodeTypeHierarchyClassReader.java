@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2015 Spring IDE Developers
+ * Copyright (c) 2013, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,7 @@ import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
@@ -27,9 +28,19 @@ import org.springframework.ide.eclipse.core.SpringCore;
 public class BytecodeTypeHierarchyClassReader implements TypeHierarchyClassReader {
 	
 	private ClasspathLookup lookup;
+	private TypeHierarchyIndex index;
 
 	public BytecodeTypeHierarchyClassReader(ClasspathLookup lookup) {
+		this(lookup, null);
+	}
+
+	/**
+	 * Creates a class reader that consults the given persistent {@link TypeHierarchyIndex} before
+	 * reading the bytecode and records everything it reads into it.
+	 */
+	public BytecodeTypeHierarchyClassReader(ClasspathLookup lookup, TypeHierarchyIndex index) {
 		this.lookup = lookup;
+		this.index = index;
 	}
 
 	public TypeHierarchyElement readTypeHierarchyInformation(char[] fullyQualifiedClassName, IProject project) {
@@ -44,11 +55,32 @@ public class BytecodeTypeHierarchyClassReader implements TypeHierarchyClassReade
 			className = fullyQualifiedClassFileName.substring(lastIndexOf + 1);
 		}
 
+		URL resource = null;
+		if (index != null) {
+			resource = lookup.getResource(fullyQualifiedClassFileName, packageName, className);
+			if (resource == null) {
+				return null;
+			}
+			TypeHierarchyElement indexedElement = index.get(resource);
+			if (indexedElement != null) {
+				return indexedElement;
+			}
+		}
+
 		InputStream stream = null;
 		try {
-			stream = lookup.getStream(fullyQualifiedClassFileName, packageName, className);
+			if (resource != null) {
+				stream = lookup.getStream(resource);
+			}
+			else {
+				stream = lookup.getStream(fullyQualifiedClassFileName, packageName, className);
+			}
 			if (stream != null) {
-				return readTypeHierarchy(stream);
+				TypeHierarchyElement element = readTypeHierarchy(stream);
+				if (element != null && resource != null) {
+					index.put(resource, element);
+				}
+				return element;
 			}
 		} finally {
 			if (stream != null) {
@@ -154,7 +186,8 @@ public class BytecodeTypeHierarchyClassReader implements TypeHierarchyClassReade
 				}
 			}
 			
-			return new TypeHierarchyElement(className, superclassName, interfaceNames);
+			TypeHierarchyNamePool namePool = TypeHierarchyNamePool.getDefault();
+			return new TypeHierarchyElement(namePool.intern(className), namePool.intern(superclassName), namePool.intern(interfaceNames));
 		} catch(Exception e) {
 			SpringCore.log(e);
 		}
@@ -11,7 +11,8 @@
 package org.springframework.ide.eclipse.core.java.typehierarchy;
 
 import org.eclipse.core.resources.IProject;
-import org.springframework.ide.eclipse.core.java.JdtUtils;
+import org.springframework.ide.eclipse.core.SpringCore;
+import org.springframework.ide.eclipse.core.java.ProjectClassLoaderCache;
 
 /**
  * @author Martin Lippert
@@ -20,13 +21,9 @@ import org.springframework.ide.eclipse.core.java.JdtUtils;
 public class BytecodeTypeHierarchyClassReaderFactory implements TypeHierarchyClassReaderFactory {
 
 	public TypeHierarchyClassReader createClassReader(IProject project) {
-//		List<URL> urls = ProjectClassLoaderCache.getClassPathUrls(project, null);
-//		ClasspathLookup lookup = new ClasspathLookupDirect(urls.toArray(new URL[0]));
-		
-		ClassLoader loader = JdtUtils.getClassLoader(project, null);
-		ClasspathLookup lookup = new ClasspathLookupClassloader(loader);
+		ClasspathLookup lookup = ProjectClassLoaderCache.getClasspathLookup(project);
 
-		return new BytecodeTypeHierarchyClassReader(lookup);
+		return new BytecodeTypeHierarchyClassReader(lookup, SpringCore.getTypeHierarchyIndex());
 	}
 
 }
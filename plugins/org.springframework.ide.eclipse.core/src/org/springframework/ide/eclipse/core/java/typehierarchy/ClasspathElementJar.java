@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2015 Spring IDE Developers
+ * Copyright (c) 2013, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,117 +11,79 @@
 package org.springframework.ide.eclipse.core.java.typehierarchy;
 
 import java.io.File;
-import java.io.IOException;
 import java.io.InputStream;
-import java.util.Collections;
-import java.util.Enumeration;
-import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.jar.JarFile;
-import java.util.zip.ZipEntry;
+import java.net.URL;
+
+import org.springframework.ide.eclipse.core.java.typehierarchy.JarClassIndex.JarContents;
 
 /**
+ * {@link ClasspathElement} for a jar file. The contents of the jar and the jar file handles are
+ * shared through the workspace-wide {@link JarClassIndex}, so instances of this class don't hold any
+ * resources themselves and can be used concurrently without locking.
+ *
  * @author Martin Lippert
  * @since 3.3.0
  */
 public class ClasspathElementJar implements ClasspathElement {
 	
-	private JarFile jarFile;
-	private String jarFileName;
-	private Set<String> knownPackageNames;
-	private long lastModified;
+	private final String jarFileName;
+	private final JarClassIndex index;
+	private volatile JarContents contents;
 
 	public ClasspathElementJar(String jarFileName) {
-		this.jarFileName = jarFileName;
+		this(jarFileName, JarClassIndex.getDefault());
 	}
 
-	public InputStream getStream(String fullyQualifiedClassFileName, String packageName, String classFileName) throws Exception {
-		if (!isPackage(packageName)) return null;
-		
-		ZipEntry entry = jarFile.getEntry(fullyQualifiedClassFileName);
-		if (entry != null) {
-			return jarFile.getInputStream(entry);
-		}
-		return null;
+	public ClasspathElementJar(String jarFileName, JarClassIndex index) {
+		this.jarFileName = new File(jarFileName).getAbsolutePath();
+		this.index = index;
 	}
 
-	public void cleanup() {
-		synchronized(this) {
-			if (this.jarFile != null) {
-				try {
-					this.jarFile.close();
-				} catch(IOException e) { // ignore it
-				}
-				this.jarFile = null;
-			}
-			this.knownPackageNames = null;
-		}
-	}
+	public InputStream getStream(String fullyQualifiedClassFileName, String packageName, String classFileName) throws Exception {
+		JarContents jar = getContents();
+		if (!jar.containsClassFile(fullyQualifiedClassFileName)) return null;
 
-	public long lastModified() {
-		if (this.lastModified == 0)
-			this.lastModified = new File(this.jarFile.getName()).lastModified();
-		return this.lastModified;
+		return index.getInputStream(jar, fullyQualifiedClassFileName);
 	}
 
-	private boolean isPackage(String qualifiedPackageName) {
-		if (this.knownPackageNames != null)
-			return this.knownPackageNames.contains(qualifiedPackageName);
+	public URL getResource(String fullyQualifiedClassFileName, String packageName, String classFileName) throws Exception {
+		JarContents jar = getContents();
+		if (!jar.containsClassFile(fullyQualifiedClassFileName)) return null;
 
-		try {
-			synchronized(this) {
-				if (this.jarFile == null) {
-					this.jarFile = new JarFile(this.jarFileName);
-				}
-				this.knownPackageNames = findPackageSet();
-			}
-		} catch(Exception e) {
-			this.knownPackageNames = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
-		}
-		return this.knownPackageNames.contains(qualifiedPackageName);
+		return new URL("jar:" + new File(jarFileName).toURI().toURL() + "!/" + fullyQualifiedClassFileName);
 	}
 
-	private Set<String> findPackageSet() {
-		long lastModified = lastModified();
-		long fileSize = new File(jarFileName).length();
-		PackageCacheEntry cacheEntry = (PackageCacheEntry) PackageCache.get(jarFileName);
-		if (cacheEntry != null && cacheEntry.lastModified == lastModified && cacheEntry.fileSize == fileSize)
-			return cacheEntry.packageSet;
-		
-		Set<String> packageSet = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
-		packageSet.add(""); //$NON-NLS-1$
-		nextEntry : for (Enumeration e = jarFile.entries(); e.hasMoreElements(); ) {
-			String fileName = ((ZipEntry) e.nextElement()).getName();
+	/**
+	 * Forgets the contents of the jar, so that they are validated against the jar file again on next use.
+	 * Jar file handles are pooled by the {@link JarClassIndex}.
+	 */
+	public void cleanup() {
+		this.contents = null;
+	}
 
-			// add the package name & all of its parent packages
-			int last = fileName.lastIndexOf('/');
-			while (last > 0) {
-				// extract the package name
-				String packageName = fileName.substring(0, last);
-				if (!packageSet.add(packageName))
-					continue nextEntry; // already existed
-				last = packageName.lastIndexOf('/');
-			}
-		}
+	public String getJarFileName() {
+		return jarFileName;
+	}
 
-		PackageCache.put(jarFileName, new PackageCacheEntry(lastModified, fileSize, packageSet));
-		return packageSet;
+	JarClassIndex getIndex() {
+		return index;
+	}
+
+	public long lastModified() {
+		return getContents().getLastModified();
 	}
-	
-	// global zip file content cache
-	private static Map<String, PackageCacheEntry> PackageCache = new ConcurrentHashMap<String, PackageCacheEntry>();
-	
-	private static class PackageCacheEntry {
-		long lastModified;
-		long fileSize;
-		Set<String> packageSet;
 
-		public PackageCacheEntry(long lastModified, long fileSize, Set<String> packageSet) {
-			this.lastModified = lastModified;
-			this.fileSize = fileSize;
-			this.packageSet = packageSet;
+	/**
+	 * Returns the indexed contents of the jar, which are validated against the jar file on disk on the
+	 * first use after a {@link #cleanup()}, and looked up again if the index replaced or dropped them.
+	 */
+	public JarContents getContents() {
+		JarContents result = this.contents;
+		if (result == null || !index.isCurrent(result)) {
+			result = index.getContents(jarFileName);
+			this.contents = result;
 		}
+		return result;
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal Software, Inc. and others.
+ * Copyright (c) 2015, 2026 Pivotal Software, Inc. and others.
  * All rights reserved. This program and the accompanying materials are made 
  * available under the terms of the Eclipse Public License v1.0 
  * (https://www.eclipse.org/legal/epl-v10.html), and the Eclipse Distribution 
@@ -11,6 +11,7 @@
 package org.springframework.ide.eclipse.core.java.typehierarchy;
 
 import java.io.InputStream;
+import java.net.URL;
 
 /**
  * @author Martin Lippert
@@ -18,6 +19,8 @@ import java.io.InputStream;
 public interface ClasspathLookup {
 
 	InputStream getStream(String fullyQualifiedClassFileName, String packageName, String className);
+	URL getResource(String fullyQualifiedClassFileName, String packageName, String className);
+	InputStream getStream(URL resource);
 	void close();
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal Software, Inc. and others.
+ * Copyright (c) 2015, 2026 Pivotal Software, Inc. and others.
  * All rights reserved. This program and the accompanying materials are made 
  * available under the terms of the Eclipse Public License v1.0 
  * (https://www.eclipse.org/legal/epl-v10.html), and the Eclipse Distribution 
@@ -10,7 +10,9 @@
 *******************************************************************************/
 package org.springframework.ide.eclipse.core.java.typehierarchy;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
 
 /**
  * @author Martin Lippert
@@ -27,6 +29,18 @@ public class ClasspathLookupClassloader implements ClasspathLookup {
 		return loader.getResourceAsStream(fullyQualifiedClassFileName);
 	}
 
+	public URL getResource(String fullyQualifiedClassFileName, String packageName, String className) {
+		return loader.getResource(fullyQualifiedClassFileName);
+	}
+
+	public InputStream getStream(URL resource) {
+		try {
+			return resource.openStream();
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
 	public void close() {
 	}
 
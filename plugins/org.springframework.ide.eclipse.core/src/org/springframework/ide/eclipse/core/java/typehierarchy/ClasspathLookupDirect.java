@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal Software, Inc. and others.
+ * Copyright (c) 2015, 2026 Pivotal Software, Inc. and others.
  * All rights reserved. This program and the accompanying materials are made 
  * available under the terms of the Eclipse Public License v1.0 
  * (https://www.eclipse.org/legal/epl-v10.html), and the Eclipse Distribution 
@@ -11,19 +11,35 @@
 package org.springframework.ide.eclipse.core.java.typehierarchy;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.InputStream;
+import java.net.URI;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.springframework.ide.eclipse.core.SpringCore;
+import org.springframework.ide.eclipse.core.java.typehierarchy.JarClassIndex.JarContents;
 
 /**
  * A simple lookup mechansim for finding resources on a number of directories and zip/jar files.
  * This can be used to lookup resources from a classpath of a project within the IDE.
- * 
+ * <p>
+ * Jars are resolved through the workspace-wide {@link JarClassIndex}: the jar that contains a class
+ * is found with a single hash lookup, and only class folders that come before that jar on the
+ * classpath are probed in addition. Lookups don't require any locking.
+ * <p>
+ * The jars are registered with the index for an owner, which is the lookup itself unless another owner
+ * like a project is given. Once a lookup is disposed, it no longer touches the index and delegates all
+ * requests to the fallback.
+ * <p>
+ * Classes that can't be found on the given classpath are looked up using an optional fallback
+ * {@link ClasspathLookup}, e.g. for classes of the JRE.
+ * <p>
  * You have to close a ClasspathLookup after using it in order to release possible file locks on zip
  * files, for example.
  * 
@@ -32,15 +48,96 @@ import org.springframework.ide.eclipse.core.SpringCore;
  */
 public class ClasspathLookupDirect implements ClasspathLookup {
 	
-	private ClasspathElement[] cpElements;
+	private final ClasspathElement[] cpElements;
+	private final JarClassIndex jarIndex;
+	private final ClasspathLookup fallback;
+	private final Object owner;
+
+	/** positions of the jars on the classpath, keyed by their absolute path */
+	private final Map<String, Integer> jarPositions;
+
+	/** all non-jar elements and their positions on the classpath, in classpath order */
+	private final ClasspathElement[] otherElements;
+	private final int[] otherElementPositions;
+
+	/** whether the indexed contents of the jars have been checked against the jar files since the last {@link #close()} */
+	private volatile boolean jarsValidated;
+
+	private volatile boolean disposed;
 	
 	public ClasspathLookupDirect(URL[] urls) {
+		this(urls, null);
+	}
+
+	public ClasspathLookupDirect(URL[] urls, ClasspathLookup fallback) {
+		this(createClasspathElements(urls), fallback);
+	}
+
+	public ClasspathLookupDirect(URL[] urls, ClasspathLookup fallback, Object owner) {
+		this(createClasspathElements(urls), fallback, owner);
+	}
+
+	public ClasspathLookupDirect(ClasspathElement[] cpElements) {
+		this(cpElements, null);
+	}
+
+	public ClasspathLookupDirect(ClasspathElement[] cpElements, ClasspathLookup fallback) {
+		this(cpElements, fallback, null);
+	}
+
+	/**
+	 * Creates a lookup whose jars are registered with the {@link JarClassIndex} for the given owner, or for
+	 * the lookup itself if the owner is <code>null</code>. Jars registered for another owner stay indexed
+	 * when the lookup is disposed, until the owner releases them.
+	 */
+	public ClasspathLookupDirect(ClasspathElement[] cpElements, ClasspathLookup fallback, Object owner) {
+		this.cpElements = cpElements;
+		this.fallback = fallback;
+		this.owner = owner != null ? owner : this;
+		this.jarPositions = new HashMap<String, Integer>();
+
+		JarClassIndex index = null;
+		List<Integer> positions = new ArrayList<Integer>();
+		List<ClasspathElement> others = new ArrayList<ClasspathElement>();
+		for (int i = 0; i < cpElements.length; i++) {
+			if (cpElements[i] instanceof ClasspathElementJar) {
+				ClasspathElementJar jar = (ClasspathElementJar) cpElements[i];
+				if (index == null) {
+					index = jar.getIndex();
+				}
+				if (!jarPositions.containsKey(jar.getJarFileName())) {
+					jarPositions.put(jar.getJarFileName(), i);
+				}
+			}
+			else {
+				others.add(cpElements[i]);
+				positions.add(i);
+			}
+		}
+
+		this.jarIndex = index != null ? index : JarClassIndex.getDefault();
+
+		// make sure the jars are indexed, so that they are found by class file name
+		this.jarIndex.setJars(this.owner, jarPositions.keySet());
+		for (Integer position : jarPositions.values()) {
+			((ClasspathElementJar) cpElements[position]).getContents();
+		}
+
+		this.otherElements = others.toArray(new ClasspathElement[others.size()]);
+		this.otherElementPositions = new int[positions.size()];
+		for (int i = 0; i < otherElementPositions.length; i++) {
+			otherElementPositions[i] = positions.get(i);
+		}
+		this.jarsValidated = true;
+	}
+
+	private static ClasspathElement[] createClasspathElements(URL[] urls) {
 		List<ClasspathElement> locations = new ArrayList<ClasspathElement>();
 		
 		Set<URL> usedURLs = new HashSet<URL>();
 		for (URL url : urls) {
 			if (!usedURLs.contains(url)) {
-				if (url.toString().endsWith(".jar")) {
+				if (url.toString().endsWith(".jar") || url.toString().endsWith(".zip")) {
 					try {
 						String path = url.toURI().getPath();
 						locations.add(new ClasspathElementJar(path));
@@ -61,35 +158,127 @@ public class ClasspathLookupDirect implements ClasspathLookup {
 			}
 		}
 		
-		this.cpElements = locations.toArray(new ClasspathElement[0]);
+		return locations.toArray(new ClasspathElement[0]);
 	}
 
-	public ClasspathLookupDirect(ClasspathElement[] cpElements) {
-		this.cpElements = cpElements;
+	public InputStream getStream(String fullyQualifiedClassFileName, String packageName, String className) {
+		ClasspathElement element = findElement(fullyQualifiedClassFileName, packageName, className);
+		if (element != null) {
+			try {
+				InputStream stream = element.getStream(fullyQualifiedClassFileName, packageName, className);
+				if (stream != null) {
+					return stream;
+				}
+			} catch (Exception e) {
+			}
+		}
+		return fallback != null ? fallback.getStream(fullyQualifiedClassFileName, packageName, className) : null;
 	}
 
-	public InputStream getStream(String fullyQualifiedClassFileName, String packageName, String className) {
-		for (int i = 0; i < cpElements.length; i++) {
-			InputStream stream = null;
-			synchronized(cpElements[i]) {
-				try {
-					stream = cpElements[i].getStream(fullyQualifiedClassFileName, packageName, className);
-					if (stream != null) {
-						return stream;
+	public URL getResource(String fullyQualifiedClassFileName, String packageName, String className) {
+		ClasspathElement element = findElement(fullyQualifiedClassFileName, packageName, className);
+		if (element != null) {
+			try {
+				URL resource = element.getResource(fullyQualifiedClassFileName, packageName, className);
+				if (resource != null) {
+					return resource;
+				}
+			} catch (Exception e) {
+			}
+		}
+		return fallback != null ? fallback.getResource(fullyQualifiedClassFileName, packageName, className) : null;
+	}
+
+	/**
+	 * Opens the class file at the given location, as returned by {@link #getResource(String, String, String)},
+	 * without looking the class up on the classpath again.
+	 */
+	public InputStream getStream(URL resource) {
+		try {
+			if ("file".equals(resource.getProtocol())) {
+				return new FileInputStream(new File(resource.toURI()));
+			}
+			else if ("jar".equals(resource.getProtocol())) {
+				String path = resource.getPath();
+				int separator = path.indexOf("!/");
+				if (separator > 0) {
+					String jarPath = new File(new URI(path.substring(0, separator))).getAbsolutePath();
+					Integer position = jarPositions.get(jarPath);
+					if (position != null && !disposed) {
+						String entryName = path.substring(separator + 2);
+						return cpElements[position].getStream(entryName, null, null);
 					}
-				} catch (Exception e) {
 				}
 			}
+		} catch (Exception e) {
 		}
-		return null;
+		return fallback != null ? fallback.getStream(resource) : null;
 	}
 
 	public void close() {
 		for (int i = 0; i < cpElements.length; i++) {
-			synchronized(cpElements[i]) {
-				cpElements[i].cleanup();
+			cpElements[i].cleanup();
+		}
+		jarsValidated = false;
+		if (fallback != null) {
+			fallback.close();
+		}
+	}
+
+	/**
+	 * Releases the jars of this lookup from the {@link JarClassIndex} unless they are registered for
+	 * another owner, so that jars that are no longer on any classpath are dropped from the index. The
+	 * lookup only uses its fallback afterwards.
+	 */
+	public synchronized void dispose() {
+		if (!disposed) {
+			disposed = true;
+			if (owner == this) {
+				jarIndex.releaseJars(this);
+			}
+		}
+	}
+
+	/**
+	 * Returns the first element on the classpath that contains the given class file.
+	 */
+	private ClasspathElement findElement(String fullyQualifiedClassFileName, String packageName, String className) {
+		if (disposed) {
+			// don't index the jars again without holding them
+			return null;
+		}
+		if (!jarsValidated) {
+			// pick up jars that have been changed since the last use, so that they are found by their new contents
+			for (Integer position : jarPositions.values()) {
+				((ClasspathElementJar) cpElements[position]).getContents();
+			}
+			jarsValidated = true;
+		}
+
+		int jarPosition = Integer.MAX_VALUE;
+		for (JarContents jar : jarIndex.findJars(fullyQualifiedClassFileName)) {
+			Integer position = jarPositions.get(jar.getPath());
+			if (position != null && position < jarPosition) {
+				jarPosition = position;
+			}
+		}
+
+		for (int i = 0; i < otherElements.length && otherElementPositions[i] < jarPosition; i++) {
+			ClasspathElement element = otherElements[i];
+			try {
+				if (element instanceof ClasspathElementDirectory) {
+					if (((ClasspathElementDirectory) element).doesFileExist(fullyQualifiedClassFileName, packageName, className)) {
+						return element;
+					}
+				}
+				else if (element.getResource(fullyQualifiedClassFileName, packageName, className) != null) {
+					return element;
+				}
+			} catch (Exception e) {
 			}
 		}
+
+		return jarPosition != Integer.MAX_VALUE ? cpElements[jarPosition] : null;
 	}
 
 }
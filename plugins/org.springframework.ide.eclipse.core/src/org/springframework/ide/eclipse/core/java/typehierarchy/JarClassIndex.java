@@ -0,0 +1,539 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java.typehierarchy;
+
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.springframework.ide.eclipse.core.SpringCore;
+
+/**
+ * Workspace-wide index of the class files contained in jar files.
+ * <p>
+ * The contents of each jar are read once per jar file version (identified by path, size and last
+ * modification time) and are shared by all projects that have the jar on their classpath. In addition to
+ * that the index maintains a global mapping from class file names to the jars that contain them, so that
+ * a {@link ClasspathLookupDirect} can find the jar for a class with a single hash lookup instead of probing
+ * every jar on the classpath.
+ * <p>
+ * Jars stay indexed as long as any owner uses them, see {@link #setJars(Object, Collection)}. Owners are
+ * typically projects, so that the indexed jars don't depend on how long lookups or class loaders are
+ * cached.
+ * <p>
+ * Jar file handles are pooled and shared as well: they are opened on demand, kept open for subsequent
+ * reads and closed when they are evicted from the pool, when the jar changes or on {@link #closeAll()}.
+ * If the non-locking classloader is enabled, handles are closed as soon as they are no longer in use
+ * to avoid locking jar files.
+ * <p>
+ * If memory-mapped jar files are enabled (see {@link SpringCore#USE_MAPPED_JAR_FILES}), jars outside of
+ * the workspace are read through a {@link MappedJarFile} instead, which allows concurrent reads without
+ * any locking. Jars inside the workspace are likely to be rewritten by builds, so they are never mapped.
+ * Mapped jars that have been changed on disk are read through a regular jar file handle until they are
+ * indexed again, which drops the outdated mapping.
+ */
+public class JarClassIndex {
+
+	private static final int MAX_OPEN_JARS = 128;
+
+	private static final JarContents[] NO_JARS = new JarContents[0];
+
+	private static final JarClassIndex DEFAULT = new JarClassIndex();
+
+	/** {@link JarContents} keyed by the absolute path of the jar */
+	private final Map<String, JarContents> contents = new ConcurrentHashMap<String, JarContents>();
+
+	/** Jars keyed by the names of the class files they contain, the arrays are never modified once published */
+	private final Map<String, JarContents[]> jarsByClassFileName = new ConcurrentHashMap<String, JarContents[]>();
+
+	private final ConcurrentHashMap<String, Object> locks = new ConcurrentHashMap<String, Object>();
+
+	private final Map<String, PooledJarFile> openJars = new ConcurrentHashMap<String, PooledJarFile>();
+
+	/** Number of owners that use a jar, keyed by the absolute path of the jar */
+	private final Map<String, Integer> users = new HashMap<String, Integer>();
+
+	/** Absolute paths of the jars used by each owner */
+	private final Map<Object, Set<String>> jarsByOwner = new HashMap<Object, Set<String>>();
+
+	public static JarClassIndex getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Returns the {@link JarContents} for the given jar, reading the jar if it is not indexed yet or if it
+	 * has been changed since it was indexed.
+	 */
+	public JarContents getContents(String jarPath) {
+		File file = new File(jarPath);
+		long size = file.length();
+		long lastModified = file.lastModified();
+
+		JarContents existing = contents.get(jarPath);
+		if (existing != null && existing.size == size && existing.lastModified == lastModified) {
+			return existing;
+		}
+
+		Object lock = getLock(jarPath);
+		synchronized (lock) {
+			existing = contents.get(jarPath);
+			if (existing != null && existing.size == size && existing.lastModified == lastModified) {
+				return existing;
+			}
+
+			JarContents newContents = readContents(jarPath, size, lastModified);
+			synchronized (jarsByClassFileName) {
+				JarContents previous = contents.put(jarPath, newContents);
+				if (previous != null) {
+					unregister(previous);
+				}
+				register(newContents);
+			}
+			return newContents;
+		}
+	}
+
+	/**
+	 * Returns whether the given contents are the ones currently indexed for their jar, i.e. the jar has
+	 * neither been re-indexed nor removed from the index since.
+	 */
+	public boolean isCurrent(JarContents jar) {
+		return contents.get(jar.path) == jar;
+	}
+
+	/**
+	 * Returns all indexed jars that contain the given class file, or an empty array. The result must not be
+	 * modified.
+	 */
+	public JarContents[] findJars(String fullyQualifiedClassFileName) {
+		JarContents[] result = jarsByClassFileName.get(fullyQualifiedClassFileName);
+		return result != null ? result : NO_JARS;
+	}
+
+	/**
+	 * Opens a stream for the given entry of the given jar, using a pooled jar file handle. The handle is
+	 * returned to the pool once the stream is closed.
+	 */
+	public InputStream getInputStream(JarContents jar, String entryName) throws IOException {
+		if (jar.mappedJarFile != null && !jar.mappedJarFile.isModified()) {
+			return jar.mappedJarFile.getInputStream(entryName);
+		}
+
+		final PooledJarFile pooledJar = acquire(jar);
+		boolean success = false;
+		try {
+			ZipEntry entry = pooledJar.jarFile.getEntry(entryName);
+			if (entry == null) {
+				return null;
+			}
+			InputStream stream = pooledJar.jarFile.getInputStream(entry);
+			success = true;
+			return new FilterInputStream(stream) {
+
+				private boolean closed = false;
+
+				@Override
+				public void close() throws IOException {
+					try {
+						super.close();
+					}
+					finally {
+						if (!closed) {
+							closed = true;
+							release(pooledJar);
+						}
+					}
+				}
+			};
+		}
+		finally {
+			if (!success) {
+				release(pooledJar);
+			}
+		}
+	}
+
+	/**
+	 * Sets the jars used by the given owner, replacing the ones set before. Jars that are no longer used
+	 * by any owner are removed from the index.
+	 */
+	public void setJars(Object owner, Collection<String> jarPaths) {
+		synchronized (users) {
+			Set<String> newJars = new HashSet<String>(jarPaths);
+			Set<String> oldJars = newJars.isEmpty() ? jarsByOwner.remove(owner) : jarsByOwner.put(owner, newJars);
+			if (oldJars == null) {
+				oldJars = Collections.emptySet();
+			}
+			for (String jarPath : newJars) {
+				if (!oldJars.contains(jarPath)) {
+					addUser(jarPath);
+				}
+			}
+			for (String jarPath : oldJars) {
+				if (!newJars.contains(jarPath)) {
+					removeUser(jarPath);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Releases all jars used by the given owner.
+	 */
+	public void releaseJars(Object owner) {
+		setJars(owner, Collections.<String>emptySet());
+	}
+
+	/**
+	 * Returns whether the given jar is used by any owner.
+	 */
+	public boolean isUsed(String jarPath) {
+		synchronized (users) {
+			return users.containsKey(jarPath);
+		}
+	}
+
+	private void addUser(String jarPath) {
+		Integer count = users.get(jarPath);
+		users.put(jarPath, count != null ? count + 1 : 1);
+	}
+
+	private void removeUser(String jarPath) {
+		Integer count = users.get(jarPath);
+		if (count == null) {
+			return;
+		}
+		if (count > 1) {
+			users.put(jarPath, count - 1);
+			return;
+		}
+		users.remove(jarPath);
+		invalidate(jarPath);
+	}
+
+	/**
+	 * Removes the given jar from the index and closes its pooled handle, if any.
+	 */
+	public void invalidate(String jarPath) {
+		synchronized (getLock(jarPath)) {
+			synchronized (jarsByClassFileName) {
+				JarContents existing = contents.remove(jarPath);
+				if (existing != null) {
+					unregister(existing);
+				}
+			}
+			locks.remove(jarPath);
+		}
+		synchronized (openJars) {
+			PooledJarFile pooledJar = openJars.remove(jarPath);
+			if (pooledJar != null) {
+				retire(pooledJar);
+			}
+		}
+	}
+
+	/**
+	 * Closes all pooled jar file handles that are not in use.
+	 */
+	public void closeAll() {
+		synchronized (openJars) {
+			for (PooledJarFile pooledJar : new ArrayList<PooledJarFile>(openJars.values())) {
+				retire(pooledJar);
+			}
+			openJars.clear();
+		}
+	}
+
+	public int getIndexedJarCount() {
+		return contents.size();
+	}
+
+	public int getIndexedClassFileCount() {
+		return jarsByClassFileName.size();
+	}
+
+	public int getOpenJarCount() {
+		return openJars.size();
+	}
+
+	private Object getLock(String jarPath) {
+		Object lock = locks.get(jarPath);
+		if (lock == null) {
+			lock = new Object();
+			Object existing = locks.putIfAbsent(jarPath, lock);
+			if (existing != null) {
+				lock = existing;
+			}
+		}
+		return lock;
+	}
+
+	private JarContents readContents(String jarPath, long size, long lastModified) {
+		Set<String> packageNames = new HashSet<String>();
+		Set<String> classFileNames = new HashSet<String>();
+		packageNames.add(""); //$NON-NLS-1$
+
+		MappedJarFile mappedJarFile = null;
+		if (useMappedJarFiles() && !isInWorkspace(jarPath)) {
+			try {
+				mappedJarFile = MappedJarFile.open(jarPath);
+				for (String fileName : mappedJarFile.getEntryNames()) {
+					addEntry(fileName, packageNames, classFileNames);
+				}
+			}
+			catch (IOException e) {
+				// fall back to the regular jar file handling below
+				mappedJarFile = null;
+				packageNames.clear();
+				classFileNames.clear();
+				packageNames.add(""); //$NON-NLS-1$
+			}
+		}
+
+		if (mappedJarFile == null) {
+			JarFile jarFile = null;
+			try {
+				jarFile = new JarFile(jarPath);
+				for (Enumeration<? extends ZipEntry> e = jarFile.entries(); e.hasMoreElements(); ) {
+					addEntry(e.nextElement().getName(), packageNames, classFileNames);
+				}
+			}
+			catch (IOException e) {
+				// not a readable jar, treat it as empty
+			}
+			finally {
+				if (jarFile != null) {
+					try {
+						jarFile.close();
+					}
+					catch (IOException e) {
+					}
+				}
+			}
+		}
+
+		return new JarContents(jarPath, size, lastModified, Collections.unmodifiableSet(packageNames),
+				Collections.unmodifiableSet(classFileNames), mappedJarFile);
+	}
+
+	private void addEntry(String fileName, Set<String> packageNames, Set<String> classFileNames) {
+		if (fileName.endsWith(".class")) {
+			classFileNames.add(fileName);
+		}
+
+		// add the package name & all of its parent packages
+		int last = fileName.lastIndexOf('/');
+		while (last > 0) {
+			// extract the package name
+			String packageName = fileName.substring(0, last);
+			if (!packageNames.add(packageName))
+				return; // already existed
+			last = packageName.lastIndexOf('/');
+		}
+	}
+
+	private void register(JarContents jar) {
+		for (String classFileName : jar.classFileNames) {
+			JarContents[] existing = jarsByClassFileName.get(classFileName);
+			if (existing == null) {
+				jarsByClassFileName.put(classFileName, new JarContents[] { jar });
+			}
+			else {
+				JarContents[] jars = new JarContents[existing.length + 1];
+				System.arraycopy(existing, 0, jars, 0, existing.length);
+				jars[existing.length] = jar;
+				jarsByClassFileName.put(classFileName, jars);
+			}
+		}
+	}
+
+	private void unregister(JarContents jar) {
+		for (String classFileName : jar.classFileNames) {
+			JarContents[] existing = jarsByClassFileName.get(classFileName);
+			if (existing != null) {
+				List<JarContents> jars = new ArrayList<JarContents>(existing.length);
+				for (JarContents candidate : existing) {
+					if (candidate != jar) {
+						jars.add(candidate);
+					}
+				}
+				if (jars.isEmpty()) {
+					jarsByClassFileName.remove(classFileName);
+				}
+				else {
+					jarsByClassFileName.put(classFileName, jars.toArray(new JarContents[jars.size()]));
+				}
+			}
+		}
+	}
+
+	private PooledJarFile acquire(JarContents jar) throws IOException {
+		synchronized (openJars) {
+			PooledJarFile pooledJar = openJars.get(jar.path);
+			if (pooledJar != null && pooledJar.contents != jar && contents.get(jar.path) == jar) {
+				// the jar has been changed and re-indexed in the meantime
+				openJars.remove(jar.path);
+				retire(pooledJar);
+				pooledJar = null;
+			}
+			if (pooledJar == null) {
+				evictIfNecessary();
+				pooledJar = new PooledJarFile(jar, new JarFile(jar.path));
+				openJars.put(jar.path, pooledJar);
+			}
+			pooledJar.references++;
+			pooledJar.lastAccess = System.nanoTime();
+			return pooledJar;
+		}
+	}
+
+	private void release(PooledJarFile pooledJar) {
+		synchronized (openJars) {
+			pooledJar.references--;
+			if (pooledJar.references == 0 && (pooledJar.retired || !keepJarsOpen())) {
+				if (openJars.get(pooledJar.contents.path) == pooledJar) {
+					openJars.remove(pooledJar.contents.path);
+				}
+				retire(pooledJar);
+			}
+		}
+	}
+
+	private void evictIfNecessary() {
+		if (openJars.size() < MAX_OPEN_JARS) {
+			return;
+		}
+		PooledJarFile oldest = null;
+		for (PooledJarFile candidate : openJars.values()) {
+			if (oldest == null || candidate.lastAccess < oldest.lastAccess) {
+				oldest = candidate;
+			}
+		}
+		if (oldest != null) {
+			openJars.remove(oldest.contents.path);
+			retire(oldest);
+		}
+	}
+
+	private void retire(PooledJarFile pooledJar) {
+		pooledJar.retired = true;
+		if (pooledJar.references == 0 && !pooledJar.closed) {
+			pooledJar.closed = true;
+			try {
+				pooledJar.jarFile.close();
+			}
+			catch (IOException e) {
+				// ignore it
+			}
+		}
+	}
+
+	private boolean useMappedJarFiles() {
+		SpringCore core = SpringCore.getDefault();
+		return core == null || (core.getPluginPreferences().getBoolean(SpringCore.USE_MAPPED_JAR_FILES)
+				&& !core.getPluginPreferences().getBoolean(SpringCore.USE_NON_LOCKING_CLASSLOADER));
+	}
+
+	private boolean isInWorkspace(String jarPath) {
+		if (SpringCore.getDefault() == null) {
+			return false;
+		}
+		IFile[] files = ResourcesPlugin.getWorkspace().getRoot().findFilesForLocationURI(new File(jarPath).toURI());
+		return files.length > 0;
+	}
+
+	private boolean keepJarsOpen() {
+		SpringCore core = SpringCore.getDefault();
+		return core == null || !core.getPluginPreferences().getBoolean(SpringCore.USE_NON_LOCKING_CLASSLOADER);
+	}
+
+	/**
+	 * Immutable snapshot of the package and class file names of one version of a jar file.
+	 */
+	public static class JarContents {
+
+		private final String path;
+		private final long size;
+		private final long lastModified;
+		private final Set<String> packageNames;
+		private final Set<String> classFileNames;
+		private final MappedJarFile mappedJarFile;
+
+		public JarContents(String path, long size, long lastModified, Set<String> packageNames, Set<String> classFileNames) {
+			this(path, size, lastModified, packageNames, classFileNames, null);
+		}
+
+		public JarContents(String path, long size, long lastModified, Set<String> packageNames, Set<String> classFileNames,
+				MappedJarFile mappedJarFile) {
+			this.path = path;
+			this.size = size;
+			this.lastModified = lastModified;
+			this.packageNames = packageNames;
+			this.classFileNames = classFileNames;
+			this.mappedJarFile = mappedJarFile;
+		}
+
+		public String getPath() {
+			return path;
+		}
+
+		public long getSize() {
+			return size;
+		}
+
+		public long getLastModified() {
+			return lastModified;
+		}
+
+		public boolean isMapped() {
+			return mappedJarFile != null;
+		}
+
+		public boolean containsPackage(String packageName) {
+			return packageNames.contains(packageName);
+		}
+
+		public boolean containsClassFile(String fullyQualifiedClassFileName) {
+			return classFileNames.contains(fullyQualifiedClassFileName);
+		}
+	}
+
+	private static class PooledJarFile {
+
+		final JarContents contents;
+		final JarFile jarFile;
+		int references;
+		long lastAccess;
+		boolean retired;
+		boolean closed;
+
+		public PooledJarFile(JarContents contents, JarFile jarFile) {
+			this.contents = contents;
+			this.jarFile = jarFile;
+		}
+	}
+
+}
@@ -0,0 +1,291 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java.typehierarchy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Read-only view of a jar file that is mapped into memory.
+ * <p>
+ * The central directory is parsed once when the jar is opened. Entries are read directly from the
+ * {@link MappedByteBuffer}, each stream working on its own duplicate of the buffer, so any number of
+ * threads can read from the same jar at the same time without locking. Deflated entries are inflated
+ * lazily while the stream is consumed, so readers that only need the beginning of a class file (like
+ * the {@link BytecodeTypeHierarchyClassReader}) don't pay for decompressing the rest.
+ * <p>
+ * The size and time stamp of the jar file are recorded when it is mapped. Once the file has been
+ * changed on disk, the mapping is no longer read from, since accessing a mapping of a truncated file
+ * crashes the VM; {@link #getInputStream(String)} fails with an {@link IOException} instead.
+ * <p>
+ * Only stored and deflated entries of non-ZIP64 archives are supported; {@link #open(String)} fails
+ * with an {@link IOException} for anything else, in which case callers should fall back to
+ * {@link java.util.jar.JarFile}.
+ */
+public class MappedJarFile {
+
+	private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+	private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+	private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+
+	private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+	private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+	private static final int STORED = 0;
+	private static final int DEFLATED = 8;
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private final String path;
+	private final long size;
+	private final long lastModified;
+	private final ByteBuffer buffer;
+	private final Map<String, Entry> entries;
+
+	private MappedJarFile(String path, long size, long lastModified, ByteBuffer buffer, Map<String, Entry> entries) {
+		this.path = path;
+		this.size = size;
+		this.lastModified = lastModified;
+		this.buffer = buffer;
+		this.entries = entries;
+	}
+
+	/**
+	 * Maps the given jar file into memory and reads its central directory.
+	 */
+	public static MappedJarFile open(String path) throws IOException {
+		long lastModified = new File(path).lastModified();
+		RandomAccessFile file = new RandomAccessFile(path, "r");
+		try {
+			FileChannel channel = file.getChannel();
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE) {
+				throw new ZipException("jar file too large to be mapped: " + path);
+			}
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			mapped.order(ByteOrder.LITTLE_ENDIAN);
+			MappedJarFile result = new MappedJarFile(path, size, lastModified, mapped, readCentralDirectory(mapped, path));
+			if (result.isModified()) {
+				// changed while it was being mapped
+				throw new ZipException("jar file has been changed while mapping it: " + path);
+			}
+			return result;
+		}
+		finally {
+			// the mapping stays valid after the channel has been closed
+			file.close();
+		}
+	}
+
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * Returns whether the jar file on disk has been changed or removed since it was mapped.
+	 */
+	public boolean isModified() {
+		File file = new File(path);
+		return file.length() != size || file.lastModified() != lastModified;
+	}
+
+	public Set<String> getEntryNames() {
+		return Collections.unmodifiableSet(entries.keySet());
+	}
+
+	public boolean hasEntry(String name) {
+		return entries.containsKey(name);
+	}
+
+	/**
+	 * Returns a stream for the contents of the given entry or <code>null</code> if there is no such entry.
+	 */
+	public InputStream getInputStream(String name) throws IOException {
+		Entry entry = entries.get(name);
+		if (entry == null) {
+			return null;
+		}
+		if (isModified()) {
+			throw new ZipException("jar file has been changed since it was mapped: " + path);
+		}
+
+		ByteBuffer data = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		int localHeader = entry.localHeaderOffset;
+		if (localHeader + 30 > data.limit() || data.getInt(localHeader) != LOCAL_HEADER_SIGNATURE) {
+			throw new ZipException("invalid local header for " + name + " in " + path);
+		}
+		int dataStart = localHeader + 30 + (data.getShort(localHeader + 26) & 0xFFFF)
+				+ (data.getShort(localHeader + 28) & 0xFFFF);
+		if (dataStart + entry.compressedSize > data.limit()) {
+			throw new ZipException("truncated entry " + name + " in " + path);
+		}
+		data.limit(dataStart + entry.compressedSize);
+		data.position(dataStart);
+
+		if (entry.method == STORED) {
+			return new ByteBufferInputStream(data.slice(), false);
+		}
+		else {
+			final Inflater inflater = new Inflater(true);
+			return new InflaterInputStream(new ByteBufferInputStream(data.slice(), true), inflater, 512) {
+
+				private boolean closed = false;
+
+				@Override
+				public void close() throws IOException {
+					if (!closed) {
+						closed = true;
+						inflater.end();
+						super.close();
+					}
+				}
+			};
+		}
+	}
+
+	private static Map<String, Entry> readCentralDirectory(ByteBuffer buffer, String path) throws IOException {
+		int endOfCentralDirectory = findEndOfCentralDirectory(buffer);
+		if (endOfCentralDirectory < 0) {
+			throw new ZipException("no end of central directory found in " + path);
+		}
+
+		int entryCount = buffer.getShort(endOfCentralDirectory + 10) & 0xFFFF;
+		long centralDirectoryOffset = buffer.getInt(endOfCentralDirectory + 16) & 0xFFFFFFFFL;
+		if (entryCount == 0xFFFF || centralDirectoryOffset == 0xFFFFFFFFL) {
+			throw new ZipException("ZIP64 archives are not supported: " + path);
+		}
+
+		Map<String, Entry> entries = new HashMap<String, Entry>(entryCount * 2);
+		int position = (int) centralDirectoryOffset;
+		for (int i = 0; i < entryCount; i++) {
+			if (position + 46 > buffer.limit() || buffer.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+				throw new ZipException("invalid central directory in " + path);
+			}
+			int method = buffer.getShort(position + 10) & 0xFFFF;
+			long compressedSize = buffer.getInt(position + 20) & 0xFFFFFFFFL;
+			int nameLength = buffer.getShort(position + 28) & 0xFFFF;
+			int extraLength = buffer.getShort(position + 30) & 0xFFFF;
+			int commentLength = buffer.getShort(position + 32) & 0xFFFF;
+			long localHeaderOffset = buffer.getInt(position + 42) & 0xFFFFFFFFL;
+			if (compressedSize == 0xFFFFFFFFL || localHeaderOffset == 0xFFFFFFFFL) {
+				throw new ZipException("ZIP64 archives are not supported: " + path);
+			}
+
+			byte[] nameBytes = new byte[nameLength];
+			ByteBuffer nameBuffer = buffer.duplicate();
+			nameBuffer.position(position + 46);
+			nameBuffer.get(nameBytes);
+			String name = new String(nameBytes, UTF8);
+
+			if (method == STORED || method == DEFLATED) {
+				entries.put(name, new Entry(method, (int) compressedSize, (int) localHeaderOffset));
+			}
+			position += 46 + nameLength + extraLength + commentLength;
+		}
+		return entries;
+	}
+
+	private static int findEndOfCentralDirectory(ByteBuffer buffer) {
+		int minPosition = Math.max(0, buffer.limit() - END_OF_CENTRAL_DIRECTORY_SIZE - MAX_COMMENT_SIZE);
+		for (int position = buffer.limit() - END_OF_CENTRAL_DIRECTORY_SIZE; position >= minPosition; position--) {
+			if (buffer.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+				return position;
+			}
+		}
+		return -1;
+	}
+
+	private static class Entry {
+
+		final int method;
+		final int compressedSize;
+		final int localHeaderOffset;
+
+		public Entry(int method, int compressedSize, int localHeaderOffset) {
+			this.method = method;
+			this.compressedSize = compressedSize;
+			this.localHeaderOffset = localHeaderOffset;
+		}
+	}
+
+	/**
+	 * {@link InputStream} over a private {@link ByteBuffer}. For raw deflate data an additional dummy byte is
+	 * appended at the end, as required by {@link Inflater} in <code>nowrap</code> mode.
+	 */
+	private static class ByteBufferInputStream extends InputStream {
+
+		private final ByteBuffer buffer;
+		private boolean dummyByte;
+
+		public ByteBufferInputStream(ByteBuffer buffer, boolean dummyByte) {
+			this.buffer = buffer;
+			this.dummyByte = dummyByte;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (buffer.hasRemaining()) {
+				return buffer.get() & 0xFF;
+			}
+			if (dummyByte) {
+				dummyByte = false;
+				return 0;
+			}
+			return -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			int remaining = buffer.remaining();
+			if (remaining == 0) {
+				if (dummyByte) {
+					dummyByte = false;
+					b[off] = 0;
+					return 1;
+				}
+				return -1;
+			}
+			int count = Math.min(len, remaining);
+			buffer.get(b, off, count);
+			return count;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+			buffer.position(buffer.position() + count);
+			return count;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return buffer.remaining();
+		}
+	}
+
+}
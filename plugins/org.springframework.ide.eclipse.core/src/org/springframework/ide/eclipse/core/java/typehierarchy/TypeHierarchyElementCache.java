@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013 Spring IDE Developers
+ * Copyright (c) 2013, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,35 +10,127 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.core.java.typehierarchy;
 
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
+ * Cache of {@link TypeHierarchyElement}s keyed by their fully qualified class names.
+ * <p>
+ * Elements are kept in a {@link ConcurrentHashMap} keyed by the full <code>char[]</code> class name, so
+ * lookups from concurrent builds don't contend on a shared lock and two class names with the same
+ * hash code never get each other's elements. Keys are interned through the shared
+ * {@link TypeHierarchyNamePool}.
+ *
  * @author Martin Lippert
  * @since 3.3.0
  */
 public class TypeHierarchyElementCache {
-	
-	private Map<Integer, TypeHierarchyElement> cache;
-	
+
+	private static final int INITIAL_CAPACITY = 256;
+
+	private final TypeHierarchyNamePool namePool;
+
+	private final ConcurrentMap<NameKey, TypeHierarchyElement> elements;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
 	public TypeHierarchyElementCache() {
-		this.cache = new ConcurrentHashMap<Integer, TypeHierarchyElement>();
+		this(TypeHierarchyNamePool.getDefault());
+	}
+
+	public TypeHierarchyElementCache(TypeHierarchyNamePool namePool) {
+		this.namePool = namePool;
+		this.elements = new ConcurrentHashMap<NameKey, TypeHierarchyElement>(INITIAL_CAPACITY);
 	}
 
 	public TypeHierarchyElement get(char[] fullyQualifiedClassName) {
-		return cache.get(charArrayToHashcode(fullyQualifiedClassName));
+		TypeHierarchyElement result = elements.get(new NameKey(fullyQualifiedClassName));
+		if (result != null) {
+			hitCount.increment();
+		}
+		else {
+			missCount.increment();
+		}
+		return result;
 	}
 
 	public void put(char[] fullyQualifiedClassName, TypeHierarchyElement typeElement) {
-		cache.put(charArrayToHashcode(fullyQualifiedClassName), typeElement);
+		elements.put(new NameKey(namePool.intern(fullyQualifiedClassName)), typeElement);
+	}
+
+	public int size() {
+		return elements.size();
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * Returns the ratio of successful lookups, between <code>0</code> and <code>1</code>.
+	 */
+	public double getHitRate() {
+		long hits = hitCount.sum();
+		long lookups = hits + missCount.sum();
+		return lookups == 0 ? 0 : (double) hits / lookups;
+	}
+
+	/**
+	 * Returns a rough estimation of the heap space used by the map and the cached elements, in bytes.
+	 * Pooled names are accounted for by the {@link TypeHierarchyNamePool}.
+	 */
+	public long getEstimatedMemoryUsage() {
+		long result = 64;
+		for (TypeHierarchyElement value : elements.values()) {
+			result += 88;
+			if (value.interfaces != null) {
+				result += 32 + value.interfaces.length * 8L;
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return "TypeHierarchyElementCache [elements=" + size() + ", hits=" + getHitCount() + ", misses="
+				+ getMissCount() + ", estimatedBytes=" + getEstimatedMemoryUsage() + "]";
 	}
-	
-	private int charArrayToHashcode(char[] characters) {
-		int h = 0;
-		for (int i = 0; i < characters.length; i++) {
-			h = 31*h + characters[i];
+
+	/**
+	 * Map key comparing class names by content, with the hash code computed once.
+	 */
+	private static final class NameKey {
+
+		private final char[] name;
+		private final int hash;
+
+		public NameKey(char[] name) {
+			this.name = name;
+			this.hash = TypeHierarchyNamePool.hash(name);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof NameKey)) {
+				return false;
+			}
+			NameKey other = (NameKey) obj;
+			return hash == other.hash && (name == other.name || TypeHierarchyNamePool.equals(name, other.name));
 		}
-        return h;
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2014 Spring IDE Developers
+ * Copyright (c) 2013, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -35,6 +35,8 @@ public class TypeHierarchyEngine {
 	private final Map<IProject, TypeHierarchyClassReader> readers;
 
 	private final boolean autoCleanup;
+
+	private volatile int cacheGeneration;
 	
 	public TypeHierarchyEngine(boolean autoCleanup) {
 		this.autoCleanup = autoCleanup;
@@ -61,18 +63,44 @@ public class TypeHierarchyEngine {
 		for (IProject project : this.readers.keySet()) {
 			cleanup(project);
 		}
+		TypeHierarchyNamePool.getDefault().clear();
 	}
 
 	public void clearCache(IProject project) {
 		cleanup(project);
 		this.readers.remove(project);
 		this.cache.remove(project);
+		this.cacheGeneration++;
 	}
 	
 	public void clearCache() {
 		for (IProject project : this.readers.keySet()) {
 			clearCache(project);
 		}
+		TypeHierarchyNamePool.getDefault().clear();
+	}
+
+	/**
+	 * Returns a number that changes every time cached type information is thrown away, so that
+	 * clients can tell whether information they derived from this engine may be outdated.
+	 */
+	public int getCacheGeneration() {
+		return cacheGeneration;
+	}
+
+	/**
+	 * Returns diagnostic information about the element caches of all projects and the shared
+	 * {@link TypeHierarchyNamePool}, like sizes, hit rates and estimated memory usage.
+	 */
+	public String getDiagnostics() {
+		StringBuilder result = new StringBuilder();
+		for (Map.Entry<IProject, TypeHierarchyElementCache> entry : this.cache.entrySet()) {
+			TypeHierarchyElementCache elementCache = entry.getValue();
+			result.append(entry.getKey().getName()).append(": ").append(elementCache)
+					.append(", hitRate=").append(Math.round(elementCache.getHitRate() * 100)).append("%\n");
+		}
+		result.append(TypeHierarchyNamePool.getDefault());
+		return result.toString();
 	}
 
 	public String getSupertype(IType type) {
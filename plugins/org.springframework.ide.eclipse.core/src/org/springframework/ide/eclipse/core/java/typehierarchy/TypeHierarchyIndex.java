@@ -0,0 +1,488 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java.typehierarchy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.ide.eclipse.core.SpringCore;
+
+/**
+ * Workspace-wide, persistent index of the supertype and interface information of class files.
+ * <p>
+ * Entries that come from jar files are grouped into one segment per jar, keyed by the absolute
+ * path of the jar and validated against its size and last modification time. Entries that come
+ * from class folders are keyed by the path of the class file itself and validated against the
+ * class file stamp. Since the key is the physical location, segments are shared across all projects
+ * that reference the same jar.
+ * <p>
+ * The stamps are not checked on every lookup. A segment or class file entry is checked once after each
+ * call to {@link #revalidate()}, which happens before every build and whenever a classpath changes.
+ * <p>
+ * The index is loaded lazily on first access and written back to disk on {@link #save()}, but only if
+ * it has been changed since it was loaded.
+ */
+public class TypeHierarchyIndex {
+
+	private static final int MAGIC = 0x54484958; // "THIX"
+
+	private static final int VERSION = 1;
+
+	private final File file;
+
+	private final Map<String, JarSegment> jarSegments;
+
+	private final Map<String, ClassFileEntry> classFileEntries;
+
+	private volatile boolean loaded;
+
+	private volatile boolean dirty;
+
+	/**
+	 * Incremented by {@link #revalidate()}. Entries remember the generation in which their stamp was last
+	 * found to be up to date.
+	 */
+	private final AtomicInteger generation = new AtomicInteger();
+
+	public TypeHierarchyIndex(File file) {
+		this.file = file;
+		this.jarSegments = new ConcurrentHashMap<String, JarSegment>();
+		this.classFileEntries = new ConcurrentHashMap<String, ClassFileEntry>();
+	}
+
+	/**
+	 * Makes the index check the stamps of jars and class files again on their next lookup.
+	 */
+	public void revalidate() {
+		generation.incrementAndGet();
+	}
+
+	/**
+	 * Returns a fresh {@link TypeHierarchyElement} for the class file at the given location or
+	 * <code>null</code> if the index doesn't know about it or the recorded information is outdated.
+	 * <p>
+	 * A new element is created for every call since the lazily resolved links of an element
+	 * depend on the classpath of the project the element is used for.
+	 */
+	public TypeHierarchyElement get(URL classFileLocation) {
+		ensureLoaded();
+
+		String location = toLocation(classFileLocation);
+		if (location == null) {
+			return null;
+		}
+
+		int separator = location.indexOf("!/");
+		if (separator > 0) {
+			String jarPath = location.substring(0, separator);
+			String entryName = location.substring(separator + 2);
+
+			JarSegment segment = jarSegments.get(jarPath);
+			if (segment == null) {
+				return null;
+			}
+			if (!isUpToDate(segment, new File(jarPath))) {
+				jarSegments.remove(jarPath);
+				dirty = true;
+				return null;
+			}
+			return createElement(segment.entries.get(entryName));
+		}
+		else {
+			ClassFileEntry entry = classFileEntries.get(location);
+			if (entry == null) {
+				return null;
+			}
+			if (!isUpToDate(entry, new File(location))) {
+				classFileEntries.remove(location);
+				dirty = true;
+				return null;
+			}
+			return createElement(entry.data);
+		}
+	}
+
+	/**
+	 * Records the given {@link TypeHierarchyElement} for the class file at the given location.
+	 */
+	public void put(URL classFileLocation, TypeHierarchyElement element) {
+		ensureLoaded();
+
+		String location = toLocation(classFileLocation);
+		if (location == null || element == null) {
+			return;
+		}
+
+		ElementData data = new ElementData(element.className, element.superclassName, element.interfaces);
+
+		int separator = location.indexOf("!/");
+		if (separator > 0) {
+			String jarPath = location.substring(0, separator);
+			String entryName = location.substring(separator + 2);
+
+			File jarFile = new File(jarPath);
+			JarSegment segment = jarSegments.get(jarPath);
+			if (segment == null || !isUpToDate(segment, jarFile)) {
+				segment = new JarSegment(jarFile.length(), jarFile.lastModified());
+				segment.checkedGeneration = generation.get();
+				jarSegments.put(jarPath, segment);
+			}
+			segment.entries.put(entryName, data);
+		}
+		else {
+			File classFile = new File(location);
+			ClassFileEntry entry = new ClassFileEntry(classFile.length(), classFile.lastModified(), data);
+			entry.checkedGeneration = generation.get();
+			classFileEntries.put(location, entry);
+		}
+		dirty = true;
+	}
+
+	/**
+	 * Removes all recorded information about the given jar file or class file.
+	 */
+	public void invalidate(File location) {
+		ensureLoaded();
+		String path = location.getAbsolutePath();
+		if (jarSegments.remove(path) != null | classFileEntries.remove(path) != null) {
+			dirty = true;
+		}
+	}
+
+	/**
+	 * Removes all recorded information and deletes the persisted index.
+	 */
+	public void clear() {
+		synchronized (this) {
+			jarSegments.clear();
+			classFileEntries.clear();
+			loaded = true;
+			dirty = false;
+			if (file.exists()) {
+				file.delete();
+			}
+		}
+	}
+
+	/**
+	 * Writes the index to disk if it has been changed since it was loaded or saved last time.
+	 * Information about jars and class files that don't exist anymore or have been changed is dropped.
+	 * <p>
+	 * The index is written to a temporary file first, which then replaces the previous index, so that
+	 * an interrupted save doesn't leave a truncated index behind.
+	 */
+	public void save() {
+		if (!loaded || !dirty) {
+			return;
+		}
+
+		synchronized (this) {
+			if (!dirty) {
+				return;
+			}
+			// reset before taking the snapshot, so that anything recorded while saving marks the index dirty again
+			dirty = false;
+
+			Map<String, JarSegment> segments = new HashMap<String, JarSegment>();
+			for (Map.Entry<String, JarSegment> entry : jarSegments.entrySet()) {
+				File jarFile = new File(entry.getKey());
+				if (entry.getValue().isValid(jarFile.length(), jarFile.lastModified())) {
+					segments.put(entry.getKey(), entry.getValue());
+				}
+			}
+
+			Map<String, ClassFileEntry> classFiles = new HashMap<String, ClassFileEntry>();
+			for (Map.Entry<String, ClassFileEntry> entry : classFileEntries.entrySet()) {
+				File classFile = new File(entry.getKey());
+				if (entry.getValue().isValid(classFile.length(), classFile.lastModified())) {
+					classFiles.put(entry.getKey(), entry.getValue());
+				}
+			}
+
+			File tempFile = new File(file.getPath() + ".tmp");
+			DataOutputStream out = null;
+			try {
+				if (!file.getParentFile().exists()) {
+					file.getParentFile().mkdirs();
+				}
+				out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+
+				out.writeInt(segments.size());
+				for (Map.Entry<String, JarSegment> entry : segments.entrySet()) {
+					JarSegment segment = entry.getValue();
+					out.writeUTF(entry.getKey());
+					out.writeLong(segment.size);
+					out.writeLong(segment.lastModified);
+
+					Map<String, ElementData> entries = new HashMap<String, ElementData>(segment.entries);
+					out.writeInt(entries.size());
+					for (Map.Entry<String, ElementData> element : entries.entrySet()) {
+						out.writeUTF(element.getKey());
+						writeElementData(out, element.getValue());
+					}
+				}
+
+				out.writeInt(classFiles.size());
+				for (Map.Entry<String, ClassFileEntry> entry : classFiles.entrySet()) {
+					ClassFileEntry classFileEntry = entry.getValue();
+					out.writeUTF(entry.getKey());
+					out.writeLong(classFileEntry.size);
+					out.writeLong(classFileEntry.lastModified);
+					writeElementData(out, classFileEntry.data);
+				}
+				out.close();
+				out = null;
+
+				if (!tempFile.renameTo(file)) {
+					// on some platforms an existing file can't be replaced by renaming
+					file.delete();
+					if (!tempFile.renameTo(file)) {
+						throw new IOException("Could not rename " + tempFile + " to " + file);
+					}
+				}
+			}
+			catch (IOException e) {
+				SpringCore.log("Error saving type hierarchy index to " + file, e);
+				dirty = true;
+			}
+			finally {
+				if (out != null) {
+					try {
+						out.close();
+					}
+					catch (IOException e) {
+					}
+					tempFile.delete();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks the stamp of the given entry against the file, unless that already happened since the last
+	 * call to {@link #revalidate()}.
+	 */
+	private boolean isUpToDate(Stamped entry, File file) {
+		int current = generation.get();
+		if (entry.checkedGeneration == current) {
+			return true;
+		}
+		if (entry.isValid(file.length(), file.lastModified())) {
+			entry.checkedGeneration = current;
+			return true;
+		}
+		return false;
+	}
+
+	private void ensureLoaded() {
+		if (loaded) {
+			return;
+		}
+		synchronized (this) {
+			if (loaded) {
+				return;
+			}
+			try {
+				load();
+			}
+			finally {
+				loaded = true;
+			}
+		}
+	}
+
+	private void load() {
+		if (!file.exists()) {
+			return;
+		}
+
+		DataInputStream in = null;
+		try {
+			in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				// unknown or outdated format, start from scratch
+				dirty = true;
+				return;
+			}
+
+			int segmentCount = in.readInt();
+			for (int i = 0; i < segmentCount; i++) {
+				String jarPath = in.readUTF();
+				JarSegment segment = new JarSegment(in.readLong(), in.readLong());
+				int entryCount = in.readInt();
+				for (int j = 0; j < entryCount; j++) {
+					String entryName = in.readUTF();
+					segment.entries.put(entryName, readElementData(in));
+				}
+				jarSegments.put(jarPath, segment);
+			}
+
+			int classFileCount = in.readInt();
+			for (int i = 0; i < classFileCount; i++) {
+				String path = in.readUTF();
+				long size = in.readLong();
+				long lastModified = in.readLong();
+				classFileEntries.put(path, new ClassFileEntry(size, lastModified, readElementData(in)));
+			}
+		}
+		catch (IOException e) {
+			SpringCore.log("Error loading type hierarchy index from " + file, e);
+			jarSegments.clear();
+			classFileEntries.clear();
+			dirty = true;
+		}
+		finally {
+			if (in != null) {
+				try {
+					in.close();
+				}
+				catch (IOException e) {
+				}
+			}
+		}
+	}
+
+	private static void writeElementData(DataOutputStream out, ElementData data) throws IOException {
+		out.writeUTF(new String(data.className));
+		out.writeBoolean(data.superclassName != null);
+		if (data.superclassName != null) {
+			out.writeUTF(new String(data.superclassName));
+		}
+		out.writeInt(data.interfaces != null ? data.interfaces.length : -1);
+		if (data.interfaces != null) {
+			for (char[] interfaceName : data.interfaces) {
+				out.writeUTF(new String(interfaceName));
+			}
+		}
+	}
+
+	private static ElementData readElementData(DataInputStream in) throws IOException {
+		TypeHierarchyNamePool namePool = TypeHierarchyNamePool.getDefault();
+		char[] className = namePool.intern(in.readUTF().toCharArray());
+		char[] superclassName = in.readBoolean() ? namePool.intern(in.readUTF().toCharArray()) : null;
+		int interfaceCount = in.readInt();
+		char[][] interfaces = null;
+		if (interfaceCount >= 0) {
+			interfaces = new char[interfaceCount][];
+			for (int i = 0; i < interfaceCount; i++) {
+				interfaces[i] = namePool.intern(in.readUTF().toCharArray());
+			}
+		}
+		return new ElementData(className, superclassName, interfaces);
+	}
+
+	private static TypeHierarchyElement createElement(ElementData data) {
+		if (data == null) {
+			return null;
+		}
+		return new TypeHierarchyElement(data.className, data.superclassName, data.interfaces);
+	}
+
+	/**
+	 * Converts a class file URL as returned by a {@link ClasspathLookup} into the key used by this index:
+	 * <code>/path/to/lib.jar!/org/Foo.class</code> for jar entries and <code>/path/to/org/Foo.class</code>
+	 * for class files in folders.
+	 */
+	private static String toLocation(URL classFileLocation) {
+		if (classFileLocation == null) {
+			return null;
+		}
+		try {
+			String protocol = classFileLocation.getProtocol();
+			if ("jar".equals(protocol)) {
+				String path = classFileLocation.getPath();
+				int separator = path.indexOf("!/");
+				if (separator > 0 && path.startsWith("file:")) {
+					String jarPath = new File(URLDecoder.decode(path.substring("file:".length(), separator), "UTF-8"))
+							.getAbsolutePath();
+					return jarPath + path.substring(separator);
+				}
+			}
+			else if ("file".equals(protocol)) {
+				return new File(URLDecoder.decode(classFileLocation.getPath(), "UTF-8")).getAbsolutePath();
+			}
+		}
+		catch (IOException e) {
+		}
+		return null;
+	}
+
+	private static class ElementData {
+
+		final char[] className;
+		final char[] superclassName;
+		final char[][] interfaces;
+
+		public ElementData(char[] className, char[] superclassName, char[][] interfaces) {
+			this.className = className;
+			this.superclassName = superclassName;
+			this.interfaces = interfaces;
+		}
+	}
+
+	/**
+	 * The size and time stamp of the file an entry was recorded for.
+	 */
+	private static abstract class Stamped {
+
+		final long size;
+		final long lastModified;
+
+		/**
+		 * The generation in which the stamp was last found to be up to date, or -1 if it hasn't been checked yet.
+		 */
+		volatile int checkedGeneration = -1;
+
+		Stamped(long size, long lastModified) {
+			this.size = size;
+			this.lastModified = lastModified;
+		}
+
+		public boolean isValid(long size, long lastModified) {
+			return this.size == size && this.lastModified == lastModified && lastModified != 0;
+		}
+	}
+
+	private static class JarSegment extends Stamped {
+
+		final Map<String, ElementData> entries;
+
+		public JarSegment(long size, long lastModified) {
+			super(size, lastModified);
+			this.entries = new ConcurrentHashMap<String, ElementData>();
+		}
+	}
+
+	private static class ClassFileEntry extends Stamped {
+
+		final ElementData data;
+
+		public ClassFileEntry(long size, long lastModified, ElementData data) {
+			super(size, lastModified);
+			this.data = data;
+		}
+	}
+
+}
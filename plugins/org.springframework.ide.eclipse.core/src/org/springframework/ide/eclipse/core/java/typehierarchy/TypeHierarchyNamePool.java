@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java.typehierarchy;
+
+/**
+ * Pool of canonical <code>char[]</code> instances for type names, so that the same class, superclass
+ * and interface names are held only once in memory, no matter how many {@link TypeHierarchyElement}s
+ * and caches refer to them.
+ * <p>
+ * The pool is split into segments that are locked independently, so that parallel build threads
+ * rarely wait for each other. Each segment is an open-addressing hash table with linear probing,
+ * using full content equality to resolve collisions. The {@link TypeHierarchyEngine} clears the
+ * shared pool at the end of a build, so that it doesn't keep the names of every type ever seen.
+ */
+public class TypeHierarchyNamePool {
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private static final int SEGMENT_COUNT = 16;
+
+	private static final TypeHierarchyNamePool DEFAULT = new TypeHierarchyNamePool(INITIAL_CAPACITY);
+
+	private final Segment[] segments;
+
+	public TypeHierarchyNamePool(int initialCapacity) {
+		int segmentCapacity = 16;
+		while (segmentCapacity * SEGMENT_COUNT < initialCapacity * 2) {
+			segmentCapacity <<= 1;
+		}
+		this.segments = new Segment[SEGMENT_COUNT];
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			this.segments[i] = new Segment(segmentCapacity);
+		}
+	}
+
+	/**
+	 * Returns the pool that is shared by the type hierarchy infrastructure.
+	 */
+	public static TypeHierarchyNamePool getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Returns the canonical instance for the given name, adding the given array to the pool if there is
+	 * none yet. The returned array must not be modified.
+	 */
+	public char[] intern(char[] name) {
+		if (name == null) {
+			return null;
+		}
+		int hash = hash(name);
+		// the low bits select the slot within a segment, so use the high bits to select the segment
+		return segments[(hash >>> 28) & (SEGMENT_COUNT - 1)].intern(name, hash);
+	}
+
+	/**
+	 * Interns all elements of the given array in place and returns it.
+	 */
+	public char[][] intern(char[][] typeNames) {
+		if (typeNames != null) {
+			for (int i = 0; i < typeNames.length; i++) {
+				typeNames[i] = intern(typeNames[i]);
+			}
+		}
+		return typeNames;
+	}
+
+	public int size() {
+		int result = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				result += segment.size;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the number of {@link #intern(char[])} calls that were answered with an already pooled instance.
+	 */
+	public long getSharedCount() {
+		long result = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				result += segment.sharedCount;
+			}
+		}
+		return result;
+	}
+
+	public long getInternCount() {
+		long result = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				result += segment.internCount;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns a rough estimation of the heap space used by the pool, in bytes.
+	 */
+	public long getEstimatedMemoryUsage() {
+		long result = 16 + segments.length * 4L;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				result += segment.getEstimatedMemoryUsage();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Drops all pooled names. Names that were handed out before stay valid, they are just no longer
+	 * shared with names that are interned afterwards.
+	 */
+	public void clear() {
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "TypeHierarchyNamePool [names=" + size() + ", interned=" + getInternCount() + ", shared=" + getSharedCount()
+				+ ", estimatedBytes=" + getEstimatedMemoryUsage() + "]";
+	}
+
+	static int hash(char[] name) {
+		int h = 0;
+		for (int i = 0; i < name.length; i++) {
+			h = 31 * h + name[i];
+		}
+		// spread the bits, since the table size is a power of two
+		return h ^ (h >>> 16);
+	}
+
+	static boolean equals(char[] first, char[] second) {
+		if (first.length != second.length) {
+			return false;
+		}
+		for (int i = first.length; --i >= 0;) {
+			if (first[i] != second[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static class Segment {
+
+		private final int initialCapacity;
+
+		private char[][] names;
+		private int size;
+
+		private long internCount;
+		private long sharedCount;
+
+		public Segment(int initialCapacity) {
+			this.initialCapacity = initialCapacity;
+			this.names = new char[initialCapacity][];
+		}
+
+		public synchronized char[] intern(char[] name, int hash) {
+			internCount++;
+
+			int mask = names.length - 1;
+			int index = hash & mask;
+			char[] existing;
+			while ((existing = names[index]) != null) {
+				if (existing == name || TypeHierarchyNamePool.equals(existing, name)) {
+					if (existing != name) {
+						sharedCount++;
+					}
+					return existing;
+				}
+				index = (index + 1) & mask;
+			}
+
+			names[index] = name;
+			if (++size * 2 > names.length) {
+				rehash();
+			}
+			return name;
+		}
+
+		public long getEstimatedMemoryUsage() {
+			long result = 32 + names.length * 4L;
+			for (char[] name : names) {
+				if (name != null) {
+					result += 16 + name.length * 2L;
+				}
+			}
+			return result;
+		}
+
+		public void clear() {
+			this.names = new char[initialCapacity][];
+			this.size = 0;
+			this.internCount = 0;
+			this.sharedCount = 0;
+		}
+
+		private void rehash() {
+			char[][] oldNames = names;
+			char[][] newNames = new char[oldNames.length * 2][];
+			int mask = newNames.length - 1;
+			for (char[] name : oldNames) {
+				if (name != null) {
+					int index = hash(name) & mask;
+					while (newNames[index] != null) {
+						index = (index + 1) & mask;
+					}
+					newNames[index] = name;
+				}
+			}
+			this.names = newNames;
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013 Spring IDE Developers
+ * Copyright (c) 2013, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,10 @@ import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IResourceDeltaVisitor;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.springframework.ide.eclipse.core.SpringCore;
 
 /**
@@ -25,14 +29,39 @@ import org.springframework.ide.eclipse.core.SpringCore;
  */
 public class TypeHierarchyResourceChangeListener implements IResourceChangeListener {
 
+	/**
+	 * Saves the {@link TypeHierarchyIndex} after builds, so that the index survives a crash.
+	 */
+	private final Job saveIndexJob = new Job("Saving type hierarchy index") {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			TypeHierarchyIndex index = SpringCore.getTypeHierarchyIndex();
+			if (index != null) {
+				index.save();
+			}
+			return Status.OK_STATUS;
+		}
+	};
+
+	public TypeHierarchyResourceChangeListener() {
+		saveIndexJob.setSystem(true);
+	}
+
 	public void resourceChanged(IResourceChangeEvent event) {
 		if (event.getType() == IResourceChangeEvent.PRE_BUILD) {
+			TypeHierarchyIndex index = SpringCore.getTypeHierarchyIndex();
+			if (index != null) {
+				index.revalidate();
+			}
 			try {
 				event.getDelta().accept(new CacheResetVisitor());
 			} catch (CoreException e) {
 				SpringCore.log(e);
 			}
 		}
+		else if (event.getType() == IResourceChangeEvent.POST_BUILD) {
+			saveIndexJob.schedule(1000);
+		}
 	}
 	
 	protected static class CacheResetVisitor implements IResourceDeltaVisitor {
@@ -15,6 +15,7 @@ import java.util.List;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResourceDelta;
 import org.springframework.core.Ordered;
+import org.springframework.ide.eclipse.core.SpringCore;
 import org.springframework.ide.eclipse.core.internal.model.validation.ValidatorDefinition;
 import org.springframework.ide.eclipse.core.project.IProjectContributionEventListener;
 import org.springframework.ide.eclipse.core.project.IProjectContributorState;
@@ -28,6 +29,9 @@ import org.springframework.ide.eclipse.core.project.ProjectContributionEventList
  */
 public class TypeHierarchyStateRegisteringEventListener extends ProjectContributionEventListenerAdapter implements Ordered {
 
+	private static final String DEBUG_OPTION = SpringCore.PLUGIN_ID + "/java/typehierarchy/debug";
+	private static final boolean DEBUG = SpringCore.isDebug(DEBUG_OPTION);
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -48,6 +52,9 @@ public class TypeHierarchyStateRegisteringEventListener extends ProjectContribut
 	public void finish(int kind, IResourceDelta delta, List<ProjectBuilderDefinition> builderDefinitions,
 			List<ValidatorDefinition> validatorDefinitions, IProjectContributorState state, IProject project) {
 		TypeHierarchyEngine engine = state.get(TypeHierarchyEngine.class);
+		if (DEBUG) {
+			System.out.println("type hierarchy engine statistics for " + project.getName() + ":\n" + engine.getDiagnostics());
+		}
 		engine.cleanup();
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2014 Spring IDE Developers
+ * Copyright (c) 2007, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@ package org.springframework.ide.eclipse.core.model.validation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Dictionary;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -29,6 +30,8 @@ import org.springframework.ide.eclipse.core.project.IProjectContributorStateAwar
 
 /**
  * Base {@link IValidationContext} implementation that handles creation of {@link ValidationProblem} s instances.
+ * <p>
+ * Problems can be reported concurrently, as validation rules might be executed in parallel.
  * @author Torsten Juergeleit
  * @author Christian Dupuis
  * @since 2.0
@@ -40,16 +43,16 @@ public abstract class AbstractValidationContext implements IValidationContext, I
 
 	private IProjectContributorState contributorState;
 
-	private ValidationRuleDefinition currentRuleDefinition;
+	private volatile ValidationRuleDefinition currentRuleDefinition;
 
-	private Set<ValidationProblem> problems;
+	private final Set<ValidationProblem> problems;
 
 	private IResourceModelElement rootElement;
 
 	public AbstractValidationContext(IResourceModelElement rootElement, IResourceModelElement contextElement) {
 		this.rootElement = rootElement;
 		this.contextElement = contextElement;
-		this.problems = new LinkedHashSet<ValidationProblem>();
+		this.problems = Collections.synchronizedSet(new LinkedHashSet<ValidationProblem>());
 	}
 
 	/**
@@ -94,7 +97,16 @@ public abstract class AbstractValidationContext implements IValidationContext, I
 	 * {@inheritDoc}
 	 */
 	public Set<ValidationProblem> getProblems() {
-		return problems;
+		synchronized (problems) {
+			return new LinkedHashSet<ValidationProblem>(problems);
+		}
+	}
+
+	/**
+	 * Returns the number of problems reported so far, without creating a snapshot of the problems.
+	 */
+	public int getProblemCount() {
+		return problems.size();
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2014 Spring IDE Developers
+ * Copyright (c) 2007, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,16 +10,32 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.core.model.validation;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubProgressMonitor;
 import org.springframework.ide.eclipse.core.MarkerUtils;
+import org.springframework.ide.eclipse.core.SpringCore;
 import org.springframework.ide.eclipse.core.internal.model.validation.ValidationRuleDefinition;
 import org.springframework.ide.eclipse.core.internal.model.validation.ValidationRuleDefinitionFactory;
 import org.springframework.ide.eclipse.core.model.IModelElement;
@@ -32,6 +48,9 @@ import org.springframework.ide.eclipse.core.project.IProjectContributorStateAwar
 /**
  * Base {@link IValidator} implementation that abstracts model visiting and provides implementation hooks for sub
  * classes.
+ * <p>
+ * If {@link SpringCore#USE_PARALLEL_VALIDATION} is enabled, the affected resources and their context elements are
+ * validated concurrently on a bounded worker pool.
  * @author Torsten Juergeleit
  * @author Christian Dupuis
  * @author Martin Lippert
@@ -39,6 +58,9 @@ import org.springframework.ide.eclipse.core.project.IProjectContributorStateAwar
  */
 public abstract class AbstractValidator implements IValidator, IProjectContributorStateAware {
 
+	/** Interval in milliseconds to check for cancellation while waiting for validation workers */
+	private static final long WORKER_POLL_INTERVAL = 100;
+
 	/** Internal state object */
 	private IProjectContributorState contributorState;
 
@@ -78,6 +100,11 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 	 */
 	public final void validate(Set<IResource> affectedResources, int kind, IProgressMonitor monitor)
 			throws CoreException {
+		if (SpringCore.isParallelValidationEnabled() && supportsParallelValidation()) {
+			validateInParallel(affectedResources, kind, monitor);
+			return;
+		}
+
 		SubProgressMonitor subMonitor = new SubProgressMonitor(monitor, affectedResources.size());
 		try {
 			for (IResource resource : affectedResources) {
@@ -89,36 +116,247 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 					throw new OperationCanceledException();
 				}
 
-				IValidationElementLifecycleManager callback = initValidationElementCallback(resource, kind);
+				Set<ValidationProblem> problems = validate(resource, kind, subMonitor, false);
+				if (problems != null) {
+					ValidationUtils.createProblemMarkers(resource, problems, getMarkerId());
+				}
 
-				IResourceModelElement rootElement = callback.getRootElement();
+				subMonitor.worked(1);
+				if (subMonitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+			}
+		}
+		finally {
+			subMonitor.done();
+		}
+	}
 
-				// Check if resource model element is external to the workspace -> if so, do not validate the resource
-				if (rootElement != null && rootElement.isExternal()) {
-					monitor.worked(1);
-					break;
+	/**
+	 * Validates the given resources without touching their markers and returns the problems found per resource, in
+	 * the order of the given resources. Resources which are not validated, e.g. because they are no longer part of
+	 * the model, are mapped to an empty set, so that their markers are removed as well.
+	 * <p>
+	 * Unlike {@link #validate(Set, int, IProgressMonitor)} this can be called from a thread that doesn't own the
+	 * workspace lock of the build; the markers are then replaced by calling
+	 * {@link #applyProblems(Map, IProgressMonitor)} on the build thread.
+	 */
+	public final Map<IResource, Set<ValidationProblem>> computeProblems(Set<IResource> affectedResources,
+			final int kind, IProgressMonitor monitor) throws CoreException {
+		Map<IResource, Set<ValidationProblem>> problems = new LinkedHashMap<IResource, Set<ValidationProblem>>();
+		if (!SpringCore.isParallelValidationEnabled() || !supportsParallelValidation()) {
+			for (IResource resource : affectedResources) {
+				problems.put(resource, nullSafe(validate(resource, kind, monitor, false)));
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
 				}
+			}
+			return problems;
+		}
 
-				Set<ValidationRuleDefinition> ruleDefinitions = getRuleDefinitions(resource);
-				if (rootElement != null && ruleDefinitions != null && ruleDefinitions.size() > 0) {
-					Set<ValidationProblem> problems = validate(callback, ruleDefinitions, subMonitor);
-					ValidationUtils.createProblemMarkers(resource, problems, getMarkerId());
+		List<IResource> resources = new ArrayList<IResource>(affectedResources);
+		CancelableProgressMonitor workerMonitor = new CancelableProgressMonitor(monitor);
+		List<ForkJoinTask<Set<ValidationProblem>>> tasks = submit(resources, kind, workerMonitor);
+		boolean completed = false;
+		try {
+			for (int i = 0; i < resources.size(); i++) {
+				problems.put(resources.get(i), nullSafe(waitFor(tasks.get(i), monitor)));
+			}
+			completed = true;
+		}
+		finally {
+			if (!completed) {
+				cancel(tasks, workerMonitor);
+			}
+		}
+		return problems;
+	}
+
+	/**
+	 * Replaces the markers of the given resources with the given problems, as computed by
+	 * {@link #computeProblems(Set, int, IProgressMonitor)}. This must be called on the build thread.
+	 */
+	public final void applyProblems(Map<IResource, Set<ValidationProblem>> problems, IProgressMonitor monitor)
+			throws CoreException {
+		SubProgressMonitor subMonitor = new SubProgressMonitor(monitor, problems.size());
+		try {
+			for (Map.Entry<IResource, Set<ValidationProblem>> entry : problems.entrySet()) {
+				cleanup(entry.getKey(), subMonitor);
+				ValidationUtils.createProblemMarkers(entry.getKey(), entry.getValue(), getMarkerId());
+				subMonitor.worked(1);
+			}
+		}
+		finally {
+			subMonitor.done();
+		}
+	}
+
+	/**
+	 * Validates the given resources on the shared {@link SpringCore#getValidationPool() validation pool}, fanning
+	 * out per resource and per context element.
+	 * <p>
+	 * Markers are deleted and created on the calling thread only, as this thread owns the workspace lock during a
+	 * build. Markers are created in the order of the given resources, independent of the order in which the
+	 * workers finish.
+	 */
+	private void validateInParallel(Set<IResource> affectedResources, final int kind, IProgressMonitor monitor)
+			throws CoreException {
+		List<IResource> resources = new ArrayList<IResource>(affectedResources);
+		SubProgressMonitor subMonitor = new SubProgressMonitor(monitor, resources.size());
+		final CancelableProgressMonitor workerMonitor = new CancelableProgressMonitor(subMonitor);
+		List<ForkJoinTask<Set<ValidationProblem>>> tasks = new ArrayList<ForkJoinTask<Set<ValidationProblem>>>();
+		boolean completed = false;
+		try {
+			for (IResource resource : resources) {
+				cleanup(resource, subMonitor);
+				if (subMonitor.isCanceled()) {
+					throw new OperationCanceledException();
 				}
+			}
+
+			tasks = submit(resources, kind, workerMonitor);
+
+			for (int i = 0; i < resources.size(); i++) {
+				IResource resource = resources.get(i);
+				String progressMessage = "Validating '" + resource.getFullPath().toString().substring(1) + "'";
+				reportProgress(progressMessage, subMonitor);
 
-				// call close on callback to execute any required resource cleanup in template
-				callback.destroy();
+				Set<ValidationProblem> problems = waitFor(tasks.get(i), subMonitor);
+				if (problems != null) {
+					ValidationUtils.createProblemMarkers(resource, problems, getMarkerId());
+				}
 
 				subMonitor.worked(1);
 				if (subMonitor.isCanceled()) {
 					throw new OperationCanceledException();
 				}
 			}
+			completed = true;
 		}
 		finally {
+			if (!completed) {
+				cancel(tasks, workerMonitor);
+			}
 			subMonitor.done();
 		}
 	}
 
+	/**
+	 * Submits the validation of each of the given resources to the shared validation pool.
+	 */
+	private List<ForkJoinTask<Set<ValidationProblem>>> submit(List<IResource> resources, final int kind,
+			final IProgressMonitor workerMonitor) {
+		List<ForkJoinTask<Set<ValidationProblem>>> tasks = new ArrayList<ForkJoinTask<Set<ValidationProblem>>>();
+		ForkJoinPool pool = SpringCore.getValidationPool();
+		for (final IResource resource : resources) {
+			tasks.add(pool.submit(new Callable<Set<ValidationProblem>>() {
+
+				public Set<ValidationProblem> call() throws Exception {
+					return validate(resource, kind, workerMonitor, true);
+				}
+			}));
+		}
+		return tasks;
+	}
+
+	/**
+	 * Stops the workers that are still running and drops the ones that haven't started yet.
+	 */
+	private void cancel(List<ForkJoinTask<Set<ValidationProblem>>> tasks, CancelableProgressMonitor workerMonitor) {
+		workerMonitor.setCanceled(true);
+		for (ForkJoinTask<Set<ValidationProblem>> task : tasks) {
+			task.cancel(false);
+		}
+	}
+
+	/**
+	 * Waits for the given task to complete while honoring cancellation requests of the given monitor.
+	 */
+	private Set<ValidationProblem> waitFor(ForkJoinTask<Set<ValidationProblem>> task, IProgressMonitor monitor)
+			throws CoreException {
+		while (true) {
+			try {
+				return task.get(WORKER_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+			}
+			catch (TimeoutException e) {
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			}
+			catch (CancellationException e) {
+				throw new OperationCanceledException();
+			}
+			catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				else if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				else if (cause instanceof CoreException) {
+					throw (CoreException) cause;
+				}
+				throw new CoreException(new Status(IStatus.ERROR, SpringCore.PLUGIN_ID, "Error during validation",
+						cause));
+			}
+		}
+	}
+
+	private static Set<ValidationProblem> nullSafe(Set<ValidationProblem> problems) {
+		return problems != null ? problems : Collections.<ValidationProblem> emptySet();
+	}
+
+	/**
+	 * Validates a single resource and returns the problems found or <code>null</code> if the resource should not be
+	 * validated.
+	 */
+	private Set<ValidationProblem> validate(IResource resource, int kind, IProgressMonitor monitor, boolean parallel) {
+		if (!ValidationStatistics.isEnabled()) {
+			return doValidate(resource, kind, monitor, parallel);
+		}
+
+		long start = System.nanoTime();
+		Set<ValidationProblem> problems = null;
+		try {
+			problems = doValidate(resource, kind, monitor, parallel);
+			return problems;
+		}
+		finally {
+			ValidationStatistics.getDefault().recordResource(getValidatorId(), resource.getFullPath().toString(),
+					System.nanoTime() - start, problems != null ? problems.size() : 0);
+		}
+	}
+
+	private Set<ValidationProblem> doValidate(IResource resource, int kind, IProgressMonitor monitor, boolean parallel) {
+		IValidationElementLifecycleManager callback = initValidationElementCallback(resource, kind);
+		try {
+			IResourceModelElement rootElement = callback.getRootElement();
+
+			// Check if resource model element is external to the workspace -> if so, do not validate the resource
+			if (rootElement != null && rootElement.isExternal()) {
+				return null;
+			}
+
+			Set<ValidationRuleDefinition> ruleDefinitions = getRuleDefinitions(resource);
+			if (rootElement != null && ruleDefinitions != null && ruleDefinitions.size() > 0) {
+				if (parallel) {
+					return validateInParallel(callback, ruleDefinitions, monitor);
+				}
+				return validate(callback, ruleDefinitions, monitor);
+			}
+			return null;
+		}
+		finally {
+			// call close on callback to execute any required resource cleanup in template
+			callback.destroy();
+		}
+	}
+
 	private IValidationElementLifecycleManager initValidationElementCallback(IResource resource, int kind) {
 		IValidationElementLifecycleManager callback = createValidationElementLifecycleManager();
 		if (callback instanceof IValidationElementLifecycleManagerExtension) {
@@ -129,26 +367,77 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 	}
 
 	private Set<ValidationProblem> validate(IValidationElementLifecycleManager callback,
-			Set<ValidationRuleDefinition> ruleDefinitions, SubProgressMonitor subMonitor) {
+			Set<ValidationRuleDefinition> ruleDefinitions, IProgressMonitor monitor) {
 		Set<ValidationProblem> problems = new LinkedHashSet<ValidationProblem>();
 		for (IResourceModelElement contextElement : callback.getContextElements()) {
-			IValidationContext context = createContext(callback.getRootElement(), contextElement);
-			if (context instanceof IProjectContributorStateAware) {
-				((IProjectContributorStateAware) context).setProjectContributorState(contributorState);
-			}
-
-			if (context != null) {
-				IModelElementVisitor visitor = new ValidationVisitor(context, ruleDefinitions);
-				callback.getRootElement().accept(visitor, subMonitor);
-				problems.addAll(context.getProblems());
-			}
-			if (subMonitor.isCanceled()) {
+			problems.addAll(validate(callback, contextElement, ruleDefinitions, monitor));
+			if (monitor.isCanceled()) {
 				throw new OperationCanceledException();
 			}
 		}
 		return problems;
 	}
 
+	/**
+	 * Validates all context elements of the given callback as separate tasks. This is called from within a worker
+	 * of the validation pool, so waiting for the sub tasks lets the worker execute them itself.
+	 */
+	private Set<ValidationProblem> validateInParallel(final IValidationElementLifecycleManager callback,
+			final Set<ValidationRuleDefinition> ruleDefinitions, final IProgressMonitor monitor) {
+		Set<IResourceModelElement> contextElements = callback.getContextElements();
+		if (contextElements.size() <= 1) {
+			return validate(callback, ruleDefinitions, monitor);
+		}
+
+		List<ForkJoinTask<Set<ValidationProblem>>> tasks = new ArrayList<ForkJoinTask<Set<ValidationProblem>>>();
+		for (final IResourceModelElement contextElement : contextElements) {
+			tasks.add(ForkJoinTask.adapt(new Callable<Set<ValidationProblem>>() {
+
+				public Set<ValidationProblem> call() throws Exception {
+					return validate(callback, contextElement, ruleDefinitions, monitor);
+				}
+			}));
+		}
+		ForkJoinTask.invokeAll(tasks);
+
+		// collect in the order of the context elements, as the sequential validation would do
+		Set<ValidationProblem> problems = new LinkedHashSet<ValidationProblem>();
+		for (ForkJoinTask<Set<ValidationProblem>> task : tasks) {
+			problems.addAll(task.join());
+		}
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+		return problems;
+	}
+
+	private Set<ValidationProblem> validate(IValidationElementLifecycleManager callback,
+			IResourceModelElement contextElement, Set<ValidationRuleDefinition> ruleDefinitions,
+			IProgressMonitor monitor) {
+		IValidationContext context = createContext(callback.getRootElement(), contextElement);
+		if (context instanceof IProjectContributorStateAware) {
+			((IProjectContributorStateAware) context).setProjectContributorState(contributorState);
+		}
+
+		if (context != null) {
+			IModelElementVisitor visitor = new ValidationVisitor(context, ruleDefinitions);
+			callback.getRootElement().accept(visitor, monitor);
+			return context.getProblems();
+		}
+		return Collections.emptySet();
+	}
+
+	/**
+	 * Returns <code>true</code> if the rules of this validator can be executed concurrently for different resources
+	 * and context elements, once parallel validation has been enabled using
+	 * {@link SpringCore#USE_PARALLEL_VALIDATION}.
+	 * <p>
+	 * Subclasses whose rules or contexts hold state that is not thread-safe should return <code>false</code>.
+	 */
+	protected boolean supportsParallelValidation() {
+		return true;
+	}
+
 	/**
 	 * Returns a newly created {@link IValidationContext} for the given {@link IResourceModelElement root element} and
 	 * it's {@link IResourceModelElement context element}.
@@ -248,6 +537,31 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 		return true;
 	}
 
+	/**
+	 * {@link IProgressMonitor} handed to validation workers. Progress reports are dropped, as they are reported by
+	 * the calling thread; cancellation of the parent monitor is passed through.
+	 */
+	private static class CancelableProgressMonitor extends NullProgressMonitor {
+
+		private final IProgressMonitor parent;
+
+		private volatile boolean canceled = false;
+
+		public CancelableProgressMonitor(IProgressMonitor parent) {
+			this.parent = parent;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return canceled || parent.isCanceled();
+		}
+
+		@Override
+		public void setCanceled(boolean canceled) {
+			this.canceled = canceled;
+		}
+	}
+
 	/**
 	 * {@link IModelElementVisitor} implementation that validates a specified model tree.
 	 */
@@ -257,9 +571,12 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 
 		private Set<ValidationRuleDefinition> ruleDefinitions;
 
+		private ValidationStatistics statistics;
+
 		public ValidationVisitor(IValidationContext context, Set<ValidationRuleDefinition> ruleDefinitions) {
 			this.ruleDefinitions = ruleDefinitions;
 			this.context = context;
+			this.statistics = ValidationStatistics.isEnabled() ? ValidationStatistics.getDefault() : null;
 		}
 
 		@SuppressWarnings("unchecked")
@@ -277,7 +594,12 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 						IValidationRule rule = ruleDefinition.getRule();
 						if (rule.supports(element, context)) {
 							context.setCurrentRuleDefinition(ruleDefinition);
-							rule.validate(element, context, monitor);
+							if (statistics != null) {
+								validateWithStatistics(rule, ruleDefinition, element, monitor);
+							}
+							else {
+								rule.validate(element, context, monitor);
+							}
 						}
 						subMonitor.worked(1);
 					}
@@ -289,5 +611,26 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 			}
 			return false;
 		}
+
+		@SuppressWarnings("unchecked")
+		private void validateWithStatistics(IValidationRule rule, ValidationRuleDefinition ruleDefinition,
+				IModelElement element, IProgressMonitor monitor) {
+			int problemCount = getProblemCount();
+			long start = System.nanoTime();
+			try {
+				rule.validate(element, context, monitor);
+			}
+			finally {
+				statistics.recordRule(getValidatorId(), ruleDefinition.getId(), System.nanoTime() - start,
+						getProblemCount() - problemCount);
+			}
+		}
+
+		private int getProblemCount() {
+			if (context instanceof AbstractValidationContext) {
+				return ((AbstractValidationContext) context).getProblemCount();
+			}
+			return context.getProblems().size();
+		}
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2010 Spring IDE Developers
+ * Copyright (c) 2007, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -44,6 +44,9 @@ public interface IValidationContext {
 
 	/**
 	 * Returns the set of reported {@link ValidationProblem}s.
+	 * <p>
+	 * Implementations must allow problems to be reported from multiple threads and should return a snapshot
+	 * that is not affected by problems reported later on.
 	 * @return a set of {@link ValidationProblem}s
 	 */
 	Set<ValidationProblem> getProblems();
@@ -0,0 +1,313 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.model.validation;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.ide.eclipse.core.SpringCore;
+
+/**
+ * Collects timing information, invocation counts and problem counts for project builders, validators, validation
+ * rules and validated resources.
+ * <p>
+ * The statistics are accumulated until {@link #reset()} is called, which happens at the start of every workspace
+ * build, and can be exported as a JSON report using {@link #writeJson(Writer)}. Recording is thread-safe, so rules
+ * validated in parallel can report concurrently. Nothing is recorded unless
+ * {@link SpringCore#COLLECT_VALIDATION_STATISTICS} is enabled.
+ */
+public class ValidationStatistics {
+
+	private static final ValidationStatistics DEFAULT = new ValidationStatistics();
+
+	private final ConcurrentMap<String, Counter> contributors = new ConcurrentHashMap<String, Counter>();
+
+	private final ConcurrentMap<String, ConcurrentMap<String, Counter>> rules = new ConcurrentHashMap<String, ConcurrentMap<String, Counter>>();
+
+	private final ConcurrentMap<String, ConcurrentMap<String, Counter>> resources = new ConcurrentHashMap<String, ConcurrentMap<String, Counter>>();
+
+	/**
+	 * Returns the statistics that are shared by the validation framework.
+	 */
+	public static ValidationStatistics getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Returns <code>true</code> if statistics should be recorded.
+	 */
+	public static boolean isEnabled() {
+		SpringCore core = SpringCore.getDefault();
+		return core != null && core.getPluginPreferences().getBoolean(SpringCore.COLLECT_VALIDATION_STATISTICS);
+	}
+
+	/**
+	 * Records a single run of a project builder or validator.
+	 * @param contributorId the id of the builder or validator
+	 * @param resourceCount the number of resources handed to the contributor
+	 */
+	public void recordContributor(String contributorId, int resourceCount, long nanos) {
+		Counter counter = getCounter(contributors, contributorId);
+		counter.record(nanos, resourceCount, 0);
+	}
+
+	/**
+	 * Records a single invocation of a validation rule.
+	 * @param problemCount the number of problems the rule reported during this invocation
+	 */
+	public void recordRule(String validatorId, String ruleId, long nanos, int problemCount) {
+		Counter counter = getCounter(getCounters(rules, validatorId), ruleId);
+		counter.record(nanos, 0, problemCount);
+	}
+
+	/**
+	 * Records the validation of a single resource by the given validator.
+	 * @param problemCount the number of problems found for the resource
+	 */
+	public void recordResource(String validatorId, String resourcePath, long nanos, int problemCount) {
+		getCounter(getCounters(resources, validatorId), resourcePath).record(nanos, 1, problemCount);
+		getCounter(contributors, validatorId).problems.addAndGet(problemCount);
+	}
+
+	/**
+	 * Returns the statistics of all builders and validators by their id.
+	 */
+	public Map<String, Counter> getContributorStatistics() {
+		return Collections.unmodifiableMap(contributors);
+	}
+
+	/**
+	 * Returns the statistics of the rules of the given validator by rule id.
+	 */
+	public Map<String, Counter> getRuleStatistics(String validatorId) {
+		Map<String, Counter> counters = rules.get(validatorId);
+		return counters != null ? Collections.unmodifiableMap(counters) : Collections.<String, Counter> emptyMap();
+	}
+
+	/**
+	 * Returns the statistics of the resources validated by the given validator by the full path of the resource.
+	 */
+	public Map<String, Counter> getResourceStatistics(String validatorId) {
+		Map<String, Counter> counters = resources.get(validatorId);
+		return counters != null ? Collections.unmodifiableMap(counters) : Collections.<String, Counter> emptyMap();
+	}
+
+	public void reset() {
+		contributors.clear();
+		rules.clear();
+		resources.clear();
+	}
+
+	/**
+	 * Writes the statistics as JSON report into the given file.
+	 */
+	public void writeJson(File file) throws IOException {
+		file.getParentFile().mkdirs();
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			writeJson(writer);
+		}
+		finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Writes the statistics as JSON report. All entries are sorted by their total time, most expensive first.
+	 */
+	public void writeJson(Writer writer) throws IOException {
+		writer.write("{\n  \"contributors\": [");
+		writeEntries(writer, null, "id", contributors);
+		writer.write("\n  ],\n  \"rules\": [");
+		writeEntries(writer, "validator", "rule", rules);
+		writer.write("\n  ],\n  \"resources\": [");
+		writeEntries(writer, "validator", "resource", resources);
+		writer.write("\n  ]\n}\n");
+	}
+
+	private void writeEntries(Writer writer, String groupName, String keyName,
+			ConcurrentMap<String, ConcurrentMap<String, Counter>> groups) throws IOException {
+		List<String[]> keys = new ArrayList<String[]>();
+		List<Counter> counters = new ArrayList<Counter>();
+		for (Map.Entry<String, ConcurrentMap<String, Counter>> group : groups.entrySet()) {
+			for (Map.Entry<String, Counter> entry : group.getValue().entrySet()) {
+				keys.add(new String[] { group.getKey(), entry.getKey() });
+				counters.add(entry.getValue());
+			}
+		}
+		writeEntries(writer, groupName, keyName, keys, counters);
+	}
+
+	private void writeEntries(Writer writer, String groupName, String keyName, Map<String, Counter> entries)
+			throws IOException {
+		List<String[]> keys = new ArrayList<String[]>();
+		List<Counter> counters = new ArrayList<Counter>();
+		for (Map.Entry<String, Counter> entry : entries.entrySet()) {
+			keys.add(new String[] { null, entry.getKey() });
+			counters.add(entry.getValue());
+		}
+		writeEntries(writer, groupName, keyName, keys, counters);
+	}
+
+	private void writeEntries(Writer writer, String groupName, String keyName, List<String[]> keys,
+			List<Counter> counters) throws IOException {
+		List<Integer> order = new ArrayList<Integer>();
+		for (int i = 0; i < counters.size(); i++) {
+			order.add(i);
+		}
+		final long[] totals = new long[counters.size()];
+		for (int i = 0; i < totals.length; i++) {
+			totals[i] = counters.get(i).getTotalNanos();
+		}
+		Collections.sort(order, new Comparator<Integer>() {
+
+			public int compare(Integer index1, Integer index2) {
+				long total1 = totals[index1];
+				long total2 = totals[index2];
+				return total1 > total2 ? -1 : (total1 == total2 ? 0 : 1);
+			}
+		});
+
+		boolean first = true;
+		for (int index : order) {
+			String[] key = keys.get(index);
+			Counter counter = counters.get(index);
+			writer.write(first ? "\n    {" : ",\n    {");
+			first = false;
+			if (groupName != null) {
+				writer.write("\"" + groupName + "\": ");
+				writeString(writer, key[0]);
+				writer.write(", ");
+			}
+			writer.write("\"" + keyName + "\": ");
+			writeString(writer, key[1]);
+			writer.write(", \"invocations\": " + counter.getInvocations());
+			writer.write(", \"resources\": " + counter.getResources());
+			writer.write(", \"problems\": " + counter.getProblems());
+			writer.write(", \"totalMillis\": " + toMillis(totals[index]));
+			writer.write(", \"maxMillis\": " + toMillis(counter.getMaxNanos()));
+			writer.write("}");
+		}
+	}
+
+	private static String toMillis(long nanos) {
+		return String.valueOf(nanos / 1000000L) + "." + String.format(Locale.ROOT, "%03d", (nanos / 1000L) % 1000L);
+	}
+
+	private static void writeString(Writer writer, String value) throws IOException {
+		writer.write('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				writer.write('\\');
+				writer.write(c);
+			}
+			else if (c < 0x20) {
+				writer.write(String.format(Locale.ROOT, "\\u%04x", (int) c));
+			}
+			else {
+				writer.write(c);
+			}
+		}
+		writer.write('"');
+	}
+
+	private static ConcurrentMap<String, Counter> getCounters(
+			ConcurrentMap<String, ConcurrentMap<String, Counter>> groups, String group) {
+		ConcurrentMap<String, Counter> counters = groups.get(group);
+		if (counters == null) {
+			ConcurrentMap<String, Counter> newCounters = new ConcurrentHashMap<String, Counter>();
+			counters = groups.putIfAbsent(group, newCounters);
+			if (counters == null) {
+				counters = newCounters;
+			}
+		}
+		return counters;
+	}
+
+	private static Counter getCounter(ConcurrentMap<String, Counter> counters, String key) {
+		Counter counter = counters.get(key);
+		if (counter == null) {
+			Counter newCounter = new Counter();
+			counter = counters.putIfAbsent(key, newCounter);
+			if (counter == null) {
+				counter = newCounter;
+			}
+		}
+		return counter;
+	}
+
+	/**
+	 * Accumulated statistics for a single builder, validator, rule or resource.
+	 */
+	public static class Counter {
+
+		private final AtomicLong invocations = new AtomicLong();
+
+		private final AtomicLong resources = new AtomicLong();
+
+		private final AtomicLong problems = new AtomicLong();
+
+		private final AtomicLong totalNanos = new AtomicLong();
+
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		void record(long nanos, int resourceCount, int problemCount) {
+			invocations.incrementAndGet();
+			resources.addAndGet(resourceCount);
+			problems.addAndGet(problemCount);
+			totalNanos.addAndGet(nanos);
+			long max = maxNanos.get();
+			while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+				max = maxNanos.get();
+			}
+		}
+
+		public long getInvocations() {
+			return invocations.get();
+		}
+
+		public long getResources() {
+			return resources.get();
+		}
+
+		public long getProblems() {
+			return problems.get();
+		}
+
+		public long getTotalNanos() {
+			return totalNanos.get();
+		}
+
+		public long getMaxNanos() {
+			return maxNanos.get();
+		}
+
+		@Override
+		public String toString() {
+			return "Counter [invocations=" + getInvocations() + ", resources=" + getResources() + ", problems="
+					+ getProblems() + ", totalMillis=" + toMillis(getTotalNanos()) + "]";
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2010 Spring IDE Developers
+ * Copyright (c) 2007, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.core.model.validation;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,12 +33,55 @@ import org.springframework.ide.eclipse.core.SpringCore;
  */
 public final class ValidationUtils {
 
+	/**
+	 * Orders {@link ValidationProblem}s by resource, line, severity (errors first), rule, error id and message.
+	 */
+	public static final Comparator<ValidationProblem> PROBLEM_ORDER = new Comparator<ValidationProblem>() {
+
+		public int compare(ValidationProblem problem1, ValidationProblem problem2) {
+			int result = compare(problem1.getResource() != null ? problem1.getResource().getFullPath().toString() : null,
+					problem2.getResource() != null ? problem2.getResource().getFullPath().toString() : null);
+			if (result == 0) {
+				result = compare(problem1.getLine(), problem2.getLine());
+			}
+			if (result == 0) {
+				result = compare(problem2.getSeverity(), problem1.getSeverity());
+			}
+			if (result == 0) {
+				result = compare(problem1.getRuleId(), problem2.getRuleId());
+			}
+			if (result == 0) {
+				result = compare(problem1.getErrorId(), problem2.getErrorId());
+			}
+			if (result == 0) {
+				result = compare(problem1.getMessage(), problem2.getMessage());
+			}
+			return result;
+		}
+
+		private int compare(int value1, int value2) {
+			return value1 < value2 ? -1 : (value1 == value2 ? 0 : 1);
+		}
+
+		private int compare(String value1, String value2) {
+			if (value1 == null) {
+				return value2 == null ? 0 : -1;
+			}
+			return value2 == null ? 1 : value1.compareTo(value2);
+		}
+	};
+
 	/**
 	 * Creates the {@link IMarker validation markers} on the specified resource for the given validation problems.
+	 * <p>
+	 * The markers are created in the order defined by {@link #PROBLEM_ORDER}, so the result doesn't depend on the
+	 * order in which the problems have been reported, e.g. by rules running in parallel.
 	 */
 	public static void createProblemMarkers(IResource resource, Set<ValidationProblem> problems, String markerId) {
 		if (problems != null) {
-			for (ValidationProblem problem : problems) {
+			List<ValidationProblem> orderedProblems = new ArrayList<ValidationProblem>(problems);
+			Collections.sort(orderedProblems, PROBLEM_ORDER);
+			for (ValidationProblem problem : orderedProblems) {
 				// Don't install problems that are configured to get ignored
 				if (problem.getSeverity() >= 0) {
 					createProblemMarker(resource, problem, markerId);
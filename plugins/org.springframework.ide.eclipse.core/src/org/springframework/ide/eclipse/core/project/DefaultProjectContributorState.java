@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2010 Spring IDE Developers
+ * Copyright (c) 2009, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,8 +11,8 @@
 package org.springframework.ide.eclipse.core.project;
 
 import java.util.Dictionary;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.osgi.framework.Filter;
 import org.osgi.framework.FrameworkUtil;
@@ -22,13 +22,15 @@ import org.springframework.util.StringUtils;
 
 /**
  * Default implementation of the {@link IProjectContributorState} interface.
+ * <p>
+ * Managed objects can be registered and accessed concurrently, e.g. by validation rules running in parallel.
  * @author Christian Dupuis
  */
 public class DefaultProjectContributorState implements IProjectContributorState {
 
-	private Map<Class, Object> managedObjects = new HashMap<Class, Object>();
+	private ConcurrentHashMap<Class, Object> managedObjects = new ConcurrentHashMap<Class, Object>();
 
-	private Map<Dictionary<String, String>, Object> managedObjectsWithFilters = new HashMap<Dictionary<String, String>, Object>();
+	private ConcurrentHashMap<Dictionary<String, String>, Object> managedObjectsWithFilters = new ConcurrentHashMap<Dictionary<String, String>, Object>();
 
 	public <T> T get(Class<T> clazz) {
 		if (managedObjects.containsKey(clazz)) {
@@ -43,13 +45,7 @@ public class DefaultProjectContributorState implements IProjectContributorState
 	}
 
 	public boolean hold(Object obj) {
-		if (managedObjects.containsKey(obj.getClass())) {
-			return false;
-		}
-		else {
-			managedObjects.put(obj.getClass(), obj);
-			return true;
-		}
+		return managedObjects.putIfAbsent(obj.getClass(), obj) == null;
 	}
 
 	public <T> T get(Class<T> clazz, String filterText) {
@@ -73,13 +69,7 @@ public class DefaultProjectContributorState implements IProjectContributorState
 	}
 
 	public boolean hold(Object obj, Dictionary<String, String> attibutes) {
-		if (managedObjectsWithFilters.containsKey(attibutes)) {
-			return false;
-		}
-		else {
-			managedObjectsWithFilters.put(attibutes, obj);
-			return true;
-		}
+		return managedObjectsWithFilters.putIfAbsent(attibutes, obj) == null;
 	}
 
 }
\ No newline at end of file
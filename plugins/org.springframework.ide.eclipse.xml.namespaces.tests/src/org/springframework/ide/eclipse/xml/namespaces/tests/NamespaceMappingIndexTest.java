@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.xml.namespaces.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.ide.eclipse.xml.namespaces.classpath.NamespaceMappingIndex;
+import org.springframework.ide.eclipse.xml.namespaces.classpath.NamespaceMappings;
+
+import com.google.common.collect.ImmutableList;
+
+public class NamespaceMappingIndexTest {
+
+	private static final String BEANS = "http://www.springframework.org/schema/beans";
+	private static final String DEMO = "http://www.example.org/schema/demo";
+
+	@Rule
+	public TemporaryFolder tmp = new TemporaryFolder();
+
+	@Test
+	public void mergedMappings() throws Exception {
+		File beansJar = createJar("beans.jar",
+				"META-INF/spring.schemas",
+					"http\\://www.springframework.org/schema/beans/spring-beans.xsd=org/beans/spring-beans.xsd\n" +
+					"http\\://www.example.org/schema/demo/demo.xsd=/org/beans/demo-old.xsd\n",
+				"META-INF/spring.handlers", "http\\://www.springframework.org/schema/beans=org.beans.BeansHandler\n",
+				"org/beans/spring-beans.xsd", schema(BEANS),
+				"org/beans/demo-old.xsd", schema(DEMO));
+		File demoJar = createJar("demo.jar",
+				"META-INF/spring.schemas",
+					"http\\://www.example.org/schema/demo/demo.xsd=/org/demo/demo.xsd\n" +
+					"http\\://www.example.org/schema/demo/other.xsd=org/beans/spring-beans.xsd\n",
+				"org/demo/demo.xsd", schema(DEMO));
+		File noMappingsJar = createJar("other.jar", "org/Other.class", "");
+		File outputFolder = tmp.newFolder("bin");
+		write(new File(outputFolder, "META-INF/spring.schemas"), "http\\://www.example.org/schema/local.xsd=local.xsd\n");
+		write(new File(outputFolder, "local.xsd"), schema("http://www.example.org/schema/local"));
+
+		NamespaceMappingIndex index = new NamespaceMappingIndex(null);
+		NamespaceMappings mappings = index.getMappings(urls(outputFolder, beansJar, demoJar, noMappingsJar));
+
+		assertEquals(4, mappings.getSchemaMappings().size());
+		assertEquals("/org/demo/demo.xsd", mappings.getSchemaMappings().get(DEMO + "/demo.xsd"));
+		assertEquals("org.beans.BeansHandler", mappings.getHandlerMappings().get(BEANS));
+
+		assertEquals("org/beans/spring-beans.xsd", mappings.resolveXsdPath("org/beans/spring-beans.xsd"));
+		assertEquals(BEANS, mappings.getTargetNamespace("org/beans/spring-beans.xsd"));
+		assertEquals("org/demo/demo.xsd", mappings.resolveXsdPath("/org/demo/demo.xsd"));
+		assertEquals(DEMO, mappings.getTargetNamespace("org/demo/demo.xsd"));
+		assertEquals("local.xsd", mappings.resolveXsdPath("local.xsd"));
+		assertEquals("http://www.example.org/schema/local", mappings.getTargetNamespace("local.xsd"));
+
+		// XSDs in other entries than the mapping referring to them are left to the resource loader
+		assertNull(mappings.resolveXsdPath("org/demo/missing.xsd"));
+	}
+
+	@Test
+	public void changedJarIsReadAgain() throws Exception {
+		File jar = createJar("demo.jar",
+				"META-INF/spring.schemas", "http\\://www.example.org/schema/demo/demo.xsd=org/demo/demo.xsd\n",
+				"org/demo/demo.xsd", schema(DEMO));
+		NamespaceMappingIndex index = new NamespaceMappingIndex(null);
+		assertEquals(DEMO, index.getMappings(urls(jar)).getTargetNamespace("org/demo/demo.xsd"));
+
+		long lastModified = jar.lastModified();
+		createJar("demo.jar",
+				"META-INF/spring.schemas", "http\\://www.example.org/schema/demo/demo.xsd=org/demo/demo.xsd\n",
+				"org/demo/demo.xsd", schema(DEMO + "/changed"));
+		jar.setLastModified(lastModified + 2000);
+		assertEquals(DEMO + "/changed", index.getMappings(urls(jar)).getTargetNamespace("org/demo/demo.xsd"));
+	}
+
+	@Test
+	public void savedIndex() throws Exception {
+		File jar = createJar("demo.jar",
+				"META-INF/spring.schemas", "http\\://www.example.org/schema/demo/demo.xsd=org/demo/demo.xsd\n",
+				"META-INF/spring.handlers", "http\\://www.example.org/schema/demo=org.demo.DemoHandler\n",
+				"org/demo/demo.xsd", schema(DEMO));
+		File indexFile = new File(tmp.getRoot(), "index.bin");
+
+		NamespaceMappingIndex index = new NamespaceMappingIndex(indexFile);
+		index.getMappings(urls(jar));
+		index.save();
+		assertTrue(indexFile.isFile());
+
+		// Jars aren't read anymore after a restart, not even when their contents are unreadable
+		long lastModified = jar.lastModified();
+		Files.write(jar.toPath(), new byte[(int) jar.length()]);
+		jar.setLastModified(lastModified);
+
+		NamespaceMappings mappings = new NamespaceMappingIndex(indexFile).getMappings(urls(jar));
+		assertEquals("org/demo/demo.xsd", mappings.getSchemaMappings().get(DEMO + "/demo.xsd"));
+		assertEquals("org.demo.DemoHandler", mappings.getHandlerMappings().get(DEMO));
+		assertEquals(DEMO, mappings.getTargetNamespace("org/demo/demo.xsd"));
+	}
+
+	@Test
+	public void failedReadIsNotIndexed() throws Exception {
+		File jar = createJar("demo.jar",
+				"META-INF/spring.schemas", "http\\://www.example.org/schema/demo/demo.xsd=org/demo/demo.xsd\n",
+				"org/demo/demo.xsd", schema(DEMO));
+		byte[] contents = Files.readAllBytes(jar.toPath());
+		long lastModified = jar.lastModified();
+		Files.write(jar.toPath(), new byte[contents.length]);
+		jar.setLastModified(lastModified);
+		File indexFile = new File(tmp.getRoot(), "index.bin");
+
+		NamespaceMappingIndex index = new NamespaceMappingIndex(indexFile);
+		assertTrue(index.getMappings(urls(jar)).getSchemaMappings().isEmpty());
+		index.save();
+		assertFalse(indexFile.exists());
+
+		// Once the jar can be read, its mappings are found, even though its size and time stamp are the same
+		Files.write(jar.toPath(), contents);
+		jar.setLastModified(lastModified);
+		assertEquals(DEMO, index.getMappings(urls(jar)).getTargetNamespace("org/demo/demo.xsd"));
+	}
+
+	private List<URL> urls(File... files) throws Exception {
+		ImmutableList.Builder<URL> urls = ImmutableList.builder();
+		for (File file : files) {
+			urls.add(file.toURI().toURL());
+		}
+		return urls.build();
+	}
+
+	private static String schema(String namespace) {
+		return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+				"<xsd:schema xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" targetNamespace=\"" + namespace + "\"/>\n";
+	}
+
+	private File createJar(String name, String... entries) throws Exception {
+		File jar = new File(tmp.getRoot(), name);
+		try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(jar))) {
+			for (int i = 0; i < entries.length; i += 2) {
+				zip.putNextEntry(new ZipEntry(entries[i]));
+				zip.write(entries[i + 1].getBytes(StandardCharsets.UTF_8));
+				zip.closeEntry();
+			}
+		}
+		return jar;
+	}
+
+	private void write(File file, String content) throws Exception {
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.xml.namespaces.classpath;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.URIUtil;
+import org.springframework.ide.eclipse.xml.namespaces.SpringXmlNamespacesPlugin;
+
+/**
+ * Workspace-wide index of the schema mappings, handler mappings and XSD target namespaces of jars,
+ * shared by all projects.
+ * <p>
+ * Setting up the namespace resolution of a project used to mean loading every
+ * <code>spring.schemas</code> file on its classpath and opening every XSD they refer to, again for
+ * every project and after each classpath change. With this index a jar is only read again when its
+ * size or time stamp changes, and the mappings of a project are merged from the segments of the jars
+ * on its classpath. Source and output folders change all the time and are read each time.
+ * <p>
+ * The index is also saved to a file, so that jars aren't opened again after a restart. Jars that
+ * couldn't be read are not indexed, they are read again the next time.
+ */
+public class NamespaceMappingIndex {
+
+	private static final String INDEX_FILE_NAME = "namespace-mappings.bin";
+	private static final int FORMAT_VERSION = 1;
+
+	private static NamespaceMappingIndex instance;
+
+	public static synchronized NamespaceMappingIndex getDefault() {
+		if (instance == null) {
+			SpringXmlNamespacesPlugin plugin = SpringXmlNamespacesPlugin.getDefault();
+			File file = plugin == null ? null : plugin.getStateLocation().append(INDEX_FILE_NAME).toFile();
+			instance = new NamespaceMappingIndex(file);
+		}
+		return instance;
+	}
+
+	/**
+	 * The segment of an archive, as of the time the archive had the given size and time stamp.
+	 */
+	private static class ArchiveEntry {
+		final long length;
+		final long lastModified;
+		final NamespaceMappingSegment segment;
+
+		ArchiveEntry(long length, long lastModified, NamespaceMappingSegment segment) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.segment = segment;
+		}
+
+		boolean isValidFor(File archive) {
+			return length == archive.length() && lastModified == archive.lastModified();
+		}
+	}
+
+	private final File indexFile;
+	private Map<File, ArchiveEntry> archives;
+	private boolean dirty = false;
+
+	/**
+	 * @param indexFile file to save the index in, or <code>null</code> to only keep it in memory
+	 */
+	public NamespaceMappingIndex(File indexFile) {
+		this.indexFile = indexFile;
+	}
+
+	/**
+	 * Returns the merged mappings of the class path of the given project.
+	 */
+	public NamespaceMappings getMappings(IProject project) {
+		return getMappings(ProjectResourceLoaderCache.getClassPathUrls(project, null));
+	}
+
+	/**
+	 * Returns the merged mappings of the given class path entries. Like the project's
+	 * {@link ResourceLoader}, libraries take precedence over source and output folders.
+	 */
+	public NamespaceMappings getMappings(List<URL> classpath) {
+		Set<URL> libraries = new LinkedHashSet<URL>();
+		List<URL> folders = new ArrayList<URL>();
+		for (URL url : classpath) {
+			if (ProjectResourceLoaderCache.isLibrary(url)) {
+				libraries.add(url);
+			}
+			else {
+				folders.add(url);
+			}
+		}
+		List<NamespaceMappingSegment> segments = new ArrayList<NamespaceMappingSegment>(classpath.size());
+		for (URL url : libraries) {
+			segments.add(getSegment(url));
+		}
+		for (URL url : folders) {
+			segments.add(getSegment(url));
+		}
+		return new NamespaceMappings(segments);
+	}
+
+	private NamespaceMappingSegment getSegment(URL url) {
+		File file;
+		try {
+			file = URIUtil.toFile(URIUtil.toURI(url));
+		}
+		catch (Exception e) {
+			SpringXmlNamespacesPlugin.log(e);
+			return NamespaceMappingSegment.EMPTY;
+		}
+		if (file == null) {
+			return NamespaceMappingSegment.EMPTY;
+		}
+		else if (file.isDirectory()) {
+			return NamespaceMappingSegment.readFolder(file);
+		}
+		else if (file.isFile()) {
+			return getArchiveSegment(file);
+		}
+		return NamespaceMappingSegment.EMPTY;
+	}
+
+	private NamespaceMappingSegment getArchiveSegment(File archive) {
+		synchronized (this) {
+			ArchiveEntry entry = getArchives().get(archive);
+			if (entry != null && entry.isValidFor(archive)) {
+				return entry.segment;
+			}
+		}
+		long length = archive.length();
+		long lastModified = archive.lastModified();
+		NamespaceMappingSegment segment = NamespaceMappingSegment.readArchive(archive);
+		synchronized (this) {
+			if (segment == null) {
+				if (getArchives().remove(archive) != null) {
+					dirty = true;
+				}
+				return NamespaceMappingSegment.EMPTY;
+			}
+			getArchives().put(archive, new ArchiveEntry(length, lastModified, segment));
+			dirty = true;
+		}
+		return segment;
+	}
+
+	/**
+	 * Saves the index if archives were read since it was last saved.
+	 */
+	public synchronized void save() {
+		if (dirty && indexFile != null) {
+			try {
+				File tmp = new File(indexFile.getPath() + ".tmp");
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+					out.writeInt(FORMAT_VERSION);
+					out.writeInt(archives.size());
+					for (Map.Entry<File, ArchiveEntry> e : archives.entrySet()) {
+						ArchiveEntry entry = e.getValue();
+						out.writeUTF(e.getKey().getPath());
+						out.writeLong(entry.length);
+						out.writeLong(entry.lastModified);
+						entry.segment.write(out);
+					}
+				}
+				indexFile.delete();
+				if (!tmp.renameTo(indexFile)) {
+					throw new IOException("Couldn't rename " + tmp + " to " + indexFile);
+				}
+				dirty = false;
+			}
+			catch (IOException e) {
+				SpringXmlNamespacesPlugin.log(e);
+			}
+		}
+	}
+
+	private Map<File, ArchiveEntry> getArchives() {
+		if (archives == null) {
+			archives = new HashMap<File, ArchiveEntry>();
+			if (indexFile != null && indexFile.isFile()) {
+				try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+					if (in.readInt() == FORMAT_VERSION) {
+						int count = in.readInt();
+						for (int i = 0; i < count; i++) {
+							File archive = new File(in.readUTF());
+							long length = in.readLong();
+							long lastModified = in.readLong();
+							archives.put(archive, new ArchiveEntry(length, lastModified, NamespaceMappingSegment.read(in)));
+						}
+					}
+				}
+				catch (IOException e) {
+					// A corrupt index is no big deal, the archives will just be read again
+					SpringXmlNamespacesPlugin.log(e);
+					archives.clear();
+				}
+			}
+		}
+		return archives;
+	}
+
+}
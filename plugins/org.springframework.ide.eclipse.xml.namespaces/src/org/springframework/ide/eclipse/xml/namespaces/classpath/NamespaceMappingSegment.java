@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.xml.namespaces.classpath;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.springframework.ide.eclipse.xml.namespaces.SpringXmlNamespacesPlugin;
+import org.springframework.ide.eclipse.xml.namespaces.util.TargetNamespaceScanner;
+
+/**
+ * The namespace related contents of a single classpath entry: the mappings of its
+ * <code>spring.schemas</code> and <code>spring.handlers</code> files, and the target namespaces
+ * of the XSDs its schema mappings refer to that are in the entry itself.
+ */
+class NamespaceMappingSegment {
+
+	static final NamespaceMappingSegment EMPTY = new NamespaceMappingSegment(
+			Collections.<String, String>emptyMap(), Collections.<String, String>emptyMap(),
+			Collections.<String, String>emptyMap());
+
+	private static final String SCHEMA_MAPPINGS_LOCATION = "META-INF/spring.schemas";
+	private static final String HANDLER_MAPPINGS_LOCATION = "META-INF/spring.handlers";
+
+	private final Map<String, String> schemaMappings;
+	private final Map<String, String> handlerMappings;
+
+	/**
+	 * Target namespaces by XSD path. A path maps to <code>null</code> if the XSD is in this entry but
+	 * its target namespace couldn't be read.
+	 */
+	private final Map<String, String> targetNamespaces;
+
+	private NamespaceMappingSegment(Map<String, String> schemaMappings, Map<String, String> handlerMappings,
+			Map<String, String> targetNamespaces) {
+		this.schemaMappings = schemaMappings;
+		this.handlerMappings = handlerMappings;
+		this.targetNamespaces = targetNamespaces;
+	}
+
+	public Map<String, String> getSchemaMappings() {
+		return schemaMappings;
+	}
+
+	public Map<String, String> getHandlerMappings() {
+		return handlerMappings;
+	}
+
+	public boolean containsXsd(String path) {
+		return targetNamespaces.containsKey(path);
+	}
+
+	public String getTargetNamespace(String path) {
+		return targetNamespaces.get(path);
+	}
+
+	/**
+	 * Reads the segment of a jar or zip file.
+	 * @return the segment, or <code>null</code> if the file couldn't be read
+	 */
+	public static NamespaceMappingSegment readArchive(File file) {
+		try (ZipFile zip = new ZipFile(file)) {
+			Map<String, String> schemaMappings = readMappings(zip, SCHEMA_MAPPINGS_LOCATION);
+			Map<String, String> handlerMappings = readMappings(zip, HANDLER_MAPPINGS_LOCATION);
+			Map<String, String> targetNamespaces = new LinkedHashMap<String, String>();
+			for (String path : schemaMappings.values()) {
+				String xsdPath = path;
+				ZipEntry entry = zip.getEntry(xsdPath);
+				if (entry == null && xsdPath.startsWith("/")) {
+					xsdPath = xsdPath.substring(1);
+					entry = zip.getEntry(xsdPath);
+				}
+				if (entry != null && !targetNamespaces.containsKey(xsdPath)) {
+					try (InputStream stream = zip.getInputStream(entry)) {
+						targetNamespaces.put(xsdPath, TargetNamespaceScanner.getTargetNamespace(stream));
+					}
+				}
+			}
+			return new NamespaceMappingSegment(schemaMappings, handlerMappings, targetNamespaces);
+		}
+		catch (IOException e) {
+			SpringXmlNamespacesPlugin.log(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Reads the segment of a folder, e.g. an output folder of a project.
+	 */
+	public static NamespaceMappingSegment readFolder(File folder) {
+		Map<String, String> schemaMappings = readMappings(new File(folder, SCHEMA_MAPPINGS_LOCATION));
+		Map<String, String> handlerMappings = readMappings(new File(folder, HANDLER_MAPPINGS_LOCATION));
+		Map<String, String> targetNamespaces = new LinkedHashMap<String, String>();
+		for (String path : schemaMappings.values()) {
+			String xsdPath = path;
+			File xsd = new File(folder, xsdPath);
+			if (!xsd.isFile() && xsdPath.startsWith("/")) {
+				xsdPath = xsdPath.substring(1);
+				xsd = new File(folder, xsdPath);
+			}
+			if (xsd.isFile() && !targetNamespaces.containsKey(xsdPath)) {
+				try (InputStream stream = new FileInputStream(xsd)) {
+					targetNamespaces.put(xsdPath, TargetNamespaceScanner.getTargetNamespace(stream));
+				}
+				catch (IOException e) {
+					SpringXmlNamespacesPlugin.log(e);
+				}
+			}
+		}
+		return new NamespaceMappingSegment(schemaMappings, handlerMappings, targetNamespaces);
+	}
+
+	private static Map<String, String> readMappings(ZipFile zip, String location) throws IOException {
+		ZipEntry entry = zip.getEntry(location);
+		if (entry == null) {
+			return Collections.emptyMap();
+		}
+		try (InputStream stream = zip.getInputStream(entry)) {
+			return toMap(stream);
+		}
+	}
+
+	private static Map<String, String> readMappings(File file) {
+		if (!file.isFile()) {
+			return Collections.emptyMap();
+		}
+		try (InputStream stream = new FileInputStream(file)) {
+			return toMap(stream);
+		}
+		catch (IOException e) {
+			SpringXmlNamespacesPlugin.log(e);
+			return Collections.emptyMap();
+		}
+	}
+
+	private static Map<String, String> toMap(InputStream stream) throws IOException {
+		Properties properties = new Properties();
+		properties.load(stream);
+		Map<String, String> mappings = new LinkedHashMap<String, String>();
+		for (String key : properties.stringPropertyNames()) {
+			mappings.put(key, properties.getProperty(key));
+		}
+		return mappings;
+	}
+
+	public void write(DataOutputStream out) throws IOException {
+		writeMap(out, schemaMappings);
+		writeMap(out, handlerMappings);
+		out.writeInt(targetNamespaces.size());
+		for (Map.Entry<String, String> e : targetNamespaces.entrySet()) {
+			out.writeUTF(e.getKey());
+			out.writeBoolean(e.getValue() != null);
+			if (e.getValue() != null) {
+				out.writeUTF(e.getValue());
+			}
+		}
+	}
+
+	public static NamespaceMappingSegment read(DataInputStream in) throws IOException {
+		Map<String, String> schemaMappings = readMap(in);
+		Map<String, String> handlerMappings = readMap(in);
+		int count = in.readInt();
+		Map<String, String> targetNamespaces = new LinkedHashMap<String, String>();
+		for (int i = 0; i < count; i++) {
+			String path = in.readUTF();
+			targetNamespaces.put(path, in.readBoolean() ? in.readUTF() : null);
+		}
+		return new NamespaceMappingSegment(schemaMappings, handlerMappings, targetNamespaces);
+	}
+
+	private static void writeMap(DataOutputStream out, Map<String, String> map) throws IOException {
+		out.writeInt(map.size());
+		for (Map.Entry<String, String> e : map.entrySet()) {
+			out.writeUTF(e.getKey());
+			out.writeUTF(e.getValue());
+		}
+	}
+
+	private static Map<String, String> readMap(DataInputStream in) throws IOException {
+		int count = in.readInt();
+		Map<String, String> map = new LinkedHashMap<String, String>();
+		for (int i = 0; i < count; i++) {
+			map.put(in.readUTF(), in.readUTF());
+		}
+		return map;
+	}
+
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.xml.namespaces.classpath;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The schema and handler mappings of a whole classpath, merged from the
+ * {@link NamespaceMappingSegment}s of its entries in the same way the
+ * <code>spring.schemas</code> and <code>spring.handlers</code> files are merged when they are
+ * loaded through the project's {@link ResourceLoader}: mappings of later entries override those
+ * of earlier ones, while an XSD is taken from the first entry that contains it.
+ */
+public class NamespaceMappings {
+
+	private final List<NamespaceMappingSegment> segments;
+	private final Map<String, String> schemaMappings;
+	private final Map<String, String> handlerMappings;
+
+	NamespaceMappings(List<NamespaceMappingSegment> segments) {
+		this.segments = segments;
+		Map<String, String> schemaMappings = new LinkedHashMap<String, String>();
+		Map<String, String> handlerMappings = new LinkedHashMap<String, String>();
+		for (NamespaceMappingSegment segment : segments) {
+			schemaMappings.putAll(segment.getSchemaMappings());
+			handlerMappings.putAll(segment.getHandlerMappings());
+		}
+		this.schemaMappings = Collections.unmodifiableMap(schemaMappings);
+		this.handlerMappings = Collections.unmodifiableMap(handlerMappings);
+	}
+
+	/**
+	 * Returns the merged contents of all <code>spring.schemas</code> files.
+	 */
+	public Map<String, String> getSchemaMappings() {
+		return schemaMappings;
+	}
+
+	/**
+	 * Returns the merged contents of all <code>spring.handlers</code> files.
+	 */
+	public Map<String, String> getHandlerMappings() {
+		return handlerMappings;
+	}
+
+	/**
+	 * Returns the path under which the XSD with the given path, as used in a schema mapping, can be
+	 * found on the classpath, or <code>null</code> if it isn't among the indexed XSDs.
+	 * <p>
+	 * Only XSDs that are in the same classpath entry as a schema mapping referring to them are
+	 * indexed. For any other XSD the caller has to look on the classpath itself.
+	 */
+	public String resolveXsdPath(String path) {
+		if (findSegment(path) != null) {
+			return path;
+		}
+		if (path.startsWith("/") && findSegment(path.substring(1)) != null) {
+			return path.substring(1);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the target namespace of the XSD with a path returned by {@link #resolveXsdPath(String)}.
+	 */
+	public String getTargetNamespace(String resolvedPath) {
+		NamespaceMappingSegment segment = findSegment(resolvedPath);
+		return segment != null ? segment.getTargetNamespace(resolvedPath) : null;
+	}
+
+	private NamespaceMappingSegment findSegment(String xsdPath) {
+		for (NamespaceMappingSegment segment : segments) {
+			if (segment.containsXsd(xsdPath)) {
+				return segment;
+			}
+		}
+		return null;
+	}
+
+}
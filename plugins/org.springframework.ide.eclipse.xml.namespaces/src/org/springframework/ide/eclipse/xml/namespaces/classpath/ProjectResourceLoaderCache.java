@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 Spring IDE Developers
+ * Copyright (c) 2009, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -402,7 +402,7 @@ public class ProjectResourceLoaderCache {
 				Set<URL> jars = new LinkedHashSet<URL>();
 				List<URL> dirs = new ArrayList<URL>();
 				for (URL url : urls) {
-					if (shouldLoadFromParent(url)) {
+					if (isLibrary(url)) {
 						jars.add(url);
 					}
 					else {
@@ -418,17 +418,21 @@ public class ProjectResourceLoaderCache {
 			}
 			return jarResourceLoader;
 		}
+	}
 
-		private boolean shouldLoadFromParent(URL url) {
-			String path = url.getPath();
-			if (path.endsWith(".jar") || path.endsWith(".zip")) {
-				return true;
-			}
-			else if (path.contains("/org.eclipse.osgi/bundles/")) {
-				return true;
-			}
-			return false;
+	/**
+	 * Returns whether the given class path entry is a library, whose resources are looked up before
+	 * those in the source and output folders of the projects.
+	 */
+	static boolean isLibrary(URL url) {
+		String path = url.getPath();
+		if (path.endsWith(".jar") || path.endsWith(".zip")) {
+			return true;
 		}
+		else if (path.contains("/org.eclipse.osgi/bundles/")) {
+			return true;
+		}
+		return false;
 	}
 	
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2011 Spring IDE Developers
+ * Copyright (c) 2010, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -30,6 +30,8 @@ import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChange
 import org.springframework.ide.eclipse.xml.namespaces.NamespaceManagerProvider;
 import org.springframework.ide.eclipse.xml.namespaces.SpringXmlNamespacesPlugin;
 import org.springframework.ide.eclipse.xml.namespaces.XmlNamespaceUtils;
+import org.springframework.ide.eclipse.xml.namespaces.classpath.NamespaceMappingIndex;
+import org.springframework.ide.eclipse.xml.namespaces.classpath.NamespaceMappings;
 import org.springframework.ide.eclipse.xml.namespaces.classpath.ProjectResourceLoaderCache;
 import org.springframework.ide.eclipse.xml.namespaces.classpath.PropertiesLoaderUtils;
 import org.springframework.ide.eclipse.xml.namespaces.classpath.ResourceLoader;
@@ -118,33 +120,41 @@ public class ProjectClasspathNamespaceDefinitionResolver implements INamespaceDe
 			Map<String, String> toolingMappings = new HashMap<String, String>();
 			Properties schemaMappings = new Properties();
 
-//			try {
-				Properties mappings = PropertiesLoaderUtils.loadAllProperties(DEFAULT_HANDLER_MAPPINGS_LOCATION, cls);
-				CollectionUtils.mergePropertiesIntoMap(mappings, handlerMappings);
-				schemaMappings = PropertiesLoaderUtils.loadAllProperties(DEFAULT_SCHEMA_MAPPINGS_LOCATION, cls);
-				mappings = PropertiesLoaderUtils.loadAllProperties(DEFAULT_TOOLING_MAPPINGS_LOCATION, cls);
-				CollectionUtils.mergePropertiesIntoMap(mappings, toolingMappings);
-//			}
-//			catch (IOException e) {
-//			}
+			// handler and schema mappings, and the target namespaces of the XSDs in jars, come from the shared index
+			NamespaceMappingIndex index = NamespaceMappingIndex.getDefault();
+			NamespaceMappings namespaceMappings = index.getMappings(project);
+			index.save();
+
+			handlerMappings.putAll(namespaceMappings.getHandlerMappings());
+			schemaMappings.putAll(namespaceMappings.getSchemaMappings());
+			Properties mappings = PropertiesLoaderUtils.loadAllProperties(DEFAULT_TOOLING_MAPPINGS_LOCATION, cls);
+			CollectionUtils.mergePropertiesIntoMap(mappings, toolingMappings);
 
 			for (Object xsd : schemaMappings.keySet()) {
 				String key = xsd.toString();
 
 				String schemaUri = schemaMappings.getProperty(key);
-				URL url = cls.getResource(schemaUri);
-
-				// fallback, if schema location starts with / and therefore fails to be found by classloader
-				if (url == null && schemaUri.startsWith("/")) {
-					schemaUri = schemaUri.substring(1);
-					url = cls.getResource(schemaUri);
-				}
-				
-				if (url == null) {
-					continue;
+				String namespaceUri;
+				String resolvedUri = namespaceMappings.resolveXsdPath(schemaUri);
+				if (resolvedUri != null) {
+					schemaUri = resolvedUri;
+					namespaceUri = namespaceMappings.getTargetNamespace(schemaUri);
 				}
+				else {
+					URL url = cls.getResource(schemaUri);
 
-				String namespaceUri = TargetNamespaceScanner.getTargetNamespace(url);
+					// fallback, if schema location starts with / and therefore fails to be found by classloader
+					if (url == null && schemaUri.startsWith("/")) {
+						schemaUri = schemaUri.substring(1);
+						url = cls.getResource(schemaUri);
+					}
+
+					if (url == null) {
+						continue;
+					}
+
+					namespaceUri = TargetNamespaceScanner.getTargetNamespace(url);
+				}
 				
 				if (StringUtils.hasText(namespaceUri)) {
 				
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2019 Spring IDE Developers
+ * Copyright (c) 2011, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,6 +23,8 @@ import org.eclipse.core.resources.IProject;
 import org.springframework.ide.eclipse.xml.namespaces.ProjectAwareUrlStreamHandlerService;
 import org.springframework.ide.eclipse.xml.namespaces.SpringXmlNamespacesPlugin;
 import org.springframework.ide.eclipse.xml.namespaces.XmlNamespaceUtils;
+import org.springframework.ide.eclipse.xml.namespaces.classpath.NamespaceMappingIndex;
+import org.springframework.ide.eclipse.xml.namespaces.classpath.NamespaceMappings;
 import org.springframework.ide.eclipse.xml.namespaces.classpath.ProjectResourceLoaderCache;
 import org.springframework.ide.eclipse.xml.namespaces.classpath.PropertiesLoaderUtils;
 import org.springframework.ide.eclipse.xml.namespaces.classpath.ResourceLoader;
@@ -120,20 +122,31 @@ public class ProjectClasspathUriResolver {
 		Map<String, NamespaceDefinition> namespaceDefinitionRegistry = new HashMap<String, NamespaceDefinition>();
 		ResourceLoader classLoader = ProjectResourceLoaderCache.getResourceLoader(project, null);
 
-		schemaMappings = getSchemaMappings(classLoader);
+		// the mappings and target namespaces of jars are taken from the shared index
+		NamespaceMappingIndex index = NamespaceMappingIndex.getDefault();
+		NamespaceMappings mappings = index.getMappings(project);
+		index.save();
+
+		schemaMappings = new ConcurrentHashMap<String, String>(mappings.getSchemaMappings());
 		if (schemaMappings != null) {
 			for (String key : schemaMappings.keySet()) {
 				String path = schemaMappings.get(key);
 
 				// add the resolved path to the list of uris
-				String resolvedPath = resolveXsdPathOnClasspath(path,
-						classLoader);
+				String resolvedPath = mappings.resolveXsdPath(path);
+				String namespaceUri = null;
+				if (resolvedPath != null) {
+					namespaceUri = mappings.getTargetNamespace(resolvedPath);
+				}
+				else {
+					// not next to the mapping that refers to it, so look for it on the classpath
+					resolvedPath = resolveXsdPathOnClasspath(path, classLoader);
+					namespaceUri = getTargetNamespace(resolvedPath);
+				}
 				if (resolvedPath != null) {
 					typeUri.put(key, resolvedPath);
 
 					// collect base information to later extract the default uri
-					String namespaceUri = getTargetNamespace(resolvedPath);
-
 					if (namespaceDefinitionRegistry.containsKey(namespaceUri)) {
 						namespaceDefinitionRegistry.get(namespaceUri)
 								.addSchemaLocation(key);
@@ -157,8 +170,10 @@ public class ProjectClasspathUriResolver {
 				String namespaceKey = definition.getNamespaceUri();
 				String defaultUri = definition.getDefaultUri();
 
-				String resolvedPath = resolveXsdPathOnClasspath(defaultUri,
-						classLoader);
+				String resolvedPath = mappings.resolveXsdPath(defaultUri);
+				if (resolvedPath == null) {
+					resolvedPath = resolveXsdPathOnClasspath(defaultUri, classLoader);
+				}
 				if (resolvedPath != null) {
 					typePublic.put(namespaceKey, resolvedPath);
 				}
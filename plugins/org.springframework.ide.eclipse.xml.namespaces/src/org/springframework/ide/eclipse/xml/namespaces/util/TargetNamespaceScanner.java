@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 Spring IDE Developers
+ * Copyright (c) 2011, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
 package org.springframework.ide.eclipse.xml.namespaces.util;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -38,6 +39,19 @@ public class TargetNamespaceScanner {
 			return null;
 		}
 
+		try (InputStream stream = url.openStream()) {
+			return getTargetNamespace(stream);
+		} catch (IOException e) {
+			SpringXmlNamespacesPlugin.logAsWarning(e);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the target namespace URI of the XSD read from the given
+	 * <code>stream</code>.
+	 */
+	public static String getTargetNamespace(InputStream stream) {
 		ClassLoader ccl = Thread.currentThread().getContextClassLoader();
 		try {
 			Thread.currentThread().setContextClassLoader(TargetNamespaceScanner.class.getClassLoader());
@@ -51,7 +65,7 @@ public class TargetNamespaceScanner {
 			factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
 			
 			DocumentBuilder docBuilder = factory.newDocumentBuilder();
-			Document doc = docBuilder.parse(url.openStream());
+			Document doc = docBuilder.parse(stream);
 			
 			return doc.getDocumentElement().getAttribute("targetNamespace");
 		} catch (SAXException|IOException|ParserConfigurationException e) {